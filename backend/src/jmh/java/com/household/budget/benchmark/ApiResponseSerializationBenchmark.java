@@ -0,0 +1,74 @@
+package com.household.budget.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.household.budget.interfaces.http.dto.ApiResponse;
+import com.household.budget.interfaces.http.dto.TransactionDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 목록 응답(ApiResponse<List<TransactionDto>>) JSON 직렬화 비용
+ * GET /api/transactions 계열이 응답마다 하는 일 - Spring Boot 기본 설정과 같은 ObjectMapper
+ * (Jackson2ObjectMapperBuilder + 날짜를 타임스탬프가 아닌 ISO 문자열로)
+ * size는 페이지 크기(20)와 전체 목록 조회 수준(1000)
+ *
+ *   mvn -Pjmh test-compile exec:exec -Djmh.args="ApiResponseSerializationBenchmark"
+ *   ./gradlew jmh -Pjmh.includes=ApiResponseSerializationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"20", "1000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private ApiResponse<List<TransactionDto>> response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writer();
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime date = LocalDateTime.of(2024, 3, 1, 12, 30);
+        List<TransactionDto> transactions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            boolean income = random.nextInt(4) == 0;
+            transactions.add(new TransactionDto((long) i + 1, income ? "INCOME" : "EXPENSE",
+                    BigDecimal.valueOf(random.nextLong(100, 5_000_000_00L), 2), "거래 내용 " + i,
+                    (long) random.nextInt(1, 13), income ? "급여" : "식비", 1L, "2024년 가계부",
+                    date.minusHours(i), date.minusHours(i)));
+        }
+        response = ApiResponse.success(transactions);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return writer.writeValueAsBytes(response);
+    }
+}
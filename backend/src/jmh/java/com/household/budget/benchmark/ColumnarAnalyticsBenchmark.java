@@ -0,0 +1,115 @@
+package com.household.budget.benchmark;
+
+import com.household.budget.domain.entities.Transaction;
+import com.household.budget.domain.repositories.TransactionAnalyticsRepository.Breakdown;
+import com.household.budget.domain.repositories.TransactionAnalyticsRepository.CategoryTotal;
+import com.household.budget.domain.repositories.TransactionAnalyticsRepository.WeekdayTotal;
+import com.household.budget.domain.repositories.TransactionRepository;
+import com.household.budget.infrastructure.analytics.ColumnarTransactionAnalyticsRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 사용자의 거래 전체에서 기간 카테고리별/요일별 합계를 내는 비용
+ * - columnar*: ColumnarTransactionAnalyticsRepository (기본형 배열을 한 번 훑음, 적재는 Setup에서 한 번)
+ * - list: 도메인 Transaction 목록을 돌며 HashMap에 BigDecimal로 합산 (메모리 목록 기준선, DB 조회 비용 제외)
+ * 최근 2년에 고르게 흩어진 거래에서 1년 구간을 집계
+ * gc.alloc.rate.norm(-prof gc, 기본 포함)으로 호출당 할당량 비교
+ *
+ *   mvn -Pjmh test-compile exec:exec -Djmh.args="ColumnarAnalyticsBenchmark"
+ *   ./gradlew jmh -Pjmh.includes=ColumnarAnalyticsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ColumnarAnalyticsBenchmark {
+    private static final Long USER_ID = 1L;
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 12, 31);
+
+    @Param({"1000", "100000"})
+    private int transactions;
+
+    private List<Transaction> list;
+    private ColumnarTransactionAnalyticsRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        list = new ArrayList<>(transactions);
+        LocalDateTime start = LocalDateTime.of(2023, 1, 1, 9, 0);
+        for (int i = 0; i < transactions; i++) {
+            list.add(new Transaction((long) i + 1, random.nextInt(4) == 0 ? "INCOME" : "EXPENSE",
+                    BigDecimal.valueOf(random.nextLong(100, 5_000_000_00L), 2), "거래 " + i,
+                    (long) random.nextInt(1, 13), USER_ID, random.nextInt(3) == 0 ? 7L : null,
+                    start.plusDays(random.nextInt(730)), null));
+        }
+        // 적재에 쓰는 streamByUserIdAndDateRange만 구현한 저장소
+        TransactionRepository source = (TransactionRepository) Proxy.newProxyInstance(
+                TransactionRepository.class.getClassLoader(), new Class<?>[]{TransactionRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("streamByUserIdAndDateRange")) {
+                        return list.stream();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        repository = new ColumnarTransactionAnalyticsRepository(source, Long.MAX_VALUE);
+        repository.totalsByCategory(USER_ID, FROM, TO, null);
+    }
+
+    @Benchmark
+    public List<CategoryTotal> columnarCategoryTotals() {
+        return repository.totalsByCategory(USER_ID, FROM, TO, null);
+    }
+
+    @Benchmark
+    public List<WeekdayTotal> columnarWeekdayTotals() {
+        return repository.weekdayTotals(USER_ID, FROM, TO, null);
+    }
+
+    // 분석 화면 요청 경로 - 세 집계를 한 번 훑어 계산
+    @Benchmark
+    public Breakdown columnarBreakdown() {
+        return repository.breakdown(USER_ID, FROM, TO, null);
+    }
+
+    @Benchmark
+    public Map<Long, BigDecimal[]> listCategoryTotals() {
+        Map<Long, BigDecimal[]> totals = new HashMap<>();
+        for (Transaction transaction : list) {
+            LocalDate date = transaction.getTransactionDate().toLocalDate();
+            if (date.isBefore(FROM) || date.isAfter(TO)) {
+                continue;
+            }
+            BigDecimal[] sums = totals.computeIfAbsent(transaction.getCategoryId(),
+                    k -> new BigDecimal[]{BigDecimal.ZERO, BigDecimal.ZERO});
+            int index = transaction.isIncome() ? 0 : 1;
+            sums[index] = sums[index].add(transaction.getAmount());
+        }
+        return totals;
+    }
+}
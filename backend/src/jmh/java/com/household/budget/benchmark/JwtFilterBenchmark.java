@@ -0,0 +1,110 @@
+package com.household.budget.benchmark;
+
+import com.household.budget.config.JwtAuthenticationFilter;
+import com.household.budget.config.JwtUtil;
+import com.household.budget.config.RoleChangeTracker;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 한 건당 JWT 인증 필터 비용
+ * - legacyChecks: 이전 필터 방식 (요청마다 키/파서를 새로 만들고 이메일, 만료 확인에 두 번 파싱)
+ * - filter(cacheMaxSize=0): 키/파서 재사용 + 한 번 파싱
+ * - filter(cacheMaxSize=10000): 검증된 토큰 캐시 적중 (SHA-256 해시 + 캐시 조회만)
+ * 필터 지연 시간 Timer(jwt.filter) 기록 비용도 포함 (SimpleMeterRegistry)
+ * 사용자 수만큼 토큰을 돌려가며 사용하므로 캐시 적중은 "같은 사용자의 반복 요청"을 모사
+ *
+ *   mvn -Pjmh test-compile exec:exec -Djmh.args="JwtFilterBenchmark"
+ *   ./gradlew jmh -Pjmh.includes=JwtFilterBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "mySecretKeyForJWTTokenGeneration12345678901234567890";
+
+    @Param({"0", "10000"})
+    private long cacheMaxSize;
+
+    @Param({"1000"})
+    private int users;
+
+    private JwtAuthenticationFilter filter;
+    private String[] headers;
+    private String[] tokens;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 3_600_000L, cacheMaxSize);
+        filter = new JwtAuthenticationFilter(jwtUtil, new RoleChangeTracker(), new SimpleMeterRegistry());
+        tokens = new String[users];
+        headers = new String[users];
+        for (int i = 0; i < users; i++) {
+            tokens[i] = jwtUtil.generateToken("user" + i + "@example.com", (long) i, "USER");
+            headers[i] = "Bearer " + tokens[i];
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object filter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/transactions");
+        request.addHeader("Authorization", headers[nextIndex()]);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public void legacyChecks(Blackhole blackhole) {
+        String token = tokens[nextIndex()];
+        blackhole.consume(legacyParse(token).getSubject());
+        blackhole.consume(legacyParse(token).getExpiration().before(new Date()));
+    }
+
+    private static Claims legacyParse(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private int nextIndex() {
+        int index = next;
+        next = index + 1 == users ? 0 : index + 1;
+        return index;
+    }
+}
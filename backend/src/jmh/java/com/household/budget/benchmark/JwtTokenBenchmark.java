@@ -0,0 +1,62 @@
+package com.household.budget.benchmark;
+
+import com.household.budget.config.AuthenticatedUser;
+import com.household.budget.config.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil 토큰 발급/검증 비용
+ * - generateToken: 로그인/회원가입마다 한 번 (HMAC-SHA256 서명 + Base64URL 인코딩)
+ * - extractEmail: 캐시를 거치지 않고 매번 서명 검증 + 파싱
+ * - extractAuthenticatedUser: 검증된 토큰 캐시 적중 (SHA-256 해시 + 캐시 조회)
+ *
+ *   mvn -Pjmh test-compile exec:exec -Djmh.args="JwtTokenBenchmark"
+ *   ./gradlew jmh -Pjmh.includes=JwtTokenBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenBenchmark {
+
+    private static final String SECRET = "mySecretKeyForJWTTokenGeneration12345678901234567890";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 3_600_000L, 10_000L);
+        token = jwtUtil.generateToken("user@example.com", 1L, "USER");
+        jwtUtil.extractAuthenticatedUser(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("user@example.com", 1L, "USER");
+    }
+
+    @Benchmark
+    public String extractEmail() {
+        return jwtUtil.extractEmail(token);
+    }
+
+    @Benchmark
+    public AuthenticatedUser extractAuthenticatedUser() {
+        return jwtUtil.extractAuthenticatedUser(token);
+    }
+}
@@ -0,0 +1,83 @@
+package com.household.budget.benchmark;
+
+import com.household.budget.domain.entities.Transaction;
+import com.household.budget.domain.services.TransactionCalculationService;
+import com.household.budget.domain.services.TransactionCalculationService.TransactionSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 목록 요약(수입/지출/잔액) 합계 비용
+ * - bigDecimal: 이전 방식 (거래마다 BigDecimal.add로 새 객체)
+ * - money: TransactionCalculationService (long 최소 단위 합산, 결과만 BigDecimal 변환)
+ * 금액은 원 단위 정수와 소수 2자리 값을 섞어 저장된 DECIMAL(19,2) 값을 모사
+ * gc.alloc.rate.norm(-prof gc, 기본 포함)으로 호출당 할당량 비교
+ *
+ *   mvn -Pjmh test-compile exec:exec -Djmh.args="MoneySummaryBenchmark"
+ *   ./gradlew jmh -Pjmh.includes=MoneySummaryBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoneySummaryBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int transactions;
+
+    private final TransactionCalculationService calculationService = new TransactionCalculationService();
+    private List<Transaction> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        list = new ArrayList<>(transactions);
+        LocalDateTime date = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < transactions; i++) {
+            Transaction transaction = new Transaction();
+            transaction.setType(random.nextInt(4) == 0 ? "INCOME" : "EXPENSE");
+            // JPA가 읽어 오는 값과 같이 scale 2
+            transaction.setAmount(BigDecimal.valueOf(random.nextLong(100, 5_000_000_00L), 2));
+            transaction.setTransactionDate(date);
+            list.add(transaction);
+        }
+    }
+
+    @Benchmark
+    public TransactionSummary money() {
+        return calculationService.calculateSummary(list);
+    }
+
+    @Benchmark
+    public TransactionSummary bigDecimal() {
+        BigDecimal totalIncome = BigDecimal.ZERO;
+        BigDecimal totalExpense = BigDecimal.ZERO;
+        for (Transaction transaction : list) {
+            if (transaction.isIncome()) {
+                totalIncome = totalIncome.add(transaction.getAmount());
+            } else if (transaction.isExpense()) {
+                totalExpense = totalExpense.add(transaction.getAmount());
+            }
+        }
+        return new TransactionSummary(totalIncome, totalExpense, totalIncome.subtract(totalExpense), list.size());
+    }
+}
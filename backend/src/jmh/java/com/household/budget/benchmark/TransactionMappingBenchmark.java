@@ -0,0 +1,85 @@
+package com.household.budget.benchmark;
+
+import com.household.budget.domain.entities.Transaction;
+import com.household.budget.dto.TransactionDto;
+import com.household.budget.entity.BudgetSession;
+import com.household.budget.entity.Category;
+import com.household.budget.infrastructure.database.jpa.entity.TransactionEntity;
+import com.household.budget.service.TransactionDtoMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 한 건의 계층 간 변환 비용
+ * - toDomain / fromDomain: JPA 엔티티 <-> 도메인 Transaction (TransactionJpaRepository의 조회/저장마다)
+ * - toDto: 레거시 엔티티 -> 응답 DTO (TransactionDtoMapper, 카테고리/세션 이름 포함)
+ * 목록 조회 비용은 건수 x 이 값이므로 건당 할당량(gc.alloc.rate.norm)을 함께 확인
+ *
+ *   mvn -Pjmh test-compile exec:exec -Djmh.args="TransactionMappingBenchmark"
+ *   ./gradlew jmh -Pjmh.includes=TransactionMappingBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionMappingBenchmark {
+
+    private TransactionEntity entity;
+    private Transaction domain;
+    private com.household.budget.entity.Transaction legacyEntity;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime date = LocalDateTime.of(2024, 3, 1, 12, 30);
+        domain = new Transaction(1L, "EXPENSE", new BigDecimal("12000.00"), "점심", 3L, 1L, 2L, date, date);
+        domain.setExternalTransactionId("IMP_0123456789abcdef");
+        domain.setSyncSource("IMPORT");
+        entity = TransactionEntity.fromDomain(domain);
+
+        Category category = new Category();
+        category.setId(3L);
+        category.setName("식비");
+        BudgetSession session = new BudgetSession();
+        session.setId(2L);
+        session.setName("3월 가계부");
+        legacyEntity = new com.household.budget.entity.Transaction();
+        legacyEntity.setId(1L);
+        legacyEntity.setType("EXPENSE");
+        legacyEntity.setAmount(new BigDecimal("12000.00"));
+        legacyEntity.setDescription("점심");
+        legacyEntity.setCategory(category);
+        legacyEntity.setSession(session);
+        legacyEntity.setTransactionDate(date);
+        legacyEntity.setCreatedAt(date);
+    }
+
+    @Benchmark
+    public Transaction toDomain() {
+        return entity.toDomain();
+    }
+
+    @Benchmark
+    public TransactionEntity fromDomain() {
+        return TransactionEntity.fromDomain(domain);
+    }
+
+    @Benchmark
+    public TransactionDto toDto() {
+        return TransactionDtoMapper.toDto(legacyEntity);
+    }
+}
@@ -0,0 +1,122 @@
+package com.household.budget.application.services;
+
+import com.household.budget.config.UserContext;
+import com.household.budget.domain.events.TransactionBatchChangedEvent;
+import com.household.budget.domain.events.TransactionChangedEvent;
+import com.household.budget.domain.repositories.TransactionAnalyticsRepository;
+import com.household.budget.domain.valueobjects.Money;
+import com.household.budget.dto.CategoryDto;
+import com.household.budget.interfaces.http.dto.AnalyticsResponse;
+import com.household.budget.service.CategoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Application Service - 거래 분석 Use Case
+ * 사용자별 메모리 열 저장소(TransactionAnalyticsRepository)에서 집계하며 적재 후에는 DB를 조회하지 않음
+ * 저장소는 커밋된 거래 변경만 반영 (커밋 전에 반영하면 롤백된 거래가 남을 수 있음)
+ * 관리자도 본인 거래만 분석
+ */
+@Service
+@RequiredArgsConstructor
+public class AnalyticsApplicationService {
+    static final int DEFAULT_DAYS = 30;
+    static final int MAX_DAYS = 366;
+    static final String UNCATEGORIZED_NAME = "미분류";
+
+    private final TransactionAnalyticsRepository analyticsRepository;
+    private final AuthApplicationService authService;
+    private final CategoryService categoryService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        analyticsRepository.apply(List.of(event));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransactionBatchChanged(TransactionBatchChangedEvent batch) {
+        analyticsRepository.apply(batch.getChanges());
+    }
+
+    /**
+     * [from, to] 기간(날짜 포함)의 카테고리별 합계, 일별 추이, 요일별 패턴
+     * from/to가 없으면 오늘까지 최근 30일, 기간은 최대 366일
+     * 저장소에 적재되지 않은 사용자는 이 트랜잭션 안에서 거래를 한 번 스트리밍으로 읽음
+     */
+    @Transactional(readOnly = true)
+    public AnalyticsResponse getAnalytics(LocalDate from, LocalDate to, Long sessionId) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_DAYS - 1);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦습니다.");
+        }
+        if (start.plusDays(MAX_DAYS - 1).isBefore(end)) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_DAYS + "일입니다.");
+        }
+
+        Long userId = getCurrentUserId();
+        TransactionAnalyticsRepository.Breakdown breakdown =
+                analyticsRepository.breakdown(userId, start, end, sessionId);
+        List<TransactionAnalyticsRepository.CategoryTotal> categoryTotals = breakdown.categories();
+        List<TransactionAnalyticsRepository.DailyTotal> dailyTotals = breakdown.daily();
+        List<TransactionAnalyticsRepository.WeekdayTotal> weekdayTotals = breakdown.weekdays();
+
+        long totalIncome = 0L;
+        long totalExpense = 0L;
+        long count = 0;
+        Map<Long, String> categoryNames = categoryTotals.isEmpty() ? Map.of() : loadCategoryNames();
+        List<AnalyticsResponse.CategoryTotal> categories = new ArrayList<>(categoryTotals.size());
+        for (TransactionAnalyticsRepository.CategoryTotal total : categoryTotals) {
+            totalIncome = Money.add(totalIncome, total.incomeMinorUnits());
+            totalExpense = Money.add(totalExpense, total.expenseMinorUnits());
+            count += total.count();
+            String name = total.categoryId() != null
+                    ? categoryNames.getOrDefault(total.categoryId(), UNCATEGORIZED_NAME)
+                    : UNCATEGORIZED_NAME;
+            categories.add(new AnalyticsResponse.CategoryTotal(total.categoryId(), name,
+                    Money.toBigDecimal(total.incomeMinorUnits()), Money.toBigDecimal(total.expenseMinorUnits()),
+                    total.count()));
+        }
+        categories.sort(Comparator.comparing(AnalyticsResponse.CategoryTotal::getExpense).reversed());
+
+        List<AnalyticsResponse.DailyTotal> daily = new ArrayList<>(dailyTotals.size());
+        for (TransactionAnalyticsRepository.DailyTotal total : dailyTotals) {
+            daily.add(new AnalyticsResponse.DailyTotal(total.date().toString(),
+                    Money.toBigDecimal(total.incomeMinorUnits()), Money.toBigDecimal(total.expenseMinorUnits()),
+                    total.count()));
+        }
+        List<AnalyticsResponse.WeekdayTotal> weekdays = new ArrayList<>(weekdayTotals.size());
+        for (TransactionAnalyticsRepository.WeekdayTotal total : weekdayTotals) {
+            weekdays.add(new AnalyticsResponse.WeekdayTotal(total.dayOfWeek().name(),
+                    Money.toBigDecimal(total.incomeMinorUnits()), Money.toBigDecimal(total.expenseMinorUnits()),
+                    total.count()));
+        }
+
+        return new AnalyticsResponse(start.toString(), end.toString(), sessionId,
+                Money.toBigDecimal(totalIncome), Money.toBigDecimal(totalExpense), count,
+                categories, daily, weekdays);
+    }
+
+    private Map<Long, String> loadCategoryNames() {
+        Map<Long, String> names = new HashMap<>();
+        for (CategoryDto category : categoryService.getAllCategories()) {
+            names.put(category.getId(), category.getName());
+        }
+        return names;
+    }
+
+    // 토큰의 인증 주체를 우선 사용하고, 없으면 이메일로 사용자 조회
+    private Long getCurrentUserId() {
+        return UserContext.requireUserId(authService::getUserByEmail);
+    }
+}
@@ -0,0 +1,95 @@
+package com.household.budget.application.services;
+
+import com.household.budget.config.AuthenticatedUser;
+import com.household.budget.config.UserContext;
+import com.household.budget.domain.events.TransactionBatchChangedEvent;
+import com.household.budget.domain.events.TransactionChangedEvent;
+import com.household.budget.domain.events.UserDataChangedEvent;
+import com.household.budget.service.AuthService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Application Service - 사용자별 데이터 버전
+ * 거래/세션/계좌 쓰기가 커밋된 뒤에 해당 사용자의 버전을 올리고, 목록 응답의 약한 ETag를 버전으로 만듦
+ * 커밋 전에 올리면 그 사이 조회가 이전 데이터에 새 ETag를 받아 계속 304를 받을 수 있으므로 반드시 커밋 후에 증가
+ *
+ * ETag에는 기동 시 만든 nonce가 들어가므로 재기동 후 이전 ETag는 일치하지 않음
+ * 관리자는 모든 사용자의 데이터를 보므로 전체 버전을 사용
+ * 인스턴스 메모리에만 보관하므로 여러 인스턴스로 운영하면 공유 저장소로 옮겨야 함
+ */
+@Service
+@RequiredArgsConstructor
+public class DataVersionApplicationService {
+    private final AuthService authService;
+
+    private final String bootNonce = UUID.randomUUID().toString().substring(0, 8);
+    private final Map<Long, AtomicLong> userVersions = new ConcurrentHashMap<>();
+    private final AtomicLong sharedVersion = new AtomicLong();
+    private final AtomicLong globalVersion = new AtomicLong();
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        bump(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTransactionBatchChanged(TransactionBatchChangedEvent batch) {
+        batch.getChanges().stream()
+                .map(TransactionChangedEvent::getUserId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(this::bump);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserDataChanged(UserDataChangedEvent event) {
+        if (event.isShared()) {
+            sharedVersion.incrementAndGet();
+            globalVersion.incrementAndGet();
+        } else {
+            bump(event.getUserId());
+        }
+    }
+
+    public long getVersion(Long userId) {
+        AtomicLong version = userVersions.get(userId);
+        return version != null ? version.get() : 0L;
+    }
+
+    /**
+     * 현재 사용자의 데이터 목록에 대한 약한 ETag (인증 정보가 없으면 null)
+     * 토큰의 인증 주체만으로 만들고, 없으면 사용자 캐시를 거치므로 거래 테이블은 조회하지 않음
+     */
+    public String currentETag() {
+        AuthenticatedUser user = currentUser();
+        if (user == null) {
+            return null;
+        }
+        if (user.isAdmin()) {
+            return "W/\"" + bootNonce + "-a" + user.userId() + "-" + globalVersion.get() + "\"";
+        }
+        return "W/\"" + bootNonce + "-u" + user.userId() + "-" + getVersion(user.userId())
+                + "." + sharedVersion.get() + "\"";
+    }
+
+    private void bump(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        userVersions.computeIfAbsent(userId, id -> new AtomicLong()).incrementAndGet();
+        globalVersion.incrementAndGet();
+    }
+
+    private AuthenticatedUser currentUser() {
+        return UserContext.findUser(authService::getUserByEmail);
+    }
+}
@@ -0,0 +1,122 @@
+package com.household.budget.application.services;
+
+import com.household.budget.domain.entities.LedgerBalance;
+import com.household.budget.domain.events.TransactionBatchChangedEvent;
+import com.household.budget.domain.events.TransactionChangedEvent;
+import com.household.budget.domain.repositories.LedgerBalanceRepository;
+import com.household.budget.domain.repositories.TransactionRepository;
+import com.household.budget.domain.valueobjects.Money;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Application Service - 누적 잔액(ledger_balances) 유지
+ * 거래 쓰기와 같은 트랜잭션에서 증분 반영하고, 원본 거래 기준 재계산/검증을 제공
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LedgerApplicationService {
+    private final LedgerBalanceRepository ledgerBalanceRepository;
+    private final TransactionRepository transactionRepository;
+
+    /**
+     * 거래 변경 반영 - 발행한 쪽의 트랜잭션에 참여 (트랜잭션 밖에서 발행되면 예외)
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        apply(List.of(event));
+    }
+
+    /**
+     * 대량 거래 반영 - (사용자, 세션)별로 합산하여 키마다 한 번만 갱신
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTransactionBatchChanged(TransactionBatchChangedEvent batch) {
+        apply(batch.getChanges());
+    }
+
+    private void apply(List<TransactionChangedEvent> events) {
+        Map<LedgerKey, LedgerDelta> deltas = new LinkedHashMap<>();
+        for (TransactionChangedEvent event : events) {
+            if (event.getUserId() == null || event.getAmount() == null) {
+                log.warn("사용자/금액이 없는 거래 이벤트는 원장에 반영하지 않습니다: transactionId={}", event.getTransactionId());
+                continue;
+            }
+            deltas.computeIfAbsent(new LedgerKey(event.getUserId(), event.getSessionId()), key -> new LedgerDelta())
+                    .add(event);
+        }
+        deltas.forEach((key, delta) -> ledgerBalanceRepository.applyDelta(
+                key.userId(), key.sessionId(), Money.toBigDecimal(delta.income), Money.toBigDecimal(delta.expense),
+                delta.count));
+    }
+
+    /**
+     * 원본 거래에서 사용자 원장을 다시 계산하여 교체
+     */
+    @Transactional
+    public void rebuild(Long userId) {
+        List<LedgerBalance> expected = transactionRepository.aggregateLedgerByUserId(userId);
+        ledgerBalanceRepository.replaceForUser(userId, expected);
+        log.info("원장 재계산 완료: userId={}, rows={}", userId, expected.size());
+    }
+
+    /**
+     * 원장과 원본 거래 집계를 비교 - 원장의 모든 행을 대조
+     * 원본 거래가 없는 세션의 원장 행은 0 집계와 비교 (거래를 모두 지우면 0 행이 남음)
+     * @return 일치하면 true
+     */
+    @Transactional(readOnly = true)
+    public boolean verify(Long userId) {
+        Map<Long, LedgerBalance> stored = new HashMap<>();
+        for (LedgerBalance balance : ledgerBalanceRepository.findByUserId(userId)) {
+            stored.put(balance.getSessionId(), balance);
+        }
+
+        boolean consistent = true;
+        for (LedgerBalance expected : transactionRepository.aggregateLedgerByUserId(userId)) {
+            LedgerBalance actual = stored.remove(expected.getSessionId());
+            if (!expected.sameTotalsAs(actual)) {
+                log.warn("원장 불일치: expected={}, actual={}", expected, actual);
+                consistent = false;
+            }
+        }
+        for (LedgerBalance orphan : stored.values()) {
+            if (!LedgerBalance.empty(userId, orphan.getSessionId()).sameTotalsAs(orphan)) {
+                log.warn("원본 거래가 없는 원장 행: {}", orphan);
+                consistent = false;
+            }
+        }
+        return consistent;
+    }
+
+    private record LedgerKey(Long userId, Long sessionId) {
+    }
+
+    // 금액은 저장 단위 최소 단위 개수로 합산 (이벤트마다 BigDecimal을 만들지 않음)
+    private static final class LedgerDelta {
+        private long income;
+        private long expense;
+        private long count;
+
+        void add(TransactionChangedEvent event) {
+            if (event.isIncome()) {
+                income = Money.add(income, event.signedAmountMinorUnits());
+            } else if (event.isExpense()) {
+                expense = Money.add(expense, event.signedAmountMinorUnits());
+            }
+            count += event.sign();
+        }
+    }
+}
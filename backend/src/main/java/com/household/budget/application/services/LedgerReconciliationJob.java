@@ -0,0 +1,39 @@
+package com.household.budget.application.services;
+
+import com.household.budget.domain.repositories.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 원장 정합성 점검 배치
+ * 사용자별로 원장과 원본 거래를 비교하고, 불일치하면 재계산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ledger.reconcile.enabled", havingValue = "true", matchIfMissing = true)
+public class LedgerReconciliationJob {
+    private final LedgerApplicationService ledgerService;
+    private final TransactionRepository transactionRepository;
+
+    @Scheduled(cron = "${ledger.reconcile.cron:0 30 4 * * *}")
+    public void reconcile() {
+        int checked = 0;
+        int rebuilt = 0;
+        for (Long userId : transactionRepository.findDistinctUserIds()) {
+            checked++;
+            try {
+                if (!ledgerService.verify(userId)) {
+                    ledgerService.rebuild(userId);
+                    rebuilt++;
+                }
+            } catch (Exception e) {
+                log.error("원장 점검 실패: userId={}", userId, e);
+            }
+        }
+        log.info("원장 점검 완료: checked={}, rebuilt={}", checked, rebuilt);
+    }
+}
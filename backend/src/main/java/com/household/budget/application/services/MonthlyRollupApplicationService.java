@@ -0,0 +1,87 @@
+package com.household.budget.application.services;
+
+import com.household.budget.domain.entities.MonthlyRollup;
+import com.household.budget.domain.events.TransactionBatchChangedEvent;
+import com.household.budget.domain.events.TransactionChangedEvent;
+import com.household.budget.domain.repositories.MonthlyRollupRepository;
+import com.household.budget.domain.repositories.TransactionRepository;
+import com.household.budget.domain.valueobjects.Money;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Application Service - 월별 카테고리 합계(monthly_rollups) 유지
+ * 거래 쓰기와 같은 트랜잭션에서 증분 반영하고, 원본 거래 기준 재계산을 제공
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MonthlyRollupApplicationService {
+    private final MonthlyRollupRepository monthlyRollupRepository;
+    private final TransactionRepository transactionRepository;
+
+    /**
+     * 거래 변경 반영 - 발행한 쪽의 트랜잭션에 참여 (트랜잭션 밖에서 발행되면 예외)
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTransactionChanged(TransactionChangedEvent event) {
+        apply(List.of(event));
+    }
+
+    /**
+     * 대량 거래 반영 - (사용자, 월, 카테고리, 유형)별로 합산하여 키마다 한 번만 갱신
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTransactionBatchChanged(TransactionBatchChangedEvent batch) {
+        apply(batch.getChanges());
+    }
+
+    private void apply(List<TransactionChangedEvent> events) {
+        Map<RollupKey, RollupDelta> deltas = new LinkedHashMap<>();
+        for (TransactionChangedEvent event : events) {
+            if (event.getUserId() == null || event.getAmount() == null || event.getTransactionDate() == null) {
+                log.warn("사용자/금액/일시가 없는 거래 이벤트는 월별 집계에 반영하지 않습니다: transactionId={}",
+                        event.getTransactionId());
+                continue;
+            }
+            RollupKey key = new RollupKey(event.getUserId(), MonthlyRollup.toYyyymm(event.getTransactionDate()),
+                    event.getCategoryId(), event.getType());
+            RollupDelta delta = deltas.computeIfAbsent(key, k -> new RollupDelta());
+            delta.amount = Money.add(delta.amount, event.signedAmountMinorUnits());
+            delta.count += event.sign();
+        }
+        deltas.forEach((key, delta) -> monthlyRollupRepository.applyDelta(
+                key.userId(), key.yyyymm(), key.categoryId(), key.type(), Money.toBigDecimal(delta.amount), delta.count));
+    }
+
+    /**
+     * 원본 거래에서 사용자 월별 집계를 다시 계산하여 교체 (사용자 단위 트랜잭션)
+     * @return 저장한 집계 행 수
+     */
+    @Transactional
+    public int rebuild(Long userId) {
+        List<MonthlyRollup> expected = transactionRepository.aggregateMonthlyByUserId(userId);
+        monthlyRollupRepository.replaceForUser(userId, expected);
+        log.debug("월별 집계 재계산 완료: userId={}, rows={}", userId, expected.size());
+        return expected.size();
+    }
+
+    private record RollupKey(Long userId, int yyyymm, Long categoryId, String type) {
+    }
+
+    // 금액은 저장 단위 최소 단위 개수로 합산
+    private static final class RollupDelta {
+        private long amount;
+        private long count;
+    }
+}
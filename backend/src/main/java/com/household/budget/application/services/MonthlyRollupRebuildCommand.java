@@ -0,0 +1,91 @@
+package com.household.budget.application.services;
+
+import com.household.budget.domain.repositories.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 월별 집계 전체 재계산 명령
+ * --rebuild-rollups 옵션으로 기동하면 사용자별로 병렬 재계산 (사용자마다 별도 트랜잭션)
+ * 병렬도는 --rebuild-rollups=<스레드 수> 또는 rollup.rebuild.parallelism 으로 지정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MonthlyRollupRebuildCommand implements ApplicationRunner {
+    static final String OPTION = "rebuild-rollups";
+
+    private final MonthlyRollupApplicationService rollupService;
+    private final TransactionRepository transactionRepository;
+
+    @Value("${rollup.rebuild.parallelism:4}")
+    private int defaultParallelism;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(OPTION)) {
+            return;
+        }
+        rebuildAll(resolveParallelism(args.getOptionValues(OPTION)));
+    }
+
+    /**
+     * 전체 사용자 재계산 - 한 사용자가 실패해도 나머지는 계속 진행
+     * @return 실패한 사용자 수
+     */
+    public int rebuildAll(int parallelism) {
+        List<Long> userIds = transactionRepository.findDistinctUserIds();
+        log.info("월별 집계 전체 재계산 시작: users={}, parallelism={}", userIds.size(), parallelism);
+        long startedAt = System.currentTimeMillis();
+
+        AtomicLong rows = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        int failed = 0;
+        try {
+            List<Future<?>> futures = new ArrayList<>(userIds.size());
+            for (Long userId : userIds) {
+                futures.add(executor.submit(() -> rows.addAndGet(rollupService.rebuild(userId))));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                } catch (ExecutionException e) {
+                    failed++;
+                    log.error("월별 집계 재계산 실패: userId={}", userIds.get(i), e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("월별 집계 재계산이 중단되었습니다.", e);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        log.info("월별 집계 전체 재계산 완료: users={}, rows={}, failed={}, elapsedMs={}",
+                userIds.size(), rows.get(), failed, System.currentTimeMillis() - startedAt);
+        return failed;
+    }
+
+    private int resolveParallelism(List<String> values) {
+        if (values != null && !values.isEmpty() && !values.get(0).isBlank()) {
+            try {
+                return Math.max(1, Integer.parseInt(values.get(0).trim()));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 병렬도입니다: " + values.get(0));
+            }
+        }
+        return Math.max(1, defaultParallelism);
+    }
+}
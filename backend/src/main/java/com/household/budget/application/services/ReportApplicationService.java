@@ -0,0 +1,111 @@
+package com.household.budget.application.services;
+
+import com.household.budget.config.AuthenticatedUser;
+import com.household.budget.config.UserContext;
+import com.household.budget.domain.entities.MonthlyRollup;
+import com.household.budget.domain.repositories.MonthlyRollupRepository;
+import com.household.budget.domain.valueobjects.Money;
+import com.household.budget.dto.CategoryDto;
+import com.household.budget.interfaces.http.dto.MonthlyReportResponse;
+import com.household.budget.service.CategoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Application Service - 리포트 Use Case
+ * 월별 집계(monthly_rollups)만 읽으며 원본 거래 행은 조회하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class ReportApplicationService {
+    static final int DEFAULT_MONTHS = 12;
+    static final int MAX_MONTHS = 120;
+    static final String UNCATEGORIZED_NAME = "미분류";
+
+    private final MonthlyRollupRepository monthlyRollupRepository;
+    private final AuthApplicationService authService;
+    private final CategoryService categoryService;
+
+    /**
+     * 월별 수입/지출 추이와 카테고리별 금액
+     * from/to가 없으면 이번 달까지 최근 12개월, 관리자는 전체 사용자 합계
+     */
+    @Transactional(readOnly = true)
+    public MonthlyReportResponse getMonthlyReport(YearMonth from, YearMonth to) {
+        YearMonth end = to != null ? to : YearMonth.now();
+        YearMonth start = from != null ? from : end.minusMonths(DEFAULT_MONTHS - 1);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("시작 월이 종료 월보다 늦습니다.");
+        }
+        if (start.plusMonths(MAX_MONTHS - 1).isBefore(end)) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + MAX_MONTHS + "개월입니다.");
+        }
+
+        AuthenticatedUser user = getCurrentUser();
+        int fromYyyymm = MonthlyRollup.toYyyymm(start);
+        int toYyyymm = MonthlyRollup.toYyyymm(end);
+        List<MonthlyRollup> rollups = user.isAdmin()
+                ? monthlyRollupRepository.sumAllByPeriod(fromYyyymm, toYyyymm)
+                : monthlyRollupRepository.findByUserIdAndPeriod(user.userId(), fromYyyymm, toYyyymm);
+
+        Map<Integer, List<MonthlyRollup>> byMonth = rollups.stream()
+                .filter(r -> r.getTransactionCount() != 0)
+                .collect(Collectors.groupingBy(MonthlyRollup::getYyyymm));
+        Map<Long, String> categoryNames = byMonth.isEmpty() ? Map.of() : loadCategoryNames();
+
+        List<MonthlyReportResponse.Month> months = new ArrayList<>();
+        for (YearMonth month = start; !month.isAfter(end); month = month.plusMonths(1)) {
+            List<MonthlyRollup> rows = byMonth.getOrDefault(MonthlyRollup.toYyyymm(month), List.of());
+            months.add(toMonth(month, rows, categoryNames));
+        }
+        return new MonthlyReportResponse(start.toString(), end.toString(), months);
+    }
+
+    private MonthlyReportResponse.Month toMonth(YearMonth month, List<MonthlyRollup> rows,
+                                                Map<Long, String> categoryNames) {
+        long totalIncome = 0L;
+        long totalExpense = 0L;
+        long count = 0;
+        List<MonthlyReportResponse.CategoryAmount> categories = new ArrayList<>(rows.size());
+        for (MonthlyRollup row : rows) {
+            if (row.isIncome()) {
+                totalIncome = Money.add(totalIncome, Money.toMinorUnits(row.getTotalAmount()));
+            } else if (row.isExpense()) {
+                totalExpense = Money.add(totalExpense, Money.toMinorUnits(row.getTotalAmount()));
+            }
+            count += row.getTransactionCount();
+            String name = row.getCategoryId() != null
+                    ? categoryNames.getOrDefault(row.getCategoryId(), UNCATEGORIZED_NAME)
+                    : UNCATEGORIZED_NAME;
+            categories.add(new MonthlyReportResponse.CategoryAmount(
+                    row.getCategoryId(), name, row.getType(), row.getTotalAmount(), row.getTransactionCount()));
+        }
+        categories.sort(Comparator.comparing(MonthlyReportResponse.CategoryAmount::getAmount).reversed());
+        return new MonthlyReportResponse.Month(month.toString(), Money.toBigDecimal(totalIncome),
+                Money.toBigDecimal(totalExpense), Money.toBigDecimal(Money.subtract(totalIncome, totalExpense)),
+                count, categories);
+    }
+
+    // 카테고리는 기본 12개 수준의 작은 테이블이므로 한 번에 읽어 이름을 매핑
+    private Map<Long, String> loadCategoryNames() {
+        Map<Long, String> names = new HashMap<>();
+        for (CategoryDto category : categoryService.getAllCategories()) {
+            names.put(category.getId(), category.getName());
+        }
+        return names;
+    }
+
+    // 토큰의 인증 주체를 우선 사용하고, 없으면 이메일로 사용자 조회
+    private AuthenticatedUser getCurrentUser() {
+        return UserContext.requireUser(authService::getUserByEmail);
+    }
+}
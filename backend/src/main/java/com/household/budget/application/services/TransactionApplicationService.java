@@ -1,13 +1,20 @@
 package com.household.budget.application.services;
 
+import com.household.budget.config.AuthenticatedUser;
 import com.household.budget.config.UserContext;
 import com.household.budget.domain.entities.Transaction;
+import com.household.budget.domain.events.TransactionChangedEvent;
 import com.household.budget.domain.exceptions.InsufficientBalanceException;
 import com.household.budget.domain.exceptions.TransactionNotFoundException;
+import com.household.budget.domain.repositories.LedgerBalanceRepository;
 import com.household.budget.domain.repositories.TransactionRepository;
 import com.household.budget.domain.services.TransactionCalculationService;
+import com.household.budget.domain.services.TransactionCalculationService.TransactionSummary;
+import com.household.budget.domain.valueobjects.TransactionCursor;
 import com.household.budget.interfaces.http.dto.TransactionDto;
+import com.household.budget.interfaces.http.dto.TransactionPageResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,29 +30,25 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class TransactionApplicationService {
+    static final int MAX_PAGE_SIZE = 100;
+    
     private final TransactionRepository transactionRepository;
     private final TransactionCalculationService calculationService;
     private final AuthApplicationService authService;
+    private final LedgerBalanceRepository ledgerBalanceRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     private Long getCurrentUserId() {
-        String email = UserContext.getCurrentUserEmail();
-        if (email == null) {
-            throw new RuntimeException("인증이 필요합니다.");
-        }
-        return authService.getUserByEmail(email).getId();
+        return UserContext.requireUserId(authService::getUserByEmail);
     }
     
     private boolean isAdmin() {
-        String email = UserContext.getCurrentUserEmail();
-        if (email == null) {
-            return false;
-        }
-        try {
-            var user = authService.getUserByEmail(email);
-            return "ADMIN".equals(user.getRole());
-        } catch (Exception e) {
-            return false;
-        }
+        return UserContext.isAdmin(authService::getUserByEmail);
+    }
+    
+    // 사용자 ID와 역할을 함께 쓰는 경우 - 토큰의 인증 주체가 없으면 이메일로 한 번만 조회
+    private AuthenticatedUser getCurrentUser() {
+        return UserContext.requireUser(authService::getUserByEmail);
     }
     
     public List<TransactionDto> getAllTransactions() {
@@ -62,6 +65,32 @@ public class TransactionApplicationService {
             .collect(Collectors.toList());
     }
     
+    /**
+     * Keyset 페이지 조회 - 커서 위치부터 인덱스를 타므로 N번째 페이지도 첫 페이지와 비용이 같음
+     * 한 행을 더 조회하여 다음 페이지 존재 여부를 판단
+     */
+    public TransactionPageResponse getTransactionPage(String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        TransactionCursor after = (cursor == null || cursor.isBlank()) ? null : TransactionCursor.decode(cursor);
+        
+        List<Transaction> rows;
+        if (isAdmin()) {
+            rows = transactionRepository.findPage(after, pageSize + 1);
+        } else {
+            Long userId = getCurrentUserId();
+            rows = transactionRepository.findPageByUserId(userId, after, pageSize + 1);
+        }
+        
+        boolean hasNext = rows.size() > pageSize;
+        List<Transaction> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? TransactionCursor.of(page.get(page.size() - 1)).encode() : null;
+        
+        List<TransactionDto> transactions = page.stream()
+            .map(this::toDto)
+            .collect(Collectors.toList());
+        return new TransactionPageResponse(transactions, nextCursor, hasNext);
+    }
+    
     public List<TransactionDto> getTransactionsByType(String type) {
         List<Transaction> transactions;
         if (isAdmin()) {
@@ -132,6 +161,7 @@ public class TransactionApplicationService {
         }
         
         Transaction saved = transactionRepository.save(transaction);
+        eventPublisher.publishEvent(TransactionChangedEvent.added(saved));
         return toDto(saved);
     }
     
@@ -145,6 +175,9 @@ public class TransactionApplicationService {
             throw new RuntimeException("권한이 없습니다.");
         }
         
+        // 변경 전 값으로 원장 차감 이벤트 준비
+        TransactionChangedEvent before = TransactionChangedEvent.removed(transaction);
+        
         transaction.setType(transactionDto.getType());
         transaction.setAmount(transactionDto.getAmount());
         transaction.setDescription(transactionDto.getDescription());
@@ -153,6 +186,8 @@ public class TransactionApplicationService {
         transaction.setSessionId(transactionDto.getSessionId());
         
         Transaction saved = transactionRepository.save(transaction);
+        eventPublisher.publishEvent(before);
+        eventPublisher.publishEvent(TransactionChangedEvent.added(saved));
         return toDto(saved);
     }
     
@@ -169,12 +204,24 @@ public class TransactionApplicationService {
         }
         
         transactionRepository.deleteById(id);
+        eventPublisher.publishEvent(TransactionChangedEvent.removed(transaction));
+    }
+    
+    /**
+     * 수입/지출/잔액/건수 요약 - 누적 잔액(ledger_balances) 조회 1회 (토큰에 역할이 없을 때만 사용자 조회 1회 추가)
+     * 원본 거래 행을 읽지 않음
+     */
+    public TransactionSummary getSummary() {
+        AuthenticatedUser user = getCurrentUser();
+        if (user.isAdmin()) {
+            return ledgerBalanceRepository.summarizeAll();
+        }
+        return ledgerBalanceRepository.summarizeByUserId(user.userId());
     }
     
     public BigDecimal getTotalIncome() {
         if (isAdmin()) {
-            List<Transaction> all = transactionRepository.findAll();
-            return calculationService.calculateSummary(all).getTotalIncome();
+            return transactionRepository.summarizeAll().getTotalIncome();
         }
         Long userId = getCurrentUserId();
         BigDecimal total = transactionRepository.getTotalByUserIdAndType(userId, "INCOME");
@@ -183,8 +230,7 @@ public class TransactionApplicationService {
     
     public BigDecimal getTotalExpense() {
         if (isAdmin()) {
-            List<Transaction> all = transactionRepository.findAll();
-            return calculationService.calculateSummary(all).getTotalExpense();
+            return transactionRepository.summarizeAll().getTotalExpense();
         }
         Long userId = getCurrentUserId();
         BigDecimal total = transactionRepository.getTotalByUserIdAndType(userId, "EXPENSE");
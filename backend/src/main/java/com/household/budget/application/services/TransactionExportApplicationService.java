@@ -0,0 +1,156 @@
+package com.household.budget.application.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.household.budget.config.UserContext;
+import com.household.budget.domain.entities.Transaction;
+import com.household.budget.domain.repositories.TransactionRepository;
+import com.household.budget.dto.CategoryDto;
+import com.household.budget.service.CategoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Application Service - 거래 내역 내보내기 (CSV / NDJSON)
+ * 저장소의 Stream에서 한 행씩 읽어 바로 출력 스트림에 쓰므로 거래 건수와 관계없이 메모리 사용량이 일정
+ * 응답 스트림은 요청 스레드가 아닌 비동기 스레드에서 쓰므로 사용자는 요청 스레드에서 미리 확인해서 넘겨야 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionExportApplicationService {
+    // 기간을 지정하지 않았을 때의 경계 (MySQL DATETIME 범위 안)
+    static final LocalDateTime EARLIEST = LocalDateTime.of(1900, 1, 1, 0, 0);
+    static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    private static final String CSV_HEADER =
+            "id,transactionDate,type,amount,categoryId,categoryName,description,sessionId";
+
+    private final TransactionRepository transactionRepository;
+    private final AuthApplicationService authService;
+    private final CategoryService categoryService;
+    private final ObjectMapper objectMapper;
+
+    public enum Format {
+        CSV, NDJSON;
+
+        public static Format parse(String value) {
+            try {
+                return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("지원하지 않는 형식입니다: " + value);
+            }
+        }
+    }
+
+    /**
+     * 내보낼 사용자 - 요청 스레드에서 호출 (관리자도 본인 거래만 내보냄)
+     */
+    public Long getCurrentUserId() {
+        return UserContext.requireUserId(authService::getUserByEmail);
+    }
+
+    /**
+     * [from, to] 기간(날짜 포함)의 거래를 거래일 순으로 출력
+     * @return 내보낸 행 수
+     */
+    @Transactional(readOnly = true)
+    public long export(Long userId, Format format, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+        LocalDateTime start = from != null ? from.atStartOfDay() : EARLIEST;
+        LocalDateTime end = to != null ? to.plusDays(1).atStartOfDay() : LATEST;
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦습니다.");
+        }
+
+        Map<Long, String> categoryNames = new HashMap<>();
+        for (CategoryDto category : categoryService.getAllCategories()) {
+            categoryNames.put(category.getId(), category.getName());
+        }
+
+        long rows = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try (Stream<Transaction> transactions = transactionRepository.streamByUserIdAndDateRange(userId, start, end)) {
+            if (format == Format.CSV) {
+                writer.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 BOM
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+            Iterator<Transaction> iterator = transactions.iterator();
+            while (iterator.hasNext()) {
+                Transaction transaction = iterator.next();
+                String categoryName = categoryNames.get(transaction.getCategoryId());
+                if (format == Format.CSV) {
+                    writeCsv(writer, transaction, categoryName);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(ExportRow.of(transaction, categoryName)));
+                }
+                writer.write('\n');
+                rows++;
+            }
+        }
+        writer.flush();
+        log.info("거래 내보내기 완료: userId={}, format={}, rows={}", userId, format, rows);
+        return rows;
+    }
+
+    private void writeCsv(Writer writer, Transaction transaction, String categoryName) throws IOException {
+        writer.write(String.valueOf(transaction.getId()));
+        writer.write(',');
+        writer.write(transaction.getTransactionDate().toString());
+        writer.write(',');
+        writer.write(csv(transaction.getType()));
+        writer.write(',');
+        writer.write(transaction.getAmount().toPlainString());
+        writer.write(',');
+        writer.write(transaction.getCategoryId() != null ? transaction.getCategoryId().toString() : "");
+        writer.write(',');
+        writer.write(csv(categoryName));
+        writer.write(',');
+        writer.write(csv(transaction.getDescription()));
+        writer.write(',');
+        writer.write(transaction.getSessionId() != null ? transaction.getSessionId().toString() : "");
+    }
+
+    /**
+     * CSV 필드 이스케이프 - 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감싸고,
+     * 스프레드시트가 수식으로 해석하지 않도록 =, +, -, @ 로 시작하면 앞에 ' 추가
+     */
+    static String csv(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String field = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (field.indexOf(',') >= 0 || field.indexOf('"') >= 0 || field.indexOf('\n') >= 0 || field.indexOf('\r') >= 0) {
+            return '"' + field.replace("\"", "\"\"") + '"';
+        }
+        return field;
+    }
+
+    /**
+     * NDJSON 한 줄
+     */
+    record ExportRow(Long id, String transactionDate, String type, BigDecimal amount,
+                     Long categoryId, String categoryName, String description, Long sessionId) {
+        static ExportRow of(Transaction transaction, String categoryName) {
+            return new ExportRow(transaction.getId(), transaction.getTransactionDate().toString(),
+                    transaction.getType(), transaction.getAmount(), transaction.getCategoryId(), categoryName,
+                    transaction.getDescription(), transaction.getSessionId());
+        }
+    }
+}
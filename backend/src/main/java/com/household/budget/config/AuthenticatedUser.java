@@ -0,0 +1,35 @@
+package com.household.budget.config;
+
+import java.security.Principal;
+import java.time.Instant;
+
+/**
+ * JWT에서 꺼낸 인증 주체 (요청 범위)
+ * 사용자 ID와 역할을 토큰에서 바로 읽으므로 요청마다 users 테이블을 조회하지 않음
+ * role 클레임이 없는 이전 토큰이거나 역할 변경으로 무효화된 경우 role은 null
+ */
+public record AuthenticatedUser(Long userId, String email, String role, Instant issuedAt) implements Principal {
+
+    /**
+     * Authentication.getName()이 이메일을 돌려주도록 (UserContext.getCurrentUserEmail 호환)
+     */
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    /**
+     * 서비스가 DB 조회 없이 사용할 수 있는지 (사용자 ID와 역할이 모두 있어야 함)
+     */
+    public boolean isComplete() {
+        return userId != null && role != null;
+    }
+
+    public boolean isAdmin() {
+        return "ADMIN".equals(role);
+    }
+
+    public AuthenticatedUser withoutRole() {
+        return new AuthenticatedUser(userId, email, null, issuedAt);
+    }
+}
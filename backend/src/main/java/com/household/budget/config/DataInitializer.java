@@ -4,17 +4,22 @@ import com.household.budget.entity.Category;
 import com.household.budget.entity.User;
 import com.household.budget.repository.CategoryRepository;
 import com.household.budget.repository.UserRepository;
+import com.household.budget.service.CategoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+// 합성 데이터 시드(SyntheticDataSeeder)가 기본 카테고리를 사용하므로 먼저 실행
 @Component
+@Order(0)
 @RequiredArgsConstructor
 public class DataInitializer implements CommandLineRunner {
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final CategoryService categoryService;
 
     @Override
     public void run(String... args) {
@@ -45,6 +50,7 @@ public class DataInitializer implements CommandLineRunner {
             categoryRepository.save(new Category(null, "문화생활", "EXPENSE", "영화, 공연, 취미"));
             categoryRepository.save(new Category(null, "쇼핑", "EXPENSE", "의류, 생활용품"));
             categoryRepository.save(new Category(null, "기타지출", "EXPENSE", "기타 지출"));
+            categoryService.refreshCategories();
         }
     }
 }
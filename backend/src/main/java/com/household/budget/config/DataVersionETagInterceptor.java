@@ -0,0 +1,43 @@
+package com.household.budget.config;
+
+import com.household.budget.application.services.DataVersionApplicationService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 목록 조회에 사용자 데이터 버전 ETag 적용
+ * If-None-Match가 일치하면 컨트롤러를 호출하지 않고 바로 304 응답 (거래 테이블 조회 없음)
+ * 브라우저가 응답을 저장하고 재검증하도록 Cache-Control: private, no-cache 지정
+ * (Spring Security 기본값인 no-store는 이미 Cache-Control이 있으면 덮어쓰지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class DataVersionETagInterceptor implements HandlerInterceptor {
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private final DataVersionApplicationService dataVersionService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        String etag = dataVersionService.currentETag();
+        if (etag == null) {
+            return true;
+        }
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return false;
+        }
+        response.setHeader(HttpHeaders.ETAG, etag);
+        return true;
+    }
+}
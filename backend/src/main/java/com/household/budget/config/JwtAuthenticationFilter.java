@@ -1,24 +1,45 @@
 package com.household.budget.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final RoleChangeTracker roleChangeTracker;
+    // Bearer 토큰 처리(검증 + 인증 설정)에 걸린 시간, 이후 필터 체인은 제외
+    private final Timer authenticatedTimer;
+    private final Timer invalidTimer;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, RoleChangeTracker roleChangeTracker, MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.roleChangeTracker = roleChangeTracker;
+        this.authenticatedTimer = filterTimer(meterRegistry, "authenticated");
+        this.invalidTimer = filterTimer(meterRegistry, "invalid");
+    }
+
+    private static Timer filterTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("jwt.filter")
+                .description("JWT 인증 필터의 토큰 처리 시간")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
@@ -31,25 +52,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        long started = System.nanoTime();
+        Timer timer = authenticatedTimer;
         try {
             final String token = authHeader.substring(7);
-            final String email = jwtUtil.extractEmail(token);
+            AuthenticatedUser user = jwtUtil.extractAuthenticatedUser(token);
 
-            if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                if (jwtUtil.isTokenExpired(token)) {
-                    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                    return;
+            if (user.email() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                if (user.role() != null && roleChangeTracker.isStale(user)) {
+                    // 역할이 바뀐 뒤의 요청은 토큰의 역할을 쓰지 않고 서비스가 DB에서 조회
+                    user = user.withoutRole();
                 }
 
+                List<SimpleGrantedAuthority> authorities = user.role() != null
+                        ? List.of(new SimpleGrantedAuthority("ROLE_" + user.role()))
+                        : List.of();
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        email, null, new ArrayList<>());
+                        user, null, authorities);
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         } catch (Exception e) {
+            timer = invalidTimer;
             logger.error("JWT 토큰 처리 중 오류 발생: " + e.getMessage(), e);
             // 토큰 파싱 실패 시 인증 없이 진행 (401 에러는 Security가 처리)
         }
+        timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
 
         chain.doFilter(request, response);
     }
@@ -1,35 +1,57 @@
 package com.household.budget.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+/**
+ * JWT 발급/검증
+ * 서명 키와 파서는 기동 시 한 번만 만들고, 검증을 통과한 토큰은 만료 시각까지 캐시하여
+ * 같은 토큰으로 들어오는 요청은 HMAC 검증 없이 인증 주체를 돌려줌
+ * 캐시 키는 토큰 원문이 아닌 SHA-256 해시 (jwt.cache.max-size=0 이면 캐시 사용 안 함)
+ */
 @Component
 public class JwtUtil {
-    @Value("${jwt.secret:mySecretKeyForJWTTokenGeneration12345678901234567890}")
-    private String secret;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final Long expiration;
+    private final Cache<ByteBuffer, VerifiedToken> verifiedTokens;
 
-    @Value("${jwt.expiration:86400000}") // 24시간
-    private Long expiration;
-
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    public JwtUtil(@Value("${jwt.secret:mySecretKeyForJWTTokenGeneration12345678901234567890}") String secret,
+                   @Value("${jwt.expiration:86400000}") Long expiration, // 24시간
+                   @Value("${jwt.cache.max-size:10000}") long cacheMaxSize) {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.expiration = expiration;
+        this.verifiedTokens = cacheMaxSize > 0
+                ? Caffeine.newBuilder().maximumSize(cacheMaxSize).expireAfter(new UntilTokenExpiry()).build()
+                : null;
     }
 
-    public String generateToken(String email, Long userId) {
+    public String generateToken(String email, Long userId, String role) {
         return Jwts.builder()
                 .subject(email)
                 .claim("userId", userId)
+                .claim("role", role)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -41,6 +63,29 @@ public class JwtUtil {
         return extractClaim(token, claims -> claims.get("userId", Long.class));
     }
 
+    /**
+     * 토큰을 한 번 파싱하여 인증 주체 생성 (서명 오류/만료 시 예외)
+     * 이미 검증한 토큰이면 캐시에서 반환
+     */
+    public AuthenticatedUser extractAuthenticatedUser(String token) {
+        if (verifiedTokens == null) {
+            return toAuthenticatedUser(extractAllClaims(token));
+        }
+        ByteBuffer key = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            return cached.user();
+        }
+
+        Claims claims = extractAllClaims(token);
+        AuthenticatedUser user = toAuthenticatedUser(claims);
+        // 만료 시각이 없는 토큰은 언제까지 유효한지 알 수 없으므로 캐시하지 않음
+        if (claims.getExpiration() != null) {
+            verifiedTokens.put(key, new VerifiedToken(user, claims.getExpiration().toInstant()));
+        }
+        return user;
+    }
+
     public Date extractExpiration(String token) {
         return extractClaim(token, Claims::getExpiration);
     }
@@ -51,11 +96,25 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    private AuthenticatedUser toAuthenticatedUser(Claims claims) {
+        Date issuedAt = claims.getIssuedAt();
+        return new AuthenticatedUser(
+                claims.get("userId", Long.class),
+                claims.getSubject(),
+                claims.get("role", String.class),
+                issuedAt != null ? issuedAt.toInstant() : null);
+    }
+
+    private ByteBuffer hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
     }
 
     public Boolean isTokenExpired(String token) {
@@ -66,6 +125,28 @@ public class JwtUtil {
         final String tokenEmail = extractEmail(token);
         return (tokenEmail.equals(email) && !isTokenExpired(token));
     }
-}
 
+    private record VerifiedToken(AuthenticatedUser user, Instant expiresAt) {
+    }
+
+    /**
+     * 캐시 항목은 토큰의 exp 시각에 만료 (조회/갱신으로 연장되지 않음)
+     */
+    private static final class UntilTokenExpiry implements Expiry<ByteBuffer, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.expiresAt().toEpochMilli() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
 
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
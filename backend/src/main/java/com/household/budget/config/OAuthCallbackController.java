@@ -2,10 +2,13 @@ package com.household.budget.config;
 
 import com.household.budget.service.CardApiService;
 import com.household.budget.service.OpenBankingService;
+import com.household.budget.service.SyncJobService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.function.Supplier;
+
 /**
  * OAuth 콜백 처리를 위한 컨트롤러
  * 실제 인증 완료 후 리다이렉트되는 URL
@@ -18,6 +21,7 @@ import org.springframework.web.bind.annotation.*;
 public class OAuthCallbackController {
     private final OpenBankingService openBankingService;
     private final CardApiService cardApiService;
+    private final SyncJobService syncJobService;
 
     /**
      * 오픈뱅킹 OAuth 콜백
@@ -35,11 +39,11 @@ public class OAuthCallbackController {
             if (accountId != null) {
                 openBankingService.handleOAuthCallback(accountId, code);
                 
-                // 인증 완료 후 자동으로 거래 내역 동기화
-                openBankingService.syncTransactions(accountId);
+                // 인증 완료 후 거래 내역 동기화는 백그라운드 작업으로 제출 (팝업 응답을 기다리게 하지 않음)
+                String syncJobId = submitSync(accountId, () -> syncJobService.submitOpenBanking(accountId).getJobId());
                 
                 // 성공 페이지로 리다이렉트 (프론트엔드)
-                return "<html><body><script>window.opener.postMessage({type: 'OAUTH_SUCCESS', accountId: " + accountId + "}, '*'); window.close();</script><h2>인증이 완료되었습니다. 이 창을 닫아주세요.</h2></body></html>";
+                return "<html><body><script>window.opener.postMessage({type: 'OAUTH_SUCCESS', accountId: " + accountId + ", syncJobId: " + syncJobId + "}, '*'); window.close();</script><h2>인증이 완료되었습니다. 이 창을 닫아주세요.</h2></body></html>";
             }
         } catch (Exception e) {
             log.error("오픈뱅킹 OAuth 처리 실패", e);
@@ -64,10 +68,10 @@ public class OAuthCallbackController {
             if (accountId != null) {
                 cardApiService.handleOAuthCallback(accountId, code);
                 
-                // 인증 완료 후 자동으로 거래 내역 동기화
-                cardApiService.syncTransactions(accountId);
+                // 인증 완료 후 거래 내역 동기화는 백그라운드 작업으로 제출 (팝업 응답을 기다리게 하지 않음)
+                String syncJobId = submitSync(accountId, () -> syncJobService.submitCard(accountId).getJobId());
                 
-                return "<html><body><script>window.opener.postMessage({type: 'OAUTH_SUCCESS', accountId: " + accountId + "}, '*'); window.close();</script><h2>인증이 완료되었습니다. 이 창을 닫아주세요.</h2></body></html>";
+                return "<html><body><script>window.opener.postMessage({type: 'OAUTH_SUCCESS', accountId: " + accountId + ", syncJobId: " + syncJobId + "}, '*'); window.close();</script><h2>인증이 완료되었습니다. 이 창을 닫아주세요.</h2></body></html>";
             }
         } catch (Exception e) {
             log.error("카드사 OAuth 처리 실패", e);
@@ -76,6 +80,14 @@ public class OAuthCallbackController {
         
         return "<html><body><h2>인증 처리 중...</h2></body></html>";
     }
-}
-
 
+    // 스크립트에 넣을 작업 ID 리터럴 ('id' 또는 null) - 동기화 제출 실패는 인증 결과와 무관하므로 null로 응답
+    private String submitSync(Long accountId, Supplier<String> submit) {
+        try {
+            return "'" + submit.get() + "'";
+        } catch (Exception e) {
+            log.warn("인증 후 동기화 작업 제출 실패: accountId={}, error={}", accountId, e.getMessage());
+            return "null";
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.household.budget.config;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 역할 변경 시각 기록 - 변경 이전에 발급된 토큰의 역할 클레임을 무효화
+ * 무효화된 토큰도 인증은 유지되며, 역할은 서비스가 DB에서 다시 조회
+ * 인스턴스 메모리에만 보관하므로 여러 인스턴스로 운영하면 공유 저장소로 옮겨야 함
+ */
+@Component
+public class RoleChangeTracker {
+    private final Map<Long, Instant> changedAt = new ConcurrentHashMap<>();
+
+    public void markRoleChanged(Long userId) {
+        changedAt.put(userId, Instant.now());
+    }
+
+    /**
+     * 토큰 발급 시각이 마지막 역할 변경 이전이면 true (JWT iat는 초 단위이므로 같은 초도 무효로 봄)
+     */
+    public boolean isStale(AuthenticatedUser user) {
+        if (user.userId() == null) {
+            return false;
+        }
+        Instant roleChangedAt = changedAt.get(user.userId());
+        return roleChangedAt != null && (user.issuedAt() == null || !user.issuedAt().isAfter(roleChangedAt));
+    }
+}
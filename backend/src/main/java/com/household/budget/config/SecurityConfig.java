@@ -1,14 +1,21 @@
 package com.household.budget.config;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.DispatcherTypeRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -33,9 +40,21 @@ public class SecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // 거래 내보내기 스트리밍 응답이 끝난 뒤의 비동기 디스패치는 세션이 없어 인증 정보가 없으므로 허용
+                // (요청 자체는 처음 디스패치에서 이미 인가됨), 다른 경로의 비동기 디스패치는 그대로 인증 필요
+                .requestMatchers(new AndRequestMatcher(
+                        new DispatcherTypeRequestMatcher(DispatcherType.ASYNC),
+                        AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/api/transactions/export"))).permitAll()
+                // 관리자 전용 - /api/auth/** 허용보다 먼저 (토큰의 역할 클레임, 역할 변경 이후 토큰은 다시 로그인해야 함)
+                .requestMatchers("/api/auth/users/**", "/api/auth/cache-stats").hasRole("ADMIN")
                 .requestMatchers("/api/auth/**", "/h2-console/**").permitAll()
+                // Prometheus 수집기와 헬스 체크는 토큰 없이 접근
+                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                 .anyRequest().authenticated()
             )
+            // 인증 없는 요청은 403이 아닌 401 (프론트엔드는 401에서 로그아웃 처리)
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
             .headers(headers -> headers.frameOptions(frameOptions -> frameOptions.disable()))
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
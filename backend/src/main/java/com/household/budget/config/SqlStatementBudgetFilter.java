@@ -0,0 +1,100 @@
+package com.household.budget.config;
+
+import com.household.budget.infrastructure.database.statistics.SqlBudgetExceededException;
+import com.household.budget.infrastructure.database.statistics.SqlStatementBudget;
+import com.household.budget.infrastructure.database.statistics.SqlStatementTracker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * HTTP 요청마다 Hibernate SQL 문장 수/엔티티 로드 수를 세고 예산(sql.budget.*)을 넘으면 경고 로그와 지표 기록
+ * - sql.request.statements{uri}: 요청당 SQL 문장 수 분포
+ * - sql.budget.exceeded{uri}: 예산을 넘은 요청 수
+ * 경고 로그에는 가장 많이 반복된 SQL 모양이 포함되어 N+1 조회 위치를 찾을 수 있음
+ *
+ * sql.budget.strict=true(테스트 프로필)이면 예산을 넘은 요청에서 SqlBudgetExceededException을 던져
+ * MockMvc를 사용하는 @SpringBootTest가 실패함
+ * 보안 필터보다 먼저 실행되어 인증 과정의 조회도 포함 (스트리밍 응답의 비동기 부분은 제외)
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "sql.budget.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final SqlStatementBudget budget;
+    private final boolean strict;
+    // 컨트롤러 슬라이스 테스트(@WebMvcTest)에는 MeterRegistry가 없으므로 선택적으로 사용
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatementBudgetFilter(@Value("${sql.budget.max-statements:30}") int maxStatements,
+                                    @Value("${sql.budget.max-entity-loads:1000}") int maxEntityLoads,
+                                    @Value("${sql.budget.max-repeats:10}") int maxRepeats,
+                                    @Value("${sql.budget.strict:false}") boolean strict,
+                                    ObjectProvider<MeterRegistry> meterRegistry) {
+        this.budget = new SqlStatementBudget(maxStatements, maxEntityLoads, maxRepeats);
+        this.strict = strict;
+        this.meterRegistry = meterRegistry.getIfAvailable();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementTracker.Scope scope = SqlStatementTracker.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            scope.close();
+        }
+        check(request, scope);
+    }
+
+    private void check(HttpServletRequest request, SqlStatementTracker.Scope scope) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+        if (meterRegistry != null) {
+            DistributionSummary.builder("sql.request.statements")
+                    .description("요청 한 번에 실행한 SQL 문장 수")
+                    .tag("uri", uri)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(scope.statements());
+        }
+
+        List<String> violations = budget.violations(scope);
+        if (violations.isEmpty()) {
+            return;
+        }
+        if (meterRegistry != null) {
+            Counter.builder("sql.budget.exceeded")
+                    .description("SQL 예산을 넘은 요청 수")
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+        }
+        String message = SqlStatementBudget.describe(request.getMethod() + " " + request.getRequestURI(),
+                scope, violations);
+        if (strict) {
+            throw new SqlBudgetExceededException(message);
+        }
+        log.warn(message);
+    }
+}
@@ -0,0 +1,51 @@
+package com.household.budget.config;
+
+import com.household.budget.infrastructure.database.statistics.EntityLoadCountingInterceptor;
+import com.household.budget.infrastructure.database.statistics.StatementCountingInspector;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.BeanUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+
+/**
+ * SQL 예산 검사(SqlStatementBudgetFilter)용 Hibernate 설정
+ * 준비되는 SQL과 엔티티 로드를 SqlStatementTracker에 기록 (열린 Scope가 없는 스레드에서는 바로 반환)
+ *
+ * spring.jpa.properties로 이미 설정된 StatementInspector는 감싸서 함께 실행
+ * Interceptor는 하나만 둘 수 있으므로 이미 설정되어 있으면 그대로 두고 엔티티 로드 수는 세지 않음
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "sql.budget.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementTrackingConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementTrackingCustomizer() {
+        return properties -> {
+            StatementInspector configured = toInspector(properties.get(AvailableSettings.STATEMENT_INSPECTOR));
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCountingInspector(configured));
+            if (properties.get(AvailableSettings.INTERCEPTOR) == null) {
+                properties.put(AvailableSettings.INTERCEPTOR, new EntityLoadCountingInterceptor());
+            } else {
+                log.info("Hibernate Interceptor가 이미 설정되어 있어 엔티티 로드 수는 집계하지 않습니다: {}",
+                        properties.get(AvailableSettings.INTERCEPTOR));
+            }
+        };
+    }
+
+    // Hibernate와 같은 방식으로 인스턴스, 클래스, 클래스 이름을 받음
+    private static StatementInspector toInspector(Object setting) {
+        if (setting == null || setting instanceof StatementInspector) {
+            return (StatementInspector) setting;
+        }
+        Class<?> type = setting instanceof Class<?> clazz
+                ? clazz
+                : ClassUtils.resolveClassName(setting.toString().trim(), SqlStatementTrackingConfig.class.getClassLoader());
+        return BeanUtils.instantiateClass(type.asSubclass(StatementInspector.class));
+    }
+}
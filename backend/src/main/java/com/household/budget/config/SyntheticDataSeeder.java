@@ -0,0 +1,155 @@
+package com.household.budget.config;
+
+import com.household.budget.dto.SyncResult;
+import com.household.budget.entity.BankAccount;
+import com.household.budget.entity.BudgetSession;
+import com.household.budget.entity.Category;
+import com.household.budget.entity.Transaction;
+import com.household.budget.entity.User;
+import com.household.budget.repository.BankAccountRepository;
+import com.household.budget.repository.BudgetSessionRepository;
+import com.household.budget.repository.CategoryRepository;
+import com.household.budget.repository.UserRepository;
+import com.household.budget.service.SyncTransactionWriter;
+import com.household.budget.service.seed.SyntheticTransactionGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 측정용 합성 데이터 시드 (seed.enabled=true 일 때만)
+ * 사용자 seed-user-{n}@example.com N명에게 세션 2개, 입출금 계좌/카드 각 1개, 거래 M건씩 생성
+ * 거래는 SyncTransactionWriter로 저장하므로 JDBC 배치 INSERT이며 원장/월별 집계도 함께 갱신됨
+ *
+ * 이미 있는 사용자는 건너뛰므로 여러 번 실행해도 되고, 사용자 수를 늘려 다시 실행하면 추가분만 생성
+ * 카드 계좌에는 가짜 토큰을 넣어 POST /api/bank-accounts/{id}/card/sync(Mock 카드 API)를 부하 측정에 쓸 수 있음
+ */
+@Slf4j
+@Component
+@Order(10)
+@ConditionalOnProperty(name = "seed.enabled", havingValue = "true")
+public class SyntheticDataSeeder implements CommandLineRunner {
+    static final String EMAIL_FORMAT = "seed-user-%d@example.com";
+
+    private final UserRepository userRepository;
+    private final BudgetSessionRepository sessionRepository;
+    private final BankAccountRepository bankAccountRepository;
+    private final CategoryRepository categoryRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final SyncTransactionWriter syncTransactionWriter;
+    private final int users;
+    private final int transactionsPerUser;
+    private final int months;
+    private final long randomSeed;
+    private final String password;
+
+    public SyntheticDataSeeder(UserRepository userRepository,
+                               BudgetSessionRepository sessionRepository,
+                               BankAccountRepository bankAccountRepository,
+                               CategoryRepository categoryRepository,
+                               PasswordEncoder passwordEncoder,
+                               SyncTransactionWriter syncTransactionWriter,
+                               @Value("${seed.users:100}") int users,
+                               @Value("${seed.transactions-per-user:1000}") int transactionsPerUser,
+                               @Value("${seed.months:24}") int months,
+                               @Value("${seed.random-seed:42}") long randomSeed,
+                               @Value("${seed.password:seed-password}") String password) {
+        this.userRepository = userRepository;
+        this.sessionRepository = sessionRepository;
+        this.bankAccountRepository = bankAccountRepository;
+        this.categoryRepository = categoryRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.syncTransactionWriter = syncTransactionWriter;
+        this.users = users;
+        this.transactionsPerUser = transactionsPerUser;
+        this.months = months;
+        this.randomSeed = randomSeed;
+        this.password = password;
+    }
+
+    @Override
+    public void run(String... args) {
+        List<Category> categories = categoryRepository.findAll();
+        if (categories.isEmpty()) {
+            log.warn("카테고리가 없어 합성 데이터를 만들지 않습니다.");
+            return;
+        }
+        SyntheticTransactionGenerator generator = new SyntheticTransactionGenerator(categories);
+        // BCrypt는 느리므로 한 번만 계산해서 모든 사용자에게 사용
+        String passwordHash = passwordEncoder.encode(password);
+        LocalDate today = LocalDate.now();
+
+        long started = System.nanoTime();
+        int created = 0;
+        long inserted = 0;
+        log.info("합성 데이터 생성 시작: users={}, transactionsPerUser={}, months={}", users, transactionsPerUser, months);
+        for (int n = 1; n <= users; n++) {
+            String email = String.format(EMAIL_FORMAT, n);
+            if (userRepository.existsByEmail(email)) {
+                continue;
+            }
+            User user = createUser(email, "시드 사용자 " + n, passwordHash);
+            List<BudgetSession> sessions = sessionRepository.saveAll(List.of(
+                    session(user, "생활비", "#0070f3", "💰"), session(user, "여행", "#F59E0B", "✈️")));
+            BankAccount checking = bankAccountRepository.save(account(user, n, "급여 통장", "088", "신한은행",
+                    "CHECKING", "OPENBANKING", null));
+            BankAccount card = bankAccountRepository.save(account(user, n, "생활비 카드", "381", "KB국민카드",
+                    "CARD", "CARD_API", "seed-token-" + n));
+
+            List<Transaction> transactions = generator.generate(user, sessions, checking, card,
+                    transactionsPerUser, today, months, new SplittableRandom(randomSeed + n));
+            SyncResult result = syncTransactionWriter.write(user.getId(), transactions);
+            created++;
+            inserted += result.getInserted();
+            if (created % 10 == 0) {
+                log.info("합성 데이터 진행: {}명, 거래 {}건", created, inserted);
+            }
+        }
+        long elapsedMs = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        log.info("합성 데이터 생성 완료: 새 사용자 {}명, 거래 {}건, {}ms ({} rows/s)",
+                created, inserted, elapsedMs, inserted * 1000 / elapsedMs);
+    }
+
+    private User createUser(String email, String name, String passwordHash) {
+        User user = new User();
+        user.setEmail(email);
+        user.setName(name);
+        user.setPassword(passwordHash);
+        user.setRole("USER");
+        return userRepository.save(user);
+    }
+
+    private static BudgetSession session(User user, String name, String color, String icon) {
+        BudgetSession session = new BudgetSession();
+        session.setUser(user);
+        session.setName(name);
+        session.setColor(color);
+        session.setIcon(icon);
+        return session;
+    }
+
+    private static BankAccount account(User user, int n, String name, String bankCode, String bankName,
+                                       String accountType, String connectionType, String accessToken) {
+        BankAccount account = new BankAccount();
+        account.setUser(user);
+        account.setAccountName(name);
+        account.setBankCode(bankCode);
+        account.setBankName(bankName);
+        account.setAccountNumber(String.format("***-****-%04d", n % 10_000));
+        account.setAccountType(accountType);
+        account.setConnectionType(connectionType);
+        account.setAccessToken(accessToken);
+        account.setTokenExpiresAt(accessToken != null ? LocalDateTime.now().plusYears(1) : null);
+        account.setIsActive(true);
+        return account;
+    }
+}
@@ -1,9 +1,26 @@
 package com.household.budget.config;
 
+import com.household.budget.entity.User;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.util.function.Function;
+
 public class UserContext {
+    /**
+     * JWT에서 만든 인증 주체 - 사용자 ID와 역할이 모두 있을 때만 반환
+     * null이면 호출한 쪽에서 getCurrentUserEmail()로 사용자를 조회 (보통은 아래 requireUser 등을 사용)
+     */
+    public static AuthenticatedUser getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && authentication.getPrincipal() instanceof AuthenticatedUser user && user.isComplete()) {
+            return user;
+        }
+        return null;
+    }
+
+
     public static String getCurrentUserEmail() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null && authentication.isAuthenticated()) {
@@ -11,4 +28,45 @@ public class UserContext {
         }
         return null;
     }
+
+    /**
+     * 현재 사용자 - 토큰의 인증 주체를 우선 쓰고, 없거나 역할이 빠진 경우에만 이메일로 한 번 조회
+     * @param lookupByEmail 이메일로 사용자 조회 (예: authService::getUserByEmail)
+     * @throws RuntimeException 인증 정보가 없거나 사용자를 찾지 못한 경우
+     */
+    public static AuthenticatedUser requireUser(Function<String, User> lookupByEmail) {
+        AuthenticatedUser principal = getCurrentUser();
+        if (principal != null) {
+            return principal;
+        }
+        String email = getCurrentUserEmail();
+        if (email == null) {
+            throw new RuntimeException("인증이 필요합니다.");
+        }
+        User user = lookupByEmail.apply(email);
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getRole(), null);
+    }
+
+    /**
+     * requireUser와 같되 인증 정보가 없거나 조회에 실패하면 null (권한 확인용)
+     */
+    public static AuthenticatedUser findUser(Function<String, User> lookupByEmail) {
+        try {
+            return requireUser(lookupByEmail);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    public static Long requireUserId(Function<String, User> lookupByEmail) {
+        return requireUser(lookupByEmail).userId();
+    }
+
+    /**
+     * 현재 사용자가 관리자인지 - 인증 정보가 없거나 조회에 실패하면 false
+     */
+    public static boolean isAdmin(Function<String, User> lookupByEmail) {
+        AuthenticatedUser user = findUser(lookupByEmail);
+        return user != null && user.isAdmin();
+    }
 }
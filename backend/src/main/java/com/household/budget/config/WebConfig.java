@@ -0,0 +1,26 @@
+package com.household.budget.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+    private final DataVersionETagInterceptor dataVersionETagInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 사용자 데이터 버전으로 ETag를 만드는 목록 조회 (단건 조회, 인증 URL 등은 제외)
+        registry.addInterceptor(dataVersionETagInterceptor)
+                .addPathPatterns(
+                        "/api/transactions",
+                        "/api/transactions/type/*",
+                        "/api/transactions/session/*",
+                        "/api/transactions/summary",
+                        "/api/sessions",
+                        "/api/bank-accounts",
+                        "/api/bank-accounts/active");
+    }
+}
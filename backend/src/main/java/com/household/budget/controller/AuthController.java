@@ -1,8 +1,11 @@
 package com.household.budget.controller;
 
+import com.household.budget.config.UserContext;
 import com.household.budget.dto.AuthResponse;
+import com.household.budget.dto.CacheStatistics;
 import com.household.budget.dto.LoginRequest;
 import com.household.budget.dto.RegisterRequest;
+import com.household.budget.dto.RoleChangeRequest;
 import com.household.budget.service.AuthService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +13,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
@@ -42,7 +47,7 @@ public class AuthController {
     @GetMapping("/me")
     public ResponseEntity<AuthResponse> getCurrentUser() {
         try {
-            String email = com.household.budget.config.UserContext.getCurrentUserEmail();
+            String email = UserContext.getCurrentUserEmail();
             if (email == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
             }
@@ -52,6 +57,33 @@ public class AuthController {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
     }
-}
 
+    /**
+     * 사용자 조회 캐시 적중률 (관리자 전용)
+     */
+    @GetMapping("/cache-stats")
+    public ResponseEntity<Map<String, CacheStatistics>> getUserCacheStats() {
+        try {
+            return ResponseEntity.ok(authService.getUserCacheStats());
+        } catch (SecurityException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+    }
 
+    /**
+     * 사용자 역할 변경 (관리자 전용) - 대상 사용자가 이전에 받은 토큰의 역할은 즉시 무효화
+     */
+    @PutMapping("/users/{userId}/role")
+    public ResponseEntity<Void> changeRole(@PathVariable Long userId, @Valid @RequestBody RoleChangeRequest request) {
+        try {
+            authService.changeRole(userId, request.getRole());
+            return ResponseEntity.noContent().build();
+        } catch (SecurityException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
@@ -1,14 +1,17 @@
 package com.household.budget.controller;
 
 import com.household.budget.dto.BankAccountDto;
+import com.household.budget.dto.SyncJobStatus;
 import com.household.budget.service.BankAccountService;
 import com.household.budget.service.CardApiService;
 import com.household.budget.service.OpenBankingService;
+import com.household.budget.service.SyncJobService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
 
@@ -20,6 +23,7 @@ public class BankAccountController {
     private final BankAccountService bankAccountService;
     private final OpenBankingService openBankingService;
     private final CardApiService cardApiService;
+    private final SyncJobService syncJobService;
 
     @GetMapping
     public ResponseEntity<List<BankAccountDto>> getAllAccounts() {
@@ -99,13 +103,14 @@ public class BankAccountController {
     }
 
     /**
-     * 오픈뱅킹 거래 내역 동기화
+     * 오픈뱅킹 거래 내역 동기화 - 백그라운드 작업으로 제출하고 202와 작업 ID 반환
      */
     @PostMapping("/{id}/openbanking/sync")
     public ResponseEntity<Map<String, String>> syncOpenBankingTransactions(@PathVariable Long id) {
         try {
-            openBankingService.syncTransactions(id);
-            return ResponseEntity.ok(Map.of("message", "동기화가 완료되었습니다."));
+            return accepted(syncJobService.submitOpenBanking(id));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
@@ -140,17 +145,23 @@ public class BankAccountController {
     }
 
     /**
-     * 카드 거래 내역 동기화
+     * 카드 거래 내역 동기화 - 백그라운드 작업으로 제출하고 202와 작업 ID 반환
      */
     @PostMapping("/{id}/card/sync")
     public ResponseEntity<Map<String, String>> syncCardTransactions(@PathVariable Long id) {
         try {
-            cardApiService.syncTransactions(id);
-            return ResponseEntity.ok(Map.of("message", "동기화가 완료되었습니다."));
+            return accepted(syncJobService.submitCard(id));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
-}
-
 
+    // 진행 상황은 GET /api/sync-jobs/{jobId}로 조회
+    private ResponseEntity<Map<String, String>> accepted(SyncJobStatus job) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/sync-jobs/" + job.getJobId()))
+                .body(Map.of("jobId", job.getJobId(), "state", job.getState(), "message", "동기화를 시작했습니다."));
+    }
+}
@@ -3,9 +3,11 @@ package com.household.budget.controller;
 import com.household.budget.dto.CategoryDto;
 import com.household.budget.service.CategoryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -16,14 +18,30 @@ import java.util.List;
 public class CategoryController {
     private final CategoryService categoryService;
 
+    /**
+     * 카테고리 목록 - 강한 ETag로 If-None-Match가 일치하면 본문 없이 304
+     * ETag를 본문보다 먼저 읽으므로 사이에 스냅샷이 바뀌면 새 본문에 이전 ETag가 붙을 수 있음
+     * 이 경우 다음 요청의 If-None-Match가 현재 ETag와 달라 본문을 다시 받으므로, 이전 본문이 새 ETag로 캐시되어
+     * 변경이 계속 숨겨지는 경우만 막음
+     */
     @GetMapping
-    public ResponseEntity<List<CategoryDto>> getAllCategories() {
-        return ResponseEntity.ok(categoryService.getAllCategories());
+    public ResponseEntity<List<CategoryDto>> getAllCategories(WebRequest request) {
+        String etag = categoryService.getCategoriesETag();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache())
+                .body(categoryService.getAllCategories());
     }
 
     @GetMapping("/type/{type}")
-    public ResponseEntity<List<CategoryDto>> getCategoriesByType(@PathVariable String type) {
-        return ResponseEntity.ok(categoryService.getCategoriesByType(type));
+    public ResponseEntity<List<CategoryDto>> getCategoriesByType(@PathVariable String type, WebRequest request) {
+        String etag = categoryService.getCategoriesETag();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache())
+                .body(categoryService.getCategoriesByType(type));
     }
 
     @PostMapping
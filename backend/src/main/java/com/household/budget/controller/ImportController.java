@@ -0,0 +1,51 @@
+package com.household.budget.controller;
+
+import com.household.budget.dto.ImportJobStatus;
+import com.household.budget.service.StatementImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * 은행/가계부 앱 명세서 가져오기 (CSV, OFX/QFX, QIF)
+ */
+@RestController
+@RequestMapping("/api/imports")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:3100")
+public class ImportController {
+    private final StatementImportService statementImportService;
+
+    /**
+     * 파일 업로드 - 백그라운드 작업으로 제출하고 202와 작업 ID 반환
+     * 진행 상황과 건너뛴 행은 GET /api/imports/{jobId}로 조회
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<Map<String, String>> importStatement(@RequestParam("file") MultipartFile file,
+                                                               @RequestParam(required = false) String format,
+                                                               @RequestParam(required = false) String encoding) {
+        try {
+            ImportJobStatus job = statementImportService.submit(file, format, encoding);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/imports/" + job.getJobId()))
+                    .body(Map.of("jobId", job.getJobId(), "state", job.getState(), "message", "가져오기를 시작했습니다."));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ImportJobStatus> getJob(@PathVariable String id) {
+        return statementImportService.getJob(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
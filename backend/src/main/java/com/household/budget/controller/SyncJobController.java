@@ -0,0 +1,25 @@
+package com.household.budget.controller;
+
+import com.household.budget.dto.SyncJobStatus;
+import com.household.budget.service.SyncJobService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 백그라운드 동기화 작업 상태 조회
+ */
+@RestController
+@RequestMapping("/api/sync-jobs")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:3100")
+public class SyncJobController {
+    private final SyncJobService syncJobService;
+
+    @GetMapping("/{id}")
+    public ResponseEntity<SyncJobStatus> getJob(@PathVariable String id) {
+        return syncJobService.getJob(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,61 @@
+package com.household.budget.controller;
+
+import com.household.budget.dto.SyncRunStatus;
+import com.household.budget.service.SyncOrchestrator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 전체 계좌 동기화 실행 및 진행 상황 조회 (관리자 전용)
+ */
+@RestController
+@RequestMapping("/api/sync-runs")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:3100")
+public class SyncRunController {
+    private final SyncOrchestrator syncOrchestrator;
+
+    /**
+     * 전체 동기화 시작 - 진행 중이면 409
+     */
+    @PostMapping
+    public ResponseEntity<SyncRunStatus> startRun() {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(syncOrchestrator.start());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+    }
+
+    /**
+     * 진행 중인 동기화의 카운터와 계좌별 결과
+     */
+    @GetMapping("/current")
+    public ResponseEntity<SyncRunStatus> getCurrentRun() {
+        try {
+            return syncOrchestrator.getCurrentRun()
+                    .map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+    }
+
+    /**
+     * 마지막으로 끝난 동기화 결과
+     */
+    @GetMapping("/latest")
+    public ResponseEntity<SyncRunStatus> getLastRun() {
+        try {
+            return syncOrchestrator.getLastRun()
+                    .map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+    }
+}
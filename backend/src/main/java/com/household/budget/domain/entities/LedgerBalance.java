@@ -0,0 +1,78 @@
+package com.household.budget.domain.entities;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Domain Entity - (사용자, 세션)별 누적 잔액
+ * 거래 원장(transactions)에서 파생되는 집계값으로, 거래 쓰기와 함께 증분 갱신됨
+ * sessionId가 null이면 세션에 속하지 않은 거래의 합계
+ */
+public class LedgerBalance {
+    private Long userId;
+    private Long sessionId;
+    private BigDecimal totalIncome;
+    private BigDecimal totalExpense;
+    private long transactionCount;
+
+    public LedgerBalance() {
+    }
+
+    public LedgerBalance(Long userId, Long sessionId, BigDecimal totalIncome,
+                         BigDecimal totalExpense, long transactionCount) {
+        this.userId = userId;
+        this.sessionId = sessionId;
+        this.totalIncome = totalIncome != null ? totalIncome : BigDecimal.ZERO;
+        this.totalExpense = totalExpense != null ? totalExpense : BigDecimal.ZERO;
+        this.transactionCount = transactionCount;
+    }
+
+    public static LedgerBalance empty(Long userId, Long sessionId) {
+        return new LedgerBalance(userId, sessionId, BigDecimal.ZERO, BigDecimal.ZERO, 0L);
+    }
+
+    public BigDecimal getBalance() {
+        return totalIncome.subtract(totalExpense);
+    }
+
+    // 금액 scale 차이(10 vs 10.00)는 무시하고 값으로 비교
+    public boolean sameTotalsAs(LedgerBalance other) {
+        return other != null
+                && transactionCount == other.transactionCount
+                && totalIncome.compareTo(other.totalIncome) == 0
+                && totalExpense.compareTo(other.totalExpense) == 0;
+    }
+
+    // Getters and Setters
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    public Long getSessionId() { return sessionId; }
+    public void setSessionId(Long sessionId) { this.sessionId = sessionId; }
+    public BigDecimal getTotalIncome() { return totalIncome; }
+    public void setTotalIncome(BigDecimal totalIncome) { this.totalIncome = totalIncome; }
+    public BigDecimal getTotalExpense() { return totalExpense; }
+    public void setTotalExpense(BigDecimal totalExpense) { this.totalExpense = totalExpense; }
+    public long getTransactionCount() { return transactionCount; }
+    public void setTransactionCount(long transactionCount) { this.transactionCount = transactionCount; }
+
+    @Override
+    public String toString() {
+        return "LedgerBalance{userId=" + userId + ", sessionId=" + sessionId
+                + ", totalIncome=" + totalIncome + ", totalExpense=" + totalExpense
+                + ", transactionCount=" + transactionCount + "}";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LedgerBalance)) return false;
+        LedgerBalance that = (LedgerBalance) o;
+        return Objects.equals(userId, that.userId) && Objects.equals(sessionId, that.sessionId)
+                && sameTotalsAs(that);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, sessionId, transactionCount);
+    }
+}
@@ -0,0 +1,96 @@
+package com.household.budget.domain.entities;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Objects;
+
+/**
+ * Domain Entity - (사용자, 월, 카테고리, 유형)별 거래 합계
+ * 거래 원장(transactions)에서 파생되는 집계값으로, 거래 쓰기와 함께 증분 갱신됨
+ * yyyymm은 202403 형태의 정수, categoryId가 null이면 미분류 거래의 합계
+ */
+public class MonthlyRollup {
+    private Long userId;
+    private int yyyymm;
+    private Long categoryId;
+    private String type;
+    private BigDecimal totalAmount;
+    private long transactionCount;
+
+    public MonthlyRollup() {
+    }
+
+    public MonthlyRollup(Long userId, int yyyymm, Long categoryId, String type,
+                         BigDecimal totalAmount, long transactionCount) {
+        this.userId = userId;
+        this.yyyymm = yyyymm;
+        this.categoryId = categoryId;
+        this.type = type;
+        this.totalAmount = totalAmount != null ? totalAmount : BigDecimal.ZERO;
+        this.transactionCount = transactionCount;
+    }
+
+    public static int toYyyymm(LocalDateTime dateTime) {
+        return dateTime.getYear() * 100 + dateTime.getMonthValue();
+    }
+
+    public static int toYyyymm(YearMonth yearMonth) {
+        return yearMonth.getYear() * 100 + yearMonth.getMonthValue();
+    }
+
+    public YearMonth getYearMonth() {
+        return YearMonth.of(yyyymm / 100, yyyymm % 100);
+    }
+
+    public boolean isIncome() {
+        return "INCOME".equals(type);
+    }
+
+    public boolean isExpense() {
+        return "EXPENSE".equals(type);
+    }
+
+    // 금액 scale 차이(10 vs 10.00)는 무시하고 값으로 비교
+    public boolean sameTotalsAs(MonthlyRollup other) {
+        return other != null
+                && transactionCount == other.transactionCount
+                && totalAmount.compareTo(other.totalAmount) == 0;
+    }
+
+    // Getters and Setters
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+    public int getYyyymm() { return yyyymm; }
+    public void setYyyymm(int yyyymm) { this.yyyymm = yyyymm; }
+    public Long getCategoryId() { return categoryId; }
+    public void setCategoryId(Long categoryId) { this.categoryId = categoryId; }
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+    public BigDecimal getTotalAmount() { return totalAmount; }
+    public void setTotalAmount(BigDecimal totalAmount) { this.totalAmount = totalAmount; }
+    public long getTransactionCount() { return transactionCount; }
+    public void setTransactionCount(long transactionCount) { this.transactionCount = transactionCount; }
+
+    @Override
+    public String toString() {
+        return "MonthlyRollup{userId=" + userId + ", yyyymm=" + yyyymm + ", categoryId=" + categoryId
+                + ", type=" + type + ", totalAmount=" + totalAmount
+                + ", transactionCount=" + transactionCount + "}";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MonthlyRollup)) return false;
+        MonthlyRollup that = (MonthlyRollup) o;
+        return yyyymm == that.yyyymm && Objects.equals(userId, that.userId)
+                && Objects.equals(categoryId, that.categoryId) && Objects.equals(type, that.type)
+                && sameTotalsAs(that);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, yyyymm, categoryId, type, transactionCount);
+    }
+}
@@ -1,5 +1,7 @@
 package com.household.budget.domain.entities;
 
+import com.household.budget.domain.valueobjects.Money;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
@@ -11,10 +13,12 @@ public class Transaction {
     private Long id;
     private String type; // "INCOME" or "EXPENSE"
     private BigDecimal amount;
+    private long amountMinorUnits; // 합계 계산용 저장 단위 값 (amount를 넣을 때 한 번만 변환)
     private String description;
     private Long categoryId;
     private Long userId;
     private Long sessionId;
+    private Long bankAccountId;
     private LocalDateTime transactionDate;
     private LocalDateTime createdAt;
     private String externalTransactionId;
@@ -28,7 +32,7 @@ public class Transaction {
                       LocalDateTime transactionDate, LocalDateTime createdAt) {
         this.id = id;
         this.type = type;
-        this.amount = amount;
+        setAmount(amount);
         this.description = description;
         this.categoryId = categoryId;
         this.userId = userId;
@@ -46,12 +50,14 @@ public class Transaction {
         return "EXPENSE".equals(type);
     }
 
+    // BigDecimal 그대로 계산 (잔액의 소수 자릿수를 바꾸지 않음)
     public BigDecimal calculateBalance(BigDecimal currentBalance) {
-        if (isIncome()) {
-            return currentBalance.add(amount);
-        } else {
-            return currentBalance.subtract(amount);
-        }
+        return isIncome() ? currentBalance.add(amount) : currentBalance.subtract(amount);
+    }
+
+    public Money calculateBalance(Money currentBalance) {
+        Money money = Money.ofMinor(amountMinorUnits, Money.STORAGE_SCALE);
+        return isIncome() ? currentBalance.plus(money) : currentBalance.minus(money);
     }
 
     public boolean isValid() {
@@ -66,7 +72,12 @@ public class Transaction {
     public String getType() { return type; }
     public void setType(String type) { this.type = type; }
     public BigDecimal getAmount() { return amount; }
-    public void setAmount(BigDecimal amount) { this.amount = amount; }
+    // 반올림하지 않음 - 저장 단위로 표현할 수 없는 금액은 IllegalArgumentException (API 경계에서 먼저 400으로 거절)
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+        this.amountMinorUnits = amount != null ? Money.toMinorUnits(amount) : 0L;
+    }
+    public long getAmountMinorUnits() { return amountMinorUnits; }
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
     public Long getCategoryId() { return categoryId; }
@@ -75,6 +86,8 @@ public class Transaction {
     public void setUserId(Long userId) { this.userId = userId; }
     public Long getSessionId() { return sessionId; }
     public void setSessionId(Long sessionId) { this.sessionId = sessionId; }
+    public Long getBankAccountId() { return bankAccountId; }
+    public void setBankAccountId(Long bankAccountId) { this.bankAccountId = bankAccountId; }
     public LocalDateTime getTransactionDate() { return transactionDate; }
     public void setTransactionDate(LocalDateTime transactionDate) { this.transactionDate = transactionDate; }
     public LocalDateTime getCreatedAt() { return createdAt; }
@@ -0,0 +1,18 @@
+package com.household.budget.domain.events;
+
+import java.util.List;
+
+/**
+ * Domain Event - 대량 거래 추가/삭제 (동기화, 가져오기)
+ * 리스너는 같은 키의 증감분을 합쳐 키마다 한 번만 반영 (행마다 UPDATE 하지 않음)
+ */
+public class TransactionBatchChangedEvent {
+    private final List<TransactionChangedEvent> changes;
+
+    public TransactionBatchChangedEvent(List<TransactionChangedEvent> changes) {
+        this.changes = List.copyOf(changes);
+    }
+
+    public List<TransactionChangedEvent> getChanges() { return changes; }
+    public boolean isEmpty() { return changes.isEmpty(); }
+}
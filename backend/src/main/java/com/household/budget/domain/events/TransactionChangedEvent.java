@@ -0,0 +1,86 @@
+package com.household.budget.domain.events;
+
+import com.household.budget.domain.entities.Transaction;
+import com.household.budget.domain.valueobjects.Money;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Domain Event - 거래 추가/삭제
+ * 수정은 기존 값 REMOVED + 새 값 ADDED 두 건으로 발행
+ * 리스너는 발행한 쪽의 트랜잭션 안에서 동기적으로 실행됨 (집계 테이블 갱신용)
+ */
+public class TransactionChangedEvent {
+    public enum Change { ADDED, REMOVED }
+
+    private final Change change;
+    private final Long transactionId;
+    private final Long userId;
+    private final Long sessionId;
+    private final Long categoryId;
+    private final String type;
+    private final BigDecimal amount;
+    private final long amountMinorUnits;
+    private final LocalDateTime transactionDate;
+
+    public TransactionChangedEvent(Change change, Long transactionId, Long userId, Long sessionId,
+                                   Long categoryId, String type, BigDecimal amount,
+                                   LocalDateTime transactionDate) {
+        this.change = change;
+        this.transactionId = transactionId;
+        this.userId = userId;
+        this.sessionId = sessionId;
+        this.categoryId = categoryId;
+        this.type = type;
+        this.amount = amount;
+        this.amountMinorUnits = amount != null ? Money.toMinorUnits(amount) : 0L;
+        this.transactionDate = transactionDate;
+    }
+
+    public static TransactionChangedEvent added(Transaction transaction) {
+        return of(Change.ADDED, transaction);
+    }
+
+    public static TransactionChangedEvent removed(Transaction transaction) {
+        return of(Change.REMOVED, transaction);
+    }
+
+    private static TransactionChangedEvent of(Change change, Transaction transaction) {
+        return new TransactionChangedEvent(change, transaction.getId(), transaction.getUserId(),
+                transaction.getSessionId(), transaction.getCategoryId(), transaction.getType(),
+                transaction.getAmount(), transaction.getTransactionDate());
+    }
+
+    public boolean isIncome() {
+        return "INCOME".equals(type);
+    }
+
+    public boolean isExpense() {
+        return "EXPENSE".equals(type);
+    }
+
+    // 추가는 +1, 삭제는 -1
+    public int sign() {
+        return change == Change.ADDED ? 1 : -1;
+    }
+
+    public BigDecimal signedAmount() {
+        return change == Change.ADDED ? amount : amount.negate();
+    }
+
+    // 집계 리스너용 - 저장 단위(Money.STORAGE_SCALE) 최소 단위 개수
+    public long signedAmountMinorUnits() {
+        return change == Change.ADDED ? amountMinorUnits : -amountMinorUnits;
+    }
+
+    public Change getChange() { return change; }
+    public Long getTransactionId() { return transactionId; }
+    public Long getUserId() { return userId; }
+    public Long getSessionId() { return sessionId; }
+    public Long getCategoryId() { return categoryId; }
+    public String getType() { return type; }
+    public BigDecimal getAmount() { return amount; }
+    public long getAmountMinorUnits() { return amountMinorUnits; }
+    public LocalDateTime getTransactionDate() { return transactionDate; }
+}
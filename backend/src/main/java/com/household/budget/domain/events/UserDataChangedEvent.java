@@ -0,0 +1,24 @@
+package com.household.budget.domain.events;
+
+/**
+ * Domain Event - 사용자 데이터(세션, 계좌 등) 변경
+ * 거래 변경은 TransactionChangedEvent/TransactionBatchChangedEvent로 알리므로 여기서는 그 외 쓰기만 발행
+ * userId가 null이면 모든 사용자가 보는 공용 데이터(카테고리) 변경
+ */
+public class UserDataChangedEvent {
+    private final Long userId;
+
+    public UserDataChangedEvent(Long userId) {
+        this.userId = userId;
+    }
+
+    public static UserDataChangedEvent shared() {
+        return new UserDataChangedEvent(null);
+    }
+
+    public boolean isShared() {
+        return userId == null;
+    }
+
+    public Long getUserId() { return userId; }
+}
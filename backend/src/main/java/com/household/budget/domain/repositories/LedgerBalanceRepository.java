@@ -0,0 +1,25 @@
+package com.household.budget.domain.repositories;
+
+import com.household.budget.domain.entities.LedgerBalance;
+import com.household.budget.domain.services.TransactionCalculationService.TransactionSummary;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Domain Repository 인터페이스 - 누적 잔액 (ledger_balances)
+ * 구현체는 infrastructure에 위치
+ */
+public interface LedgerBalanceRepository {
+    // 증감분 반영 (행이 없으면 생성), 호출자의 트랜잭션 안에서 실행되어야 함
+    void applyDelta(Long userId, Long sessionId, BigDecimal incomeDelta, BigDecimal expenseDelta, long countDelta);
+
+    Optional<LedgerBalance> findByUserIdAndSessionId(Long userId, Long sessionId);
+    List<LedgerBalance> findByUserId(Long userId);
+    TransactionSummary summarizeByUserId(Long userId);
+    TransactionSummary summarizeAll();
+
+    void replaceForUser(Long userId, List<LedgerBalance> balances);
+    void deleteByUserIdAndSessionId(Long userId, Long sessionId);
+}
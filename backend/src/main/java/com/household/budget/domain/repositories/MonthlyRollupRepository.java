@@ -0,0 +1,24 @@
+package com.household.budget.domain.repositories;
+
+import com.household.budget.domain.entities.MonthlyRollup;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Domain Repository 인터페이스 - 월별 카테고리 합계 (monthly_rollups)
+ * 구현체는 infrastructure에 위치
+ */
+public interface MonthlyRollupRepository {
+    // 증감분 반영 (행이 없으면 생성), 호출자의 트랜잭션 안에서 실행되어야 함
+    void applyDelta(Long userId, int yyyymm, Long categoryId, String type, BigDecimal amountDelta, long countDelta);
+
+    // 기간은 yyyymm 기준 양끝 포함
+    List<MonthlyRollup> findByUserIdAndPeriod(Long userId, int fromYyyymm, int toYyyymm);
+    List<MonthlyRollup> findByUserId(Long userId);
+
+    // 전체 사용자 합계 (관리자용) - userId는 null
+    List<MonthlyRollup> sumAllByPeriod(int fromYyyymm, int toYyyymm);
+
+    void replaceForUser(Long userId, List<MonthlyRollup> rollups);
+}
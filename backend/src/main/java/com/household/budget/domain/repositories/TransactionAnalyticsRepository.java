@@ -0,0 +1,38 @@
+package com.household.budget.domain.repositories;
+
+import com.household.budget.domain.events.TransactionChangedEvent;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Domain Repository 인터페이스 - 사용자별 거래 분석 집계
+ * 구현체는 infrastructure에 위치 (메모리 열 저장소)
+ * from/to는 양끝 포함, sessionId가 null이면 모든 세션
+ * 금액은 저장 단위(Money.STORAGE_SCALE) 최소 단위 개수
+ */
+public interface TransactionAnalyticsRepository {
+    // from/to가 null이면 기간 제한 없음, 거래가 없는 카테고리는 제외
+    List<CategoryTotal> totalsByCategory(Long userId, LocalDate from, LocalDate to, Long sessionId);
+
+    // from~to의 모든 날짜를 포함 (거래가 없는 날은 0), from/to 필수
+    List<DailyTotal> dailyTotals(Long userId, LocalDate from, LocalDate to, Long sessionId);
+
+    // 월요일~일요일 7개 항목
+    List<WeekdayTotal> weekdayTotals(Long userId, LocalDate from, LocalDate to, Long sessionId);
+
+    // 위 세 집계를 한 번에 (사용자 거래를 한 번만 읽음), from/to 필수
+    Breakdown breakdown(Long userId, LocalDate from, LocalDate to, Long sessionId);
+
+    // 커밋된 거래 변경을 반영 (수정은 REMOVED + ADDED)
+    void apply(List<TransactionChangedEvent> changes);
+
+    record CategoryTotal(Long categoryId, long incomeMinorUnits, long expenseMinorUnits, int count) {}
+
+    record DailyTotal(LocalDate date, long incomeMinorUnits, long expenseMinorUnits, int count) {}
+
+    record WeekdayTotal(DayOfWeek dayOfWeek, long incomeMinorUnits, long expenseMinorUnits, int count) {}
+
+    record Breakdown(List<CategoryTotal> categories, List<DailyTotal> daily, List<WeekdayTotal> weekdays) {}
+}
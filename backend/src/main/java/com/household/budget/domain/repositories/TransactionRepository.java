@@ -1,10 +1,15 @@
 package com.household.budget.domain.repositories;
 
+import com.household.budget.domain.entities.LedgerBalance;
+import com.household.budget.domain.entities.MonthlyRollup;
 import com.household.budget.domain.entities.Transaction;
+import com.household.budget.domain.services.TransactionCalculationService.TransactionSummary;
+import com.household.budget.domain.valueobjects.TransactionCursor;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Domain Repository 인터페이스
@@ -25,5 +30,24 @@ public interface TransactionRepository {
     List<Transaction> findByUserIdAndDateRange(Long userId, LocalDateTime startDate, LocalDateTime endDate);
     BigDecimal getTotalByUserIdAndType(Long userId, String type);
     BigDecimal getTotalByUserIdAndTypeAndDateRange(Long userId, String type, LocalDateTime startDate, LocalDateTime endDate);
+
+    // Keyset 페이지네이션 (transactionDate DESC, id DESC), after가 null이면 첫 페이지
+    List<Transaction> findPageByUserId(Long userId, TransactionCursor after, int limit);
+    List<Transaction> findPage(TransactionCursor after, int limit);
+
+    // 수입/지출/잔액/건수를 단일 집계 쿼리로 조회
+    TransactionSummary summarizeByUserId(Long userId);
+    TransactionSummary summarizeAll();
+
+    // 원장 재계산용 - 원본 거래 행에서 (사용자, 세션)별 합계를 직접 집계
+    List<LedgerBalance> aggregateLedgerByUserId(Long userId);
+    List<Long> findDistinctUserIds();
+
+    // 월별 집계 재계산용 - 원본 거래 행에서 (월, 카테고리, 유형)별 합계를 직접 집계
+    List<MonthlyRollup> aggregateMonthlyByUserId(Long userId);
+
+    // 내보내기 - [from, to) 구간을 (transactionDate, id) 순으로 한 행씩 읽음
+    // 트랜잭션 안에서 사용하고 다 읽은 뒤 닫아야 함
+    Stream<Transaction> streamByUserIdAndDateRange(Long userId, LocalDateTime from, LocalDateTime to);
 }
 
@@ -1,6 +1,7 @@
 package com.household.budget.domain.services;
 
 import com.household.budget.domain.entities.Transaction;
+import com.household.budget.domain.valueobjects.Money;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
@@ -9,6 +10,7 @@ import java.util.List;
 /**
  * Domain Service - 핵심 비즈니스 로직
  * 순수 Java, 외부 의존성 없음
+ * 합계는 거래마다 BigDecimal을 만들지 않도록 long 최소 단위(Money)로 더하고 결과만 BigDecimal로 변환
  */
 @Component
 public class TransactionCalculationService {
@@ -18,23 +20,23 @@ public class TransactionCalculationService {
             return TransactionSummary.empty();
         }
         
-        BigDecimal totalIncome = BigDecimal.ZERO;
-        BigDecimal totalExpense = BigDecimal.ZERO;
+        long totalIncome = 0L;
+        long totalExpense = 0L;
         
         for (Transaction transaction : transactions) {
             if (transaction.isIncome()) {
-                totalIncome = totalIncome.add(transaction.getAmount());
+                totalIncome = Money.add(totalIncome, transaction.getAmountMinorUnits());
             } else if (transaction.isExpense()) {
-                totalExpense = totalExpense.add(transaction.getAmount());
+                totalExpense = Money.add(totalExpense, transaction.getAmountMinorUnits());
             }
         }
         
-        BigDecimal balance = totalIncome.subtract(totalExpense);
+        long balance = Money.subtract(totalIncome, totalExpense);
         
         return TransactionSummary.builder()
-            .totalIncome(totalIncome)
-            .totalExpense(totalExpense)
-            .balance(balance)
+            .totalIncome(Money.toBigDecimal(totalIncome))
+            .totalExpense(Money.toBigDecimal(totalExpense))
+            .balance(Money.toBigDecimal(balance))
             .transactionCount(transactions.size())
             .build();
     }
@@ -57,11 +59,22 @@ public class TransactionCalculationService {
             throw new IllegalArgumentException("필수 파라미터가 null입니다.");
         }
         
+        // BigDecimal 그대로 계산 (잔액의 소수 자릿수를 바꾸지 않음)
         return "INCOME".equals(type)
             ? currentBalance.add(amount)
             : currentBalance.subtract(amount);
     }
     
+    public Money calculateNewBalance(Money currentBalance, Money amount, String type) {
+        if (currentBalance == null || amount == null || type == null) {
+            throw new IllegalArgumentException("필수 파라미터가 null입니다.");
+        }
+        
+        return "INCOME".equals(type)
+            ? currentBalance.plus(amount)
+            : currentBalance.minus(amount);
+    }
+    
     public static class TransactionSummary {
         private BigDecimal totalIncome;
         private BigDecimal totalExpense;
@@ -0,0 +1,156 @@
+package com.household.budget.domain.valueobjects;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+
+/**
+ * Value Object - 금액 (고정 소수점)
+ * 최소 단위(minor unit) 개수 long과 소수 자릿수(scale)로 표현 - KRW는 0자리, 대부분의 통화는 2자리
+ * 도메인 계산의 기본 단위는 저장 컬럼 DECIMAL(19,2)와 같은 STORAGE_SCALE(2) - 저장된 값은 모두 long 범위 안
+ * 연산은 같은 scale끼리만 가능하며 long 범위를 넘으면 ArithmeticException (조용히 넘치지 않음)
+ *
+ * 합계 루프에서는 Money 객체를 만들지 않고 long 최소 단위를 add/subtract로 더한 뒤
+ * 결과만 toBigDecimal로 변환 (BigDecimal은 저장/응답 경계에서만 사용)
+ */
+public final class Money implements Comparable<Money> {
+    public static final int STORAGE_SCALE = 2;
+    public static final Money ZERO = new Money(0L, STORAGE_SCALE);
+
+    private static final int MAX_SCALE = 18;
+
+    private final long minorUnits;
+    private final int scale;
+
+    private Money(long minorUnits, int scale) {
+        this.minorUnits = minorUnits;
+        this.scale = scale;
+    }
+
+    public static Money ofMinor(long minorUnits, int scale) {
+        if (scale < 0 || scale > MAX_SCALE) {
+            throw new IllegalArgumentException("지원하지 않는 소수 자릿수입니다: " + scale);
+        }
+        return new Money(minorUnits, scale);
+    }
+
+    /**
+     * 저장 단위(소수 2자리)로 변환 - 반올림하지 않으므로 toMinorUnits와 같은 조건에서 예외
+     */
+    public static Money of(BigDecimal amount) {
+        return new Money(toMinorUnits(amount), STORAGE_SCALE);
+    }
+
+    /**
+     * 통화의 최소 단위로 변환 (KRW는 원 단위) - 통화가 표현할 수 없는 소수가 있으면 예외
+     */
+    public static Money of(BigDecimal amount, Currency currency) {
+        int scale = Math.max(0, currency.getDefaultFractionDigits());
+        try {
+            return new Money(amount.setScale(scale, RoundingMode.UNNECESSARY).unscaledValue().longValueExact(), scale);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(currency.getCurrencyCode() + " 금액으로 표현할 수 없습니다: " + amount);
+        }
+    }
+
+    /**
+     * BigDecimal -> 저장 단위 최소 단위 개수 (경계에서 한 번만 호출)
+     * 소수 2자리를 넘거나 long 범위를 벗어나면 IllegalArgumentException - 입력값은 API 경계에서 먼저 검증
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        try {
+            return amount.setScale(STORAGE_SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("저장 단위(소수 " + STORAGE_SCALE + "자리)로 표현할 수 없는 금액입니다: " + amount);
+        }
+    }
+
+    /**
+     * 저장 단위 최소 단위 개수 -> BigDecimal (소수 2자리)
+     */
+    public static BigDecimal toBigDecimal(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, STORAGE_SCALE);
+    }
+
+    // Math.*Exact는 JIT 내장 함수라 넘침 검사 비용이 거의 없음
+    public static long add(long a, long b) {
+        try {
+            return Math.addExact(a, b);
+        } catch (ArithmeticException e) {
+            throw overflow();
+        }
+    }
+
+    public static long subtract(long a, long b) {
+        try {
+            return Math.subtractExact(a, b);
+        } catch (ArithmeticException e) {
+            throw overflow();
+        }
+    }
+
+    public Money plus(Money other) {
+        return new Money(add(minorUnits, sameScale(other).minorUnits), scale);
+    }
+
+    public Money minus(Money other) {
+        return new Money(subtract(minorUnits, sameScale(other).minorUnits), scale);
+    }
+
+    public Money negate() {
+        return new Money(subtract(0L, minorUnits), scale);
+    }
+
+    public Money abs() {
+        return minorUnits < 0 ? negate() : this;
+    }
+
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0L;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, scale);
+    }
+
+    public long getMinorUnits() { return minorUnits; }
+    public int getScale() { return scale; }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, sameScale(other).minorUnits);
+    }
+
+    private Money sameScale(Money other) {
+        if (other.scale != scale) {
+            throw new IllegalArgumentException("소수 자릿수가 다른 금액은 함께 계산할 수 없습니다: " + this + ", " + other);
+        }
+        return other;
+    }
+
+    private static ArithmeticException overflow() {
+        return new ArithmeticException("금액 계산 결과가 범위를 벗어났습니다.");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Money)) return false;
+        Money that = (Money) o;
+        return minorUnits == that.minorUnits && scale == that.scale;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(minorUnits) + scale;
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
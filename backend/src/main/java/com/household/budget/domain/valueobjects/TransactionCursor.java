@@ -0,0 +1,67 @@
+package com.household.budget.domain.valueobjects;
+
+import com.household.budget.domain.entities.Transaction;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Value Object - 거래 목록 Keyset 페이지네이션 커서
+ * (transactionDate DESC, id DESC) 정렬에서 마지막으로 반환된 행의 위치를 나타냄
+ * 클라이언트에는 불투명(opaque) 문자열로만 노출
+ */
+public final class TransactionCursor {
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime transactionDate;
+    private final Long id;
+
+    public TransactionCursor(LocalDateTime transactionDate, Long id) {
+        this.transactionDate = Objects.requireNonNull(transactionDate, "transactionDate");
+        this.id = Objects.requireNonNull(id, "id");
+    }
+
+    public static TransactionCursor of(Transaction transaction) {
+        return new TransactionCursor(transaction.getTransactionDate(), transaction.getId());
+    }
+
+    public String encode() {
+        String raw = transactionDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + token);
+            }
+            LocalDateTime transactionDate = LocalDateTime.parse(raw.substring(0, separatorIndex));
+            Long id = Long.valueOf(raw.substring(separatorIndex + 1));
+            return new TransactionCursor(transactionDate, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + token, e);
+        }
+    }
+
+    public LocalDateTime getTransactionDate() { return transactionDate; }
+    public Long getId() { return id; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof TransactionCursor)) return false;
+        TransactionCursor that = (TransactionCursor) o;
+        return transactionDate.equals(that.transactionDate) && id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(transactionDate, id);
+    }
+}
@@ -0,0 +1,36 @@
+package com.household.budget.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 명세서 가져오기 작업 상태
+ * progress는 읽은 바이트 기준 진행률(%), parsed = 거래로 읽은 행 수, failed = 건너뛴 행 수
+ * errors는 건너뛴 행 중 앞쪽 일부만 (전체 건수는 failed)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobStatus {
+    private String jobId;
+    private String filename;
+    private String format;
+    private String state; // "QUEUED", "RUNNING", "SUCCEEDED" or "FAILED"
+    private long totalBytes;
+    private long bytesRead;
+    private int progress;
+    private int parsed;
+    private int inserted;
+    private int skipped;
+    private int failed;
+    private List<ImportLineError> errors;
+    private String error;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private Long elapsedMs;
+}
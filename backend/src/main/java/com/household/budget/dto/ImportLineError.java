@@ -0,0 +1,16 @@
+package com.household.budget.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가져오기에서 건너뛴 행 (line은 파일의 1부터 시작하는 줄 번호)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportLineError {
+    private int line;
+    private String message;
+}
@@ -0,0 +1,10 @@
+package com.household.budget.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class RoleChangeRequest {
+    @NotBlank(message = "역할을 입력해주세요")
+    private String role;
+}
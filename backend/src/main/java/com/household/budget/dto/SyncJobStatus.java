@@ -0,0 +1,29 @@
+package com.household.budget.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 백그라운드 계좌 동기화 작업 상태
+ * elapsedMs는 실행 시작부터 종료(진행 중이면 현재)까지의 시간
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncJobStatus {
+    private String jobId;
+    private Long accountId;
+    private String connectionType;
+    private String state; // "QUEUED", "RUNNING", "SUCCEEDED" or "FAILED"
+    private int fetched;
+    private int inserted;
+    private int skipped;
+    private String error;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private Long elapsedMs;
+}
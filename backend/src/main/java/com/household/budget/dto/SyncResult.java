@@ -0,0 +1,18 @@
+package com.household.budget.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 거래 동기화 결과
+ * fetched = 외부에서 받은 건수, inserted = 새로 저장한 건수, skipped = 이미 있던 중복 건수
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncResult {
+    private int fetched;
+    private int inserted;
+    private int skipped;
+}
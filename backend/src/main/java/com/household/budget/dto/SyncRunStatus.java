@@ -0,0 +1,48 @@
+package com.household.budget.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 전체 계좌 동기화 진행 상황
+ * completed = succeeded + failed + skippedAccounts, 나머지(total - completed)는 대기 또는 진행 중
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncRunStatus {
+    private String runId;
+    private String state; // "RUNNING" or "COMPLETED"
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private int total;
+    private int completed;
+    private int succeeded;
+    private int failed;
+    private int skippedAccounts; // 토큰 만료 등으로 건너뛴 계좌 수
+    private long fetched;
+    private long inserted;
+    private long skipped;
+    private List<AccountOutcome> accounts; // 끝난 계좌의 결과 (완료 순서)
+
+    /**
+     * 계좌 한 건의 동기화 결과
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AccountOutcome {
+        private Long accountId;
+        private String connectionType;
+        private String status; // "SUCCESS", "FAILED" or "SKIPPED"
+        private int fetched;
+        private int inserted;
+        private int skipped;
+        private String error;
+        private long elapsedMs;
+    }
+}
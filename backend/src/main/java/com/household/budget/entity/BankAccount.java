@@ -53,6 +53,9 @@ public class BankAccount {
     @Column
     private LocalDateTime lastSyncedAt; // 마지막 동기화 시간
 
+    @Column
+    private LocalDateTime syncWatermark; // 마지막으로 받은 거래 일시 (증분 동기화 기준)
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user; // 소유자
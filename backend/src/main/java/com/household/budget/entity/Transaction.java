@@ -14,8 +14,13 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class Transaction {
+    // IDENTITY는 INSERT마다 키를 받아와야 해서 JDBC 배치가 꺼지므로 테이블 기반 풀링 할당 사용
+    // TransactionEntity와 같은 id_generators 행(transactions)을 공유
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "transactions_id")
+    @TableGenerator(name = "transactions_id", table = "id_generators",
+                    pkColumnName = "name", valueColumnName = "next_val",
+                    pkColumnValue = "transactions", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
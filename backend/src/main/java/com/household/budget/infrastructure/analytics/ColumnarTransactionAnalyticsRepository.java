@@ -0,0 +1,315 @@
+package com.household.budget.infrastructure.analytics;
+
+import com.household.budget.domain.entities.Transaction;
+import com.household.budget.domain.events.TransactionChangedEvent;
+import com.household.budget.domain.repositories.TransactionAnalyticsRepository;
+import com.household.budget.domain.repositories.TransactionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Infrastructure - 메모리 열 저장소 기반 분석 집계
+ * 사용자마다 거래를 기본형 배열 열(UserTransactionColumns)로 보관하고 배열을 훑어 집계 (DB 왕복 없음)
+ *
+ * - 적재: 사용자의 첫 조회 때 거래 행을 한 번 스트리밍으로 읽음 (호출하는 쪽의 읽기 전용 트랜잭션 안에서)
+ * - 갱신: 커밋된 거래 변경 이벤트를 apply로 반영, 적재되지 않은 사용자의 변경은 버림 (다음 적재 때 DB에서 읽음)
+ * - 퇴출: 전체 추정 메모리가 analytics.store.max-bytes를 넘으면 가장 오래 조회하지 않은 사용자부터 제거
+ *   max-bytes가 0이면 보관하지 않고 조회마다 적재
+ *
+ * 적재 중에 같은 사용자의 변경이 커밋되면 읽은 값에 반영됐는지 알 수 없으므로 그 적재 결과는 보관하지 않음
+ * 인스턴스 메모리에만 보관하므로 여러 인스턴스로 운영하면 다른 인스턴스의 쓰기는 반영되지 않음
+ */
+@Slf4j
+@Repository
+public class ColumnarTransactionAnalyticsRepository implements TransactionAnalyticsRepository {
+    static final LocalDateTime EARLIEST = LocalDateTime.of(1900, 1, 1, 0, 0);
+    static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 0, 0);
+    static final int MAX_DAILY_DAYS = 3660;
+
+    private final TransactionRepository transactionRepository;
+    private final long maxBytes;
+
+    // 접근 순서 LinkedHashMap = LRU, loading/usedBytes와 함께 users로 동기화
+    private final LinkedHashMap<Long, UserTransactionColumns> users = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Long, LoadMarker> loading = new HashMap<>();
+    private final Map<UserTransactionColumns, Long> accountedBytes = new HashMap<>();
+    private long usedBytes;
+
+    // 카테고리 id -> short 코드 (0은 미분류), 모든 사용자가 공유
+    private final Map<Long, Short> categoryCodes = new HashMap<>();
+    private final List<Long> categoryIds = new ArrayList<>(List.of(0L));
+
+    public ColumnarTransactionAnalyticsRepository(
+            TransactionRepository transactionRepository,
+            @Value("${analytics.store.max-bytes:67108864}") long maxBytes) {
+        this.transactionRepository = transactionRepository;
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public List<CategoryTotal> totalsByCategory(Long userId, LocalDate from, LocalDate to, Long sessionId) {
+        return categoryTotals(columns(userId).aggregate(UserTransactionColumns.Grouping.CATEGORY,
+                fromDay(from), toDay(to), session(sessionId)));
+    }
+
+    @Override
+    public List<DailyTotal> dailyTotals(Long userId, LocalDate from, LocalDate to, Long sessionId) {
+        checkDailyRange(from, to);
+        return dailyTotals(from, columns(userId).aggregate(UserTransactionColumns.Grouping.DAY,
+                fromDay(from), toDay(to), session(sessionId)));
+    }
+
+    @Override
+    public List<WeekdayTotal> weekdayTotals(Long userId, LocalDate from, LocalDate to, Long sessionId) {
+        return weekdayTotals(columns(userId).aggregate(UserTransactionColumns.Grouping.WEEKDAY,
+                fromDay(from), toDay(to), session(sessionId)));
+    }
+
+    /**
+     * 열을 한 번만 가져와 한 번 훑으며 세 집계를 함께 계산
+     * 보관되지 않는 사용자(퇴출/한도 초과)도 요청당 한 번만 스트리밍으로 읽음
+     */
+    @Override
+    public Breakdown breakdown(Long userId, LocalDate from, LocalDate to, Long sessionId) {
+        checkDailyRange(from, to);
+        UserTransactionColumns.Breakdown totals = columns(userId).aggregateAll(fromDay(from), toDay(to),
+                session(sessionId));
+        return new Breakdown(categoryTotals(totals.byCategory()), dailyTotals(from, totals.byDay()),
+                weekdayTotals(totals.byWeekday()));
+    }
+
+    private List<CategoryTotal> categoryTotals(UserTransactionColumns.Totals totals) {
+        List<CategoryTotal> result = new ArrayList<>();
+        for (int code = 0; code < totals.buckets(); code++) {
+            if (totals.count(code) != 0) {
+                result.add(new CategoryTotal(categoryId(code), totals.income(code), totals.expense(code),
+                        totals.count(code)));
+            }
+        }
+        return result;
+    }
+
+    private static List<DailyTotal> dailyTotals(LocalDate from, UserTransactionColumns.Totals totals) {
+        List<DailyTotal> result = new ArrayList<>(totals.buckets());
+        for (int day = 0; day < totals.buckets(); day++) {
+            result.add(new DailyTotal(from.plusDays(day), totals.income(day), totals.expense(day), totals.count(day)));
+        }
+        return result;
+    }
+
+    private static List<WeekdayTotal> weekdayTotals(UserTransactionColumns.Totals totals) {
+        List<WeekdayTotal> result = new ArrayList<>(7);
+        for (int weekday = 0; weekday < 7; weekday++) {
+            result.add(new WeekdayTotal(DayOfWeek.of(weekday + 1), totals.income(weekday), totals.expense(weekday),
+                    totals.count(weekday)));
+        }
+        return result;
+    }
+
+    private static void checkDailyRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("일별 집계는 시작일과 종료일이 필요합니다.");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦습니다.");
+        }
+        if (to.toEpochDay() - from.toEpochDay() >= MAX_DAILY_DAYS) {
+            throw new IllegalArgumentException("일별 집계 기간은 최대 " + MAX_DAILY_DAYS + "일입니다.");
+        }
+    }
+
+    /**
+     * 사용자별로 묶어 반영 - 같은 거래 id의 마지막 변경만 유효
+     * 해당 id의 기존 행을 지우고 마지막 변경이 ADDED면 다시 추가하므로 같은 변경이 두 번 와도 결과가 같음
+     */
+    @Override
+    public void apply(List<TransactionChangedEvent> changes) {
+        Map<Long, Map<Long, TransactionChangedEvent>> byUser = new HashMap<>();
+        for (TransactionChangedEvent change : changes) {
+            if (change.getUserId() == null || change.getTransactionId() == null) {
+                continue;
+            }
+            byUser.computeIfAbsent(change.getUserId(), k -> new LinkedHashMap<>())
+                    .put(change.getTransactionId(), change);
+        }
+        byUser.forEach(this::applyUser);
+    }
+
+    private void applyUser(Long userId, Map<Long, TransactionChangedEvent> lastChanges) {
+        UserTransactionColumns columns;
+        synchronized (users) {
+            columns = users.get(userId);
+            if (columns == null) {
+                LoadMarker marker = loading.get(userId);
+                if (marker != null) {
+                    marker.stale = true;
+                }
+                return;
+            }
+        }
+
+        long[] changedIds = lastChanges.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        synchronized (columns) {
+            columns.removeAll(changedIds);
+            for (TransactionChangedEvent change : lastChanges.values()) {
+                if (change.getChange() == TransactionChangedEvent.Change.ADDED
+                        && change.getTransactionDate() != null && (change.isIncome() || change.isExpense())) {
+                    columns.add(change.getTransactionId(), (int) change.getTransactionDate().toLocalDate().toEpochDay(),
+                            change.getAmountMinorUnits(), categoryCode(change.getCategoryId()),
+                            session(change.getSessionId(), UserTransactionColumns.NO_SESSION), change.isIncome());
+                }
+            }
+        }
+
+        synchronized (users) {
+            Long accounted = accountedBytes.get(columns);
+            if (accounted != null) {
+                long bytes = columns.estimatedBytes();
+                usedBytes += bytes - accounted;
+                accountedBytes.put(columns, bytes);
+                enforceBudget();
+            }
+        }
+    }
+
+    // 현재 보관 중인 사용자 수와 추정 메모리 (모니터링/테스트용)
+    public int cachedUsers() {
+        synchronized (users) {
+            return users.size();
+        }
+    }
+
+    public long usedBytes() {
+        synchronized (users) {
+            return usedBytes;
+        }
+    }
+
+    private UserTransactionColumns columns(Long userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자 정보가 필요합니다.");
+        }
+        LoadMarker marker = new LoadMarker();
+        synchronized (users) {
+            UserTransactionColumns cached = users.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+            loading.put(userId, marker);
+        }
+
+        UserTransactionColumns loaded;
+        try {
+            loaded = load(userId);
+        } catch (RuntimeException e) {
+            synchronized (users) {
+                loading.remove(userId, marker);
+            }
+            throw e;
+        }
+
+        synchronized (users) {
+            loading.remove(userId, marker);
+            UserTransactionColumns cached = users.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+            long bytes = loaded.estimatedBytes();
+            if (!marker.stale && bytes <= maxBytes) {
+                users.put(userId, loaded);
+                accountedBytes.put(loaded, bytes);
+                usedBytes += bytes;
+                enforceBudget();
+            }
+        }
+        return loaded;
+    }
+
+    private UserTransactionColumns load(Long userId) {
+        long started = System.nanoTime();
+        UserTransactionColumns columns = new UserTransactionColumns(0);
+        try (Stream<Transaction> rows = transactionRepository.streamByUserIdAndDateRange(userId, EARLIEST, LATEST)) {
+            rows.forEach(row -> {
+                if (row.getId() != null && row.getTransactionDate() != null && (row.isIncome() || row.isExpense())) {
+                    columns.add(row.getId(), (int) row.getTransactionDate().toLocalDate().toEpochDay(),
+                            row.getAmountMinorUnits(), categoryCode(row.getCategoryId()),
+                            session(row.getSessionId(), UserTransactionColumns.NO_SESSION), row.isIncome());
+                }
+            });
+        }
+        log.debug("분석 저장소 적재: userId={}, rows={}, bytes={}, {}ms", userId, columns.size(),
+                columns.estimatedBytes(), (System.nanoTime() - started) / 1_000_000);
+        return columns;
+    }
+
+    // users 잠금 안에서 호출
+    private void enforceBudget() {
+        Iterator<Map.Entry<Long, UserTransactionColumns>> eldest = users.entrySet().iterator();
+        while (usedBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<Long, UserTransactionColumns> entry = eldest.next();
+            usedBytes -= accountedBytes.remove(entry.getValue());
+            eldest.remove();
+            log.debug("분석 저장소 퇴출: userId={}", entry.getKey());
+        }
+    }
+
+    private short categoryCode(Long categoryId) {
+        if (categoryId == null) {
+            return 0;
+        }
+        synchronized (categoryCodes) {
+            Short code = categoryCodes.get(categoryId);
+            if (code != null) {
+                return code;
+            }
+            if (categoryIds.size() > Short.MAX_VALUE) {
+                throw new IllegalStateException("분석 저장소의 카테고리 코드가 부족합니다.");
+            }
+            short next = (short) categoryIds.size();
+            categoryIds.add(categoryId);
+            categoryCodes.put(categoryId, next);
+            return next;
+        }
+    }
+
+    private Long categoryId(int code) {
+        if (code == 0) {
+            return null;
+        }
+        synchronized (categoryCodes) {
+            return categoryIds.get(code);
+        }
+    }
+
+    private static int fromDay(LocalDate from) {
+        return from != null ? (int) from.toEpochDay() : Integer.MIN_VALUE;
+    }
+
+    private static int toDay(LocalDate to) {
+        return to != null ? (int) to.toEpochDay() : Integer.MAX_VALUE;
+    }
+
+    private static long session(Long sessionId) {
+        return session(sessionId, UserTransactionColumns.ANY_SESSION);
+    }
+
+    private static long session(Long sessionId, long whenNull) {
+        return sessionId != null ? sessionId : whenNull;
+    }
+
+    private static final class LoadMarker {
+        private volatile boolean stale;
+    }
+}
@@ -0,0 +1,226 @@
+package com.household.budget.infrastructure.analytics;
+
+import com.household.budget.domain.valueobjects.Money;
+
+import java.util.Arrays;
+
+/**
+ * 한 사용자의 거래를 열(column)마다 기본형 배열로 보관
+ * 행 i는 ids[i], epochDays[i], amounts[i] ... 로 흩어져 있고 순서는 의미 없음 (삭제는 압축)
+ * 집계는 배열을 한 번 훑으며 버킷 배열에 더하므로 행마다 객체를 만들지 않음
+ *
+ * 모든 읽기/쓰기는 이 객체로 동기화 (집계 한 번이 수십~수백 마이크로초라 잠금 경쟁이 작음)
+ */
+final class UserTransactionColumns {
+    static final long NO_SESSION = 0L;
+    static final long ANY_SESSION = Long.MIN_VALUE;
+
+    enum Grouping { CATEGORY, DAY, WEEKDAY }
+
+    private static final int INITIAL_CAPACITY = 64;
+    // 열 하나당 한 행의 바이트 - id(8) + epochDay(4) + 금액(8) + 카테고리(2) + 세션(8)
+    private static final int BYTES_PER_ROW = 8 + 4 + 8 + 2 + 8;
+    private static final int ARRAY_OVERHEAD = 16;
+
+    private long[] ids;
+    private int[] epochDays;
+    private long[] amounts;
+    private short[] categoryCodes;
+    private long[] sessionIds;
+    private long[] incomeBits; // 수입이면 1, 지출이면 0
+    private int size;
+    private int maxCategoryCode;
+
+    UserTransactionColumns(int expectedRows) {
+        allocate(Math.max(INITIAL_CAPACITY, expectedRows));
+    }
+
+    synchronized int size() {
+        return size;
+    }
+
+    synchronized long estimatedBytes() {
+        return (long) ids.length * BYTES_PER_ROW + (long) incomeBits.length * Long.BYTES + 6 * ARRAY_OVERHEAD;
+    }
+
+    synchronized void add(long id, int epochDay, long amountMinorUnits, short categoryCode, long sessionId,
+                          boolean income) {
+        if (size == ids.length) {
+            allocate(ids.length + (ids.length >> 1));
+        }
+        int row = size++;
+        ids[row] = id;
+        epochDays[row] = epochDay;
+        amounts[row] = amountMinorUnits;
+        categoryCodes[row] = categoryCode;
+        sessionIds[row] = sessionId;
+        setIncome(row, income);
+        if (categoryCode > maxCategoryCode) {
+            maxCategoryCode = categoryCode;
+        }
+    }
+
+    /**
+     * 정렬된 id 목록에 있는 행을 모두 제거 - 한 번 훑으며 남는 행을 앞으로 당김
+     */
+    synchronized int removeAll(long[] sortedIds) {
+        if (sortedIds.length == 0) {
+            return 0;
+        }
+        int kept = 0;
+        for (int row = 0; row < size; row++) {
+            if (Arrays.binarySearch(sortedIds, ids[row]) >= 0) {
+                continue;
+            }
+            if (kept != row) {
+                ids[kept] = ids[row];
+                epochDays[kept] = epochDays[row];
+                amounts[kept] = amounts[row];
+                categoryCodes[kept] = categoryCodes[row];
+                sessionIds[kept] = sessionIds[row];
+                setIncome(kept, isIncome(row));
+            }
+            kept++;
+        }
+        int removed = size - kept;
+        size = kept;
+        return removed;
+    }
+
+    /**
+     * [fromDay, toDay] 구간(epoch day, 양끝 포함)의 행을 grouping 버킷별로 합산
+     * DAY는 fromDay가 0번 버킷, WEEKDAY는 월요일이 0번 버킷, CATEGORY는 카테고리 코드가 버킷
+     */
+    synchronized Totals aggregate(Grouping grouping, int fromDay, int toDay, long sessionId) {
+        Totals totals = new Totals(switch (grouping) {
+            case CATEGORY -> maxCategoryCode + 1;
+            case DAY -> toDay - fromDay + 1;
+            case WEEKDAY -> 7;
+        });
+        boolean anySession = sessionId == ANY_SESSION;
+        // grouping 분기를 행 루프 밖으로 빼서 루프 본문을 배열 읽기/덧셈만으로 유지
+        switch (grouping) {
+            case CATEGORY -> {
+                for (int row = 0; row < size; row++) {
+                    if (matches(row, fromDay, toDay, anySession, sessionId)) {
+                        totals.add(categoryCodes[row], incomeBit(row), amounts[row]);
+                    }
+                }
+            }
+            case DAY -> {
+                for (int row = 0; row < size; row++) {
+                    if (matches(row, fromDay, toDay, anySession, sessionId)) {
+                        totals.add(epochDays[row] - fromDay, incomeBit(row), amounts[row]);
+                    }
+                }
+            }
+            case WEEKDAY -> {
+                for (int row = 0; row < size; row++) {
+                    if (matches(row, fromDay, toDay, anySession, sessionId)) {
+                        // 1970-01-01(epoch day 0)은 목요일
+                        totals.add(Math.floorMod(epochDays[row] + 3, 7), incomeBit(row), amounts[row]);
+                    }
+                }
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * aggregate의 세 grouping을 한 번 훑으며 함께 합산 (분석 화면 한 번에 세 집계가 모두 필요)
+     */
+    synchronized Breakdown aggregateAll(int fromDay, int toDay, long sessionId) {
+        Totals byCategory = new Totals(maxCategoryCode + 1);
+        Totals byDay = new Totals(toDay - fromDay + 1);
+        Totals byWeekday = new Totals(7);
+        boolean anySession = sessionId == ANY_SESSION;
+        for (int row = 0; row < size; row++) {
+            if (matches(row, fromDay, toDay, anySession, sessionId)) {
+                int day = epochDays[row];
+                int incomeBit = incomeBit(row);
+                long amount = amounts[row];
+                byCategory.add(categoryCodes[row], incomeBit, amount);
+                byDay.add(day - fromDay, incomeBit, amount);
+                byWeekday.add(Math.floorMod(day + 3, 7), incomeBit, amount);
+            }
+        }
+        return new Breakdown(byCategory, byDay, byWeekday);
+    }
+
+    private boolean matches(int row, int fromDay, int toDay, boolean anySession, long sessionId) {
+        int day = epochDays[row];
+        return day >= fromDay && day <= toDay && (anySession || sessionIds[row] == sessionId);
+    }
+
+    private boolean isIncome(int row) {
+        return incomeBit(row) != 0;
+    }
+
+    private int incomeBit(int row) {
+        return (int) (incomeBits[row >>> 6] >>> row) & 1;
+    }
+
+    private void setIncome(int row, boolean income) {
+        if (income) {
+            incomeBits[row >>> 6] |= 1L << row;
+        } else {
+            incomeBits[row >>> 6] &= ~(1L << row);
+        }
+    }
+
+    private void allocate(int capacity) {
+        if (ids == null) {
+            ids = new long[capacity];
+            epochDays = new int[capacity];
+            amounts = new long[capacity];
+            categoryCodes = new short[capacity];
+            sessionIds = new long[capacity];
+            incomeBits = new long[(capacity + 63) >>> 6];
+            return;
+        }
+        ids = Arrays.copyOf(ids, capacity);
+        epochDays = Arrays.copyOf(epochDays, capacity);
+        amounts = Arrays.copyOf(amounts, capacity);
+        categoryCodes = Arrays.copyOf(categoryCodes, capacity);
+        sessionIds = Arrays.copyOf(sessionIds, capacity);
+        incomeBits = Arrays.copyOf(incomeBits, (capacity + 63) >>> 6);
+    }
+
+    record Breakdown(Totals byCategory, Totals byDay, Totals byWeekday) {}
+
+    /**
+     * 버킷별 수입/지출 합계(최소 단위)와 건수
+     * 합계는 sums[bucket * 2 + 수입 비트] 한 배열에 두어 수입/지출 분기 없이 더함
+     */
+    static final class Totals {
+        private final long[] sums;
+        private final int[] counts;
+
+        Totals(int buckets) {
+            sums = new long[buckets * 2];
+            counts = new int[buckets];
+        }
+
+        void add(int bucket, int incomeBit, long amountMinorUnits) {
+            int index = (bucket << 1) | incomeBit;
+            sums[index] = Money.add(sums[index], amountMinorUnits);
+            counts[bucket]++;
+        }
+
+        int buckets() {
+            return counts.length;
+        }
+
+        long income(int bucket) {
+            return sums[(bucket << 1) | 1];
+        }
+
+        long expense(int bucket) {
+            return sums[bucket << 1];
+        }
+
+        int count(int bucket) {
+            return counts[bucket];
+        }
+    }
+}
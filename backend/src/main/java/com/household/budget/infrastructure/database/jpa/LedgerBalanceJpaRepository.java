@@ -0,0 +1,111 @@
+package com.household.budget.infrastructure.database.jpa;
+
+import com.household.budget.domain.entities.LedgerBalance;
+import com.household.budget.domain.repositories.LedgerBalanceRepository;
+import com.household.budget.domain.services.TransactionCalculationService.TransactionSummary;
+import com.household.budget.infrastructure.database.jpa.entity.LedgerBalanceEntity;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Infrastructure - ledger_balances JPA Repository 구현
+ * Domain Repository 인터페이스를 구현
+ */
+@Repository
+public class LedgerBalanceJpaRepository implements LedgerBalanceRepository {
+    
+    private static final String INSERT_EMPTY_ROW =
+        "INSERT INTO ledger_balances (user_id, session_key, total_income, total_expense, transaction_count, updated_at) " +
+        "VALUES (?, ?, 0, 0, 0, ?)";
+    
+    private final SpringDataLedgerBalanceRepository springDataRepository;
+    private final JdbcTemplate jdbcTemplate;
+    
+    public LedgerBalanceJpaRepository(SpringDataLedgerBalanceRepository springDataRepository,
+                                      JdbcTemplate jdbcTemplate) {
+        this.springDataRepository = springDataRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    @Override
+    public void applyDelta(Long userId, Long sessionId, BigDecimal incomeDelta, BigDecimal expenseDelta, long countDelta) {
+        long sessionKey = LedgerBalanceEntity.toSessionKey(sessionId);
+        if (!springDataRepository.existsByUserIdAndSessionKey(userId, sessionKey)) {
+            createEmptyRow(userId, sessionKey);
+        }
+        springDataRepository.applyDelta(userId, sessionKey, incomeDelta, expenseDelta, countDelta, LocalDateTime.now());
+    }
+    
+    /**
+     * (사용자, 세션)의 첫 거래 - 호출자 트랜잭션의 커넥션에서 0 행을 만들고 증감은 항상 UPDATE로 반영
+     * 동시에 만들다 유니크 키가 겹치면 먼저 만든 쪽이 커밋할 때까지 기다린 뒤 그 행을 사용 (INSERT IGNORE와 같은 효과)
+     * - 별도 트랜잭션을 쓰지 않으므로 커넥션을 하나 더 잡지 않고, 호출자가 롤백되면 0 행도 함께 사라짐
+     * - JdbcTemplate 예외는 트랜잭션을 롤백 전용으로 표시하지 않으며, H2/MySQL은 실패한 문장만 되돌림
+     * - 존재 확인을 먼저 하는 것은 MySQL에서 빈 키 UPDATE가 잡는 gap lock끼리 INSERT를 막아 교착되지 않게 하기 위함
+     */
+    private void createEmptyRow(Long userId, long sessionKey) {
+        try {
+            jdbcTemplate.update(INSERT_EMPTY_ROW, userId, sessionKey, LocalDateTime.now());
+        } catch (DuplicateKeyException e) {
+            // 다른 트랜잭션이 먼저 생성함
+        }
+    }
+    
+    @Override
+    public Optional<LedgerBalance> findByUserIdAndSessionId(Long userId, Long sessionId) {
+        return springDataRepository.findByUserIdAndSessionKey(userId, LedgerBalanceEntity.toSessionKey(sessionId))
+            .map(LedgerBalanceEntity::toDomain);
+    }
+    
+    @Override
+    public List<LedgerBalance> findByUserId(Long userId) {
+        return springDataRepository.findByUserId(userId).stream()
+            .map(LedgerBalanceEntity::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public TransactionSummary summarizeByUserId(Long userId) {
+        return toSummary(springDataRepository.summarizeByUserId(userId));
+    }
+    
+    @Override
+    public TransactionSummary summarizeAll() {
+        return toSummary(springDataRepository.summarizeAll());
+    }
+    
+    @Override
+    public void replaceForUser(Long userId, List<LedgerBalance> balances) {
+        springDataRepository.deleteByUserId(userId);
+        springDataRepository.saveAll(balances.stream()
+            .map(LedgerBalanceEntity::fromDomain)
+            .collect(Collectors.toList()));
+    }
+    
+    @Override
+    public void deleteByUserIdAndSessionId(Long userId, Long sessionId) {
+        springDataRepository.deleteByUserIdAndSessionKey(userId, LedgerBalanceEntity.toSessionKey(sessionId));
+    }
+    
+    private TransactionSummary toSummary(TransactionTotals totals) {
+        if (totals == null) {
+            return TransactionSummary.empty();
+        }
+        BigDecimal totalIncome = totals.getTotalIncome() != null ? totals.getTotalIncome() : BigDecimal.ZERO;
+        BigDecimal totalExpense = totals.getTotalExpense() != null ? totals.getTotalExpense() : BigDecimal.ZERO;
+        long count = totals.getTransactionCount() != null ? totals.getTransactionCount() : 0L;
+        return TransactionSummary.builder()
+            .totalIncome(totalIncome)
+            .totalExpense(totalExpense)
+            .balance(totalIncome.subtract(totalExpense))
+            .transactionCount(Math.toIntExact(count))
+            .build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.household.budget.infrastructure.database.jpa;
+
+import com.household.budget.domain.entities.MonthlyRollup;
+import com.household.budget.domain.repositories.MonthlyRollupRepository;
+import com.household.budget.infrastructure.database.jpa.entity.MonthlyRollupEntity;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Infrastructure - monthly_rollups JPA Repository 구현
+ * Domain Repository 인터페이스를 구현
+ */
+@Repository
+public class MonthlyRollupJpaRepository implements MonthlyRollupRepository {
+    
+    private static final String INSERT_EMPTY_ROW =
+        "INSERT INTO monthly_rollups (user_id, yyyymm, category_key, type, total_amount, transaction_count, updated_at) " +
+        "VALUES (?, ?, ?, ?, 0, 0, ?)";
+    
+    private final SpringDataMonthlyRollupRepository springDataRepository;
+    private final JdbcTemplate jdbcTemplate;
+    
+    public MonthlyRollupJpaRepository(SpringDataMonthlyRollupRepository springDataRepository,
+                                      JdbcTemplate jdbcTemplate) {
+        this.springDataRepository = springDataRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+    
+    @Override
+    public void applyDelta(Long userId, int yyyymm, Long categoryId, String type, BigDecimal amountDelta, long countDelta) {
+        long categoryKey = MonthlyRollupEntity.toCategoryKey(categoryId);
+        if (!springDataRepository.existsByUserIdAndYyyymmAndCategoryKeyAndType(userId, yyyymm, categoryKey, type)) {
+            createEmptyRow(userId, yyyymm, categoryKey, type);
+        }
+        springDataRepository.applyDelta(userId, yyyymm, categoryKey, type, amountDelta, countDelta, LocalDateTime.now());
+    }
+    
+    /**
+     * 해당 월/카테고리의 첫 거래 - 호출자 트랜잭션의 커넥션에서 0 행을 만들고 증감은 항상 UPDATE로 반영
+     * 생성 방식과 이유는 LedgerBalanceJpaRepository와 동일 (동시 생성 시 유니크 키 위반은 무시)
+     */
+    private void createEmptyRow(Long userId, int yyyymm, long categoryKey, String type) {
+        try {
+            jdbcTemplate.update(INSERT_EMPTY_ROW, userId, yyyymm, categoryKey, type, LocalDateTime.now());
+        } catch (DuplicateKeyException e) {
+            // 다른 트랜잭션이 먼저 생성함
+        }
+    }
+    
+    @Override
+    public List<MonthlyRollup> findByUserIdAndPeriod(Long userId, int fromYyyymm, int toYyyymm) {
+        return springDataRepository.findByUserIdAndYyyymmBetweenOrderByYyyymmAsc(userId, fromYyyymm, toYyyymm).stream()
+            .map(MonthlyRollupEntity::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<MonthlyRollup> findByUserId(Long userId) {
+        return springDataRepository.findByUserId(userId).stream()
+            .map(MonthlyRollupEntity::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<MonthlyRollup> sumAllByPeriod(int fromYyyymm, int toYyyymm) {
+        return springDataRepository.sumAllByPeriod(fromYyyymm, toYyyymm).stream()
+            .map(totals -> new MonthlyRollup(null, totals.getYyyymm(),
+                MonthlyRollupEntity.toCategoryId(totals.getCategoryKey()), totals.getType(),
+                totals.getTotalAmount(), totals.getTransactionCount()))
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public void replaceForUser(Long userId, List<MonthlyRollup> rollups) {
+        springDataRepository.deleteByUserId(userId);
+        springDataRepository.saveAll(rollups.stream()
+            .map(MonthlyRollupEntity::fromDomain)
+            .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,14 @@
+package com.household.budget.infrastructure.database.jpa;
+
+import java.math.BigDecimal;
+
+/**
+ * 월/카테고리/유형별 집계 쿼리 결과 Projection
+ */
+public interface MonthlyTotals {
+    Integer getYyyymm();
+    Long getCategoryKey();
+    String getType();
+    BigDecimal getTotalAmount();
+    Long getTransactionCount();
+}
@@ -0,0 +1,8 @@
+package com.household.budget.infrastructure.database.jpa;
+
+/**
+ * 세션별 집계 쿼리 결과 Projection
+ */
+public interface SessionTransactionTotals extends TransactionTotals {
+    Long getSessionId();
+}
@@ -0,0 +1,57 @@
+package com.household.budget.infrastructure.database.jpa;
+
+import com.household.budget.infrastructure.database.jpa.entity.LedgerBalanceEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Spring Data JPA Repository 인터페이스 - ledger_balances
+ */
+@Repository
+public interface SpringDataLedgerBalanceRepository extends JpaRepository<LedgerBalanceEntity, Long> {
+    Optional<LedgerBalanceEntity> findByUserIdAndSessionKey(Long userId, Long sessionKey);
+    List<LedgerBalanceEntity> findByUserId(Long userId);
+    boolean existsByUserIdAndSessionKey(Long userId, Long sessionKey);
+    
+    // 읽기-수정-쓰기 없이 DB에서 원자적으로 증감
+    @Modifying
+    @Query("UPDATE LedgerBalanceEntity b SET b.totalIncome = b.totalIncome + :incomeDelta, " +
+           "b.totalExpense = b.totalExpense + :expenseDelta, " +
+           "b.transactionCount = b.transactionCount + :countDelta, " +
+           "b.updatedAt = :now " +
+           "WHERE b.userId = :userId AND b.sessionKey = :sessionKey")
+    int applyDelta(@Param("userId") Long userId,
+                   @Param("sessionKey") Long sessionKey,
+                   @Param("incomeDelta") BigDecimal incomeDelta,
+                   @Param("expenseDelta") BigDecimal expenseDelta,
+                   @Param("countDelta") Long countDelta,
+                   @Param("now") LocalDateTime now);
+    
+    @Query("SELECT COALESCE(SUM(b.totalIncome), 0) AS totalIncome, " +
+           "COALESCE(SUM(b.totalExpense), 0) AS totalExpense, " +
+           "COALESCE(SUM(b.transactionCount), 0) AS transactionCount " +
+           "FROM LedgerBalanceEntity b WHERE b.userId = :userId")
+    TransactionTotals summarizeByUserId(@Param("userId") Long userId);
+    
+    @Query("SELECT COALESCE(SUM(b.totalIncome), 0) AS totalIncome, " +
+           "COALESCE(SUM(b.totalExpense), 0) AS totalExpense, " +
+           "COALESCE(SUM(b.transactionCount), 0) AS transactionCount " +
+           "FROM LedgerBalanceEntity b")
+    TransactionTotals summarizeAll();
+    
+    @Modifying
+    @Query("DELETE FROM LedgerBalanceEntity b WHERE b.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+    
+    @Modifying
+    @Query("DELETE FROM LedgerBalanceEntity b WHERE b.userId = :userId AND b.sessionKey = :sessionKey")
+    int deleteByUserIdAndSessionKey(@Param("userId") Long userId, @Param("sessionKey") Long sessionKey);
+}
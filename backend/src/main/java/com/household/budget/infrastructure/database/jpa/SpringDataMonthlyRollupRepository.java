@@ -0,0 +1,48 @@
+package com.household.budget.infrastructure.database.jpa;
+
+import com.household.budget.infrastructure.database.jpa.entity.MonthlyRollupEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Spring Data JPA Repository 인터페이스 - monthly_rollups
+ */
+@Repository
+public interface SpringDataMonthlyRollupRepository extends JpaRepository<MonthlyRollupEntity, Long> {
+    List<MonthlyRollupEntity> findByUserId(Long userId);
+    boolean existsByUserIdAndYyyymmAndCategoryKeyAndType(Long userId, Integer yyyymm, Long categoryKey, String type);
+    List<MonthlyRollupEntity> findByUserIdAndYyyymmBetweenOrderByYyyymmAsc(Long userId, Integer fromYyyymm, Integer toYyyymm);
+    
+    // 읽기-수정-쓰기 없이 DB에서 원자적으로 증감
+    @Modifying
+    @Query("UPDATE MonthlyRollupEntity r SET r.totalAmount = r.totalAmount + :amountDelta, " +
+           "r.transactionCount = r.transactionCount + :countDelta, " +
+           "r.updatedAt = :now " +
+           "WHERE r.userId = :userId AND r.yyyymm = :yyyymm " +
+           "AND r.categoryKey = :categoryKey AND r.type = :type")
+    int applyDelta(@Param("userId") Long userId,
+                   @Param("yyyymm") Integer yyyymm,
+                   @Param("categoryKey") Long categoryKey,
+                   @Param("type") String type,
+                   @Param("amountDelta") BigDecimal amountDelta,
+                   @Param("countDelta") Long countDelta,
+                   @Param("now") LocalDateTime now);
+    
+    @Query("SELECT r.yyyymm AS yyyymm, r.categoryKey AS categoryKey, r.type AS type, " +
+           "SUM(r.totalAmount) AS totalAmount, SUM(r.transactionCount) AS transactionCount " +
+           "FROM MonthlyRollupEntity r WHERE r.yyyymm BETWEEN :fromYyyymm AND :toYyyymm " +
+           "GROUP BY r.yyyymm, r.categoryKey, r.type ORDER BY r.yyyymm")
+    List<MonthlyTotals> sumAllByPeriod(@Param("fromYyyymm") Integer fromYyyymm,
+                                       @Param("toYyyymm") Integer toYyyymm);
+    
+    @Modifying
+    @Query("DELETE FROM MonthlyRollupEntity r WHERE r.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+}
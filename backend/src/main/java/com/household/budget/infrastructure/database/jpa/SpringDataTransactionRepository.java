@@ -1,14 +1,20 @@
 package com.household.budget.infrastructure.database.jpa;
 
+import com.household.budget.domain.entities.Transaction;
 import com.household.budget.infrastructure.database.jpa.entity.TransactionEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA Repository 인터페이스
@@ -35,5 +41,65 @@ public interface SpringDataTransactionRepository extends JpaRepository<Transacti
                                                     @Param("type") String type,
                                                     @Param("startDate") LocalDateTime startDate,
                                                     @Param("endDate") LocalDateTime endDate);
+    
+    @Query("SELECT COALESCE(SUM(CASE WHEN t.type = 'INCOME' THEN t.amount ELSE 0 END), 0) AS totalIncome, " +
+           "COALESCE(SUM(CASE WHEN t.type = 'EXPENSE' THEN t.amount ELSE 0 END), 0) AS totalExpense, " +
+           "COUNT(t) AS transactionCount " +
+           "FROM TransactionEntity t WHERE t.userId = :userId")
+    TransactionTotals summarizeByUserId(@Param("userId") Long userId);
+    
+    @Query("SELECT COALESCE(SUM(CASE WHEN t.type = 'INCOME' THEN t.amount ELSE 0 END), 0) AS totalIncome, " +
+           "COALESCE(SUM(CASE WHEN t.type = 'EXPENSE' THEN t.amount ELSE 0 END), 0) AS totalExpense, " +
+           "COUNT(t) AS transactionCount " +
+           "FROM TransactionEntity t")
+    TransactionTotals summarizeAll();
+    
+    @Query("SELECT t.sessionId AS sessionId, " +
+           "COALESCE(SUM(CASE WHEN t.type = 'INCOME' THEN t.amount ELSE 0 END), 0) AS totalIncome, " +
+           "COALESCE(SUM(CASE WHEN t.type = 'EXPENSE' THEN t.amount ELSE 0 END), 0) AS totalExpense, " +
+           "COUNT(t) AS transactionCount " +
+           "FROM TransactionEntity t WHERE t.userId = :userId GROUP BY t.sessionId")
+    List<SessionTransactionTotals> aggregateBySessionForUser(@Param("userId") Long userId);
+    
+    @Query("SELECT YEAR(t.transactionDate) * 100 + MONTH(t.transactionDate) AS yyyymm, " +
+           "t.categoryId AS categoryKey, t.type AS type, " +
+           "SUM(t.amount) AS totalAmount, COUNT(t) AS transactionCount " +
+           "FROM TransactionEntity t WHERE t.userId = :userId " +
+           "GROUP BY YEAR(t.transactionDate) * 100 + MONTH(t.transactionDate), t.categoryId, t.type")
+    List<MonthlyTotals> aggregateMonthlyForUser(@Param("userId") Long userId);
+    
+    @Query("SELECT DISTINCT t.userId FROM TransactionEntity t")
+    List<Long> findDistinctUserIds();
+    
+    // Keyset 페이지네이션 - 정렬 키 (transactionDate DESC, id DESC)
+    List<TransactionEntity> findByUserIdOrderByTransactionDateDescIdDesc(Long userId, Pageable pageable);
+    
+    @Query("SELECT t FROM TransactionEntity t WHERE t.userId = :userId " +
+           "AND (t.transactionDate < :cursorDate OR (t.transactionDate = :cursorDate AND t.id < :cursorId)) " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionEntity> findByUserIdAfterCursor(@Param("userId") Long userId,
+                                                    @Param("cursorDate") LocalDateTime cursorDate,
+                                                    @Param("cursorId") Long cursorId,
+                                                    Pageable pageable);
+    
+    List<TransactionEntity> findAllByOrderByTransactionDateDescIdDesc(Pageable pageable);
+    
+    @Query("SELECT t FROM TransactionEntity t " +
+           "WHERE t.transactionDate < :cursorDate OR (t.transactionDate = :cursorDate AND t.id < :cursorId) " +
+           "ORDER BY t.transactionDate DESC, t.id DESC")
+    List<TransactionEntity> findAllAfterCursor(@Param("cursorDate") LocalDateTime cursorDate,
+                                               @Param("cursorId") Long cursorId,
+                                               Pageable pageable);
+    
+    // 내보내기 - 엔티티가 아닌 도메인 객체로 바로 만들어 영속성 컨텍스트에 쌓이지 않고, fetch size 단위로 읽음
+    // (MySQL은 URL에 useCursorFetch=true가 있어야 전체 결과를 한 번에 받지 않음, application.properties의 MySQL URL 참고)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.household.budget.domain.entities.Transaction(t.id, t.type, t.amount, t.description, " +
+           "t.categoryId, t.userId, t.sessionId, t.transactionDate, t.createdAt) " +
+           "FROM TransactionEntity t WHERE t.userId = :userId " +
+           "AND t.transactionDate >= :from AND t.transactionDate < :to " +
+           "ORDER BY t.transactionDate, t.id")
+    Stream<Transaction> streamByUserIdAndDateRange(@Param("userId") Long userId,
+                                                   @Param("from") LocalDateTime from,
+                                                   @Param("to") LocalDateTime to);
 }
-
@@ -1,8 +1,14 @@
 package com.household.budget.infrastructure.database.jpa;
 
+import com.household.budget.domain.entities.LedgerBalance;
+import com.household.budget.domain.entities.MonthlyRollup;
 import com.household.budget.domain.entities.Transaction;
 import com.household.budget.domain.repositories.TransactionRepository;
+import com.household.budget.domain.services.TransactionCalculationService.TransactionSummary;
+import com.household.budget.domain.valueobjects.TransactionCursor;
+import com.household.budget.infrastructure.database.jpa.entity.MonthlyRollupEntity;
 import com.household.budget.infrastructure.database.jpa.entity.TransactionEntity;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
@@ -10,6 +16,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Infrastructure - JPA Repository 구현
@@ -108,5 +115,79 @@ public class TransactionJpaRepository implements TransactionRepository {
         return springDataRepository.getTotalByUserIdAndTypeAndDateRange(userId, type, startDate, endDate);
     }
     
+    @Override
+    public List<Transaction> findPageByUserId(Long userId, TransactionCursor after, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        List<TransactionEntity> entities = after == null
+            ? springDataRepository.findByUserIdOrderByTransactionDateDescIdDesc(userId, pageRequest)
+            : springDataRepository.findByUserIdAfterCursor(userId, after.getTransactionDate(), after.getId(), pageRequest);
+        return entities.stream()
+            .map(TransactionEntity::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<Transaction> findPage(TransactionCursor after, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        List<TransactionEntity> entities = after == null
+            ? springDataRepository.findAllByOrderByTransactionDateDescIdDesc(pageRequest)
+            : springDataRepository.findAllAfterCursor(after.getTransactionDate(), after.getId(), pageRequest);
+        return entities.stream()
+            .map(TransactionEntity::toDomain)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public TransactionSummary summarizeByUserId(Long userId) {
+        return toSummary(springDataRepository.summarizeByUserId(userId));
+    }
+    
+    @Override
+    public TransactionSummary summarizeAll() {
+        return toSummary(springDataRepository.summarizeAll());
+    }
+    
+    @Override
+    public List<LedgerBalance> aggregateLedgerByUserId(Long userId) {
+        return springDataRepository.aggregateBySessionForUser(userId).stream()
+            .map(totals -> new LedgerBalance(userId, totals.getSessionId(),
+                totals.getTotalIncome(), totals.getTotalExpense(), totals.getTransactionCount()))
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<MonthlyRollup> aggregateMonthlyByUserId(Long userId) {
+        return springDataRepository.aggregateMonthlyForUser(userId).stream()
+            .map(totals -> new MonthlyRollup(userId, totals.getYyyymm(),
+                MonthlyRollupEntity.toCategoryId(totals.getCategoryKey()), totals.getType(),
+                totals.getTotalAmount(), totals.getTransactionCount()))
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<Long> findDistinctUserIds() {
+        return springDataRepository.findDistinctUserIds();
+    }
+    
+    @Override
+    public Stream<Transaction> streamByUserIdAndDateRange(Long userId, LocalDateTime from, LocalDateTime to) {
+        return springDataRepository.streamByUserIdAndDateRange(userId, from, to);
+    }
+    
+    private TransactionSummary toSummary(TransactionTotals totals) {
+        if (totals == null) {
+            return TransactionSummary.empty();
+        }
+        BigDecimal totalIncome = totals.getTotalIncome() != null ? totals.getTotalIncome() : BigDecimal.ZERO;
+        BigDecimal totalExpense = totals.getTotalExpense() != null ? totals.getTotalExpense() : BigDecimal.ZERO;
+        long count = totals.getTransactionCount() != null ? totals.getTransactionCount() : 0L;
+        return TransactionSummary.builder()
+            .totalIncome(totalIncome)
+            .totalExpense(totalExpense)
+            .balance(totalIncome.subtract(totalExpense))
+            .transactionCount(Math.toIntExact(count))
+            .build();
+    }
+    
 }
 
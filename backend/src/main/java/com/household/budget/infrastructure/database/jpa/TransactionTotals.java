@@ -0,0 +1,13 @@
+package com.household.budget.infrastructure.database.jpa;
+
+import java.math.BigDecimal;
+
+/**
+ * 집계 쿼리 결과 Projection
+ * 수입/지출 합계와 건수를 한 번의 조회로 반환
+ */
+public interface TransactionTotals {
+    BigDecimal getTotalIncome();
+    BigDecimal getTotalExpense();
+    Long getTransactionCount();
+}
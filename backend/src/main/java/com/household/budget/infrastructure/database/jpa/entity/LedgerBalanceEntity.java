@@ -0,0 +1,69 @@
+package com.household.budget.infrastructure.database.jpa.entity;
+
+import com.household.budget.domain.entities.LedgerBalance;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity - (사용자, 세션)별 누적 잔액
+ * 세션이 없는 거래는 sessionKey = 0 행에 집계 (NULL은 유니크 키로 쓸 수 없으므로)
+ */
+@Entity
+@Table(name = "ledger_balances",
+       uniqueConstraints = @UniqueConstraint(name = "uk_ledger_balances_user_session",
+                                             columnNames = {"user_id", "session_key"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerBalanceEntity {
+    public static final long UNASSIGNED_SESSION = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "session_key", nullable = false)
+    private Long sessionKey;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalIncome;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalExpense;
+
+    @Column(nullable = false)
+    private Long transactionCount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static long toSessionKey(Long sessionId) {
+        return sessionId != null ? sessionId : UNASSIGNED_SESSION;
+    }
+
+    // Domain Entity로 변환
+    public LedgerBalance toDomain() {
+        Long sessionId = sessionKey == UNASSIGNED_SESSION ? null : sessionKey;
+        return new LedgerBalance(userId, sessionId, totalIncome, totalExpense, transactionCount);
+    }
+
+    // Domain Entity에서 생성
+    public static LedgerBalanceEntity fromDomain(LedgerBalance domain) {
+        LedgerBalanceEntity entity = new LedgerBalanceEntity();
+        entity.setUserId(domain.getUserId());
+        entity.setSessionKey(toSessionKey(domain.getSessionId()));
+        entity.setTotalIncome(domain.getTotalIncome());
+        entity.setTotalExpense(domain.getTotalExpense());
+        entity.setTransactionCount(domain.getTransactionCount());
+        entity.setUpdatedAt(LocalDateTime.now());
+        return entity;
+    }
+}
@@ -0,0 +1,77 @@
+package com.household.budget.infrastructure.database.jpa.entity;
+
+import com.household.budget.domain.entities.MonthlyRollup;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity - (사용자, 월, 카테고리, 유형)별 거래 합계
+ * 카테고리가 없는 거래는 categoryKey = 0 행에 집계 (NULL은 유니크 키로 쓸 수 없으므로)
+ * 유니크 키의 앞부분 (user_id, yyyymm)이 기간 조회 인덱스를 겸함
+ */
+@Entity
+@Table(name = "monthly_rollups",
+       uniqueConstraints = @UniqueConstraint(name = "uk_monthly_rollups_user_month_category_type",
+                                             columnNames = {"user_id", "yyyymm", "category_key", "type"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyRollupEntity {
+    public static final long UNCATEGORIZED = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Integer yyyymm;
+
+    @Column(name = "category_key", nullable = false)
+    private Long categoryKey;
+
+    @Column(nullable = false)
+    private String type; // "INCOME" or "EXPENSE"
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(nullable = false)
+    private Long transactionCount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static long toCategoryKey(Long categoryId) {
+        return categoryId != null ? categoryId : UNCATEGORIZED;
+    }
+
+    public static Long toCategoryId(Long categoryKey) {
+        return categoryKey == null || categoryKey == UNCATEGORIZED ? null : categoryKey;
+    }
+
+    // Domain Entity로 변환
+    public MonthlyRollup toDomain() {
+        return new MonthlyRollup(userId, yyyymm, toCategoryId(categoryKey), type, totalAmount, transactionCount);
+    }
+
+    // Domain Entity에서 생성
+    public static MonthlyRollupEntity fromDomain(MonthlyRollup domain) {
+        MonthlyRollupEntity entity = new MonthlyRollupEntity();
+        entity.setUserId(domain.getUserId());
+        entity.setYyyymm(domain.getYyyymm());
+        entity.setCategoryKey(toCategoryKey(domain.getCategoryId()));
+        entity.setType(domain.getType());
+        entity.setTotalAmount(domain.getTotalAmount());
+        entity.setTransactionCount(domain.getTransactionCount());
+        entity.setUpdatedAt(LocalDateTime.now());
+        return entity;
+    }
+}
@@ -19,8 +19,12 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 public class TransactionEntity {
+    // entity.Transaction과 같은 id_generators 행(transactions)을 공유 (배치 INSERT 가능)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "transactions_entity_id")
+    @TableGenerator(name = "transactions_entity_id", table = "id_generators",
+                    pkColumnName = "name", valueColumnName = "next_val",
+                    pkColumnValue = "transactions", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -74,6 +78,7 @@ public class TransactionEntity {
         domain.setCategoryId(this.categoryId);
         domain.setUserId(this.userId);
         domain.setSessionId(this.sessionId);
+        domain.setBankAccountId(this.bankAccountId);
         domain.setTransactionDate(this.transactionDate);
         domain.setCreatedAt(this.createdAt);
         domain.setExternalTransactionId(this.externalTransactionId);
@@ -88,6 +93,10 @@ public class TransactionEntity {
         entity.setType(domain.getType());
         entity.setAmount(domain.getAmount());
         entity.setDescription(domain.getDescription());
+        entity.setCategoryId(domain.getCategoryId());
+        entity.setBankAccountId(domain.getBankAccountId());
+        entity.setUserId(domain.getUserId());
+        entity.setSessionId(domain.getSessionId());
         entity.setTransactionDate(domain.getTransactionDate());
         entity.setCreatedAt(domain.getCreatedAt());
         entity.setExternalTransactionId(domain.getExternalTransactionId());
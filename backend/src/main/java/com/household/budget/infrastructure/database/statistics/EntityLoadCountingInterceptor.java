@@ -0,0 +1,17 @@
+package com.household.budget.infrastructure.database.statistics;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+/**
+ * 결과 행에서 엔티티를 만들 때마다 SqlStatementTracker에 기록 (조회한 행 수의 근사치)
+ * 영속성 컨텍스트에 이미 있던 엔티티와 DTO/스칼라 프로젝션은 세지 않음
+ */
+public class EntityLoadCountingInterceptor implements Interceptor {
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        SqlStatementTracker.entityLoaded();
+        return false;
+    }
+}
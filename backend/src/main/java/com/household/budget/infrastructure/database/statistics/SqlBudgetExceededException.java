@@ -0,0 +1,11 @@
+package com.household.budget.infrastructure.database.statistics;
+
+/**
+ * 엄격 모드(sql.budget.strict=true)에서 요청이 SQL 예산을 넘었을 때 발생
+ */
+public class SqlBudgetExceededException extends RuntimeException {
+
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,42 @@
+package com.household.budget.infrastructure.database.statistics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청(또는 테스트) 한 번에 허용하는 SQL 문장 수, 엔티티 로드 수, 같은 모양 SQL 반복 횟수
+ * 0 이하인 항목은 검사하지 않음
+ */
+public record SqlStatementBudget(int maxStatements, int maxEntityLoads, int maxRepeats) {
+    static final int TOP_SHAPES = 3;
+
+    /**
+     * 예산을 넘은 항목 설명 (넘지 않았으면 빈 목록)
+     */
+    public List<String> violations(SqlStatementTracker.Scope scope) {
+        List<String> violations = new ArrayList<>(3);
+        if (maxStatements > 0 && scope.statements() > maxStatements) {
+            violations.add("SQL " + scope.statements() + "건 (예산 " + maxStatements + ")");
+        }
+        if (maxEntityLoads > 0 && scope.entityLoads() > maxEntityLoads) {
+            violations.add("엔티티 로드 " + scope.entityLoads() + "건 (예산 " + maxEntityLoads + ")");
+        }
+        if (maxRepeats > 0 && scope.maxRepeats() > maxRepeats) {
+            violations.add("같은 SQL " + scope.maxRepeats() + "회 반복 (예산 " + maxRepeats + ", N+1 의심)");
+        }
+        return violations;
+    }
+
+    /**
+     * 예산 초과 로그/예외 메시지 - 넘은 항목과 가장 많이 반복된 SQL 모양
+     */
+    public static String describe(String subject, SqlStatementTracker.Scope scope, List<String> violations) {
+        StringBuilder message = new StringBuilder("SQL 예산 초과: ").append(subject)
+                .append(" - ").append(String.join(", ", violations));
+        for (Map.Entry<String, Integer> shape : scope.topShapes(TOP_SHAPES)) {
+            message.append("\n  ").append(shape.getValue()).append("회: ").append(shape.getKey());
+        }
+        return message.toString();
+    }
+}
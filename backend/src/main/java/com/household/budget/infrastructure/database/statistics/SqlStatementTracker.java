@@ -0,0 +1,120 @@
+package com.household.budget.infrastructure.database.statistics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 현재 스레드에서 Hibernate가 실행한 SQL 문장 수와 엔티티 로드 수 집계
+ * begin()으로 연 Scope가 닫힐 때까지 StatementCountingInspector/EntityLoadCountingInterceptor가 기록
+ * Scope는 중첩될 수 있으며 안쪽 Scope의 기록은 바깥 Scope에도 합산 (예: 테스트 메서드 안의 MockMvc 요청)
+ *
+ * 같은 모양(리터럴과 IN 목록 길이를 지운 SQL)이 반복되면 N+1 조회의 신호
+ * JdbcTemplate으로 직접 실행한 SQL은 Hibernate를 거치지 않으므로 집계되지 않음
+ */
+public final class SqlStatementTracker {
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlStatementTracker() {
+    }
+
+    public static Scope begin() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static void statementPrepared(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return;
+        }
+        String shape = shapeOf(sql);
+        for (; scope != null; scope = scope.parent) {
+            scope.statements++;
+            scope.shapes.merge(shape, 1, Integer::sum);
+        }
+    }
+
+    static void entityLoaded() {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.entityLoads++;
+        }
+    }
+
+    /**
+     * 리터럴은 ?로, IN (?, ?, ...)은 길이와 상관없이 (?...)로 바꾸고 공백을 정리한 SQL 모양
+     */
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = PARAMETER_LIST.matcher(shape).replaceAll("(?...)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    /**
+     * 한 요청(또는 테스트) 동안의 집계, 만든 스레드에서만 사용
+     */
+    public static final class Scope implements AutoCloseable {
+        private final Scope parent;
+        private final Map<String, Integer> shapes = new HashMap<>();
+        private int statements;
+        private int entityLoads;
+        private boolean closed;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public int statements() {
+            return statements;
+        }
+
+        public int entityLoads() {
+            return entityLoads;
+        }
+
+        /**
+         * 가장 많이 반복된 SQL 모양의 실행 횟수 (문장이 없으면 0)
+         */
+        public int maxRepeats() {
+            int max = 0;
+            for (int count : shapes.values()) {
+                max = Math.max(max, count);
+            }
+            return max;
+        }
+
+        /**
+         * 실행 횟수가 많은 순서로 SQL 모양 최대 limit개
+         */
+        public List<Map.Entry<String, Integer>> topShapes(int limit) {
+            List<Map.Entry<String, Integer>> entries = new ArrayList<>(shapes.entrySet());
+            entries.sort(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()));
+            return List.copyOf(entries.subList(0, Math.min(limit, entries.size())));
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (CURRENT.get() == this) {
+                if (parent == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(parent);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.household.budget.infrastructure.database.statistics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 모든 SQL을 SqlStatementTracker에 기록 (SQL은 바꾸지 않음)
+ * 이미 설정된 StatementInspector가 있으면 감싸서 기록 후 그대로 위임 (실행될 SQL은 위임 대상이 결정)
+ */
+public class StatementCountingInspector implements StatementInspector {
+    private final StatementInspector delegate;
+
+    public StatementCountingInspector() {
+        this(null);
+    }
+
+    public StatementCountingInspector(StatementInspector delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementTracker.statementPrepared(sql);
+        return delegate != null ? delegate.inspect(sql) : sql;
+    }
+}
@@ -0,0 +1,43 @@
+package com.household.budget.interfaces.http.controller;
+
+import com.household.budget.application.services.AnalyticsApplicationService;
+import com.household.budget.interfaces.http.dto.AnalyticsResponse;
+import com.household.budget.interfaces.http.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * Interfaces 계층 - 거래 분석 HTTP Controller
+ */
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:3100")
+public class AnalyticsController {
+    private final AnalyticsApplicationService analyticsService;
+
+    /**
+     * 카테고리별 합계, 일별 추이, 요일별 패턴 - from/to는 yyyy-MM-dd 형식 (양끝 포함)
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<AnalyticsResponse>> getAnalytics(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long sessionId) {
+        try {
+            AnalyticsResponse analytics = analyticsService.getAnalytics(from, to, sessionId);
+            return ResponseEntity.ok(ApiResponse.success(analytics));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("잘못된 요청: " + e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("거래 분석 조회 실패: " + e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.household.budget.interfaces.http.controller;
+
+import com.household.budget.application.services.ReportApplicationService;
+import com.household.budget.interfaces.http.dto.ApiResponse;
+import com.household.budget.interfaces.http.dto.MonthlyReportResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+
+/**
+ * Interfaces 계층 - 리포트 HTTP Controller
+ */
+@RestController
+@RequestMapping("/api/reports")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:3100")
+public class ReportController {
+    private final ReportApplicationService reportService;
+
+    /**
+     * 월별 리포트 - from/to는 yyyy-MM 형식 (양끝 포함)
+     */
+    @GetMapping("/monthly")
+    public ResponseEntity<ApiResponse<MonthlyReportResponse>> getMonthlyReport(
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        try {
+            MonthlyReportResponse report = reportService.getMonthlyReport(from, to);
+            return ResponseEntity.ok(ApiResponse.success(report));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("잘못된 요청: " + e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("월별 리포트 조회 실패: " + e.getMessage()));
+        }
+    }
+}
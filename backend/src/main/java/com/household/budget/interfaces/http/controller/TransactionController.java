@@ -1,15 +1,30 @@
 package com.household.budget.interfaces.http.controller;
 
 import com.household.budget.application.services.TransactionApplicationService;
+import com.household.budget.application.services.TransactionExportApplicationService;
+import com.household.budget.application.services.TransactionExportApplicationService.Format;
+import com.household.budget.domain.services.TransactionCalculationService.TransactionSummary;
 import com.household.budget.interfaces.http.dto.TransactionDto;
 import com.household.budget.interfaces.http.dto.ApiResponse;
+import com.household.budget.interfaces.http.dto.TransactionPageResponse;
 import com.household.budget.interfaces.http.dto.TransactionResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 /**
@@ -22,6 +37,7 @@ import java.util.List;
 @CrossOrigin(origins = "http://localhost:3100")
 public class TransactionController {
     private final TransactionApplicationService transactionService;
+    private final TransactionExportApplicationService exportService;
 
     @GetMapping
     public ResponseEntity<ApiResponse<List<TransactionDto>>> getAllTransactions() {
@@ -34,6 +50,61 @@ public class TransactionController {
         }
     }
 
+    /**
+     * Keyset 페이지 조회 - size 파라미터가 있으면 페이지 단위로 응답
+     * 다음 페이지는 응답의 nextCursor를 cursor로 전달
+     */
+    @GetMapping(params = "size")
+    public ResponseEntity<ApiResponse<TransactionPageResponse>> getTransactionPage(
+            @RequestParam int size,
+            @RequestParam(required = false) String cursor) {
+        try {
+            TransactionPageResponse page = transactionService.getTransactionPage(cursor, size);
+            return ResponseEntity.ok(ApiResponse.success(page));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("잘못된 요청: " + e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("거래 내역 조회 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 거래 내역 내보내기 - format=csv|ndjson, from/to(yyyy-MM-dd, 포함)
+     * 본문은 DB에서 읽는 대로 응답에 쓰므로 전체 결과를 메모리에 올리지 않음
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Format exportFormat;
+        try {
+            exportFormat = Format.parse(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+        // 본문은 다른 스레드에서 쓰므로 사용자는 여기서 확인
+        Long userId = exportService.getCurrentUserId();
+
+        String extension = exportFormat == Format.CSV ? "csv" : "ndjson";
+        MediaType contentType = exportFormat == Format.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.parseMediaType("application/x-ndjson");
+        String filename = "transactions-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + "." + extension;
+
+        StreamingResponseBody body = out -> exportService.export(userId, exportFormat, from, to, out);
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<TransactionDto>> getTransactionById(@PathVariable Long id) {
         try {
@@ -71,7 +142,7 @@ public class TransactionController {
     }
 
     @PostMapping
-    public ResponseEntity<ApiResponse<TransactionDto>> createTransaction(@RequestBody TransactionDto transactionDto) {
+    public ResponseEntity<ApiResponse<TransactionDto>> createTransaction(@Valid @RequestBody TransactionDto transactionDto) {
         try {
             TransactionDto created = transactionService.createTransaction(transactionDto);
             return ResponseEntity.status(HttpStatus.CREATED)
@@ -90,10 +161,13 @@ public class TransactionController {
 
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<TransactionDto>> updateTransaction(@PathVariable Long id, 
-                                                             @RequestBody TransactionDto transactionDto) {
+                                                             @Valid @RequestBody TransactionDto transactionDto) {
         try {
             TransactionDto updated = transactionService.updateTransaction(id, transactionDto);
             return ResponseEntity.ok(ApiResponse.success("거래가 수정되었습니다", updated));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("잘못된 요청: " + e.getMessage()));
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(ApiResponse.error("거래를 찾을 수 없습니다: " + e.getMessage()));
@@ -120,10 +194,12 @@ public class TransactionController {
     @GetMapping("/summary")
     public ResponseEntity<ApiResponse<TransactionResponse.SummaryResponse>> getSummary() {
         try {
+            TransactionSummary totals = transactionService.getSummary();
             TransactionResponse.SummaryResponse summary = new TransactionResponse.SummaryResponse(
-                    transactionService.getTotalIncome(),
-                    transactionService.getTotalExpense(),
-                    transactionService.getBalance()
+                    totals.getTotalIncome(),
+                    totals.getTotalExpense(),
+                    totals.getBalance(),
+                    totals.getTransactionCount()
             );
             return ResponseEntity.ok(ApiResponse.success(summary));
         } catch (Exception e) {
@@ -131,5 +207,17 @@ public class TransactionController {
                     .body(ApiResponse.error("요약 정보 조회 실패: " + e.getMessage()));
         }
     }
-}
 
+    /**
+     * 요청 본문 검증 실패 (금액 자릿수 등) - 다른 실패와 같은 형식의 400
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ApiResponse<Void>> handleInvalidRequest(MethodArgumentNotValidException e) {
+        String message = e.getBindingResult().getFieldErrors().stream()
+                .map(FieldError::getDefaultMessage)
+                .findFirst()
+                .orElse("요청 형식이 올바르지 않습니다.");
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error("잘못된 요청: " + message));
+    }
+}
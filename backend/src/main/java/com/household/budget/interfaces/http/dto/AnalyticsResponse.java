@@ -0,0 +1,58 @@
+package com.household.budget.interfaces.http.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 거래 분석 응답 - 카테고리별 합계, 일별 추이, 요일별 패턴
+ * 일별 추이는 조회 기간의 모든 날짜를 포함 (거래가 없는 날은 0으로 채움)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsResponse {
+    private String from; // yyyy-MM-dd
+    private String to;   // yyyy-MM-dd
+    private Long sessionId; // null이면 모든 세션
+    private BigDecimal totalIncome;
+    private BigDecimal totalExpense;
+    private long transactionCount;
+    private List<CategoryTotal> categories;
+    private List<DailyTotal> daily;
+    private List<WeekdayTotal> weekdays;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CategoryTotal {
+        private Long categoryId; // 미분류는 null
+        private String categoryName;
+        private BigDecimal income;
+        private BigDecimal expense;
+        private long transactionCount;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DailyTotal {
+        private String date; // yyyy-MM-dd
+        private BigDecimal income;
+        private BigDecimal expense;
+        private long transactionCount;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class WeekdayTotal {
+        private String dayOfWeek; // MONDAY ~ SUNDAY
+        private BigDecimal income;
+        private BigDecimal expense;
+        private long transactionCount;
+    }
+}
@@ -0,0 +1,44 @@
+package com.household.budget.interfaces.http.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 월별 리포트 응답
+ * 조회 기간의 모든 월을 포함 (거래가 없는 달은 0으로 채움)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyReportResponse {
+    private String from; // yyyy-MM
+    private String to;   // yyyy-MM
+    private List<Month> months;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Month {
+        private String month; // yyyy-MM
+        private BigDecimal totalIncome;
+        private BigDecimal totalExpense;
+        private BigDecimal balance;
+        private long transactionCount;
+        private List<CategoryAmount> categories;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CategoryAmount {
+        private Long categoryId; // 미분류는 null
+        private String categoryName;
+        private String type;
+        private BigDecimal amount;
+        private long transactionCount;
+    }
+}
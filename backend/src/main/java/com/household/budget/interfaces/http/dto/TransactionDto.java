@@ -1,5 +1,6 @@
 package com.household.budget.interfaces.http.dto;
 
+import jakarta.validation.constraints.Digits;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -13,6 +14,8 @@ import java.time.LocalDateTime;
 public class TransactionDto {
     private Long id;
     private String type;
+    // 저장 컬럼 DECIMAL(19,2)와 도메인 Money(long 최소 단위)에 반올림 없이 들어가는 범위
+    @Digits(integer = 16, fraction = 2, message = "금액은 정수 16자리, 소수 2자리까지 입력할 수 있습니다.")
     private BigDecimal amount;
     private String description;
     private Long categoryId;
@@ -0,0 +1,20 @@
+package com.household.budget.interfaces.http.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 거래 목록 페이지 응답
+ * nextCursor를 다음 요청의 cursor 파라미터로 그대로 전달
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionPageResponse {
+    private List<TransactionDto> transactions;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -14,6 +14,7 @@ public class TransactionResponse {
         private BigDecimal totalIncome;
         private BigDecimal totalExpense;
         private BigDecimal balance;
+        private long transactionCount;
     }
 }
 
@@ -2,8 +2,13 @@ package com.household.budget.repository;
 
 import com.household.budget.entity.BankAccount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,5 +19,18 @@ public interface BankAccountRepository extends JpaRepository<BankAccount, Long>
     List<BankAccount> findByUserIdAndConnectionType(Long userId, String connectionType);
     Optional<BankAccount> findByUserIdAndId(Long userId, Long id);
     List<BankAccount> findByIsActiveTrue();
-}
 
+    /**
+     * 동기화 완료 기록 - 워터마크는 앞으로만 이동 (watermark가 null이면 유지)
+     * 분리된 엔티티를 merge하면 동시에 바뀐 토큰을 덮어쓸 수 있으므로 컬럼만 갱신
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE BankAccount a SET a.lastSyncedAt = :syncedAt, "
+            + "a.syncWatermark = CASE WHEN a.syncWatermark IS NULL OR a.syncWatermark < :watermark "
+            + "THEN :watermark ELSE a.syncWatermark END "
+            + "WHERE a.id = :id")
+    int recordSync(@Param("id") Long id,
+                   @Param("watermark") LocalDateTime watermark,
+                   @Param("syncedAt") LocalDateTime syncedAt);
+}
@@ -1,5 +1,6 @@
 package com.household.budget.repository;
 
+import com.household.budget.dto.TransactionDto;
 import com.household.budget.entity.Transaction;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -7,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -23,6 +25,12 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     
     List<Transaction> findByUserIdAndSessionIdAndTypeOrderByTransactionDateDesc(Long userId, Long sessionId, String type);
     
+    // 동기화 중복 체크 - 한 페이지의 외부 거래 ID 중 이미 있는 것 (uk_transactions_external_id_user 인덱스)
+    @Query("SELECT t.externalTransactionId FROM Transaction t " +
+           "WHERE t.user.id = :userId AND t.externalTransactionId IN :externalIds")
+    List<String> findExistingExternalIds(@Param("userId") Long userId,
+                                         @Param("externalIds") Collection<String> externalIds);
+    
     @Query("SELECT t FROM Transaction t WHERE t.user.id = :userId AND t.transactionDate BETWEEN :startDate AND :endDate ORDER BY t.transactionDate DESC")
     List<Transaction> findByUserIdAndDateRange(@Param("userId") Long userId,
                                                 @Param("startDate") LocalDateTime startDate, 
@@ -36,5 +44,30 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
                                                               @Param("type") String type,
                                                               @Param("startDate") LocalDateTime startDate,
                                                               @Param("endDate") LocalDateTime endDate);
+    
+    // 목록 조회용 DTO 프로젝션 - 엔티티를 만들지 않고 카테고리/세션 이름을 같은 SQL의 조인으로 조회
+    String DTO_SELECT = "SELECT new com.household.budget.dto.TransactionDto(" +
+            "t.id, t.type, t.amount, t.description, c.id, c.name, s.id, s.name, t.transactionDate, t.createdAt) " +
+            "FROM Transaction t LEFT JOIN t.category c LEFT JOIN t.session s ";
+    String DTO_ORDER = " ORDER BY t.transactionDate DESC, t.id DESC";
+    
+    @Query(DTO_SELECT + "WHERE t.user.id = :userId" + DTO_ORDER)
+    List<TransactionDto> findDtosByUserId(@Param("userId") Long userId);
+    
+    @Query(DTO_SELECT + "WHERE t.user.id = :userId AND t.type = :type" + DTO_ORDER)
+    List<TransactionDto> findDtosByUserIdAndType(@Param("userId") Long userId, @Param("type") String type);
+    
+    @Query(DTO_SELECT + "WHERE t.user.id = :userId AND t.session.id = :sessionId" + DTO_ORDER)
+    List<TransactionDto> findDtosByUserIdAndSessionId(@Param("userId") Long userId, @Param("sessionId") Long sessionId);
+    
+    // Admin용 전체 조회
+    @Query(DTO_SELECT + DTO_ORDER)
+    List<TransactionDto> findAllDtos();
+    
+    @Query(DTO_SELECT + "WHERE t.type = :type" + DTO_ORDER)
+    List<TransactionDto> findAllDtosByType(@Param("type") String type);
+    
+    @Query(DTO_SELECT + "WHERE t.session.id = :sessionId" + DTO_ORDER)
+    List<TransactionDto> findAllDtosBySessionId(@Param("sessionId") Long sessionId);
 }
 
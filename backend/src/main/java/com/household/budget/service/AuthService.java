@@ -1,7 +1,10 @@
 package com.household.budget.service;
 
 import com.household.budget.config.JwtUtil;
+import com.household.budget.config.RoleChangeTracker;
+import com.household.budget.config.UserContext;
 import com.household.budget.dto.AuthResponse;
+import com.household.budget.dto.CacheStatistics;
 import com.household.budget.dto.LoginRequest;
 import com.household.budget.dto.RegisterRequest;
 import com.household.budget.entity.User;
@@ -12,6 +15,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -19,6 +23,8 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final RoleChangeTracker roleChangeTracker;
+    private final UserLookupCache userLookupCache;
 
     @Transactional
     public AuthResponse register(RegisterRequest request) {
@@ -32,8 +38,9 @@ public class AuthService {
         user.setName(request.getName());
 
         user = userRepository.save(user);
+        userLookupCache.evict(user);
 
-        String token = jwtUtil.generateToken(user.getEmail(), user.getId());
+        String token = jwtUtil.generateToken(user.getEmail(), user.getId(), user.getRole());
 
         return new AuthResponse(token, user.getEmail(), user.getName(), "회원가입이 완료되었습니다.");
     }
@@ -47,22 +54,69 @@ public class AuthService {
         }
 
         user.setLastLoginAt(LocalDateTime.now());
-        userRepository.save(user);
+        user = userRepository.save(user);
+        userLookupCache.put(user);
 
-        String token = jwtUtil.generateToken(user.getEmail(), user.getId());
+        String token = jwtUtil.generateToken(user.getEmail(), user.getId(), user.getRole());
 
         return new AuthResponse(token, user.getEmail(), user.getName(), "로그인 성공");
     }
 
+    /**
+     * 이메일로 사용자 조회 (캐시 우선) - 반환된 엔티티는 영속 상태가 아니므로 수정 후 저장하지 말 것
+     */
     public User getUserByEmail(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        User user = userLookupCache.getByEmail(email, key -> userRepository.findByEmail(key).orElse(null));
+        if (user == null) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        }
+        return user;
     }
 
+    /**
+     * ID로 사용자 조회 (캐시 우선) - 반환된 엔티티는 영속 상태가 아니므로 수정 후 저장하지 말 것
+     */
     public User getUserById(Long id) {
-        return userRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        User user = userLookupCache.getById(id, key -> userRepository.findById(key).orElse(null));
+        if (user == null) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        }
+        return user;
+    }
+
+    /**
+     * 사용자 조회 캐시 적중률 (관리자 전용)
+     * @throws SecurityException 관리자가 아닌 사용자가 요청한 경우
+     */
+    public Map<String, CacheStatistics> getUserCacheStats() {
+        if (!isCurrentUserAdmin()) {
+            throw new SecurityException("권한이 없습니다.");
+        }
+        return userLookupCache.stats();
     }
-}
 
+    /**
+     * 역할 변경 (관리자 전용) - 이전에 발급된 토큰의 역할 클레임은 더 이상 사용하지 않음
+     * @throws SecurityException 관리자가 아닌 사용자가 요청한 경우
+     */
+    @Transactional
+    public User changeRole(Long userId, String role) {
+        if (!isCurrentUserAdmin()) {
+            throw new SecurityException("권한이 없습니다.");
+        }
+        if (!"ADMIN".equals(role) && !"USER".equals(role)) {
+            throw new IllegalArgumentException("알 수 없는 역할입니다: " + role);
+        }
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        user.setRole(role);
+        User saved = userRepository.save(user);
+        userLookupCache.evict(saved);
+        roleChangeTracker.markRoleChanged(userId);
+        return saved;
+    }
 
+    private boolean isCurrentUserAdmin() {
+        return UserContext.isAdmin(this::getUserByEmail);
+    }
+}
@@ -0,0 +1,87 @@
+package com.household.budget.service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 백그라운드 작업 한 건의 공통 상태 (ID, 소유자, 진행 상태, 시각)
+ * 실행 스레드가 갱신하고 조회 스레드가 상태 DTO로 복사하므로 하위 클래스를 포함한 모든 접근은 이 객체로 동기화
+ */
+abstract class BackgroundJob {
+    private final String jobId = UUID.randomUUID().toString();
+    private final Long ownerId;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+    private String state = "QUEUED";
+    private String error;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long startedNanos;
+    private long finishedNanos;
+
+    BackgroundJob(Long ownerId) {
+        this.ownerId = ownerId;
+    }
+
+    String jobId() {
+        return jobId;
+    }
+
+    Long ownerId() {
+        return ownerId;
+    }
+
+    synchronized void started() {
+        state = "RUNNING";
+        startedAt = LocalDateTime.now();
+        startedNanos = System.nanoTime();
+    }
+
+    synchronized void succeeded() {
+        finish("SUCCEEDED");
+    }
+
+    synchronized void failed(String error) {
+        this.error = error;
+        finish("FAILED");
+    }
+
+    synchronized boolean isFinishedBefore(LocalDateTime threshold) {
+        return finishedAt != null && finishedAt.isBefore(threshold);
+    }
+
+    synchronized String state() {
+        return state;
+    }
+
+    synchronized String error() {
+        return error;
+    }
+
+    LocalDateTime submittedAt() {
+        return submittedAt;
+    }
+
+    synchronized LocalDateTime startedAt() {
+        return startedAt;
+    }
+
+    synchronized LocalDateTime finishedAt() {
+        return finishedAt;
+    }
+
+    // 시작 전이면 null, 진행 중이면 지금까지
+    synchronized Long elapsedMs() {
+        if (startedAt == null) {
+            return null;
+        }
+        long end = finishedAt != null ? finishedNanos : System.nanoTime();
+        return TimeUnit.NANOSECONDS.toMillis(end - startedNanos);
+    }
+
+    private void finish(String finalState) {
+        finishedNanos = System.nanoTime();
+        finishedAt = LocalDateTime.now();
+        state = finalState;
+    }
+}
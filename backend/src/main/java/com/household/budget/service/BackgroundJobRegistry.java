@@ -0,0 +1,80 @@
+package com.household.budget.service;
+
+import com.household.budget.config.AuthenticatedUser;
+import com.household.budget.config.UserContext;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 백그라운드 작업 보관소 - 작업 종류(동기화, 명세서 가져오기)마다 하나씩 사용
+ * - 실행: 스레드 수와 대기열 크기가 제한된 풀, 가득 차면 제출을 거절
+ * - 보관: 끝난 작업은 보관 시간이 지나면 다음 제출 때 정리
+ * - 조회: 본인 작업만 (관리자는 모든 작업), 아니면 없는 것으로 처리
+ */
+final class BackgroundJobRegistry<J extends BackgroundJob> {
+    private final AuthService authService;
+    private final ThreadPoolExecutor executor;
+    private final Duration retention;
+    private final Map<String, J> jobs = new ConcurrentHashMap<>();
+
+    BackgroundJobRegistry(AuthService authService, String threadNamePrefix, int threads, int queueCapacity,
+                          long retentionMinutes) {
+        this.authService = authService;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory(threadNamePrefix));
+        this.retention = Duration.ofMinutes(retentionMinutes);
+    }
+
+    /**
+     * 작업을 등록하고 풀에 실행을 맡김
+     * @return 풀과 대기열이 가득 차 거절되면 false (작업은 등록되지 않으므로 호출하는 쪽에서 정리)
+     */
+    boolean submit(J job, Runnable task) {
+        evictExpired();
+        jobs.put(job.jobId(), job);
+        try {
+            executor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.jobId());
+            return false;
+        }
+    }
+
+    /**
+     * 현재 사용자가 볼 수 있는 작업
+     */
+    Optional<J> find(String jobId) {
+        J job = jobs.get(jobId);
+        if (job == null) {
+            return Optional.empty();
+        }
+        AuthenticatedUser viewer = getCurrentUser();
+        if (viewer == null || (!viewer.isAdmin() && !job.ownerId().equals(viewer.userId()))) {
+            return Optional.empty();
+        }
+        return Optional.of(job);
+    }
+
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void evictExpired() {
+        LocalDateTime threshold = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.isFinishedBefore(threshold));
+    }
+
+    private AuthenticatedUser getCurrentUser() {
+        return UserContext.findUser(authService::getUserByEmail);
+    }
+}
@@ -1,11 +1,13 @@
 package com.household.budget.service;
 
 import com.household.budget.config.UserContext;
+import com.household.budget.domain.events.UserDataChangedEvent;
 import com.household.budget.dto.BankAccountDto;
 import com.household.budget.entity.BankAccount;
 import com.household.budget.entity.User;
 import com.household.budget.repository.BankAccountRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,26 +19,14 @@ import java.util.stream.Collectors;
 public class BankAccountService {
     private final BankAccountRepository bankAccountRepository;
     private final AuthService authService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private Long getCurrentUserId() {
-        String email = UserContext.getCurrentUserEmail();
-        if (email == null) {
-            throw new RuntimeException("인증이 필요합니다.");
-        }
-        return authService.getUserByEmail(email).getId();
+        return UserContext.requireUserId(authService::getUserByEmail);
     }
 
     private boolean isAdmin() {
-        String email = UserContext.getCurrentUserEmail();
-        if (email == null) {
-            return false;
-        }
-        try {
-            var user = authService.getUserByEmail(email);
-            return "ADMIN".equals(user.getRole());
-        } catch (Exception e) {
-            return false;
-        }
+        return UserContext.isAdmin(authService::getUserByEmail);
     }
 
     public List<BankAccountDto> getAllAccounts() {
@@ -94,7 +84,9 @@ public class BankAccountService {
         account.setIsActive(accountDto.getIsActive() != null ? accountDto.getIsActive() : true);
         account.setUser(user);
         
-        return toDto(bankAccountRepository.save(account));
+        BankAccount saved = bankAccountRepository.save(account);
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+        return toDto(saved);
     }
 
     @Transactional
@@ -117,7 +109,9 @@ public class BankAccountService {
         account.setConnectionType(accountDto.getConnectionType());
         account.setIsActive(accountDto.getIsActive());
         
-        return toDto(bankAccountRepository.save(account));
+        BankAccount saved = bankAccountRepository.save(account);
+        eventPublisher.publishEvent(new UserDataChangedEvent(account.getUser().getId()));
+        return toDto(saved);
     }
 
     @Transactional
@@ -133,6 +127,7 @@ public class BankAccountService {
         }
         
         bankAccountRepository.deleteById(id);
+        eventPublisher.publishEvent(new UserDataChangedEvent(account.getUser().getId()));
     }
 
     @Transactional
@@ -149,6 +144,7 @@ public class BankAccountService {
         
         account.setLastSyncedAt(java.time.LocalDateTime.now());
         bankAccountRepository.save(account);
+        eventPublisher.publishEvent(new UserDataChangedEvent(account.getUser().getId()));
     }
 
     private BankAccountDto toDto(BankAccount account) {
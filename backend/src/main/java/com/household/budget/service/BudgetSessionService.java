@@ -1,62 +1,50 @@
 package com.household.budget.service;
 
 import com.household.budget.config.UserContext;
+import com.household.budget.domain.entities.LedgerBalance;
+import com.household.budget.domain.events.UserDataChangedEvent;
+import com.household.budget.domain.repositories.LedgerBalanceRepository;
 import com.household.budget.dto.BudgetSessionDto;
 import com.household.budget.entity.BudgetSession;
 import com.household.budget.entity.User;
 import com.household.budget.repository.BudgetSessionRepository;
-import com.household.budget.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class BudgetSessionService {
     private final BudgetSessionRepository sessionRepository;
-    private final TransactionRepository transactionRepository;
+    private final LedgerBalanceRepository ledgerBalanceRepository;
     private final AuthService authService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private Long getCurrentUserId() {
-        String email = UserContext.getCurrentUserEmail();
-        if (email == null) {
-            throw new RuntimeException("인증이 필요합니다. JWT 토큰이 유효하지 않거나 만료되었습니다.");
-        }
-        try {
-            var user = authService.getUserByEmail(email);
-            if (user == null) {
-                throw new RuntimeException("사용자를 찾을 수 없습니다: " + email);
-            }
-            return user.getId();
-        } catch (Exception e) {
-            throw new RuntimeException("사용자 조회 실패: " + e.getMessage(), e);
-        }
+        return UserContext.requireUserId(authService::getUserByEmail);
     }
 
     private boolean isAdmin() {
-        String email = UserContext.getCurrentUserEmail();
-        if (email == null) {
-            return false;
-        }
-        try {
-            var user = authService.getUserByEmail(email);
-            return "ADMIN".equals(user.getRole());
-        } catch (Exception e) {
-            return false;
-        }
+        return UserContext.isAdmin(authService::getUserByEmail);
     }
 
     public List<BudgetSessionDto> getAllSessions() {
         try {
             Long userId = getCurrentUserId();
             List<BudgetSession> sessions = sessionRepository.findByUserIdOrderByLastAccessedAtDesc(userId);
+            // 세션별 통계는 누적 잔액(ledger_balances)에서 한 번에 조회
+            Map<Long, LedgerBalance> totalsBySession = ledgerBalanceRepository.findByUserId(userId).stream()
+                    .filter(balance -> balance.getSessionId() != null)
+                    .collect(Collectors.toMap(LedgerBalance::getSessionId, Function.identity()));
             return sessions.stream()
-                    .map(session -> toDto(session))
+                    .map(session -> toDto(session, totalsBySession.get(session.getId())))
                     .collect(Collectors.toList());
         } catch (RuntimeException e) {
             throw e;
@@ -74,7 +62,7 @@ public class BudgetSessionService {
         session.setLastAccessedAt(LocalDateTime.now());
         sessionRepository.save(session);
         
-        return toDto(session);
+        return toDto(session, ledgerBalanceRepository.findByUserIdAndSessionId(userId, id).orElse(null));
     }
 
     @Transactional
@@ -89,7 +77,10 @@ public class BudgetSessionService {
         session.setIcon(sessionDto.getIcon() != null ? sessionDto.getIcon() : "💰");
         session.setUser(user);
 
-        return toDto(sessionRepository.save(session));
+        BudgetSession saved = sessionRepository.save(session);
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+        // 새 세션에는 거래가 없으므로 통계 조회 생략
+        return toDto(saved, null);
     }
 
     @Transactional
@@ -103,7 +94,9 @@ public class BudgetSessionService {
         session.setColor(sessionDto.getColor());
         session.setIcon(sessionDto.getIcon());
 
-        return toDto(sessionRepository.save(session));
+        BudgetSession saved = sessionRepository.save(session);
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+        return toDto(saved, ledgerBalanceRepository.findByUserIdAndSessionId(userId, id).orElse(null));
     }
 
     @Transactional
@@ -112,60 +105,26 @@ public class BudgetSessionService {
         BudgetSession session = sessionRepository.findByUserIdAndId(userId, id)
                 .orElseThrow(() -> new RuntimeException("세션을 찾을 수 없습니다: " + id));
         sessionRepository.deleteById(id);
+        ledgerBalanceRepository.deleteByUserIdAndSessionId(userId, id);
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
     }
 
-    private BudgetSessionDto toDto(BudgetSession session) {
-        try {
-            BudgetSessionDto dto = new BudgetSessionDto();
-            dto.setId(session.getId());
-            dto.setName(session.getName());
-            dto.setDescription(session.getDescription());
-            dto.setColor(session.getColor());
-            dto.setIcon(session.getIcon());
-            dto.setCreatedAt(session.getCreatedAt());
-            dto.setLastAccessedAt(session.getLastAccessedAt());
-
-            // 세션별 통계 계산
-            Long sessionId = session.getId();
-            Long userId = session.getUser() != null ? session.getUser().getId() : getCurrentUserId();
-            
-            List<com.household.budget.entity.Transaction> transactions = 
-                transactionRepository.findByUserIdAndSessionId(userId, sessionId);
-
-            dto.setTransactionCount((long) transactions.size());
-            
-            BigDecimal totalIncome = transactions.stream()
-                    .filter(t -> "INCOME".equals(t.getType()))
-                    .map(com.household.budget.entity.Transaction::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            
-            BigDecimal totalExpense = transactions.stream()
-                    .filter(t -> "EXPENSE".equals(t.getType()))
-                    .map(com.household.budget.entity.Transaction::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-            dto.setTotalIncome(totalIncome);
-            dto.setTotalExpense(totalExpense);
-            dto.setBalance(totalIncome.subtract(totalExpense));
-
-            return dto;
-        } catch (Exception e) {
-            // 통계 계산 실패 시 기본값 반환
-            BudgetSessionDto dto = new BudgetSessionDto();
-            dto.setId(session.getId());
-            dto.setName(session.getName());
-            dto.setDescription(session.getDescription());
-            dto.setColor(session.getColor());
-            dto.setIcon(session.getIcon());
-            dto.setCreatedAt(session.getCreatedAt());
-            dto.setLastAccessedAt(session.getLastAccessedAt());
-            dto.setTransactionCount(0L);
-            dto.setTotalIncome(BigDecimal.ZERO);
-            dto.setTotalExpense(BigDecimal.ZERO);
-            dto.setBalance(BigDecimal.ZERO);
-            return dto;
-        }
+    private BudgetSessionDto toDto(BudgetSession session, LedgerBalance totals) {
+        BudgetSessionDto dto = new BudgetSessionDto();
+        dto.setId(session.getId());
+        dto.setName(session.getName());
+        dto.setDescription(session.getDescription());
+        dto.setColor(session.getColor());
+        dto.setIcon(session.getIcon());
+        dto.setCreatedAt(session.getCreatedAt());
+        dto.setLastAccessedAt(session.getLastAccessedAt());
+
+        // 세션별 통계 (거래가 없으면 0)
+        LedgerBalance balance = totals != null ? totals : LedgerBalance.empty(null, session.getId());
+        dto.setTransactionCount(balance.getTransactionCount());
+        dto.setTotalIncome(balance.getTotalIncome());
+        dto.setTotalExpense(balance.getTotalExpense());
+        dto.setBalance(balance.getBalance());
+        return dto;
     }
 }
-
-
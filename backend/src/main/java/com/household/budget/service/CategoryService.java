@@ -1,52 +1,129 @@
 package com.household.budget.service;
 
+import com.household.budget.domain.events.UserDataChangedEvent;
 import com.household.budget.dto.CategoryDto;
 import com.household.budget.entity.Category;
 import com.household.budget.repository.CategoryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * 카테고리 조회/관리
+ * 조회는 메모리의 불변 스냅샷(CategorySnapshot)에서 처리하고 DB는 변경 후 다시 읽을 때만 조회
+ * 생성/수정/삭제가 커밋되면 새 스냅샷으로 교체 (인스턴스 메모리에만 보관)
+ */
 @Service
 @RequiredArgsConstructor
 public class CategoryService {
     private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicReference<CategorySnapshot> snapshot = new AtomicReference<>();
 
     public List<CategoryDto> getAllCategories() {
-        return categoryRepository.findAll().stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return snapshot().all();
     }
 
     public List<CategoryDto> getCategoriesByType(String type) {
-        return categoryRepository.findByType(type).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return snapshot().byType(type);
     }
 
+    /**
+     * 카테고리 목록의 강한 ETag - 내용이 바뀔 때만 달라짐
+     */
+    public String getCategoriesETag() {
+        return snapshot().etag();
+    }
+
+    /**
+     * 거래에 연결할 카테고리 (스냅샷에서 만든 비영속 엔티티)
+     * 스냅샷에 없으면 다른 경로로 추가되었을 수 있으므로 DB를 한 번 확인하고 스냅샷을 다시 읽음
+     */
+    public Category getCategoryById(Long id) {
+        return snapshot().find(id)
+                .or(() -> categoryRepository.findById(id).flatMap(found -> reload().find(id)))
+                .map(CategorySnapshot.Entry::toEntity)
+                .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다: " + id));
+    }
+
+    /**
+     * 외부 파일의 카테고리 이름을 카테고리로 변환 (가져오기용, 없으면 empty)
+     */
+    public Optional<Category> findCategoryByName(String name, String type) {
+        if (name == null || name.isBlank()) {
+            return Optional.empty();
+        }
+        return snapshot().findByName(name, type).map(CategorySnapshot.Entry::toEntity);
+    }
+
+    @Transactional
     public CategoryDto createCategory(CategoryDto categoryDto) {
         Category category = new Category();
         category.setName(categoryDto.getName());
         category.setType(categoryDto.getType());
         category.setDescription(categoryDto.getDescription());
-        return toDto(categoryRepository.save(category));
+        CategoryDto created = toDto(categoryRepository.save(category));
+        onCategoriesChanged();
+        return created;
     }
 
+    @Transactional
     public CategoryDto updateCategory(Long id, CategoryDto categoryDto) {
         Category category = categoryRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다: " + id));
         category.setName(categoryDto.getName());
         category.setType(categoryDto.getType());
         category.setDescription(categoryDto.getDescription());
-        return toDto(categoryRepository.save(category));
+        CategoryDto updated = toDto(categoryRepository.save(category));
+        onCategoriesChanged();
+        return updated;
     }
 
     @Transactional
     public void deleteCategory(Long id) {
         categoryRepository.deleteById(id);
+        onCategoriesChanged();
+    }
+
+    /**
+     * Repository로 직접 저장한 뒤 스냅샷을 다시 읽을 때 사용 (초기 데이터 등)
+     */
+    public void refreshCategories() {
+        reload();
+    }
+
+    // 직렬화하여 나중에 시작한 재조회가 먼저 시작한 재조회의 결과로 덮이지 않도록 함
+    private synchronized CategorySnapshot reload() {
+        CategorySnapshot reloaded = CategorySnapshot.of(categoryRepository.findAll());
+        snapshot.set(reloaded);
+        return reloaded;
+    }
+
+    private CategorySnapshot snapshot() {
+        CategorySnapshot current = snapshot.get();
+        return current != null ? current : reload();
+    }
+
+    // 거래 응답에 카테고리 이름이 들어가므로 모든 사용자의 데이터 버전도 올림
+    private void onCategoriesChanged() {
+        eventPublisher.publishEvent(UserDataChangedEvent.shared());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reload();
+                }
+            });
+        } else {
+            reload();
+        }
     }
 
     private CategoryDto toDto(Category category) {
@@ -58,5 +135,3 @@ public class CategoryService {
         );
     }
 }
-
-
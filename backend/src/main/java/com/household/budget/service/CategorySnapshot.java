@@ -0,0 +1,96 @@
+package com.household.budget.service;
+
+import com.household.budget.dto.CategoryDto;
+import com.household.budget.entity.Category;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 카테고리 전체의 불변 스냅샷 (ID별, 유형별 색인 포함)
+ * 변경 시에는 새 스냅샷을 만들어 통째로 교체하므로 읽는 쪽은 잠금 없이 사용
+ * etag는 내용(ID, 이름, 유형, 설명)의 SHA-256 - 내용이 같으면 재기동 후에도 같은 값
+ */
+final class CategorySnapshot {
+    private final List<Entry> all;
+    private final Map<Long, Entry> byId;
+    private final Map<String, List<Entry>> byType;
+    private final String etag;
+
+    private CategorySnapshot(List<Entry> all) {
+        this.all = all;
+        this.byId = all.stream().collect(Collectors.toUnmodifiableMap(Entry::id, Function.identity()));
+        this.byType = all.stream().collect(Collectors.collectingAndThen(
+                Collectors.groupingBy(Entry::type, LinkedHashMap::new, Collectors.toUnmodifiableList()),
+                Map::copyOf));
+        this.etag = computeEtag(all);
+    }
+
+    static CategorySnapshot of(List<Category> categories) {
+        return new CategorySnapshot(categories.stream()
+                .sorted(Comparator.comparing(Category::getId))
+                .map(category -> new Entry(category.getId(), category.getName(), category.getType(),
+                        category.getDescription()))
+                .toList());
+    }
+
+    List<CategoryDto> all() {
+        return all.stream().map(Entry::toDto).toList();
+    }
+
+    List<CategoryDto> byType(String type) {
+        return byType.getOrDefault(type, List.of()).stream().map(Entry::toDto).toList();
+    }
+
+    Optional<Entry> find(Long id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    /**
+     * 이름으로 찾기 (대소문자/앞뒤 공백 무시) - 같은 유형을 먼저 찾고 없으면 전체에서 찾음
+     */
+    Optional<Entry> findByName(String name, String type) {
+        String wanted = name.strip();
+        return byType.getOrDefault(type, List.of()).stream()
+                .filter(entry -> entry.name().equalsIgnoreCase(wanted))
+                .findFirst()
+                .or(() -> all.stream().filter(entry -> entry.name().equalsIgnoreCase(wanted)).findFirst());
+    }
+
+    String etag() {
+        return etag;
+    }
+
+    private static String computeEtag(List<Entry> entries) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Entry entry : entries) {
+                String line = entry.id() + "\u0000" + entry.name() + "\u0000" + entry.type() + "\u0000"
+                        + entry.description() + "\n";
+                digest.update(line.getBytes(StandardCharsets.UTF_8));
+            }
+            return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    record Entry(Long id, String name, String type, String description) {
+        CategoryDto toDto() {
+            return new CategoryDto(id, name, type, description);
+        }
+
+        Category toEntity() {
+            return new Category(id, name, type, description);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.household.budget.service;
+
+import com.household.budget.dto.SyncRunStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 연동 계좌 증분 동기화 배치
+ * 계좌마다 워터마크(마지막으로 받은 거래 일시) 이후만 조회하므로 호출량과 쓰기량이 새 거래 수에 비례
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "sync.incremental.enabled", havingValue = "true", matchIfMissing = true)
+public class IncrementalSyncJob {
+    private final SyncOrchestrator syncOrchestrator;
+
+    @Scheduled(cron = "${sync.incremental.cron:0 */30 * * * *}")
+    public void sync() {
+        try {
+            SyncRunStatus status = syncOrchestrator.runAll();
+            log.info("증분 동기화 완료: accounts={}, succeeded={}, failed={}, skippedAccounts={}, inserted={}",
+                    status.getTotal(), status.getSucceeded(), status.getFailed(), status.getSkippedAccounts(),
+                    status.getInserted());
+        } catch (IllegalStateException e) {
+            log.info("전체 동기화가 진행 중이어서 이번 증분 동기화는 건너뜁니다.");
+        }
+    }
+}
@@ -1,16 +1,23 @@
 package com.household.budget.service;
 
+import com.household.budget.config.UserContext;
+import com.household.budget.domain.events.UserDataChangedEvent;
+import com.household.budget.dto.SyncResult;
 import com.household.budget.entity.BankAccount;
 import com.household.budget.entity.Transaction;
 import com.household.budget.repository.BankAccountRepository;
-import com.household.budget.repository.TransactionRepository;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -23,20 +30,20 @@ import java.util.List;
 @RequiredArgsConstructor
 public class OpenBankingService {
     private final BankAccountRepository bankAccountRepository;
-    private final TransactionRepository transactionRepository;
     private final AuthService authService;
+    private final SyncTransactionWriter syncTransactionWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SyncMetrics syncMetrics;
+
+    @Value("${sync.watermark.overlap-hours:48}")
+    private long overlapHours;
 
     private boolean isAdmin() {
-        String email = com.household.budget.config.UserContext.getCurrentUserEmail();
-        if (email == null) {
-            return false;
-        }
-        try {
-            var user = authService.getUserByEmail(email);
-            return "ADMIN".equals(user.getRole());
-        } catch (Exception e) {
-            return false;
-        }
+        return UserContext.isAdmin(authService::getUserByEmail);
+    }
+
+    private Long getCurrentUserId() {
+        return UserContext.requireUserId(authService::getUserByEmail);
     }
 
     /**
@@ -62,8 +69,7 @@ public class OpenBankingService {
                 .orElseThrow(() -> new RuntimeException("계좌를 찾을 수 없습니다: " + accountId));
         
         if (!isAdmin()) {
-            String email = com.household.budget.config.UserContext.getCurrentUserEmail();
-            Long userId = authService.getUserByEmail(email).getId();
+            Long userId = getCurrentUserId();
             if (!account.getUser().getId().equals(userId)) {
                 throw new RuntimeException("권한이 없습니다.");
             }
@@ -76,77 +82,94 @@ public class OpenBankingService {
         account.setIsActive(true);
         
         bankAccountRepository.save(account);
+        eventPublisher.publishEvent(new UserDataChangedEvent(account.getUser().getId()));
     }
 
     /**
      * 계좌 거래 내역 동기화
+     * 트랜잭션 없이 외부 API를 호출하고, 저장만 SyncTransactionWriter의 트랜잭션에서 수행
      */
-    @Transactional
-    public void syncTransactions(Long accountId) {
+    public SyncResult syncTransactions(Long accountId) {
+        return syncAccount(getAccountForSync(accountId));
+    }
+
+    /**
+     * 동기화할 계좌 조회 및 접근 권한 확인 (백그라운드 동기화 제출 전 요청 스레드에서 호출)
+     */
+    public BankAccount getAccountForSync(Long accountId) {
         BankAccount account = bankAccountRepository.findById(accountId)
                 .orElseThrow(() -> new RuntimeException("계좌를 찾을 수 없습니다: " + accountId));
         
-        Long userId = account.getUser().getId();
         if (!isAdmin()) {
-            String email = com.household.budget.config.UserContext.getCurrentUserEmail();
-            Long currentUserId = authService.getUserByEmail(email).getId();
+            Long currentUserId = getCurrentUserId();
             if (!account.getUser().getId().equals(currentUserId)) {
                 throw new RuntimeException("권한이 없습니다.");
             }
-            userId = currentUserId;
         }
+        return account;
+    }
 
+    /**
+     * 권한 확인 없이 계좌 한 건 동기화 (전체 동기화 등 시스템 작업용)
+     * 호출한 쪽에서 계좌 접근 권한을 확인해야 함
+     */
+    public SyncResult syncAccount(BankAccount account) {
+        Timer.Sample sample = syncMetrics.start();
+        try {
+            SyncResult result = sync(account);
+            syncMetrics.succeeded(sample, SyncMetrics.OPENBANKING, result);
+            return result;
+        } catch (RuntimeException e) {
+            syncMetrics.failed(sample, SyncMetrics.OPENBANKING);
+            throw e;
+        }
+    }
+
+    private SyncResult sync(BankAccount account) {
         if (!account.getIsActive() || account.getAccessToken() == null) {
             throw new RuntimeException("계좌가 활성화되지 않았거나 토큰이 없습니다.");
         }
 
         // TODO: 실제 오픈뱅킹 API 호출
         // 예: GET /v2.0/account/transaction_list
-        log.info("거래 내역 동기화 시작: accountId={}", accountId);
+        // 워터마크에서 겹침 구간만큼 앞당겨 조회 (늦게 확정되는 거래 대비, 겹친 거래는 외부 ID로 걸러짐)
+        LocalDateTime since = account.getSyncWatermark() == null
+                ? null : account.getSyncWatermark().minusHours(overlapHours);
+        log.info("거래 내역 동기화 시작: accountId={}, since={}", account.getId(), since);
 
         // Mock 데이터 생성 (실제로는 API 응답 파싱)
-        List<Transaction> mockTransactions = createMockTransactions(account);
-        
-        // final 변수로 복사 (람다 표현식에서 사용하기 위해)
-        final Long finalUserId = userId;
+        List<Transaction> mockTransactions = createMockTransactions(account, since);
         
-        for (Transaction transaction : mockTransactions) {
-            // 중복 체크 (사용자별)
-            if (transaction.getExternalTransactionId() != null) {
-                final String transactionExternalId = transaction.getExternalTransactionId();
-                boolean exists = transactionRepository.findByUserId(finalUserId).stream()
-                        .anyMatch(t -> t.getExternalTransactionId() != null 
-                                && t.getExternalTransactionId().equals(transactionExternalId)
-                                && t.getUser().getId().equals(finalUserId));
-                
-                if (!exists) {
-                    transactionRepository.save(transaction);
-                }
-            } else {
-                transactionRepository.save(transaction);
-            }
-        }
+        LocalDateTime watermark = mockTransactions.stream()
+                .map(Transaction::getTransactionDate)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        LocalDateTime syncedAt = LocalDateTime.now();
 
-        // 마지막 동기화 시간 업데이트
-        account.setLastSyncedAt(LocalDateTime.now());
-        bankAccountRepository.save(account);
+        // 새 거래 저장과 워터마크/마지막 동기화 시간 갱신을 같은 트랜잭션에서 커밋
+        SyncResult result = syncTransactionWriter.write(account.getUser().getId(), mockTransactions,
+                () -> bankAccountRepository.recordSync(account.getId(), watermark, syncedAt));
+        // 마지막 동기화 시간이 바뀌었으므로 새 거래가 없어도 계좌 목록 버전을 올림
+        eventPublisher.publishEvent(new UserDataChangedEvent(account.getUser().getId()));
 
-        log.info("거래 내역 동기화 완료: accountId={}, count={}", accountId, mockTransactions.size());
+        log.info("거래 내역 동기화 완료: accountId={}, fetched={}, inserted={}, skipped={}",
+                account.getId(), result.getFetched(), result.getInserted(), result.getSkipped());
+        return result;
     }
 
     /**
      * Mock 거래 내역 생성 (실제로는 API 응답 파싱)
      */
-    private List<Transaction> createMockTransactions(BankAccount account) {
+    private List<Transaction> createMockTransactions(BankAccount account, LocalDateTime since) {
         // 실제 구현 시 API 응답을 파싱하여 Transaction 객체 생성
         return List.of(
-                createMockTransaction(account, "EXPENSE", new BigDecimal("5000"), "커피", "식비"),
-                createMockTransaction(account, "EXPENSE", new BigDecimal("15000"), "점심 식사", "식비"),
-                createMockTransaction(account, "INCOME", new BigDecimal("2000000"), "월급", "급여")
+                createMockTransaction(account, since, "EXPENSE", new BigDecimal("5000"), "커피", "식비"),
+                createMockTransaction(account, since, "EXPENSE", new BigDecimal("15000"), "점심 식사", "식비"),
+                createMockTransaction(account, since, "INCOME", new BigDecimal("2000000"), "월급", "급여")
         );
     }
 
-    private Transaction createMockTransaction(BankAccount account, String type, 
+    private Transaction createMockTransaction(BankAccount account, LocalDateTime since, String type, 
                                              BigDecimal amount, String description, String categoryName) {
         Transaction transaction = new Transaction();
         transaction.setType(type);
@@ -154,10 +177,16 @@ public class OpenBankingService {
         transaction.setDescription(description);
         transaction.setBankAccount(account);
         transaction.setUser(account.getUser()); // 사용자 설정
-        transaction.setTransactionDate(LocalDateTime.now().minusDays((long)(Math.random() * 30)));
+        transaction.setTransactionDate(mockTransactionDate(since));
         transaction.setExternalTransactionId("EXT_" + System.currentTimeMillis() + "_" + (int)(Math.random() * 1000));
         transaction.setSyncSource("OPENBANKING");
         return transaction;
     }
-}
 
+    // Mock: 조회 시작 시각(없으면 최근 30일) 이후의 임의 일시
+    private LocalDateTime mockTransactionDate(LocalDateTime since) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = since == null || since.isAfter(now) ? now.minusDays(30) : since;
+        return from.plusSeconds((long) (Math.random() * Duration.between(from, now).getSeconds()));
+    }
+}
@@ -0,0 +1,270 @@
+package com.household.budget.service;
+
+import com.household.budget.config.UserContext;
+import com.household.budget.dto.ImportJobStatus;
+import com.household.budget.dto.ImportLineError;
+import com.household.budget.dto.SyncResult;
+import com.household.budget.entity.Transaction;
+import com.household.budget.entity.User;
+import com.household.budget.service.statement.StatementFormat;
+import com.household.budget.service.statement.StatementParser;
+import com.household.budget.service.statement.StatementRow;
+import com.household.budget.service.statement.StatementRowMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 명세서 파일(CSV/OFX/QIF) 가져오기 - 백그라운드 작업
+ * 요청 스레드에서는 업로드 파일을 임시 파일로 옮기고 작업 ID를 바로 돌려줌
+ * 작업은 파일을 한 번 읽으며 거래를 WRITE_CHUNK_SIZE 건씩 모아 SyncTransactionWriter로 저장하므로
+ * 메모리에는 한 청크와 중복 구분용 해시 키(StatementRowMapper)만 남음
+ * 실행/보관/조회는 BackgroundJobRegistry가 담당
+ * 중복은 내용 해시(externalTransactionId, syncSource="IMPORT")로 걸러지므로 같은 파일을 다시 올려도 안전
+ */
+@Slf4j
+@Service
+public class StatementImportService {
+    private final SyncTransactionWriter syncTransactionWriter;
+    private final CategoryService categoryService;
+    private final AuthService authService;
+    private final BackgroundJobRegistry<ImportJob> jobs;
+    private final int maxReportedErrors;
+
+    public StatementImportService(SyncTransactionWriter syncTransactionWriter,
+                                  CategoryService categoryService,
+                                  AuthService authService,
+                                  @Value("${import.jobs.threads:2}") int threads,
+                                  @Value("${import.jobs.queue-capacity:10}") int queueCapacity,
+                                  @Value("${import.jobs.retention-minutes:60}") long retentionMinutes,
+                                  @Value("${import.max-reported-errors:100}") int maxReportedErrors) {
+        this.syncTransactionWriter = syncTransactionWriter;
+        this.categoryService = categoryService;
+        this.authService = authService;
+        this.jobs = new BackgroundJobRegistry<>(authService, "statement-import-", threads, queueCapacity,
+                retentionMinutes);
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * 가져오기 작업 제출
+     * @param format csv, ofx, qif (없으면 파일 확장자로 결정)
+     * @param encoding 파일 문자 인코딩 (없으면 UTF-8, 국내 은행 파일은 보통 MS949)
+     */
+    public ImportJobStatus submit(MultipartFile file, String format, String encoding) throws IOException {
+        User user = getCurrentUser();
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("빈 파일입니다.");
+        }
+        StatementFormat statementFormat = format != null && !format.isBlank()
+                ? StatementFormat.parse(format)
+                : StatementFormat.fromFilename(file.getOriginalFilename());
+        Charset charset = toCharset(encoding);
+
+        // 업로드 임시 파일은 요청이 끝나면 지워지므로 작업이 끝날 때까지 보관할 곳으로 옮김
+        Path spool = Files.createTempFile("statement-import-", ".tmp");
+        try {
+            file.transferTo(spool);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(spool);
+            throw e;
+        }
+
+        ImportJob job = new ImportJob(user.getId(), file.getOriginalFilename(), statementFormat, Files.size(spool));
+        if (!jobs.submit(job, () -> run(job, user, spool, charset))) {
+            Files.deleteIfExists(spool);
+            throw new IllegalStateException("가져오기 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        log.info("가져오기 작업 제출: jobId={}, userId={}, format={}, bytes={}",
+                job.jobId(), job.ownerId(), statementFormat, job.totalBytes);
+        return job.toStatus();
+    }
+
+    /**
+     * 작업 상태 조회 - 본인 작업이 아니면 (관리자 제외) 없는 것으로 처리
+     */
+    public Optional<ImportJobStatus> getJob(String jobId) {
+        return jobs.find(jobId).map(ImportJob::toStatus);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobs.shutdown();
+    }
+
+    private void run(ImportJob job, User user, Path spool, Charset charset) {
+        job.started();
+        try (InputStream in = new CountingInputStream(Files.newInputStream(spool), job);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, charset))) {
+            ChunkedImport chunks = new ChunkedImport(job, new StatementRowMapper(user, categoryService));
+            job.format.newParser().parse(reader, chunks);
+            chunks.flush();
+            job.succeeded();
+            log.info("가져오기 완료: jobId={}, parsed={}, inserted={}, skipped={}, failed={}",
+                    job.jobId(), job.parsed, job.inserted, job.skipped, job.failed);
+        } catch (Exception e) {
+            log.warn("가져오기 실패: jobId={}, error={}", job.jobId(), e.getMessage());
+            job.failed(e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(spool);
+            } catch (IOException e) {
+                log.warn("가져오기 임시 파일 삭제 실패: {}", spool);
+            }
+        }
+    }
+
+    private User getCurrentUser() {
+        return authService.getUserById(UserContext.requireUserId(authService::getUserByEmail));
+    }
+
+    private static Charset toCharset(String encoding) {
+        if (encoding == null || encoding.isBlank()) {
+            return StandardCharsets.UTF_8;
+        }
+        try {
+            return Charset.forName(encoding.strip());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 인코딩입니다: " + encoding);
+        }
+    }
+
+    /**
+     * 파서가 넘기는 거래를 청크로 모아 저장 (청크마다 별도 트랜잭션이므로 중간에 실패해도 앞 청크는 유지)
+     */
+    private final class ChunkedImport implements StatementParser.Handler {
+        private final ImportJob job;
+        private final StatementRowMapper mapper;
+        private List<Transaction> chunk = new ArrayList<>(SyncTransactionWriter.WRITE_CHUNK_SIZE);
+
+        ChunkedImport(ImportJob job, StatementRowMapper mapper) {
+            this.job = job;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public void row(StatementRow row) {
+            Transaction transaction;
+            try {
+                transaction = mapper.toTransaction(row);
+            } catch (IllegalArgumentException e) {
+                error(row.line(), e.getMessage());
+                return;
+            }
+            chunk.add(transaction);
+            job.rowParsed();
+            if (chunk.size() >= SyncTransactionWriter.WRITE_CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        @Override
+        public void error(int line, String message) {
+            job.lineFailed(line, message, maxReportedErrors);
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            job.chunkWritten(syncTransactionWriter.write(job.ownerId(), chunk));
+            chunk = new ArrayList<>(SyncTransactionWriter.WRITE_CHUNK_SIZE);
+        }
+    }
+
+    /**
+     * 읽은 바이트 수를 작업 진행률로 기록
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private final ImportJob job;
+
+        CountingInputStream(InputStream in, ImportJob job) {
+            super(in);
+            this.job = job;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                job.bytesRead(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                job.bytesRead(n);
+            }
+            return n;
+        }
+    }
+
+    /**
+     * 가져오기 작업 한 건 - 진행률과 건수는 실행 스레드가 기록
+     */
+    private static final class ImportJob extends BackgroundJob {
+        private final String filename;
+        private final StatementFormat format;
+        private final long totalBytes;
+        private final List<ImportLineError> errors = new ArrayList<>();
+        private long bytesRead;
+        private int parsed;
+        private int inserted;
+        private int skipped;
+        private int failed;
+
+        ImportJob(Long ownerId, String filename, StatementFormat format, long totalBytes) {
+            super(ownerId);
+            this.filename = filename;
+            this.format = format;
+            this.totalBytes = totalBytes;
+        }
+
+        synchronized void bytesRead(long count) {
+            bytesRead += count;
+        }
+
+        synchronized void rowParsed() {
+            parsed++;
+        }
+
+        synchronized void lineFailed(int line, String message, int maxReportedErrors) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ImportLineError(line, message));
+            }
+        }
+
+        synchronized void chunkWritten(SyncResult result) {
+            inserted += result.getInserted();
+            skipped += result.getSkipped();
+        }
+
+        synchronized ImportJobStatus toStatus() {
+            String state = state();
+            int progress = "SUCCEEDED".equals(state) ? 100
+                    : totalBytes > 0 ? (int) Math.min(99, bytesRead * 100 / totalBytes) : 0;
+            return new ImportJobStatus(jobId(), filename, format.name(), state, totalBytes, bytesRead, progress,
+                    parsed, inserted, skipped, failed, List.copyOf(errors), error(),
+                    submittedAt(), startedAt(), finishedAt(), elapsedMs());
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.household.budget.service;
+
+import com.household.budget.dto.SyncJobStatus;
+import com.household.budget.dto.SyncResult;
+import com.household.budget.entity.BankAccount;
+import com.household.budget.repository.BankAccountRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 백그라운드 계좌 동기화 작업
+ * 요청 스레드에서는 권한만 확인하고 작업 ID를 바로 돌려주며, 실행/보관/조회는 BackgroundJobRegistry가 담당
+ * 같은 계좌의 작업이 대기/진행 중이면 새로 만들지 않고 그 작업을 돌려줌
+ */
+@Slf4j
+@Service
+public class SyncJobService {
+    private final BankAccountRepository bankAccountRepository;
+    private final OpenBankingService openBankingService;
+    private final CardApiService cardApiService;
+    private final BackgroundJobRegistry<SyncJob> jobs;
+
+    private final Map<Long, SyncJob> activeByAccount = new ConcurrentHashMap<>();
+
+    public SyncJobService(BankAccountRepository bankAccountRepository,
+                          OpenBankingService openBankingService,
+                          CardApiService cardApiService,
+                          AuthService authService,
+                          @Value("${sync.jobs.threads:4}") int threads,
+                          @Value("${sync.jobs.queue-capacity:100}") int queueCapacity,
+                          @Value("${sync.jobs.retention-minutes:60}") long retentionMinutes) {
+        this.bankAccountRepository = bankAccountRepository;
+        this.openBankingService = openBankingService;
+        this.cardApiService = cardApiService;
+        this.jobs = new BackgroundJobRegistry<>(authService, "sync-job-", threads, queueCapacity, retentionMinutes);
+    }
+
+    /**
+     * 오픈뱅킹 계좌 동기화 작업 제출
+     */
+    public SyncJobStatus submitOpenBanking(Long accountId) {
+        return submit(openBankingService.getAccountForSync(accountId), openBankingService::syncAccount);
+    }
+
+    /**
+     * 카드 동기화 작업 제출
+     */
+    public SyncJobStatus submitCard(Long accountId) {
+        return submit(cardApiService.getAccountForSync(accountId), cardApiService::syncAccount);
+    }
+
+    /**
+     * 작업 상태 조회 - 본인 계좌의 작업이 아니면 (관리자 제외) 없는 것으로 처리
+     */
+    public Optional<SyncJobStatus> getJob(String jobId) {
+        return jobs.find(jobId).map(SyncJob::toStatus);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobs.shutdown();
+    }
+
+    private SyncJobStatus submit(BankAccount account, Function<BankAccount, SyncResult> sync) {
+        if (!Boolean.TRUE.equals(account.getIsActive()) || account.getAccessToken() == null) {
+            throw new RuntimeException("계좌가 활성화되지 않았거나 토큰이 없습니다.");
+        }
+        SyncJob job = new SyncJob(account.getId(), account.getConnectionType(), account.getUser().getId());
+        SyncJob existing = activeByAccount.putIfAbsent(account.getId(), job);
+        if (existing != null) {
+            return existing.toStatus();
+        }
+        if (!jobs.submit(job, () -> run(job, sync))) {
+            activeByAccount.remove(job.accountId, job);
+            throw new IllegalStateException("동기화 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        log.info("동기화 작업 제출: jobId={}, accountId={}", job.jobId(), job.accountId);
+        return job.toStatus();
+    }
+
+    // 제출 후 바뀐 토큰/워터마크를 쓰도록 실행 시점에 계좌를 다시 조회
+    private void run(SyncJob job, Function<BankAccount, SyncResult> sync) {
+        job.started();
+        try {
+            BankAccount account = bankAccountRepository.findById(job.accountId)
+                    .orElseThrow(() -> new RuntimeException("계좌를 찾을 수 없습니다: " + job.accountId));
+            job.succeeded(sync.apply(account));
+        } catch (Exception e) {
+            log.warn("동기화 작업 실패: jobId={}, accountId={}, error={}", job.jobId(), job.accountId, e.getMessage());
+            job.failed(e.getMessage());
+        } finally {
+            activeByAccount.remove(job.accountId, job);
+        }
+    }
+
+    /**
+     * 계좌 동기화 작업 한 건 - 결과는 실행 스레드가 기록
+     */
+    private static final class SyncJob extends BackgroundJob {
+        private final Long accountId;
+        private final String connectionType;
+        private SyncResult result;
+
+        SyncJob(Long accountId, String connectionType, Long ownerId) {
+            super(ownerId);
+            this.accountId = accountId;
+            this.connectionType = connectionType;
+        }
+
+        synchronized void succeeded(SyncResult result) {
+            this.result = result;
+            succeeded();
+        }
+
+        synchronized SyncJobStatus toStatus() {
+            return new SyncJobStatus(jobId(), accountId, connectionType, state(),
+                    result != null ? result.getFetched() : 0,
+                    result != null ? result.getInserted() : 0,
+                    result != null ? result.getSkipped() : 0,
+                    error(), submittedAt(), startedAt(), finishedAt(), elapsedMs());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.household.budget.service;
+
+import com.household.budget.dto.SyncResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 거래 동기화 지표 (Prometheus: sync_transactions_total, sync_duration_seconds)
+ * - sync.transactions{provider, outcome=fetched|inserted|duplicate}: 외부에서 받은/새로 저장한/중복으로 건너뛴 건수
+ * - sync.duration{provider, result=success|failure}: 계좌 한 건 동기화 시간 (백분위 히스토그램 포함)
+ * provider는 연동 유형(OPENBANKING, CARD_API)
+ */
+@Component
+public class SyncMetrics {
+    public static final String OPENBANKING = "OPENBANKING";
+    public static final String CARD_API = "CARD_API";
+
+    private final MeterRegistry meterRegistry;
+
+    public SyncMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void succeeded(Timer.Sample sample, String provider, SyncResult result) {
+        sample.stop(duration(provider, "success"));
+        transactions(provider, "fetched").increment(result.getFetched());
+        transactions(provider, "inserted").increment(result.getInserted());
+        transactions(provider, "duplicate").increment(result.getSkipped());
+    }
+
+    public void failed(Timer.Sample sample, String provider) {
+        sample.stop(duration(provider, "failure"));
+    }
+
+    // MeterRegistry가 이름+태그로 이미 등록된 미터를 돌려주므로 호출마다 새로 만들지 않음
+    private Counter transactions(String provider, String outcome) {
+        return Counter.builder("sync.transactions")
+                .description("동기화된 거래 건수")
+                .tag("provider", provider)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private Timer duration(String provider, String result) {
+        return Timer.builder("sync.duration")
+                .description("계좌 한 건 동기화 시간")
+                .tag("provider", provider)
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
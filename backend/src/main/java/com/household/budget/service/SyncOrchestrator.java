@@ -0,0 +1,231 @@
+package com.household.budget.service;
+
+import com.household.budget.config.UserContext;
+import com.household.budget.dto.SyncResult;
+import com.household.budget.dto.SyncRunStatus;
+import com.household.budget.entity.BankAccount;
+import com.household.budget.repository.BankAccountRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 전체 연동 계좌 동기화
+ * 활성 계좌를 연동 유형(OPENBANKING/CARD_API)별 스레드 풀에 나눠 병렬로 동기화
+ * 풀 크기가 곧 제공자별 동시 호출 상한이며, 계좌마다 별도 트랜잭션으로 저장하므로 한 계좌의 실패가 다른 계좌에 영향 없음
+ * 토큰이 만료된 계좌는 제공자를 호출하지 않고 건너뜀 (SKIPPED)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SyncOrchestrator {
+    static final String OPENBANKING = "OPENBANKING";
+    static final String CARD_API = "CARD_API";
+
+    private final BankAccountRepository bankAccountRepository;
+    private final OpenBankingService openBankingService;
+    private final CardApiService cardApiService;
+    private final AuthService authService;
+
+    private final ExecutorService coordinator =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("sync-orchestrator-"));
+    private final AtomicReference<SyncRun> currentRun = new AtomicReference<>();
+    private volatile SyncRun lastRun;
+
+    @Value("${sync.orchestrator.openbanking.max-concurrency:8}")
+    private int openBankingConcurrency;
+
+    @Value("${sync.orchestrator.card-api.max-concurrency:4}")
+    private int cardApiConcurrency;
+
+    private boolean isAdmin() {
+        return UserContext.isAdmin(authService::getUserByEmail);
+    }
+
+    /**
+     * 전체 동기화를 백그라운드에서 시작 (관리자 전용)
+     * @return 시작 시점의 진행 상황
+     */
+    public SyncRunStatus start() {
+        if (!isAdmin()) {
+            throw new RuntimeException("권한이 없습니다.");
+        }
+        SyncRun run = claim();
+        coordinator.execute(() -> execute(run));
+        return run.toStatus();
+    }
+
+    /**
+     * 전체 동기화를 호출한 스레드에서 끝까지 실행 (배치 작업용)
+     */
+    public SyncRunStatus runAll() {
+        SyncRun run = claim();
+        execute(run);
+        return run.toStatus();
+    }
+
+    /**
+     * 진행 중인 전체 동기화 (관리자 전용)
+     */
+    public Optional<SyncRunStatus> getCurrentRun() {
+        if (!isAdmin()) {
+            throw new RuntimeException("권한이 없습니다.");
+        }
+        return Optional.ofNullable(currentRun.get()).map(SyncRun::toStatus);
+    }
+
+    /**
+     * 마지막으로 끝난 전체 동기화 (관리자 전용)
+     */
+    public Optional<SyncRunStatus> getLastRun() {
+        if (!isAdmin()) {
+            throw new RuntimeException("권한이 없습니다.");
+        }
+        return Optional.ofNullable(lastRun).map(SyncRun::toStatus);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        coordinator.shutdownNow();
+    }
+
+    private SyncRun claim() {
+        SyncRun run = new SyncRun();
+        if (!currentRun.compareAndSet(null, run)) {
+            throw new IllegalStateException("이미 전체 동기화가 진행 중입니다.");
+        }
+        return run;
+    }
+
+    private void execute(SyncRun run) {
+        Map<String, ExecutorService> pools = new HashMap<>();
+        try {
+            List<BankAccount> accounts = bankAccountRepository.findByIsActiveTrue().stream()
+                    .filter(account -> maxConcurrency(account.getConnectionType()) > 0)
+                    .filter(account -> account.getAccessToken() != null)
+                    .toList();
+            run.total.set(accounts.size());
+            log.info("전체 동기화 시작: runId={}, accounts={}", run.runId, accounts.size());
+
+            LocalDateTime now = LocalDateTime.now();
+            List<Future<?>> futures = new ArrayList<>(accounts.size());
+            for (BankAccount account : accounts) {
+                if (account.getTokenExpiresAt() != null && !account.getTokenExpiresAt().isAfter(now)) {
+                    run.skipped(account, "토큰이 만료되었습니다.");
+                    continue;
+                }
+                ExecutorService pool = pools.computeIfAbsent(account.getConnectionType(),
+                        type -> Executors.newFixedThreadPool(maxConcurrency(type),
+                                new CustomizableThreadFactory("sync-" + type.toLowerCase() + "-")));
+                futures.add(pool.submit(() -> syncOne(run, account)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("전체 동기화가 중단되었습니다: runId={}", run.runId);
+        } catch (ExecutionException e) {
+            log.error("전체 동기화 작업 오류: runId={}", run.runId, e.getCause());
+        } catch (Exception e) {
+            log.error("전체 동기화 실패: runId={}", run.runId, e);
+        } finally {
+            pools.values().forEach(ExecutorService::shutdownNow);
+            run.finishedAt = LocalDateTime.now();
+            lastRun = run;
+            currentRun.set(null);
+            log.info("전체 동기화 완료: runId={}, total={}, succeeded={}, failed={}, skippedAccounts={}, inserted={}",
+                    run.runId, run.total.get(), run.succeeded.get(), run.failed.get(), run.skippedAccounts.get(),
+                    run.inserted.get());
+        }
+    }
+
+    private void syncOne(SyncRun run, BankAccount account) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            SyncResult result = OPENBANKING.equals(account.getConnectionType())
+                    ? openBankingService.syncAccount(account)
+                    : cardApiService.syncAccount(account);
+            run.succeeded(account, result, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.warn("계좌 동기화 실패: runId={}, accountId={}, error={}", run.runId, account.getId(), e.getMessage());
+            run.failed(account, e, System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    private int maxConcurrency(String connectionType) {
+        if (OPENBANKING.equals(connectionType)) {
+            return Math.max(1, openBankingConcurrency);
+        }
+        if (CARD_API.equals(connectionType)) {
+            return Math.max(1, cardApiConcurrency);
+        }
+        return 0; // MANUAL 등 동기화 대상 아님
+    }
+
+    /**
+     * 실행 중 갱신되는 카운터 - 조회 시 SyncRunStatus로 복사
+     */
+    private static final class SyncRun {
+        private final String runId = UUID.randomUUID().toString();
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private volatile LocalDateTime finishedAt;
+        private final AtomicInteger total = new AtomicInteger();
+        private final AtomicInteger succeeded = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger skippedAccounts = new AtomicInteger();
+        private final AtomicLong fetched = new AtomicLong();
+        private final AtomicLong inserted = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final ConcurrentLinkedQueue<SyncRunStatus.AccountOutcome> outcomes = new ConcurrentLinkedQueue<>();
+
+        void succeeded(BankAccount account, SyncResult result, long elapsedMs) {
+            fetched.addAndGet(result.getFetched());
+            inserted.addAndGet(result.getInserted());
+            skipped.addAndGet(result.getSkipped());
+            outcomes.add(new SyncRunStatus.AccountOutcome(account.getId(), account.getConnectionType(), "SUCCESS",
+                    result.getFetched(), result.getInserted(), result.getSkipped(), null, elapsedMs));
+            succeeded.incrementAndGet();
+        }
+
+        void failed(BankAccount account, Exception error, long elapsedMs) {
+            outcomes.add(new SyncRunStatus.AccountOutcome(account.getId(), account.getConnectionType(), "FAILED",
+                    0, 0, 0, error.getMessage(), elapsedMs));
+            failed.incrementAndGet();
+        }
+
+        void skipped(BankAccount account, String reason) {
+            outcomes.add(new SyncRunStatus.AccountOutcome(account.getId(), account.getConnectionType(), "SKIPPED",
+                    0, 0, 0, reason, 0));
+            skippedAccounts.incrementAndGet();
+        }
+
+        SyncRunStatus toStatus() {
+            int succeededCount = succeeded.get();
+            int failedCount = failed.get();
+            int skippedCount = skippedAccounts.get();
+            return new SyncRunStatus(runId, finishedAt == null ? "RUNNING" : "COMPLETED", startedAt, finishedAt,
+                    total.get(), succeededCount + failedCount + skippedCount, succeededCount, failedCount,
+                    skippedCount, fetched.get(), inserted.get(), skipped.get(), List.copyOf(outcomes));
+        }
+    }
+}
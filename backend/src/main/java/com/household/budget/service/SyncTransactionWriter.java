@@ -0,0 +1,149 @@
+package com.household.budget.service;
+
+import com.household.budget.domain.events.TransactionBatchChangedEvent;
+import com.household.budget.dto.SyncResult;
+import com.household.budget.entity.Transaction;
+import com.household.budget.repository.TransactionRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 동기화 거래 저장 (대량 쓰기 경로)
+ * 한 페이지의 외부 거래 ID를 모아 IN 조회 한 번으로 기존 거래를 걸러내고 새 거래만 저장
+ * 동시 동기화로 유니크 키(user_id, external_transaction_id)가 충돌하면 새 트랜잭션에서 다시 걸러 저장
+ * INSERT는 hibernate.jdbc.batch_size 단위 JDBC 배치로 나가고, 집계 갱신은 청크당 키마다 한 번
+ */
+@Slf4j
+@Component
+public class SyncTransactionWriter {
+    static final int MAX_ATTEMPTS = 3;
+    static final int IN_CHUNK_SIZE = 1000;
+    static final int WRITE_CHUNK_SIZE = 1000;
+
+    private final TransactionRepository transactionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public SyncTransactionWriter(TransactionRepository transactionRepository,
+                                 ApplicationEventPublisher eventPublisher,
+                                 EntityManager entityManager,
+                                 PlatformTransactionManager transactionManager) {
+        this.transactionRepository = transactionRepository;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 새 거래만 저장 - WRITE_CHUNK_SIZE 건씩 나누어 청크마다 별도 트랜잭션
+     * 이미 커밋된 청크는 재시도/실패와 무관하게 유지됨 (다음 동기화에서 중복으로 걸러짐)
+     */
+    public SyncResult write(Long userId, List<Transaction> fetched) {
+        return write(userId, fetched, null);
+    }
+
+    /**
+     * 새 거래 저장 후 마지막 청크의 트랜잭션 안에서 lastChunkAction 실행 (예: 동기화 워터마크 이동)
+     * 저장할 거래가 없어도 lastChunkAction은 한 번 실행되며, 중간에 실패하면 실행되지 않음
+     */
+    public SyncResult write(Long userId, List<Transaction> fetched, Runnable lastChunkAction) {
+        SyncResult total = new SyncResult(0, 0, 0);
+        if (fetched.isEmpty() && lastChunkAction == null) {
+            return total;
+        }
+        int from = 0;
+        do {
+            int to = Math.min(from + WRITE_CHUNK_SIZE, fetched.size());
+            SyncResult result = writeChunk(userId, fetched.subList(from, to),
+                    to == fetched.size() ? lastChunkAction : null);
+            total.setFetched(total.getFetched() + result.getFetched());
+            total.setInserted(total.getInserted() + result.getInserted());
+            total.setSkipped(total.getSkipped() + result.getSkipped());
+            from = to;
+        } while (from < fetched.size());
+        return total;
+    }
+
+    // 시도마다 별도 트랜잭션 (충돌한 트랜잭션은 통째로 롤백되므로)
+    private SyncResult writeChunk(Long userId, List<Transaction> chunk, Runnable chunkAction) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    SyncResult result = insertNew(userId, chunk);
+                    if (chunkAction != null) {
+                        chunkAction.run();
+                    }
+                    return result;
+                });
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("동시 동기화로 중복 거래 충돌, 다시 시도합니다: userId={}, attempt={}", userId, attempt);
+            }
+        }
+    }
+
+    private SyncResult insertNew(Long userId, List<Transaction> fetched) {
+        // 페이지 안의 중복 외부 ID는 첫 건만 사용
+        Map<String, Transaction> byExternalId = new LinkedHashMap<>();
+        List<Transaction> toInsert = new ArrayList<>();
+        for (Transaction transaction : fetched) {
+            String externalId = transaction.getExternalTransactionId();
+            if (externalId == null) {
+                toInsert.add(transaction);
+            } else {
+                byExternalId.putIfAbsent(externalId, transaction);
+            }
+        }
+
+        Set<String> existing = findExistingExternalIds(userId, byExternalId.keySet());
+        byExternalId.forEach((externalId, transaction) -> {
+            if (!existing.contains(externalId)) {
+                toInsert.add(transaction);
+            }
+        });
+
+        // 이전 시도에서 롤백된 ID가 남아 있으면 병합(merge)으로 처리되므로 초기화
+        toInsert.forEach(transaction -> transaction.setId(null));
+        List<Transaction> saved = transactionRepository.saveAll(toInsert);
+        // 유니크 키 위반을 커밋 전에 드러내기 위해 즉시 flush
+        transactionRepository.flush();
+        if (!saved.isEmpty()) {
+            eventPublisher.publishEvent(new TransactionBatchChangedEvent(
+                    saved.stream().map(TransactionEvents::added).collect(Collectors.toList())));
+        }
+        // 요청 범위 영속성 컨텍스트(open-in-view)에 청크가 쌓이지 않도록 비움
+        entityManager.flush();
+        entityManager.clear();
+
+        return new SyncResult(fetched.size(), saved.size(), fetched.size() - saved.size());
+    }
+
+    private Set<String> findExistingExternalIds(Long userId, Collection<String> externalIds) {
+        Set<String> existing = new HashSet<>();
+        List<String> ids = new ArrayList<>(externalIds);
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size()));
+            existing.addAll(transactionRepository.findExistingExternalIds(userId, chunk));
+        }
+        return existing;
+    }
+}
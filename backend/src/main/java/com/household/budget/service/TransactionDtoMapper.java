@@ -0,0 +1,36 @@
+package com.household.budget.service;
+
+import com.household.budget.dto.TransactionDto;
+import com.household.budget.entity.Transaction;
+
+/**
+ * 레거시 Transaction 엔티티 -> 응답 DTO 변환 (카테고리/세션 이름 포함)
+ * 상태가 없으므로 정적 메서드로 제공
+ */
+public final class TransactionDtoMapper {
+
+    private TransactionDtoMapper() {
+    }
+
+    public static TransactionDto toDto(Transaction transaction) {
+        TransactionDto dto = new TransactionDto();
+        dto.setId(transaction.getId());
+        dto.setType(transaction.getType());
+        dto.setAmount(transaction.getAmount());
+        dto.setDescription(transaction.getDescription());
+        dto.setTransactionDate(transaction.getTransactionDate());
+        dto.setCreatedAt(transaction.getCreatedAt());
+
+        if (transaction.getCategory() != null) {
+            dto.setCategoryId(transaction.getCategory().getId());
+            dto.setCategoryName(transaction.getCategory().getName());
+        }
+
+        if (transaction.getSession() != null) {
+            dto.setSessionId(transaction.getSession().getId());
+            dto.setSessionName(transaction.getSession().getName());
+        }
+
+        return dto;
+    }
+}
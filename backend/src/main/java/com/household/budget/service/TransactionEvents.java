@@ -0,0 +1,34 @@
+package com.household.budget.service;
+
+import com.household.budget.domain.events.TransactionChangedEvent;
+import com.household.budget.domain.events.TransactionChangedEvent.Change;
+import com.household.budget.entity.Transaction;
+
+/**
+ * JPA 엔티티(entity.Transaction)에서 도메인 이벤트 생성
+ * MVC 계층 서비스와 동기화 서비스가 공통으로 사용
+ */
+final class TransactionEvents {
+    private TransactionEvents() {
+    }
+
+    static TransactionChangedEvent added(Transaction transaction) {
+        return of(Change.ADDED, transaction);
+    }
+
+    static TransactionChangedEvent removed(Transaction transaction) {
+        return of(Change.REMOVED, transaction);
+    }
+
+    private static TransactionChangedEvent of(Change change, Transaction transaction) {
+        return new TransactionChangedEvent(
+                change,
+                transaction.getId(),
+                transaction.getUser() != null ? transaction.getUser().getId() : null,
+                transaction.getSession() != null ? transaction.getSession().getId() : null,
+                transaction.getCategory() != null ? transaction.getCategory().getId() : null,
+                transaction.getType(),
+                transaction.getAmount(),
+                transaction.getTransactionDate());
+    }
+}
@@ -1,22 +1,22 @@
 package com.household.budget.service;
 
 import com.household.budget.config.UserContext;
+import com.household.budget.domain.events.TransactionChangedEvent;
+import com.household.budget.domain.repositories.LedgerBalanceRepository;
 import com.household.budget.dto.TransactionDto;
-import com.household.budget.entity.Category;
 import com.household.budget.entity.Transaction;
 import com.household.budget.entity.User;
 import com.household.budget.model.TransactionModel;
-import com.household.budget.repository.CategoryRepository;
 import com.household.budget.repository.TransactionRepository;
 import com.household.budget.repository.BudgetSessionRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * MVC 패턴 - Service 계층
@@ -26,74 +26,53 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TransactionService {
     private final TransactionRepository transactionRepository;
-    private final CategoryRepository categoryRepository;
+    private final CategoryService categoryService;
     private final BudgetSessionRepository sessionRepository;
     private final AuthService authService;
+    private final LedgerBalanceRepository ledgerBalanceRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     private Long getCurrentUserId() {
-        String email = UserContext.getCurrentUserEmail();
-        if (email == null) {
-            throw new RuntimeException("인증이 필요합니다.");
-        }
-        return authService.getUserByEmail(email).getId();
+        return UserContext.requireUserId(authService::getUserByEmail);
     }
 
     private boolean isAdmin() {
-        String email = UserContext.getCurrentUserEmail();
-        if (email == null) {
-            return false;
-        }
-        try {
-            var user = authService.getUserByEmail(email);
-            return "ADMIN".equals(user.getRole());
-        } catch (Exception e) {
-            return false;
-        }
+        return UserContext.isAdmin(authService::getUserByEmail);
     }
 
+    /**
+     * 목록 조회는 DTO 프로젝션으로 필요한 컬럼만 읽음 (엔티티/스냅샷 없음, 카테고리/세션 추가 조회 없음)
+     */
+    @Transactional(readOnly = true)
     public List<TransactionDto> getAllTransactions() {
         if (isAdmin()) {
             // Admin은 모든 거래 내역 조회 가능
-            return transactionRepository.findAll().stream()
-                    .map(this::toDto)
-                    .collect(Collectors.toList());
+            return transactionRepository.findAllDtos();
         }
         Long userId = getCurrentUserId();
-        return transactionRepository.findByUserId(userId).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return transactionRepository.findDtosByUserId(userId);
     }
 
+    @Transactional(readOnly = true)
     public List<TransactionDto> getTransactionsByType(String type) {
         if (isAdmin()) {
             // Admin은 모든 거래 내역 조회 가능
-            return transactionRepository.findAll().stream()
-                    .filter(t -> t.getType().equals(type))
-                    .sorted((a, b) -> b.getTransactionDate().compareTo(a.getTransactionDate()))
-                    .map(this::toDto)
-                    .collect(Collectors.toList());
+            return transactionRepository.findAllDtosByType(type);
         }
         Long userId = getCurrentUserId();
-        return transactionRepository.findByUserIdAndTypeOrderByTransactionDateDesc(userId, type).stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return transactionRepository.findDtosByUserIdAndType(userId, type);
     }
 
+    @Transactional(readOnly = true)
     public List<TransactionDto> getTransactionsBySession(Long sessionId) {
         Long userId = getCurrentUserId();
         if (isAdmin()) {
-            return transactionRepository.findAll().stream()
-                    .filter(t -> t.getSession() != null && t.getSession().getId().equals(sessionId))
-                    .sorted((a, b) -> b.getTransactionDate().compareTo(a.getTransactionDate()))
-                    .map(this::toDto)
-                    .collect(Collectors.toList());
+            return transactionRepository.findAllDtosBySessionId(sessionId);
         }
-        return transactionRepository.findByUserIdAndSessionId(userId, sessionId).stream()
-                .sorted((a, b) -> b.getTransactionDate().compareTo(a.getTransactionDate()))
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return transactionRepository.findDtosByUserIdAndSessionId(userId, sessionId);
     }
 
+    @Transactional(readOnly = true)
     public TransactionDto getTransactionById(Long id) {
         Transaction transaction = transactionRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("거래를 찾을 수 없습니다: " + id));
@@ -105,7 +84,7 @@ public class TransactionService {
             }
         }
         
-        return toDto(transaction);
+        return TransactionDtoMapper.toDto(transaction);
     }
 
     /**
@@ -132,9 +111,7 @@ public class TransactionService {
         transaction.setUser(user);
 
         if (model.getCategoryId() != null) {
-            Category category = categoryRepository.findById(model.getCategoryId())
-                    .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다: " + model.getCategoryId()));
-            transaction.setCategory(category);
+            transaction.setCategory(categoryService.getCategoryById(model.getCategoryId()));
         }
 
         if (model.getSessionId() != null) {
@@ -143,7 +120,9 @@ public class TransactionService {
             transaction.setSession(session);
         }
 
-        return toDto(transactionRepository.save(transaction));
+        Transaction saved = transactionRepository.save(transaction);
+        eventPublisher.publishEvent(TransactionEvents.added(saved));
+        return TransactionDtoMapper.toDto(saved);
     }
 
     /**
@@ -174,15 +153,16 @@ public class TransactionService {
             }
         }
 
+        // 변경 전 값으로 원장 차감 이벤트 준비
+        TransactionChangedEvent before = TransactionEvents.removed(transaction);
+
         transaction.setType(transactionDto.getType());
         transaction.setAmount(transactionDto.getAmount());
         transaction.setDescription(transactionDto.getDescription());
         transaction.setTransactionDate(transactionDto.getTransactionDate());
 
         if (transactionDto.getCategoryId() != null) {
-            Category category = categoryRepository.findById(transactionDto.getCategoryId())
-                    .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다: " + transactionDto.getCategoryId()));
-            transaction.setCategory(category);
+            transaction.setCategory(categoryService.getCategoryById(transactionDto.getCategoryId()));
         }
 
         if (transactionDto.getSessionId() != null) {
@@ -191,7 +171,10 @@ public class TransactionService {
             transaction.setSession(session);
         }
 
-        return toDto(transactionRepository.save(transaction));
+        Transaction saved = transactionRepository.save(transaction);
+        eventPublisher.publishEvent(before);
+        eventPublisher.publishEvent(TransactionEvents.added(saved));
+        return TransactionDtoMapper.toDto(saved);
     }
 
     @Transactional
@@ -207,59 +190,30 @@ public class TransactionService {
         }
         
         transactionRepository.deleteById(id);
+        eventPublisher.publishEvent(TransactionEvents.removed(transaction));
     }
 
+    @Transactional(readOnly = true)
     public BigDecimal getTotalIncome() {
         if (isAdmin()) {
             // Admin은 모든 사용자의 총 수입 합계
-            BigDecimal total = transactionRepository.findAll().stream()
-                    .filter(t -> "INCOME".equals(t.getType()))
-                    .map(Transaction::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            return total;
+            return ledgerBalanceRepository.summarizeAll().getTotalIncome();
         }
         Long userId = getCurrentUserId();
-        BigDecimal total = transactionRepository.getTotalByUserIdAndType(userId, "INCOME");
-        return total != null ? total : BigDecimal.ZERO;
+        return ledgerBalanceRepository.summarizeByUserId(userId).getTotalIncome();
     }
 
+    @Transactional(readOnly = true)
     public BigDecimal getTotalExpense() {
         if (isAdmin()) {
             // Admin은 모든 사용자의 총 지출 합계
-            BigDecimal total = transactionRepository.findAll().stream()
-                    .filter(t -> "EXPENSE".equals(t.getType()))
-                    .map(Transaction::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            return total;
+            return ledgerBalanceRepository.summarizeAll().getTotalExpense();
         }
         Long userId = getCurrentUserId();
-        BigDecimal total = transactionRepository.getTotalByUserIdAndType(userId, "EXPENSE");
-        return total != null ? total : BigDecimal.ZERO;
+        return ledgerBalanceRepository.summarizeByUserId(userId).getTotalExpense();
     }
 
     public BigDecimal getBalance() {
         return getTotalIncome().subtract(getTotalExpense());
     }
-
-    private TransactionDto toDto(Transaction transaction) {
-        TransactionDto dto = new TransactionDto();
-        dto.setId(transaction.getId());
-        dto.setType(transaction.getType());
-        dto.setAmount(transaction.getAmount());
-        dto.setDescription(transaction.getDescription());
-        dto.setTransactionDate(transaction.getTransactionDate());
-        dto.setCreatedAt(transaction.getCreatedAt());
-        
-        if (transaction.getCategory() != null) {
-            dto.setCategoryId(transaction.getCategory().getId());
-            dto.setCategoryName(transaction.getCategory().getName());
-        }
-        
-        if (transaction.getSession() != null) {
-            dto.setSessionId(transaction.getSession().getId());
-            dto.setSessionName(transaction.getSession().getName());
-        }
-        
-        return dto;
-    }
 }
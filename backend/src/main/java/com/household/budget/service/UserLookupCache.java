@@ -0,0 +1,114 @@
+package com.household.budget.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.household.budget.dto.CacheStatistics;
+import com.household.budget.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 사용자 조회 캐시 (ID, 이메일 두 가지 키)
+ * 크기와 TTL로 제한하며, 영속성 컨텍스트의 엔티티가 아닌 복사본을 보관하고 조회마다 다시 복사하여 반환
+ * 없는 사용자는 캐시하지 않음
+ */
+@Component
+public class UserLookupCache {
+    private final Cache<Long, User> byId;
+    private final Cache<String, User> byEmail;
+
+    public UserLookupCache(@Value("${auth.user-cache.max-size:10000}") long maxSize,
+                           @Value("${auth.user-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.byId = newCache(maxSize, ttlSeconds);
+        this.byEmail = newCache(maxSize, ttlSeconds);
+    }
+
+    public User getById(Long id, Function<Long, User> loader) {
+        User user = byId.get(id, key -> copy(loader.apply(key)));
+        if (user != null) {
+            byEmail.put(user.getEmail(), user);
+        }
+        return copy(user);
+    }
+
+    public User getByEmail(String email, Function<String, User> loader) {
+        User user = byEmail.get(email, key -> copy(loader.apply(key)));
+        if (user != null) {
+            byId.put(user.getId(), user);
+        }
+        return copy(user);
+    }
+
+    /**
+     * 저장된 사용자로 캐시 갱신 (트랜잭션 밖에서 이미 커밋된 변경)
+     */
+    public void put(User user) {
+        User snapshot = copy(user);
+        byId.put(snapshot.getId(), snapshot);
+        byEmail.put(snapshot.getEmail(), snapshot);
+    }
+
+    /**
+     * 사용자 캐시 무효화 - 트랜잭션 안이면 커밋 후에 한 번 더 지워서
+     * 커밋 전에 다른 요청이 읽어 넣은 이전 값이 남지 않도록 함
+     */
+    public void evict(User user) {
+        evictNow(user.getId(), user.getEmail());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            Long id = user.getId();
+            String email = user.getEmail();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(id, email);
+                }
+            });
+        }
+    }
+
+    public Map<String, CacheStatistics> stats() {
+        Map<String, CacheStatistics> stats = new LinkedHashMap<>();
+        stats.put("users.byId", toStatistics(byId));
+        stats.put("users.byEmail", toStatistics(byEmail));
+        return stats;
+    }
+
+    private void evictNow(Long id, String email) {
+        if (id != null) {
+            byId.invalidate(id);
+        }
+        if (email != null) {
+            byEmail.invalidate(email);
+        }
+    }
+
+    private static <K> Cache<K, User> newCache(long maxSize, long ttlSeconds) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    private static CacheStatistics toStatistics(Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return new CacheStatistics(cache.estimatedSize(), stats.hitCount(), stats.missCount(), stats.hitRate(),
+                stats.evictionCount());
+    }
+
+    private static User copy(User user) {
+        if (user == null) {
+            return null;
+        }
+        return new User(user.getId(), user.getEmail(), user.getPassword(), user.getName(), user.getRole(),
+                user.getCreatedAt(), user.getLastLoginAt());
+    }
+}
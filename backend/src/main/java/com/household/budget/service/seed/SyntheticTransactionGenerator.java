@@ -0,0 +1,144 @@
+package com.household.budget.service.seed;
+
+import com.household.budget.entity.BankAccount;
+import com.household.budget.entity.BudgetSession;
+import com.household.budget.entity.Category;
+import com.household.budget.entity.Transaction;
+import com.household.budget.entity.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 측정용 합성 거래 생성 (같은 난수 시드면 항상 같은 결과)
+ * - 수입: 매월 25일 급여 + 가끔 부수입/투자수익/기타수입
+ * - 지출: 카테고리별 비중과 기준 금액에 로그정규 변동, 월별 계절 가중 (연말/연초, 여름 휴가철, 추석)
+ * - 지출의 70%는 카드, 나머지와 수입은 입출금 계좌 / 여름 휴가철 문화생활·교통비 절반은 두 번째 세션(여행)
+ * externalTransactionId는 "SEED-사용자ID-순번"이라 다시 실행해도 SyncTransactionWriter에서 중복으로 걸러짐
+ *
+ * 카테고리는 DataInitializer의 기본 카테고리 이름으로 찾으며 없는 카테고리의 거래는 미분류로 생성
+ */
+public final class SyntheticTransactionGenerator {
+    public static final String SYNC_SOURCE = "SEED";
+
+    // 1월 ~ 12월 지출 금액 가중치
+    private static final double[] SEASONAL = {1.15, 0.95, 1.0, 1.0, 1.05, 1.0, 1.1, 1.2, 1.0, 1.1, 1.0, 1.3};
+    private static final double OTHER_INCOME_RATIO = 0.05;
+    private static final double CARD_RATIO = 0.7;
+
+    private static final List<Profile> EXPENSES = List.of(
+            new Profile("식비", 35, 12_000, 0.6, "편의점", "김밥천국", "스타벅스", "배달의민족", "이마트", "동네 빵집"),
+            new Profile("교통비", 18, 4_500, 0.8, "지하철", "버스", "택시", "주유소", "KTX"),
+            new Profile("쇼핑", 12, 45_000, 0.9, "쿠팡", "무신사", "다이소", "올리브영"),
+            new Profile("문화생활", 9, 25_000, 0.7, "CGV", "넷플릭스", "교보문고", "공연 예매"),
+            new Profile("의료비", 5, 18_000, 0.8, "내과", "약국", "치과"),
+            new Profile("교육비", 4, 120_000, 0.5, "학원비", "온라인 강의", "도서 구입"),
+            new Profile("주거비", 6, 250_000, 0.4, "관리비", "전기요금", "도시가스", "인터넷 요금"),
+            new Profile("기타지출", 11, 20_000, 1.0, "경조사비", "기부", "수수료"));
+    private static final List<Profile> OTHER_INCOMES = List.of(
+            new Profile("부수입", 50, 150_000, 0.6, "중고거래", "아르바이트", "용돈"),
+            new Profile("투자수익", 30, 80_000, 0.9, "배당금", "예금 이자"),
+            new Profile("기타수입", 20, 50_000, 0.8, "환급금", "캐시백"));
+    private static final String SALARY = "급여";
+    private static final double SALARY_BASE = 3_200_000;
+
+    private final Map<String, Category> categoriesByName = new HashMap<>();
+    private final int expenseWeightTotal = EXPENSES.stream().mapToInt(Profile::weight).sum();
+    private final int otherIncomeWeightTotal = OTHER_INCOMES.stream().mapToInt(Profile::weight).sum();
+
+    public SyntheticTransactionGenerator(List<Category> categories) {
+        for (Category category : categories) {
+            categoriesByName.putIfAbsent(category.getName(), category);
+        }
+    }
+
+    /**
+     * 사용자 한 명의 거래 count건 - end까지 최근 months개월에 흩어짐
+     * sessions의 첫 번째는 기본(생활비) 세션, 두 번째가 있으면 여행 세션으로 사용
+     */
+    public List<Transaction> generate(User user, List<BudgetSession> sessions, BankAccount checking,
+                                      BankAccount card, int count, LocalDate end, int months,
+                                      SplittableRandom random) {
+        LocalDate start = end.minusMonths(months).plusDays(1);
+        int days = (int) ChronoUnit.DAYS.between(start, end) + 1;
+        // 사람마다 소득/소비 수준이 다르도록 사용자별 배율
+        double userScale = 0.6 + random.nextDouble() * 0.9;
+        List<Transaction> transactions = new ArrayList<>(count);
+
+        LocalDate payday = start.withDayOfMonth(Math.min(25, start.lengthOfMonth()));
+        if (payday.isBefore(start)) {
+            payday = payday.plusMonths(1);
+        }
+        for (; !payday.isAfter(end) && transactions.size() < count; payday = payday.plusMonths(1)) {
+            long amount = roundTo(SALARY_BASE * userScale * (payday.getMonthValue() == 1 ? 1.5 : 1.0), 10_000);
+            transactions.add(transaction(user, "INCOME", SALARY, amount, "급여 입금",
+                    payday.atTime(9, 0), sessions.get(0), checking, transactions.size()));
+        }
+
+        while (transactions.size() < count) {
+            LocalDateTime date = start.plusDays(random.nextInt(days))
+                    .atTime(8 + random.nextInt(15), random.nextInt(60));
+            boolean income = random.nextDouble() < OTHER_INCOME_RATIO;
+            Profile profile = income
+                    ? pick(OTHER_INCOMES, otherIncomeWeightTotal, random)
+                    : pick(EXPENSES, expenseWeightTotal, random);
+            double seasonal = income ? 1.0 : SEASONAL[date.getMonthValue() - 1];
+            long amount = Math.max(1_000, roundTo(profile.baseAmount() * userScale * seasonal
+                    * Math.exp(profile.sigma() * random.nextGaussian()), 100));
+            String description = profile.merchants()[random.nextInt(profile.merchants().length)];
+
+            BudgetSession session = sessions.get(0);
+            boolean vacation = date.getMonthValue() == 7 || date.getMonthValue() == 8;
+            if (!income && vacation && sessions.size() > 1
+                    && (profile.category().equals("문화생활") || profile.category().equals("교통비"))
+                    && random.nextBoolean()) {
+                session = sessions.get(1);
+            }
+            BankAccount account = !income && random.nextDouble() < CARD_RATIO ? card : checking;
+            transactions.add(transaction(user, income ? "INCOME" : "EXPENSE", profile.category(), amount,
+                    description, date, session, account, transactions.size()));
+        }
+        return transactions;
+    }
+
+    private Transaction transaction(User user, String type, String categoryName, long amount, String description,
+                                    LocalDateTime date, BudgetSession session, BankAccount account, int sequence) {
+        Transaction transaction = new Transaction();
+        transaction.setUser(user);
+        transaction.setType(type);
+        transaction.setAmount(BigDecimal.valueOf(amount));
+        transaction.setDescription(description);
+        transaction.setCategory(categoriesByName.get(categoryName));
+        transaction.setSession(session);
+        transaction.setBankAccount(account);
+        transaction.setTransactionDate(date);
+        transaction.setExternalTransactionId("SEED-" + user.getId() + "-" + sequence);
+        transaction.setSyncSource(SYNC_SOURCE);
+        return transaction;
+    }
+
+    private static Profile pick(List<Profile> profiles, int weightTotal, SplittableRandom random) {
+        int value = random.nextInt(weightTotal);
+        for (Profile profile : profiles) {
+            value -= profile.weight();
+            if (value < 0) {
+                return profile;
+            }
+        }
+        return profiles.get(profiles.size() - 1);
+    }
+
+    private static long roundTo(double amount, long unit) {
+        return Math.round(amount / unit) * unit;
+    }
+
+    private record Profile(String category, int weight, double baseAmount, double sigma, String... merchants) {
+    }
+}
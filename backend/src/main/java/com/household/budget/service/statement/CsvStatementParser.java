@@ -0,0 +1,179 @@
+package com.household.budget.service.statement;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * CSV 명세서 - 첫 행은 헤더이며 열 이름으로 날짜/금액/내용/카테고리/구분 열을 찾음
+ * 금액은 부호 있는 한 열(금액) 또는 입금/출금 두 열 중 하나
+ * 이 서비스의 내보내기(CSV) 파일도 그대로 가져올 수 있음 (수식 방지용 ' 접두어 제거)
+ */
+final class CsvStatementParser implements StatementParser {
+    // 닫히지 않은 따옴표 등으로 파일 끝까지 한 필드로 읽지 않도록 제한
+    static final int MAX_RECORD_CHARS = 64 * 1024;
+
+    private static final Set<String> DATE = Set.of("date", "transactiondate", "날짜", "거래일", "거래일자", "거래일시");
+    private static final Set<String> AMOUNT = Set.of("amount", "금액", "거래금액");
+    private static final Set<String> DEPOSIT = Set.of("deposit", "credit", "입금", "입금액", "맡기신금액");
+    private static final Set<String> WITHDRAWAL = Set.of("withdrawal", "debit", "출금", "출금액", "찾으신금액");
+    private static final Set<String> DESCRIPTION = Set.of("description", "memo", "payee", "내용", "적요", "거래내용", "메모");
+    private static final Set<String> CATEGORY = Set.of("category", "categoryname", "카테고리", "분류");
+    private static final Set<String> TYPE = Set.of("type", "구분", "거래구분");
+    private static final Set<String> REFERENCE = Set.of("reference", "fitid", "거래번호");
+
+    @Override
+    public void parse(BufferedReader reader, Handler handler) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            return;
+        }
+        Columns columns = Columns.of(header);
+
+        List<String> fields;
+        while ((fields = csv.next()) != null) {
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            StatementRow row;
+            try {
+                row = columns.toRow(csv.recordLine(), fields);
+            } catch (IllegalArgumentException e) {
+                handler.error(csv.recordLine(), e.getMessage());
+                continue;
+            }
+            handler.row(row);
+        }
+    }
+
+    private record Columns(int date, int amount, int deposit, int withdrawal,
+                           int description, int category, int type, int reference) {
+
+        static Columns of(List<String> header) {
+            int date = -1, amount = -1, deposit = -1, withdrawal = -1;
+            int description = -1, category = -1, type = -1, reference = -1;
+            for (int i = 0; i < header.size(); i++) {
+                String name = header.get(i).strip().replace(" ", "").toLowerCase(Locale.ROOT);
+                if (date < 0 && DATE.contains(name)) date = i;
+                else if (amount < 0 && AMOUNT.contains(name)) amount = i;
+                else if (deposit < 0 && DEPOSIT.contains(name)) deposit = i;
+                else if (withdrawal < 0 && WITHDRAWAL.contains(name)) withdrawal = i;
+                else if (description < 0 && DESCRIPTION.contains(name)) description = i;
+                else if (category < 0 && CATEGORY.contains(name)) category = i;
+                else if (type < 0 && TYPE.contains(name)) type = i;
+                else if (reference < 0 && REFERENCE.contains(name)) reference = i;
+            }
+            if (date < 0 || (amount < 0 && deposit < 0 && withdrawal < 0)) {
+                throw new IllegalArgumentException("CSV 헤더에서 날짜/금액 열을 찾을 수 없습니다: " + String.join(",", header));
+            }
+            return new Columns(date, amount, deposit, withdrawal, description, category, type, reference);
+        }
+
+        StatementRow toRow(int line, List<String> fields) {
+            BigDecimal signedAmount;
+            if (amount >= 0) {
+                signedAmount = StatementValues.parseAmount(field(fields, amount));
+            } else {
+                String in = StatementValues.emptyToNull(field(fields, deposit));
+                String out = StatementValues.emptyToNull(field(fields, withdrawal));
+                signedAmount = (in != null ? StatementValues.parseAmount(in) : BigDecimal.ZERO)
+                        .subtract(out != null ? StatementValues.parseAmount(out) : BigDecimal.ZERO);
+            }
+            return new StatementRow(line,
+                    StatementValues.parseDate(field(fields, date)),
+                    signedAmount,
+                    StatementValues.parseType(field(fields, type)),
+                    StatementValues.emptyToNull(unescapeFormula(field(fields, description))),
+                    StatementValues.emptyToNull(unescapeFormula(field(fields, category))),
+                    StatementValues.emptyToNull(field(fields, reference)));
+        }
+
+        private static String field(List<String> fields, int index) {
+            return index >= 0 && index < fields.size() ? fields.get(index) : null;
+        }
+
+        // 내보내기에서 '=...' 처럼 수식 방지 접두어를 붙인 값은 원래대로
+        private static String unescapeFormula(String value) {
+            if (value != null && value.length() > 1 && value.charAt(0) == '\''
+                    && "=+-@".indexOf(value.charAt(1)) >= 0) {
+                return value.substring(1);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * RFC 4180 레코드 읽기 - 따옴표 안의 쉼표/줄바꿈/"" 처리, 파일 앞의 BOM 무시
+     */
+    static final class CsvReader {
+        private final BufferedReader reader;
+        private int line = 1;
+        private int recordLine;
+        private boolean started;
+
+        CsvReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        int recordLine() {
+            return recordLine;
+        }
+
+        List<String> next() throws IOException {
+            int c = reader.read();
+            if (!started) {
+                started = true;
+                if (c == '\uFEFF') {
+                    c = reader.read();
+                }
+            }
+            if (c == -1) {
+                return null;
+            }
+            recordLine = line;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            int length = 0;
+            boolean quoted = false;
+            while (c != -1) {
+                if (++length > MAX_RECORD_CHARS) {
+                    throw new IllegalArgumentException(recordLine + "행이 너무 깁니다. 닫히지 않은 따옴표가 있는지 확인해주세요.");
+                }
+                if (quoted) {
+                    if (c == '"') {
+                        int next = reader.read();
+                        if (next != '"') {
+                            quoted = false;
+                            c = next;
+                            continue;
+                        }
+                        field.append('"');
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.length() == 0) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    line++;
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
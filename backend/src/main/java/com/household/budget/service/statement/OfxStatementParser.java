@@ -0,0 +1,96 @@
+package com.household.budget.service.statement;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * OFX/QFX 명세서 - SGML(1.x, 닫는 태그 생략)과 XML(2.x) 모두 태그 단위로 읽음
+ * <STMTTRN> ... </STMTTRN> 하나가 거래 한 건이며 FITID는 계좌 번호(ACCTID)와 묶어 reference로 사용
+ */
+final class OfxStatementParser implements StatementParser {
+
+    @Override
+    public void parse(BufferedReader reader, Handler handler) throws IOException {
+        String account = null;
+        Map<String, String> fields = null;
+        int start = 0;
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            for (String segment : line.split("<")) {
+                int close = segment.indexOf('>');
+                if (close < 0) {
+                    continue;
+                }
+                String tag = segment.substring(0, close).strip().toUpperCase(Locale.ROOT);
+                String value = unescape(segment.substring(close + 1).strip());
+                if ("STMTTRN".equals(tag)) {
+                    fields = new HashMap<>();
+                    start = lineNumber;
+                } else if ("/STMTTRN".equals(tag)) {
+                    if (fields != null) {
+                        emit(start, fields, account, handler);
+                    }
+                    fields = null;
+                } else if ("ACCTID".equals(tag)) {
+                    account = value;
+                } else if (fields != null && !tag.startsWith("/") && !value.isEmpty()) {
+                    fields.put(tag, value);
+                }
+            }
+        }
+    }
+
+    private void emit(int line, Map<String, String> fields, String account, Handler handler) {
+        StatementRow row;
+        try {
+            String name = StatementValues.emptyToNull(fields.get("NAME"));
+            String memo = StatementValues.emptyToNull(fields.get("MEMO"));
+            String fitId = StatementValues.emptyToNull(fields.get("FITID"));
+            row = new StatementRow(line,
+                    parseDate(fields.get("DTPOSTED")),
+                    StatementValues.parseAmount(fields.get("TRNAMT")),
+                    null,
+                    name != null ? name : memo,
+                    null,
+                    fitId == null ? null : (account != null ? account + ":" + fitId : fitId));
+        } catch (IllegalArgumentException e) {
+            handler.error(line, e.getMessage());
+            return;
+        }
+        handler.row(row);
+    }
+
+    // yyyyMMdd[HHmmss[.XXX]][[+9:KST]] - 시간대 표기는 무시하고 현지 시각으로 사용
+    static LocalDateTime parseDate(String value) {
+        if (value == null || value.length() < 8) {
+            throw new IllegalArgumentException("DTPOSTED 형식을 알 수 없습니다: " + value);
+        }
+        try {
+            LocalDate date = LocalDate.parse(value.substring(0, 8), DateTimeFormatter.BASIC_ISO_DATE);
+            if (value.length() >= 14 && value.substring(8, 14).chars().allMatch(Character::isDigit)) {
+                return date.atTime(LocalTime.parse(value.substring(8, 14), DateTimeFormatter.ofPattern("HHmmss")));
+            }
+            return date.atStartOfDay();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("DTPOSTED 형식을 알 수 없습니다: " + value);
+        }
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('&') < 0) {
+            return value;
+        }
+        return value.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"")
+                .replace("&apos;", "'").replace("&nbsp;", " ").replace("&amp;", "&");
+    }
+}
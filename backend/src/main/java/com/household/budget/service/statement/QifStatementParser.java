@@ -0,0 +1,130 @@
+package com.household.budget.service.statement;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * QIF 명세서 - 한 줄에 필드 하나(첫 글자가 코드), ^ 줄이 거래 한 건의 끝
+ * D 날짜, T/U 금액, P 거래처, M 메모, L 카테고리([계좌]는 이체이므로 무시)
+ * !Type:Bank/Cash/CCard/Oth A/Oth L 아래의 거래만 읽고 카테고리 목록, 계좌 목록 등은 건너뜀
+ */
+final class QifStatementParser implements StatementParser {
+    private static final Set<String> TRANSACTION_TYPES = Set.of("bank", "cash", "ccard", "oth a", "oth l");
+
+    @Override
+    public void parse(BufferedReader reader, Handler handler) throws IOException {
+        boolean transactional = false;
+        Record record = null;
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+                line = line.substring(1);
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            char code = line.charAt(0);
+            String value = line.substring(1).strip();
+            if (code == '!') {
+                // !Type:Bank, !Account, !Option:AutoSwitch 등
+                transactional = value.regionMatches(true, 0, "Type:", 0, 5)
+                        && TRANSACTION_TYPES.contains(value.substring(5).strip().toLowerCase(Locale.ROOT));
+                record = null;
+                continue;
+            }
+            if (!transactional) {
+                continue;
+            }
+            if (code == '^') {
+                if (record != null) {
+                    emit(record, handler);
+                }
+                record = null;
+                continue;
+            }
+            if (record == null) {
+                record = new Record(lineNumber);
+            }
+            switch (code) {
+                case 'D' -> record.date = value;
+                case 'T', 'U' -> record.amount = value;
+                case 'P' -> record.payee = value;
+                case 'M' -> record.memo = value;
+                case 'L' -> record.category = value.startsWith("[") ? null : value;
+                default -> {
+                    // N (수표 번호), S/E/$ (분할 거래), C (확인 상태) 등은 사용하지 않음
+                }
+            }
+        }
+        if (record != null) {
+            emit(record, handler);
+        }
+    }
+
+    private void emit(Record record, Handler handler) {
+        StatementRow row;
+        try {
+            String payee = StatementValues.emptyToNull(record.payee);
+            String category = StatementValues.emptyToNull(record.category);
+            row = new StatementRow(record.line,
+                    parseDate(record.date),
+                    StatementValues.parseAmount(record.amount),
+                    null,
+                    payee != null ? payee : StatementValues.emptyToNull(record.memo),
+                    // 하위 카테고리(식비:외식)는 상위 이름으로 찾음
+                    category != null && category.indexOf(':') > 0 ? category.substring(0, category.indexOf(':')) : category,
+                    null);
+        } catch (IllegalArgumentException e) {
+            handler.error(record.line, e.getMessage());
+            return;
+        }
+        handler.row(row);
+    }
+
+    /**
+     * QIF 날짜 - 월/일/연도(M/d/yy, MM/dd/yyyy, M/d'yy) 또는 yyyy-MM-dd
+     * 두 자리 연도는 70 미만이면 2000년대
+     */
+    static LocalDateTime parseDate(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("날짜가 없습니다.");
+        }
+        String[] parts = value.strip().replace('\'', '/').replace(" ", "").split("[/.-]");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("날짜 형식을 알 수 없습니다: " + value);
+        }
+        try {
+            if (parts[0].length() == 4) {
+                return LocalDate.of(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]),
+                        Integer.parseInt(parts[2])).atStartOfDay();
+            }
+            int year = Integer.parseInt(parts[2]);
+            if (year < 100) {
+                year += year < 70 ? 2000 : 1900;
+            }
+            return LocalDate.of(year, Integer.parseInt(parts[0]), Integer.parseInt(parts[1])).atStartOfDay();
+        } catch (NumberFormatException | DateTimeException e) {
+            throw new IllegalArgumentException("날짜 형식을 알 수 없습니다: " + value);
+        }
+    }
+
+    private static final class Record {
+        private final int line;
+        private String date;
+        private String amount;
+        private String payee;
+        private String memo;
+        private String category;
+
+        Record(int line) {
+            this.line = line;
+        }
+    }
+}
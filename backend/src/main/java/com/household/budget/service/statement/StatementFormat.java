@@ -0,0 +1,43 @@
+package com.household.budget.service.statement;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * 가져오기 지원 형식
+ */
+public enum StatementFormat {
+    CSV(CsvStatementParser::new),
+    OFX(OfxStatementParser::new),
+    QIF(QifStatementParser::new);
+
+    private final Supplier<StatementParser> parserFactory;
+
+    StatementFormat(Supplier<StatementParser> parserFactory) {
+        this.parserFactory = parserFactory;
+    }
+
+    public StatementParser newParser() {
+        return parserFactory.get();
+    }
+
+    public static StatementFormat parse(String value) {
+        try {
+            return StatementFormat.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("지원하지 않는 형식입니다: " + value);
+        }
+    }
+
+    /**
+     * 파일 확장자로 형식 결정 (.qfx는 OFX와 같은 형식)
+     */
+    public static StatementFormat fromFilename(String filename) {
+        int dot = filename != null ? filename.lastIndexOf('.') : -1;
+        if (dot < 0) {
+            throw new IllegalArgumentException("파일 형식을 알 수 없습니다. format 파라미터를 지정해주세요.");
+        }
+        String extension = filename.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return "qfx".equals(extension) ? OFX : parse(extension);
+    }
+}
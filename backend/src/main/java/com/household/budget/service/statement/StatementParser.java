@@ -0,0 +1,19 @@
+package com.household.budget.service.statement;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * 명세서 파서 - 파일을 처음부터 한 번만 읽으며 거래를 하나씩 handler로 넘김 (전체를 메모리에 올리지 않음)
+ * 형식이 잘못된 거래는 handler.error로 알리고 계속 읽으며, 파일 자체를 읽을 수 없으면 예외
+ */
+public interface StatementParser {
+
+    void parse(BufferedReader reader, Handler handler) throws IOException;
+
+    interface Handler {
+        void row(StatementRow row);
+
+        void error(int line, String message);
+    }
+}
@@ -0,0 +1,18 @@
+package com.household.budget.service.statement;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 명세서 파일의 거래 한 건 (파싱 결과)
+ * amount는 부호 있는 금액 (type이 없으면 양수 = 수입, 음수 = 지출)
+ * reference는 은행이 준 거래 고유 ID (OFX FITID 등, 없으면 null)
+ */
+public record StatementRow(int line,
+                           LocalDateTime transactionDate,
+                           BigDecimal amount,
+                           String type,
+                           String description,
+                           String category,
+                           String reference) {
+}
@@ -0,0 +1,133 @@
+package com.household.budget.service.statement;
+
+import com.household.budget.entity.Transaction;
+import com.household.budget.entity.User;
+import com.household.budget.service.CategoryService;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 명세서 거래 -> Transaction 변환 (가져오기 작업 하나에 하나씩 사용)
+ * externalTransactionId는 내용 해시 ("IMP_" + SHA-256 앞 16바이트)
+ * - 은행 거래 ID(reference)가 있으면 그 값만으로, 없으면 날짜/금액/유형/내용으로 계산
+ * - 같은 파일 안에서 내용이 같은 거래(같은 날 같은 금액의 커피 두 잔 등)는 몇 번째인지를 넣어 구분
+ * 같은 파일을 다시 가져오면 같은 ID가 나오므로 SyncTransactionWriter에서 중복으로 걸러짐
+ */
+public final class StatementRowMapper {
+    public static final String SYNC_SOURCE = "IMPORT";
+    static final int MAX_DESCRIPTION_LENGTH = 255;
+
+    private final User user;
+    private final CategoryService categoryService;
+    // 내용 해시 앞 8바이트 -> 지금까지 나온 횟수 (행 전체가 아닌 키만 보관)
+    private final OccurrenceCounter occurrences = new OccurrenceCounter();
+
+    public StatementRowMapper(User user, CategoryService categoryService) {
+        this.user = user;
+        this.categoryService = categoryService;
+    }
+
+    /**
+     * @throws IllegalArgumentException 금액이 0인 거래 등 저장할 수 없는 행
+     */
+    public Transaction toTransaction(StatementRow row) {
+        BigDecimal amount = row.amount();
+        if (amount.signum() == 0) {
+            throw new IllegalArgumentException("금액이 0입니다.");
+        }
+        String type = row.type() != null ? row.type() : (amount.signum() > 0 ? "INCOME" : "EXPENSE");
+        String description = row.description() != null ? row.description() : "(내용 없음)";
+        if (description.length() > MAX_DESCRIPTION_LENGTH) {
+            description = description.substring(0, MAX_DESCRIPTION_LENGTH);
+        }
+
+        Transaction transaction = new Transaction();
+        transaction.setType(type);
+        transaction.setAmount(amount.abs());
+        transaction.setDescription(description);
+        transaction.setCategory(categoryService.findCategoryByName(row.category(), type).orElse(null));
+        transaction.setUser(user);
+        transaction.setTransactionDate(row.transactionDate());
+        transaction.setExternalTransactionId(externalId(row, type, description));
+        transaction.setSyncSource(SYNC_SOURCE);
+        return transaction;
+    }
+
+    private String externalId(StatementRow row, String type, String description) {
+        if (row.reference() != null) {
+            return "IMP_" + hex(sha256("ref\u0000" + row.reference()));
+        }
+        String content = row.transactionDate() + "\u0000" + row.amount().abs().stripTrailingZeros().toPlainString()
+                + "\u0000" + type + "\u0000" + description;
+        byte[] base = sha256(content);
+        int occurrence = occurrences.increment(ByteBuffer.wrap(base).getLong());
+        return "IMP_" + hex(occurrence == 1 ? base : sha256(content + "\u0000#" + occurrence));
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static String hex(byte[] digest) {
+        return HexFormat.of().formatHex(digest, 0, 16);
+    }
+
+    /**
+     * long 키 -> 횟수, 기본형 배열 개방 주소법 해시 테이블
+     * 박싱한 HashMap(항목당 Long/Integer/Node 객체로 약 80바이트)과 달리 키 8바이트 + 횟수 4바이트만 쓰고,
+     * 채움률을 1/2 이하로 유지하므로 행당 약 24바이트
+     */
+    static final class OccurrenceCounter {
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private long[] keys = new long[INITIAL_CAPACITY];
+        private int[] counts = new int[INITIAL_CAPACITY]; // 0이면 빈 칸
+        private int size;
+
+        int increment(long key) {
+            int slot = find(keys, counts, key);
+            if (counts[slot] != 0) {
+                return ++counts[slot];
+            }
+            keys[slot] = key;
+            counts[slot] = 1;
+            if (++size * 2 > keys.length) {
+                grow();
+            }
+            return 1;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            int[] oldCounts = counts;
+            keys = new long[oldKeys.length * 2];
+            counts = new int[oldCounts.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldCounts[i] != 0) {
+                    int slot = find(keys, counts, oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    counts[slot] = oldCounts[i];
+                }
+            }
+        }
+
+        // 키가 있는 칸 또는 넣을 빈 칸 (선형 탐사, 키는 이미 SHA-256 값이라 고르게 퍼짐)
+        private static int find(long[] keys, int[] counts, long key) {
+            int mask = keys.length - 1;
+            int slot = (int) (key ^ (key >>> 32)) & mask;
+            while (counts[slot] != 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+}
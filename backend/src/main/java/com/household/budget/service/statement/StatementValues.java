@@ -0,0 +1,86 @@
+package com.household.budget.service.statement;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+/**
+ * 명세서 값 변환 (형식이 잘못되면 IllegalArgumentException - 해당 행만 오류 처리)
+ */
+final class StatementValues {
+    private static final DateTimeFormatter FLEXIBLE_DATE = DateTimeFormatter.ofPattern("uuuu-M-d");
+
+    private StatementValues() {
+    }
+
+    /**
+     * 2024-03-01, 2024.03.01, 2024/3/1, 20240301, 2024-03-01 12:30[:00], 2024-03-01T12:30 등
+     */
+    static LocalDateTime parseDate(String value) {
+        String text = value == null ? "" : value.strip();
+        if (text.isEmpty()) {
+            throw new IllegalArgumentException("날짜가 없습니다.");
+        }
+        try {
+            if (text.length() == 8 && text.chars().allMatch(Character::isDigit)) {
+                return LocalDate.parse(text, DateTimeFormatter.BASIC_ISO_DATE).atStartOfDay();
+            }
+            String normalized = text.replace('.', '-').replace('/', '-').replaceFirst("\\s+", "T");
+            if (normalized.endsWith("-")) {
+                normalized = normalized.substring(0, normalized.length() - 1);
+            }
+            int time = normalized.indexOf('T');
+            if (time < 0) {
+                return LocalDate.parse(normalized, FLEXIBLE_DATE).atStartOfDay();
+            }
+            return LocalDate.parse(normalized.substring(0, time), FLEXIBLE_DATE)
+                    .atTime(LocalTime.parse(normalized.substring(time + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("날짜 형식을 알 수 없습니다: " + value);
+        }
+    }
+
+    /**
+     * 1,234.50 / -12000 / ₩12,000원 / (5,000) 등 - 괄호는 음수
+     */
+    static BigDecimal parseAmount(String value) {
+        String text = value == null ? "" : value.strip();
+        if (text.isEmpty()) {
+            throw new IllegalArgumentException("금액이 없습니다.");
+        }
+        boolean negative = text.startsWith("(") && text.endsWith(")");
+        if (negative) {
+            text = text.substring(1, text.length() - 1);
+        }
+        String digits = text.replace(",", "").replace("₩", "").replace("원", "")
+                .replace("KRW", "").replace(" ", "");
+        try {
+            BigDecimal amount = new BigDecimal(digits);
+            return negative ? amount.negate() : amount;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("금액 형식을 알 수 없습니다: " + value);
+        }
+    }
+
+    /**
+     * 거래 유형 표기 변환 - 알 수 없으면 null (금액 부호로 결정)
+     */
+    static String parseType(String value) {
+        if (value == null) {
+            return null;
+        }
+        return switch (value.strip().toUpperCase(Locale.ROOT)) {
+            case "INCOME", "수입", "입금", "CREDIT", "DEPOSIT" -> "INCOME";
+            case "EXPENSE", "지출", "출금", "DEBIT", "WITHDRAWAL", "PAYMENT" -> "EXPENSE";
+            default -> null;
+        };
+    }
+
+    static String emptyToNull(String value) {
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+}
@@ -0,0 +1,95 @@
+-- 기준 스키마 (기존 ddl-auto=create 로 생성되던 테이블과 동일)
+-- H2 / MySQL 공통 문법만 사용
+
+CREATE TABLE users (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    email VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    role VARCHAR(255) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    last_login_at DATETIME(6),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE categories (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    type VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    CONSTRAINT uk_categories_name UNIQUE (name)
+);
+
+CREATE TABLE budget_sessions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    color VARCHAR(255),
+    icon VARCHAR(255),
+    user_id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    last_accessed_at DATETIME(6),
+    CONSTRAINT fk_budget_sessions_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE bank_accounts (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    account_name VARCHAR(255) NOT NULL,
+    bank_code VARCHAR(255) NOT NULL,
+    bank_name VARCHAR(255) NOT NULL,
+    account_number VARCHAR(255) NOT NULL,
+    account_type VARCHAR(255) NOT NULL,
+    connection_type VARCHAR(255) NOT NULL,
+    access_token VARCHAR(255),
+    refresh_token VARCHAR(255),
+    token_expires_at DATETIME(6),
+    is_active BOOLEAN NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    last_synced_at DATETIME(6),
+    user_id BIGINT NOT NULL,
+    CONSTRAINT fk_bank_accounts_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE transactions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    type VARCHAR(255) NOT NULL,
+    amount DECIMAL(19, 2) NOT NULL,
+    description VARCHAR(255) NOT NULL,
+    category_id BIGINT,
+    bank_account_id BIGINT,
+    user_id BIGINT NOT NULL,
+    session_id BIGINT,
+    transaction_date DATETIME(6) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    external_transaction_id VARCHAR(255),
+    sync_source VARCHAR(255),
+    CONSTRAINT fk_transactions_category FOREIGN KEY (category_id) REFERENCES categories (id),
+    CONSTRAINT fk_transactions_bank_account FOREIGN KEY (bank_account_id) REFERENCES bank_accounts (id),
+    CONSTRAINT fk_transactions_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_transactions_session FOREIGN KEY (session_id) REFERENCES budget_sessions (id)
+);
+
+-- (사용자, 세션)별 누적 잔액, 세션 없음은 session_key = 0
+CREATE TABLE ledger_balances (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    session_key BIGINT NOT NULL,
+    total_income DECIMAL(19, 2) NOT NULL,
+    total_expense DECIMAL(19, 2) NOT NULL,
+    transaction_count BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    CONSTRAINT uk_ledger_balances_user_session UNIQUE (user_id, session_key)
+);
+
+-- (사용자, 월, 카테고리, 유형)별 합계, 미분류는 category_key = 0
+CREATE TABLE monthly_rollups (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    yyyymm INT NOT NULL,
+    category_key BIGINT NOT NULL,
+    type VARCHAR(255) NOT NULL,
+    total_amount DECIMAL(19, 2) NOT NULL,
+    transaction_count BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    CONSTRAINT uk_monthly_rollups_user_month_category_type UNIQUE (user_id, yyyymm, category_key, type)
+);
@@ -0,0 +1,16 @@
+-- 거래 조회 hot path 인덱스
+-- 모든 사용자 조회가 user_id로 시작하므로 user_id를 선두 컬럼으로 두고 정렬 키(transaction_date)를 뒤에 둠
+
+-- findByUserIdAndDateRange, 사용자 keyset 페이지
+CREATE INDEX idx_transactions_user_date ON transactions (user_id, transaction_date);
+
+-- findByUserIdAndSessionId
+CREATE INDEX idx_transactions_user_session_date ON transactions (user_id, session_id, transaction_date);
+
+-- findByUserIdAndTypeOrderByTransactionDateDesc
+CREATE INDEX idx_transactions_user_type_date ON transactions (user_id, type, transaction_date);
+
+-- 동기화 중복 방지 (외부 거래 ID가 없는 수동 입력은 NULL이라 제약 대상 아님)
+-- 중복 체크(user_id = ? AND external_transaction_id IN (...))에서 H2는 복합 인덱스 두 번째 컬럼의 IN 목록을
+-- 범위 탐색하지 못해 사용자 거래 전체를 훑으므로 IN 대상 컬럼을 앞에 둠 (유일성 조건은 순서와 무관)
+CREATE UNIQUE INDEX uk_transactions_external_id_user ON transactions (external_transaction_id, user_id);
@@ -0,0 +1,9 @@
+-- 거래 ID를 테이블 기반 풀링 할당(allocationSize = 50)으로 전환하여 JDBC 배치 INSERT를 사용
+-- Hibernate pooled 최적화기는 읽은 값 v에 대해 (v - 49 .. v)를 사용하므로 기존 최대 ID + 50으로 시작
+CREATE TABLE id_generators (
+    name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val BIGINT
+);
+
+INSERT INTO id_generators (name, next_val)
+SELECT 'transactions', COALESCE(MAX(id), 0) + 50 FROM transactions;
@@ -0,0 +1,5 @@
+-- 증분 동기화 기준: 계좌에서 마지막으로 받은 거래 일시 (NULL이면 전체 조회)
+ALTER TABLE bank_accounts ADD COLUMN sync_watermark DATETIME(6);
+
+UPDATE bank_accounts
+SET sync_watermark = (SELECT MAX(t.transaction_date) FROM transactions t WHERE t.bank_account_id = bank_accounts.id);
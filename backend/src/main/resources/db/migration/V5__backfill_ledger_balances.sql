@@ -0,0 +1,12 @@
+-- 누적 잔액 초기 적재: 기존 거래를 (사용자, 세션)별로 합산, 세션 없는 거래는 session_key = 0
+-- 이미 원장 행이 있는 사용자는 증분 반영 중이므로 건너뜀
+INSERT INTO ledger_balances (user_id, session_key, total_income, total_expense, transaction_count, updated_at)
+SELECT t.user_id,
+       COALESCE(t.session_id, 0),
+       COALESCE(SUM(CASE WHEN t.type = 'INCOME' THEN t.amount ELSE 0 END), 0),
+       COALESCE(SUM(CASE WHEN t.type = 'EXPENSE' THEN t.amount ELSE 0 END), 0),
+       COUNT(*),
+       CURRENT_TIMESTAMP
+FROM transactions t
+WHERE NOT EXISTS (SELECT 1 FROM ledger_balances b WHERE b.user_id = t.user_id)
+GROUP BY t.user_id, COALESCE(t.session_id, 0);
@@ -0,0 +1,13 @@
+-- 월별 집계 초기 적재: 기존 거래를 (사용자, 월, 카테고리, 유형)별로 합산, 미분류는 category_key = 0
+-- 이미 집계 행이 있는 사용자는 증분 반영 중이므로 건너뜀
+INSERT INTO monthly_rollups (user_id, yyyymm, category_key, type, total_amount, transaction_count, updated_at)
+SELECT t.user_id,
+       YEAR(t.transaction_date) * 100 + MONTH(t.transaction_date),
+       COALESCE(t.category_id, 0),
+       t.type,
+       SUM(t.amount),
+       COUNT(*),
+       CURRENT_TIMESTAMP
+FROM transactions t
+WHERE NOT EXISTS (SELECT 1 FROM monthly_rollups r WHERE r.user_id = t.user_id)
+GROUP BY t.user_id, YEAR(t.transaction_date) * 100 + MONTH(t.transaction_date), COALESCE(t.category_id, 0), t.type;
@@ -0,0 +1,87 @@
+package com.household.budget.application.services;
+
+import com.household.budget.config.AuthenticatedUser;
+import com.household.budget.config.UserContext;
+import com.household.budget.domain.events.TransactionBatchChangedEvent;
+import com.household.budget.domain.events.TransactionChangedEvent;
+import com.household.budget.domain.events.UserDataChangedEvent;
+import com.household.budget.service.AuthService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * DataVersionApplicationService 테스트
+ * 인증 주체는 UserContext를 Mock으로 처리
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DataVersionApplicationService 테스트")
+class DataVersionApplicationServiceTest {
+
+    @Mock
+    private AuthService authService;
+
+    @InjectMocks
+    private DataVersionApplicationService dataVersionService;
+
+    @Test
+    @DisplayName("대량 거래 이벤트는 사용자마다 한 번만 버전 증가")
+    void should_BumpEachUserOnce_When_BatchChanged() {
+        // Given
+        TransactionBatchChangedEvent batch = new TransactionBatchChangedEvent(List.of(
+            change(1L), change(1L), change(2L)));
+
+        // When
+        dataVersionService.onTransactionBatchChanged(batch);
+
+        // Then
+        assertThat(dataVersionService.getVersion(1L)).isEqualTo(1);
+        assertThat(dataVersionService.getVersion(2L)).isEqualTo(1);
+        assertThat(dataVersionService.getVersion(3L)).isZero();
+    }
+
+    @Test
+    @DisplayName("본인 데이터가 바뀔 때만 ETag가 달라지고 관리자 ETag는 모든 변경에 반응")
+    void should_ChangeETag_When_OwnDataChanged() {
+        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class, CALLS_REAL_METHODS)) {
+            // Given
+            AuthenticatedUser user = new AuthenticatedUser(1L, "user@example.com", "USER", null);
+            AuthenticatedUser admin = new AuthenticatedUser(9L, "admin", "ADMIN", null);
+            userContextMock.when(UserContext::getCurrentUser).thenReturn(user);
+            String before = dataVersionService.currentETag();
+            userContextMock.when(UserContext::getCurrentUser).thenReturn(admin);
+            String adminBefore = dataVersionService.currentETag();
+
+            // When
+            dataVersionService.onUserDataChanged(new UserDataChangedEvent(2L));
+
+            // Then
+            userContextMock.when(UserContext::getCurrentUser).thenReturn(user);
+            assertThat(before).startsWith("W/\"");
+            assertThat(dataVersionService.currentETag()).isEqualTo(before);
+            userContextMock.when(UserContext::getCurrentUser).thenReturn(admin);
+            assertThat(dataVersionService.currentETag()).isNotEqualTo(adminBefore);
+
+            dataVersionService.onUserDataChanged(UserDataChangedEvent.shared());
+            userContextMock.when(UserContext::getCurrentUser).thenReturn(user);
+            assertThat(dataVersionService.currentETag()).isNotEqualTo(before);
+            verifyNoInteractions(authService);
+        }
+    }
+
+    private TransactionChangedEvent change(Long userId) {
+        return new TransactionChangedEvent(TransactionChangedEvent.Change.ADDED, null, userId, null, null,
+            "EXPENSE", new BigDecimal("1000"), LocalDateTime.now());
+    }
+}
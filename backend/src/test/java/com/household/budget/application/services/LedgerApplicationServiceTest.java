@@ -0,0 +1,148 @@
+package com.household.budget.application.services;
+
+import com.household.budget.domain.entities.LedgerBalance;
+import com.household.budget.domain.events.TransactionBatchChangedEvent;
+import com.household.budget.domain.events.TransactionChangedEvent;
+import com.household.budget.domain.events.TransactionChangedEvent.Change;
+import com.household.budget.domain.repositories.LedgerBalanceRepository;
+import com.household.budget.domain.repositories.TransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * LedgerApplicationService 테스트
+ * 증분 반영은 (사용자, 세션)별 합산 결과만, 검증/재계산은 원본 거래 집계와 비교
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LedgerApplicationService 테스트")
+class LedgerApplicationServiceTest {
+
+    @Mock
+    private LedgerBalanceRepository ledgerBalanceRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @InjectMocks
+    private LedgerApplicationService ledgerService;
+
+    @Test
+    @DisplayName("대량 이벤트는 (사용자, 세션)마다 합산하여 한 번씩 반영")
+    void should_ApplyOneDeltaPerKey_When_BatchChanged() {
+        // Given
+        TransactionBatchChangedEvent batch = new TransactionBatchChangedEvent(List.of(
+                event(Change.ADDED, 1L, 10L, "INCOME", "1000.50"),
+                event(Change.ADDED, 1L, 10L, "EXPENSE", "200.25"),
+                event(Change.REMOVED, 1L, 10L, "EXPENSE", "50.00"),
+                event(Change.ADDED, 1L, null, "EXPENSE", "30.00"),
+                event(Change.ADDED, 2L, 10L, "INCOME", "5.00")));
+
+        // When
+        ledgerService.onTransactionBatchChanged(batch);
+
+        // Then
+        verify(ledgerBalanceRepository).applyDelta(eq(1L), eq(10L),
+                argThat(income -> income.compareTo(new BigDecimal("1000.50")) == 0),
+                argThat(expense -> expense.compareTo(new BigDecimal("150.25")) == 0), eq(1L));
+        verify(ledgerBalanceRepository).applyDelta(eq(1L), isNull(),
+                argThat(income -> income.signum() == 0),
+                argThat(expense -> expense.compareTo(new BigDecimal("30.00")) == 0), eq(1L));
+        verify(ledgerBalanceRepository).applyDelta(eq(2L), eq(10L),
+                argThat(income -> income.compareTo(new BigDecimal("5.00")) == 0),
+                argThat(expense -> expense.signum() == 0), eq(1L));
+        verifyNoMoreInteractions(ledgerBalanceRepository);
+    }
+
+    @Test
+    @DisplayName("사용자나 금액이 없는 이벤트는 반영하지 않음")
+    void should_SkipEvent_When_UserOrAmountMissing() {
+        // When
+        ledgerService.onTransactionChanged(event(Change.ADDED, null, 10L, "INCOME", "100.00"));
+        ledgerService.onTransactionChanged(new TransactionChangedEvent(Change.ADDED, 1L, 1L, 10L, null,
+                "INCOME", null, LocalDateTime.now()));
+
+        // Then
+        verifyNoInteractions(ledgerBalanceRepository);
+    }
+
+    @Test
+    @DisplayName("원장과 원본 집계가 같으면 일치 (원본 거래가 없는 세션의 0 행은 일치)")
+    void should_BeConsistent_When_TotalsMatch() {
+        // Given
+        when(ledgerBalanceRepository.findByUserId(1L)).thenReturn(List.of(
+                balance(10L, "1000.00", "300.00", 2),
+                balance(20L, "0.00", "0.00", 0)));
+        when(transactionRepository.aggregateLedgerByUserId(1L)).thenReturn(List.of(
+                balance(10L, "1000.00", "300.00", 2)));
+
+        // When & Then
+        assertThat(ledgerService.verify(1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("금액이 다르거나 원본 거래가 없는 원장 행이 있으면 불일치")
+    void should_BeInconsistent_When_TotalsDifferOrOrphanRowExists() {
+        // Given
+        when(transactionRepository.aggregateLedgerByUserId(1L)).thenReturn(List.of(
+                balance(10L, "1000.00", "300.00", 2)));
+        when(ledgerBalanceRepository.findByUserId(1L))
+                .thenReturn(List.of(balance(10L, "1000.00", "299.00", 2)))
+                .thenReturn(List.of(balance(10L, "1000.00", "300.00", 2), balance(20L, "5.00", "0.00", 1)))
+                .thenReturn(List.of());
+
+        // When & Then
+        assertThat(ledgerService.verify(1L)).isFalse();
+        assertThat(ledgerService.verify(1L)).isFalse();
+        assertThat(ledgerService.verify(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("거래 0건 원장 행도 비교하여 금액이 남아 있으면 불일치")
+    void should_BeInconsistent_When_ZeroCountRowHasTotals() {
+        // Given
+        when(transactionRepository.aggregateLedgerByUserId(1L)).thenReturn(List.of(
+                balance(10L, "1000.00", "300.00", 2)));
+        when(ledgerBalanceRepository.findByUserId(1L))
+                .thenReturn(List.of(balance(10L, "1000.00", "300.00", 2), balance(20L, "0.00", "40.00", 0)))
+                .thenReturn(List.of(balance(10L, "1000.00", "300.00", 2), balance(null, "0.00", "0.00", -1)));
+
+        // When & Then
+        assertThat(ledgerService.verify(1L)).isFalse();
+        assertThat(ledgerService.verify(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재계산은 원본 거래 집계로 사용자 원장을 교체")
+    void should_ReplaceWithAggregate_When_Rebuilding() {
+        // Given
+        List<LedgerBalance> expected = List.of(balance(10L, "1000.00", "300.00", 2), balance(null, "0.00", "50.00", 1));
+        when(transactionRepository.aggregateLedgerByUserId(1L)).thenReturn(expected);
+
+        // When
+        ledgerService.rebuild(1L);
+
+        // Then
+        verify(ledgerBalanceRepository).replaceForUser(1L, expected);
+    }
+
+    private TransactionChangedEvent event(Change change, Long userId, Long sessionId, String type, String amount) {
+        return new TransactionChangedEvent(change, 1L, userId, sessionId, null, type, new BigDecimal(amount),
+                LocalDateTime.of(2024, 3, 1, 12, 0));
+    }
+
+    private LedgerBalance balance(Long sessionId, String income, String expense, long count) {
+        return new LedgerBalance(1L, sessionId, new BigDecimal(income), new BigDecimal(expense), count);
+    }
+}
@@ -0,0 +1,64 @@
+package com.household.budget.application.services;
+
+import com.household.budget.domain.repositories.TransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * LedgerReconciliationJob 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LedgerReconciliationJob 테스트")
+class LedgerReconciliationJobTest {
+
+    @Mock
+    private LedgerApplicationService ledgerService;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @InjectMocks
+    private LedgerReconciliationJob job;
+
+    @Test
+    @DisplayName("불일치한 사용자만 재계산")
+    void should_RebuildOnlyInconsistentUsers_When_Reconciling() {
+        // Given
+        when(transactionRepository.findDistinctUserIds()).thenReturn(List.of(1L, 2L, 3L));
+        when(ledgerService.verify(1L)).thenReturn(true);
+        when(ledgerService.verify(2L)).thenReturn(false);
+        when(ledgerService.verify(3L)).thenReturn(true);
+
+        // When
+        job.reconcile();
+
+        // Then
+        verify(ledgerService).rebuild(2L);
+        verify(ledgerService, never()).rebuild(1L);
+        verify(ledgerService, never()).rebuild(3L);
+    }
+
+    @Test
+    @DisplayName("한 사용자의 점검이 실패해도 나머지 사용자는 계속 점검")
+    void should_ContinueWithOtherUsers_When_OneUserFails() {
+        // Given
+        when(transactionRepository.findDistinctUserIds()).thenReturn(List.of(1L, 2L));
+        when(ledgerService.verify(1L)).thenThrow(new IllegalStateException("DB 오류"));
+        when(ledgerService.verify(2L)).thenReturn(false);
+
+        // When
+        job.reconcile();
+
+        // Then
+        verify(ledgerService).rebuild(2L);
+        verify(ledgerService, never()).rebuild(1L);
+    }
+}
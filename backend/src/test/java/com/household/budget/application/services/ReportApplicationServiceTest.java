@@ -0,0 +1,121 @@
+package com.household.budget.application.services;
+
+import com.household.budget.config.UserContext;
+import com.household.budget.domain.entities.MonthlyRollup;
+import com.household.budget.domain.repositories.MonthlyRollupRepository;
+import com.household.budget.dto.CategoryDto;
+import com.household.budget.entity.User;
+import com.household.budget.interfaces.http.dto.MonthlyReportResponse;
+import com.household.budget.service.CategoryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * 리포트 Application Service 테스트
+ * 월별 집계 Repository를 Mock으로 처리
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReportApplicationService 테스트")
+class ReportApplicationServiceTest {
+
+    @Mock
+    private MonthlyRollupRepository monthlyRollupRepository;
+
+    @Mock
+    private AuthApplicationService authService;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @InjectMocks
+    private ReportApplicationService service;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = new User();
+        testUser.setId(1L);
+        testUser.setEmail("test@example.com");
+        testUser.setRole("USER");
+    }
+
+    @Test
+    @DisplayName("월별 리포트는 집계 행으로 구성하고 거래 없는 달은 0으로 채움")
+    void should_BuildMonthsFromRollups_When_Valid() {
+        // Given
+        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class, CALLS_REAL_METHODS)) {
+            userContextMock.when(UserContext::getCurrentUserEmail).thenReturn("test@example.com");
+            when(authService.getUserByEmail("test@example.com")).thenReturn(testUser);
+            when(monthlyRollupRepository.findByUserIdAndPeriod(1L, 202401, 202403)).thenReturn(List.of(
+                new MonthlyRollup(1L, 202401, 1L, "INCOME", new BigDecimal("3000000"), 1),
+                new MonthlyRollup(1L, 202401, 5L, "EXPENSE", new BigDecimal("120000"), 4),
+                new MonthlyRollup(1L, 202403, null, "EXPENSE", new BigDecimal("5000"), 1)
+            ));
+            when(categoryService.getAllCategories()).thenReturn(List.of(
+                new CategoryDto(1L, "급여", "INCOME", "월급"),
+                new CategoryDto(5L, "식비", "EXPENSE", "음식, 식료품")
+            ));
+
+            // When
+            MonthlyReportResponse report = service.getMonthlyReport(YearMonth.of(2024, 1), YearMonth.of(2024, 3));
+
+            // Then
+            assertThat(report.getMonths()).extracting(MonthlyReportResponse.Month::getMonth)
+                .containsExactly("2024-01", "2024-02", "2024-03");
+            MonthlyReportResponse.Month january = report.getMonths().get(0);
+            assertThat(january.getTotalIncome()).isEqualByComparingTo(new BigDecimal("3000000"));
+            assertThat(january.getTotalExpense()).isEqualByComparingTo(new BigDecimal("120000"));
+            assertThat(january.getBalance()).isEqualByComparingTo(new BigDecimal("2880000"));
+            assertThat(january.getTransactionCount()).isEqualTo(5);
+            assertThat(january.getCategories()).extracting(MonthlyReportResponse.CategoryAmount::getCategoryName)
+                .containsExactly("급여", "식비");
+            assertThat(report.getMonths().get(1).getCategories()).isEmpty();
+            assertThat(report.getMonths().get(2).getCategories().get(0).getCategoryName())
+                .isEqualTo(ReportApplicationService.UNCATEGORIZED_NAME);
+        }
+    }
+
+    @Test
+    @DisplayName("관리자는 전체 사용자 합계로 조회")
+    void should_SumAllUsers_When_Admin() {
+        // Given
+        testUser.setRole("ADMIN");
+        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class, CALLS_REAL_METHODS)) {
+            userContextMock.when(UserContext::getCurrentUserEmail).thenReturn("test@example.com");
+            when(authService.getUserByEmail("test@example.com")).thenReturn(testUser);
+            when(monthlyRollupRepository.sumAllByPeriod(202405, 202405)).thenReturn(List.of());
+
+            // When
+            MonthlyReportResponse report = service.getMonthlyReport(YearMonth.of(2024, 5), YearMonth.of(2024, 5));
+
+            // Then
+            assertThat(report.getMonths()).hasSize(1);
+            verify(monthlyRollupRepository, never()).findByUserIdAndPeriod(any(), anyInt(), anyInt());
+            verifyNoInteractions(categoryService);
+        }
+    }
+
+    @Test
+    @DisplayName("시작 월이 종료 월보다 늦으면 예외 발생")
+    void should_ThrowException_When_PeriodReversed() {
+        // When & Then
+        assertThatThrownBy(() -> service.getMonthlyReport(YearMonth.of(2024, 6), YearMonth.of(2024, 1)))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(monthlyRollupRepository);
+    }
+}
@@ -2,11 +2,16 @@ package com.household.budget.application.services;
 
 import com.household.budget.config.UserContext;
 import com.household.budget.domain.entities.Transaction;
+import com.household.budget.domain.events.TransactionChangedEvent;
 import com.household.budget.domain.exceptions.TransactionNotFoundException;
+import com.household.budget.domain.repositories.LedgerBalanceRepository;
 import com.household.budget.domain.repositories.TransactionRepository;
 import com.household.budget.domain.services.TransactionCalculationService;
+import com.household.budget.domain.services.TransactionCalculationService.TransactionSummary;
+import com.household.budget.domain.valueobjects.TransactionCursor;
 import com.household.budget.entity.User;
 import com.household.budget.interfaces.http.dto.TransactionDto;
+import com.household.budget.interfaces.http.dto.TransactionPageResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,6 +20,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -24,6 +30,8 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -43,6 +51,12 @@ class TransactionApplicationServiceTest {
     @Mock
     private AuthApplicationService authService;
     
+    @Mock
+    private LedgerBalanceRepository ledgerBalanceRepository;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
     @InjectMocks
     private TransactionApplicationService service;
     
@@ -69,7 +83,7 @@ class TransactionApplicationServiceTest {
     @DisplayName("거래 목록 조회 성공")
     void should_GetAllTransactions_When_Valid() {
         // Given
-        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class)) {
+        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class, CALLS_REAL_METHODS)) {
             userContextMock.when(UserContext::getCurrentUserEmail).thenReturn("test@example.com");
             when(authService.getUserByEmail("test@example.com")).thenReturn(testUser);
             when(transactionRepository.findByUserId(1L))
@@ -85,11 +99,70 @@ class TransactionApplicationServiceTest {
         }
     }
     
+    @Test
+    @DisplayName("첫 페이지 조회 시 다음 커서 반환")
+    void should_ReturnNextCursor_When_MoreRowsThanPageSize() {
+        // Given
+        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class, CALLS_REAL_METHODS)) {
+            userContextMock.when(UserContext::getCurrentUserEmail).thenReturn("test@example.com");
+            when(authService.getUserByEmail("test@example.com")).thenReturn(testUser);
+            
+            Transaction second = new Transaction();
+            second.setId(2L);
+            second.setType("INCOME");
+            second.setAmount(new BigDecimal("5000"));
+            second.setUserId(1L);
+            second.setTransactionDate(transaction.getTransactionDate().minusDays(1));
+            
+            when(transactionRepository.findPageByUserId(eq(1L), isNull(), eq(2)))
+                .thenReturn(List.of(transaction, second));
+            
+            // When
+            TransactionPageResponse result = service.getTransactionPage(null, 1);
+            
+            // Then
+            assertThat(result.getTransactions()).hasSize(1);
+            assertThat(result.isHasNext()).isTrue();
+            assertThat(TransactionCursor.decode(result.getNextCursor()))
+                .isEqualTo(TransactionCursor.of(transaction));
+        }
+    }
+    
+    @Test
+    @DisplayName("커서 이후 마지막 페이지 조회")
+    void should_ReturnLastPage_When_CursorGiven() {
+        // Given
+        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class, CALLS_REAL_METHODS)) {
+            userContextMock.when(UserContext::getCurrentUserEmail).thenReturn("test@example.com");
+            when(authService.getUserByEmail("test@example.com")).thenReturn(testUser);
+            
+            TransactionCursor cursor = new TransactionCursor(LocalDateTime.now().plusDays(1), 10L);
+            when(transactionRepository.findPageByUserId(1L, cursor, 21))
+                .thenReturn(List.of(transaction));
+            
+            // When
+            TransactionPageResponse result = service.getTransactionPage(cursor.encode(), 20);
+            
+            // Then
+            assertThat(result.getTransactions()).hasSize(1);
+            assertThat(result.isHasNext()).isFalse();
+            assertThat(result.getNextCursor()).isNull();
+        }
+    }
+    
+    @Test
+    @DisplayName("잘못된 커서일 때 예외 발생")
+    void should_ThrowException_When_CursorIsMalformed() {
+        // When & Then
+        assertThatThrownBy(() -> service.getTransactionPage("not-a-cursor", 20))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+    
     @Test
     @DisplayName("거래 ID로 조회 성공")
     void should_GetTransactionById_When_ValidId() {
         // Given
-        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class)) {
+        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class, CALLS_REAL_METHODS)) {
             userContextMock.when(UserContext::getCurrentUserEmail).thenReturn("test@example.com");
             when(authService.getUserByEmail("test@example.com")).thenReturn(testUser);
             when(transactionRepository.findById(1L))
@@ -121,7 +194,7 @@ class TransactionApplicationServiceTest {
     @DisplayName("거래 생성 성공")
     void should_CreateTransaction_When_ValidRequest() {
         // Given
-        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class)) {
+        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class, CALLS_REAL_METHODS)) {
             userContextMock.when(UserContext::getCurrentUserEmail).thenReturn("test@example.com");
             when(authService.getUserByEmail("test@example.com")).thenReturn(testUser);
             
@@ -147,6 +220,7 @@ class TransactionApplicationServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getId()).isEqualTo(1L);
             verify(transactionRepository).save(any(Transaction.class));
+            verify(eventPublisher).publishEvent(any(TransactionChangedEvent.class));
         }
     }
     
@@ -154,7 +228,7 @@ class TransactionApplicationServiceTest {
     @DisplayName("거래 수정 성공")
     void should_UpdateTransaction_When_ValidRequest() {
         // Given
-        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class)) {
+        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class, CALLS_REAL_METHODS)) {
             userContextMock.when(UserContext::getCurrentUserEmail).thenReturn("test@example.com");
             when(authService.getUserByEmail("test@example.com")).thenReturn(testUser);
             
@@ -175,6 +249,7 @@ class TransactionApplicationServiceTest {
             assertThat(result).isNotNull();
             verify(transactionRepository).findById(1L);
             verify(transactionRepository).save(any(Transaction.class));
+            verify(eventPublisher, times(2)).publishEvent(any(TransactionChangedEvent.class));
         }
     }
     
@@ -182,7 +257,7 @@ class TransactionApplicationServiceTest {
     @DisplayName("거래 삭제 성공")
     void should_DeleteTransaction_When_ValidId() {
         // Given
-        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class)) {
+        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class, CALLS_REAL_METHODS)) {
             userContextMock.when(UserContext::getCurrentUserEmail).thenReturn("test@example.com");
             when(authService.getUserByEmail("test@example.com")).thenReturn(testUser);
             
@@ -196,6 +271,7 @@ class TransactionApplicationServiceTest {
             // Then
             verify(transactionRepository).findById(1L);
             verify(transactionRepository).deleteById(1L);
+            verify(eventPublisher).publishEvent(any(TransactionChangedEvent.class));
         }
     }
     
@@ -203,7 +279,7 @@ class TransactionApplicationServiceTest {
     @DisplayName("총 수입 계산")
     void should_GetTotalIncome_When_Valid() {
         // Given
-        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class)) {
+        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class, CALLS_REAL_METHODS)) {
             userContextMock.when(UserContext::getCurrentUserEmail).thenReturn("test@example.com");
             when(authService.getUserByEmail("test@example.com")).thenReturn(testUser);
             when(transactionRepository.getTotalByUserIdAndType(1L, "INCOME"))
@@ -221,7 +297,7 @@ class TransactionApplicationServiceTest {
     @DisplayName("총 지출 계산")
     void should_GetTotalExpense_When_Valid() {
         // Given
-        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class)) {
+        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class, CALLS_REAL_METHODS)) {
             userContextMock.when(UserContext::getCurrentUserEmail).thenReturn("test@example.com");
             when(authService.getUserByEmail("test@example.com")).thenReturn(testUser);
             when(transactionRepository.getTotalByUserIdAndType(1L, "EXPENSE"))
@@ -239,7 +315,7 @@ class TransactionApplicationServiceTest {
     @DisplayName("잔액 계산")
     void should_GetBalance_When_Valid() {
         // Given
-        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class)) {
+        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class, CALLS_REAL_METHODS)) {
             userContextMock.when(UserContext::getCurrentUserEmail).thenReturn("test@example.com");
             when(authService.getUserByEmail("test@example.com")).thenReturn(testUser);
             when(transactionRepository.getTotalByUserIdAndType(1L, "INCOME"))
@@ -254,5 +330,50 @@ class TransactionApplicationServiceTest {
             assertThat(result).isEqualByComparingTo(new BigDecimal("20000"));
         }
     }
+    
+    @Test
+    @DisplayName("요약 정보를 누적 잔액에서 조회")
+    void should_GetSummaryFromLedger_When_User() {
+        // Given
+        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class, CALLS_REAL_METHODS)) {
+            userContextMock.when(UserContext::getCurrentUserEmail).thenReturn("test@example.com");
+            when(authService.getUserByEmail("test@example.com")).thenReturn(testUser);
+            when(ledgerBalanceRepository.summarizeByUserId(1L))
+                .thenReturn(TransactionSummary.builder()
+                    .totalIncome(new BigDecimal("50000"))
+                    .totalExpense(new BigDecimal("30000"))
+                    .balance(new BigDecimal("20000"))
+                    .transactionCount(2)
+                    .build());
+            
+            // When
+            TransactionSummary result = service.getSummary();
+            
+            // Then
+            assertThat(result.getBalance()).isEqualByComparingTo(new BigDecimal("20000"));
+            assertThat(result.getTransactionCount()).isEqualTo(2);
+            verify(authService, times(1)).getUserByEmail("test@example.com");
+            verifyNoInteractions(transactionRepository);
+        }
+    }
+    
+    @Test
+    @DisplayName("관리자는 전체 누적 잔액 합계를 조회")
+    void should_SummarizeAll_When_Admin() {
+        // Given
+        testUser.setRole("ADMIN");
+        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class, CALLS_REAL_METHODS)) {
+            userContextMock.when(UserContext::getCurrentUserEmail).thenReturn("test@example.com");
+            when(authService.getUserByEmail("test@example.com")).thenReturn(testUser);
+            when(ledgerBalanceRepository.summarizeAll()).thenReturn(TransactionSummary.empty());
+            
+            // When
+            TransactionSummary result = service.getSummary();
+            
+            // Then
+            assertThat(result.getTransactionCount()).isZero();
+            verify(ledgerBalanceRepository, never()).summarizeByUserId(any());
+            verifyNoInteractions(transactionRepository);
+        }
+    }
 }
-
@@ -0,0 +1,112 @@
+package com.household.budget.application.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.household.budget.application.services.TransactionExportApplicationService.Format;
+import com.household.budget.domain.entities.Transaction;
+import com.household.budget.domain.repositories.TransactionRepository;
+import com.household.budget.dto.CategoryDto;
+import com.household.budget.service.CategoryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * 거래 내보내기 Application Service 테스트
+ * Repository Stream을 Mock으로 처리하고 출력 바이트를 확인
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionExportApplicationService 테스트")
+class TransactionExportApplicationServiceTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private AuthApplicationService authService;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private TransactionExportApplicationService service;
+
+    private Transaction lunch;
+    private Transaction formula;
+
+    @BeforeEach
+    void setUp() {
+        lunch = new Transaction(1L, "EXPENSE", new BigDecimal("12000.00"), "점심, \"김밥\"",
+                10L, 1L, null, LocalDateTime.of(2024, 3, 1, 12, 30), null);
+        formula = new Transaction(2L, "INCOME", new BigDecimal("3000000"), "=HYPERLINK(\"x\")",
+                20L, 1L, 5L, LocalDateTime.of(2024, 3, 25, 9, 0), null);
+        when(categoryService.getAllCategories()).thenReturn(List.of(
+                new CategoryDto(10L, "식비", "EXPENSE", null),
+                new CategoryDto(20L, "급여", "INCOME", null)));
+    }
+
+    @Test
+    @DisplayName("CSV는 BOM과 헤더 뒤에 한 행씩 쓰고 쉼표/따옴표/수식 시작 문자를 이스케이프")
+    void should_WriteEscapedCsv_When_FormatIsCsv() throws Exception {
+        // Given
+        when(transactionRepository.streamByUserIdAndDateRange(1L,
+                LocalDateTime.of(2024, 3, 1, 0, 0), LocalDateTime.of(2024, 4, 1, 0, 0)))
+                .thenReturn(Stream.of(lunch, formula));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long rows = service.export(1L, Format.CSV, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31), out);
+
+        // Then
+        assertThat(rows).isEqualTo(2);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).isEqualTo("\uFEFFid,transactionDate,type,amount,categoryId,categoryName,description,sessionId");
+        assertThat(lines[1]).isEqualTo("1,2024-03-01T12:30,EXPENSE,12000.00,10,식비,\"점심, \"\"김밥\"\"\",");
+        assertThat(lines[2]).isEqualTo("2,2024-03-25T09:00,INCOME,3000000,20,급여,\"'=HYPERLINK(\"\"x\"\")\",5");
+    }
+
+    @Test
+    @DisplayName("NDJSON은 거래마다 JSON 한 줄을 쓰고 기간이 없으면 전체 범위로 조회")
+    void should_WriteOneJsonPerLine_When_FormatIsNdjson() throws Exception {
+        // Given
+        when(transactionRepository.streamByUserIdAndDateRange(1L,
+                TransactionExportApplicationService.EARLIEST, TransactionExportApplicationService.LATEST))
+                .thenReturn(Stream.of(lunch, formula));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long rows = service.export(1L, Format.NDJSON, null, null, out);
+
+        // Then
+        assertThat(rows).isEqualTo(2);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode first = new ObjectMapper().readTree(lines[0]);
+        assertThat(first.get("id").asLong()).isEqualTo(1L);
+        assertThat(first.get("transactionDate").asText()).isEqualTo("2024-03-01T12:30");
+        assertThat(first.get("amount").decimalValue()).isEqualByComparingTo("12000.00");
+        assertThat(first.get("categoryName").asText()).isEqualTo("식비");
+        assertThat(first.get("description").asText()).isEqualTo("점심, \"김밥\"");
+        assertThat(new ObjectMapper().readTree(lines[1]).get("sessionId").asLong()).isEqualTo(5L);
+    }
+}
@@ -0,0 +1,308 @@
+package com.household.budget.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실행 중인 서버에 혼합 부하를 주는 REST 부하 드라이버
+ * SyntheticDataSeeder로 만든 seed-user-{n}@example.com 사용자로 로그인한 뒤
+ * 목록(50) / 요약(20) / 세션(20) / 로그인(5) / 카드 동기화(5) 비중으로 요청을 섞어 보내고
+ * 엔드포인트별 요청 수, 오류 수, 처리량(req/s), p50/p95/p99/max 지연 시간(ms)을 출력
+ * 전체 분포는 load.report-dir에 엔드포인트별 .hgrm(HdrHistogram 백분위 분포)로 저장
+ *
+ * load.rate > 0이면 스레드마다 초당 그 횟수로 요청을 예약하고 지연 시간을 예약 시각부터 재므로
+ * 서버가 밀려 요청을 늦게 보낸 시간도 지연에 포함됨 (coordinated omission 보정)
+ * 0이면 응답을 받자마자 다음 요청을 보내는 closed loop
+ *
+ * 기본 테스트에서는 제외되며 서버를 seed.enabled=true로 띄운 뒤 다음으로 실행
+ *   mvn test -Pload -Dload.base-url=http://localhost:8100 -Dload.threads=16
+ *   ./gradlew loadTest -Dload.duration-seconds=120 -Dload.rate=50
+ */
+@Tag("load")
+@DisplayName("REST 부하 드라이버")
+class RestLoadDriverTest {
+
+    private static final String BASE_URL = System.getProperty("load.base-url", "http://localhost:8100");
+    private static final int USERS = Integer.getInteger("load.users", 20);
+    private static final int THREADS = Integer.getInteger("load.threads", 8);
+    private static final int DURATION_SECONDS = Integer.getInteger("load.duration-seconds", 60);
+    private static final int WARMUP_SECONDS = Integer.getInteger("load.warmup-seconds", 10);
+    private static final int RATE = Integer.getInteger("load.rate", 0);
+    private static final String PASSWORD = System.getProperty("load.password", "seed-password");
+    private static final String REPORT_DIR = System.getProperty("load.report-dir", "target/load-report");
+    private static final String EMAIL_FORMAT = "seed-user-%d@example.com";
+
+    // 1µs ~ 1분, 유효숫자 3자리
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    enum Endpoint {
+        LIST(50, "GET /api/transactions?size=20"),
+        SUMMARY(20, "GET /api/transactions/summary"),
+        SESSIONS(20, "GET /api/sessions"),
+        LOGIN(5, "POST /api/auth/login"),
+        SYNC(5, "POST /api/bank-accounts/{id}/card/sync");
+
+        private final int weight;
+        private final String label;
+
+        Endpoint(int weight, String label) {
+            this.weight = weight;
+            this.label = label;
+        }
+    }
+
+    private record SeedUser(String email, String token, Long cardAccountId) {
+    }
+
+    private static final class Stats {
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+    }
+
+    @Test
+    @DisplayName("혼합 부하를 주고 엔드포인트별 지연 시간 분포를 출력")
+    void should_ReportLatencyPerEndpoint_When_MixedWorkloadIsReplayed() throws Exception {
+        // Given
+        List<SeedUser> users = loginAll();
+        assertThat(users).as("로그인된 시드 사용자가 없습니다. seed.enabled=true로 서버를 실행하세요.").isNotEmpty();
+        Map<Endpoint, Stats> stats = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new Stats());
+        }
+
+        // When
+        if (WARMUP_SECONDS > 0) {
+            run(users, stats, WARMUP_SECONDS);
+            stats.values().forEach(s -> {
+                s.histogram.reset();
+                s.errors.reset();
+            });
+        }
+        long measuredNanos = run(users, stats, DURATION_SECONDS);
+
+        // Then
+        report(stats, measuredNanos);
+        long succeeded = stats.values().stream()
+                .mapToLong(s -> s.histogram.getTotalCount() - s.errors.sum())
+                .sum();
+        assertThat(succeeded).isPositive();
+    }
+
+    private List<SeedUser> loginAll() throws InterruptedException {
+        List<SeedUser> users = new ArrayList<>(USERS);
+        for (int n = 1; n <= USERS; n++) {
+            String email = String.format(EMAIL_FORMAT, n);
+            try {
+                HttpResponse<String> response = send(loginRequest(email));
+                if (response.statusCode() != 200) {
+                    continue;
+                }
+                String token = objectMapper.readTree(response.body()).path("token").asText(null);
+                if (token == null) {
+                    continue;
+                }
+                users.add(new SeedUser(email, token, findCardAccountId(token)));
+            } catch (IOException e) {
+                System.err.printf("로그인 실패: %s (%s)%n", email, e.getMessage());
+            }
+        }
+        return users;
+    }
+
+    private Long findCardAccountId(String token) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(authorized("/api/bank-accounts", token).GET().build());
+        if (response.statusCode() != 200) {
+            return null;
+        }
+        for (JsonNode account : objectMapper.readTree(response.body())) {
+            if ("CARD".equals(account.path("accountType").asText())) {
+                return account.path("id").asLong();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 스레드 THREADS개로 seconds초 동안 부하를 주고 실제 경과 시간(ns)을 반환
+     */
+    private long run(List<SeedUser> users, Map<Endpoint, Stats> stats, int seconds) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        AtomicBoolean running = new AtomicBoolean(true);
+        long started = System.nanoTime();
+        for (int t = 0; t < THREADS; t++) {
+            SplittableRandom random = new SplittableRandom(t);
+            SeedUser firstUser = users.get(t % users.size());
+            executor.submit(() -> worker(users, firstUser, stats, running, random));
+        }
+        Thread.sleep(TimeUnit.SECONDS.toMillis(seconds));
+        running.set(false);
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+        return System.nanoTime() - started;
+    }
+
+    private void worker(List<SeedUser> users, SeedUser firstUser, Map<Endpoint, Stats> stats,
+                        AtomicBoolean running, SplittableRandom random) {
+        long interval = RATE > 0 ? TimeUnit.SECONDS.toNanos(1) / RATE : 0;
+        long intended = System.nanoTime();
+        SeedUser user = firstUser;
+        while (running.get()) {
+            if (interval > 0) {
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    sleepNanos(wait);
+                }
+            } else {
+                intended = System.nanoTime();
+            }
+            Endpoint endpoint = pick(random);
+            boolean ok = call(endpoint, user);
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended);
+            Stats s = stats.get(endpoint);
+            s.histogram.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+            if (!ok) {
+                s.errors.increment();
+            }
+            intended += interval;
+            // 요청마다 다른 사용자로 바꿔 사용자별 캐시가 한 명에게만 맞지 않도록 함
+            user = users.get(random.nextInt(users.size()));
+        }
+    }
+
+    private boolean call(Endpoint endpoint, SeedUser user) {
+        try {
+            HttpRequest request = switch (endpoint) {
+                case LIST -> authorized("/api/transactions?size=20", user.token()).GET().build();
+                case SUMMARY -> authorized("/api/transactions/summary", user.token()).GET().build();
+                case SESSIONS -> authorized("/api/sessions", user.token()).GET().build();
+                case LOGIN -> loginRequest(user.email());
+                case SYNC -> {
+                    if (user.cardAccountId() == null) {
+                        yield null;
+                    }
+                    yield authorized("/api/bank-accounts/" + user.cardAccountId() + "/card/sync", user.token())
+                            .POST(HttpRequest.BodyPublishers.noBody())
+                            .build();
+                }
+            };
+            if (request == null) {
+                return false;
+            }
+            int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            // 동기화는 큐가 가득 차면 503으로 거절하는 것이 정상 동작
+            return status < 400 || (endpoint == Endpoint.SYNC && status == 503);
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Endpoint pick(SplittableRandom random) {
+        int value = random.nextInt(100);
+        for (Endpoint endpoint : Endpoint.values()) {
+            value -= endpoint.weight;
+            if (value < 0) {
+                return endpoint;
+            }
+        }
+        return Endpoint.LIST;
+    }
+
+    private void report(Map<Endpoint, Stats> stats, long measuredNanos) throws IOException {
+        double seconds = measuredNanos / 1e9;
+        Path dir = Path.of(REPORT_DIR);
+        Files.createDirectories(dir);
+
+        System.out.printf("%n부하 결과: %s, 스레드 %d, %s, %.1f초%n", BASE_URL, THREADS,
+                RATE > 0 ? "스레드당 " + RATE + " req/s" : "closed loop", seconds);
+        System.out.printf("%-42s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        long totalErrors = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            Stats s = stats.get(endpoint);
+            Histogram histogram = s.histogram.copy();
+            total.add(histogram);
+            totalErrors += s.errors.sum();
+            printRow(endpoint.label, histogram, s.errors.sum(), seconds);
+            try (PrintStream out = new PrintStream(
+                    Files.newOutputStream(dir.resolve(endpoint.name().toLowerCase() + ".hgrm")),
+                    false, StandardCharsets.UTF_8)) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        printRow("전체", total, totalErrors, seconds);
+        System.out.printf("백분위 분포(.hgrm): %s%n", dir.toAbsolutePath());
+    }
+
+    private static void printRow(String label, Histogram histogram, long errors, double seconds) {
+        System.out.printf("%-42s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                label, histogram.getTotalCount(), errors, histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(95) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+    }
+
+    private HttpRequest loginRequest(String email) throws IOException {
+        String body = objectMapper.writeValueAsString(Map.of("email", email, "password", PASSWORD));
+        return HttpRequest.newBuilder(URI.create(BASE_URL + "/api/auth/login"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static HttpRequest.Builder authorized(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(BASE_URL + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token);
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void sleepNanos(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
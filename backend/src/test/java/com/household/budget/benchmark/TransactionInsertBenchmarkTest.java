@@ -0,0 +1,182 @@
+package com.household.budget.benchmark;
+
+import com.household.budget.dto.SyncResult;
+import com.household.budget.entity.Transaction;
+import com.household.budget.entity.User;
+import com.household.budget.repository.TransactionRepository;
+import com.household.budget.repository.UserRepository;
+import com.household.budget.service.SyncTransactionWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 거래 INSERT 처리량 벤치마크
+ * 같은 건수를 한 트랜잭션에서 저장하되 ID 할당 방식만 다르게 하여 비교
+ * - identity: 배치 도입 전 방식, Hibernate IDENTITY와 같이 행마다 INSERT 후 생성 키를 읽음 (JdbcTemplate)
+ * - pooled: 현재 매핑(id_generators 풀링 할당), saveAll의 INSERT가 JDBC 배치로 묶임
+ * 참고로 SyncTransactionWriter 전체 경로(청크 트랜잭션, 중복 조회, 집계 반영 포함)의 처리량도 함께 로그로 남김
+ *
+ * 처리량과 배율은 로그로만 남기고 검증하지 않음 (공유 CI에서는 실행 시간이 흔들림)
+ * identity 경로는 Hibernate를 거치지 않으므로 왕복 비용이 거의 없는 인메모리 H2에서는 오히려 빠르게 나올 수 있고,
+ * 배치의 이득(INSERT 왕복 수 감소)은 네트워크 너머의 DB에서 드러남
+ * 기본 테스트에서는 제외되며 다음으로 실행
+ *   mvn test -Pbenchmark  /  ./gradlew benchmarkTest
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+@Tag("benchmark")
+@DisplayName("거래 INSERT 벤치마크")
+class TransactionInsertBenchmarkTest {
+
+    // 첫 측정이 JIT/커넥션 준비 비용을 떠안지 않도록 각 경로를 미리 실행하는 건수
+    private static final int WARM_UP_ROWS = 2_000;
+
+    // id_generators가 나눠주는 범위와 겹치지 않도록 IDENTITY는 별도 대역에서 시작 (H2 문법)
+    private static final long IDENTITY_ID_BASE = 1_000_000_000L;
+
+    private static final String IDENTITY_INSERT = "INSERT INTO transactions (type, amount, description, user_id, " +
+            "transaction_date, created_at, external_transaction_id, sync_source) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private SyncTransactionWriter writer;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("ALTER TABLE transactions ALTER COLUMN id RESTART WITH " + IDENTITY_ID_BASE);
+        user = new User();
+        user.setEmail("benchmark-" + System.nanoTime() + "@example.com");
+        user.setPassword("benchmark");
+        user.setName("Benchmark");
+        user = userRepository.save(user);
+
+        transactionTemplate.executeWithoutResult(status -> insertWithIdentity(generate(WARM_UP_ROWS, "WARM_IDENTITY")));
+        transactionTemplate.executeWithoutResult(status -> transactionRepository.saveAll(generate(WARM_UP_ROWS, "WARM_POOLED")));
+        writer.write(user.getId(), generate(WARM_UP_ROWS, "WARM_SYNC"));
+        deleteUserRows();
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteUserRows();
+        userRepository.deleteById(user.getId());
+    }
+
+    @ParameterizedTest(name = "{0}건")
+    @ValueSource(ints = {10_000, 100_000})
+    @DisplayName("행 단위 IDENTITY INSERT와 풀링 할당 배치 saveAll 처리량 비교")
+    void should_InsertAllRows_When_Bulk(int rows) {
+        // Given
+        List<Transaction> identity = generate(rows, "IDENTITY");
+        List<Transaction> pooled = generate(rows, "POOLED");
+        List<Transaction> synced = generate(rows, "SYNC");
+
+        // When: 배치 도입 전 - IDENTITY, INSERT마다 왕복
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> insertWithIdentity(identity));
+        long identityNanos = System.nanoTime() - start;
+
+        // When: 현재 매핑 - 풀링 할당, JDBC 배치 INSERT
+        start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> transactionRepository.saveAll(pooled));
+        long pooledNanos = System.nanoTime() - start;
+
+        // When: 동기화 저장 전체 경로 (참고용)
+        start = System.nanoTime();
+        SyncResult result = writer.write(user.getId(), synced);
+        long syncNanos = System.nanoTime() - start;
+
+        // Then
+        assertThat(result.getInserted()).isEqualTo(rows);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM transactions WHERE user_id = ?", Long.class, user.getId()))
+                .isEqualTo(3L * rows);
+        double speedup = (double) identityNanos / pooledNanos;
+        log.info("[benchmark] rows={} identity-insert={} rows/s pooled-saveAll={} rows/s speedup={}x sync-writer={} rows/s",
+                rows, Math.round(throughput(rows, identityNanos)), Math.round(throughput(rows, pooledNanos)),
+                String.format("%.2f", speedup), Math.round(throughput(rows, syncNanos)));
+    }
+
+    private void deleteUserRows() {
+        jdbcTemplate.update("DELETE FROM transactions WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM ledger_balances WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM monthly_rollups WHERE user_id = ?", user.getId());
+    }
+
+    // Hibernate IDENTITY와 같은 방식 - 행마다 INSERT를 실행하고 생성 키를 읽음 (배치 불가)
+    private void insertWithIdentity(List<Transaction> transactions) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+        for (Transaction transaction : transactions) {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(IDENTITY_INSERT, Statement.RETURN_GENERATED_KEYS);
+                statement.setString(1, transaction.getType());
+                statement.setBigDecimal(2, transaction.getAmount());
+                statement.setString(3, transaction.getDescription());
+                statement.setLong(4, user.getId());
+                statement.setTimestamp(5, Timestamp.valueOf(transaction.getTransactionDate()));
+                statement.setTimestamp(6, createdAt);
+                statement.setString(7, transaction.getExternalTransactionId());
+                statement.setString(8, transaction.getSyncSource());
+                return statement;
+            }, keyHolder);
+        }
+    }
+
+    private List<Transaction> generate(int rows, String prefix) {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 9, 0);
+        List<Transaction> transactions = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Transaction transaction = new Transaction();
+            transaction.setUser(user);
+            transaction.setType(i % 10 == 0 ? "INCOME" : "EXPENSE");
+            transaction.setAmount(BigDecimal.valueOf(1000L + i % 50_000));
+            transaction.setDescription("벤치마크 거래 " + i);
+            transaction.setTransactionDate(base.plusMinutes(i));
+            transaction.setExternalTransactionId(prefix + "_" + i);
+            transaction.setSyncSource("BENCHMARK");
+            transactions.add(transaction);
+        }
+        return transactions;
+    }
+
+    private double throughput(int rows, long nanos) {
+        return rows / (nanos / 1_000_000_000.0);
+    }
+}
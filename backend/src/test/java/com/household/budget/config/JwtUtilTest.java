@@ -0,0 +1,65 @@
+package com.household.budget.config;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * JwtUtil 테스트
+ * 검증된 토큰 캐시가 서명 오류/만료 판정을 우회하지 않는지 확인
+ */
+@DisplayName("JwtUtil 테스트")
+class JwtUtilTest {
+
+    private static final String SECRET = "mySecretKeyForJWTTokenGeneration12345678901234567890";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000L, 100);
+
+    @Test
+    @DisplayName("같은 토큰을 다시 검증하면 캐시된 인증 주체 반환")
+    void should_ReturnCachedUser_When_SameTokenVerifiedTwice() {
+        // Given
+        String token = jwtUtil.generateToken("test@example.com", 1L, "USER");
+
+        // When
+        AuthenticatedUser first = jwtUtil.extractAuthenticatedUser(token);
+        AuthenticatedUser second = jwtUtil.extractAuthenticatedUser(token);
+
+        // Then
+        assertThat(first.userId()).isEqualTo(1L);
+        assertThat(first.email()).isEqualTo("test@example.com");
+        assertThat(first.role()).isEqualTo("USER");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("같은 클레임이라도 다른 키로 서명된 토큰은 예외 발생")
+    void should_ThrowException_When_SignedWithOtherKey() {
+        // Given
+        jwtUtil.extractAuthenticatedUser(jwtUtil.generateToken("test@example.com", 1L, "ADMIN"));
+        JwtUtil otherIssuer = new JwtUtil(SECRET.replace('1', '9'), 60_000L, 100);
+        String forged = otherIssuer.generateToken("test@example.com", 1L, "ADMIN");
+
+        // When & Then
+        assertThatThrownBy(() -> jwtUtil.extractAuthenticatedUser(forged))
+            .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 캐시하지 않고 매번 예외 발생")
+    void should_ThrowException_When_TokenExpired() {
+        // Given
+        JwtUtil expiredIssuer = new JwtUtil(SECRET, -1_000L, 100);
+        String token = expiredIssuer.generateToken("test@example.com", 1L, "USER");
+
+        // When & Then
+        assertThatThrownBy(() -> jwtUtil.extractAuthenticatedUser(token))
+            .isInstanceOf(ExpiredJwtException.class);
+        assertThatThrownBy(() -> jwtUtil.extractAuthenticatedUser(token))
+            .isInstanceOf(ExpiredJwtException.class);
+    }
+}
@@ -0,0 +1,120 @@
+package com.household.budget.config;
+
+import com.household.budget.entity.User;
+import com.household.budget.infrastructure.database.statistics.SqlBudgetExceededException;
+import com.household.budget.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SqlStatementBudgetFilter 통합 테스트
+ * 테스트 프로필(sql.budget.strict=true)에서 실제 필터 체인을 거친 요청의 SQL을 세고,
+ * 같은 모양의 조회를 반복(N+1)하는 요청은 SqlBudgetExceededException으로 실패하는지 확인
+ */
+@SpringBootTest(properties = "sql.budget.max-repeats=3")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(SqlStatementBudgetFilterIntegrationTest.LookupController.class)
+@DisplayName("SqlStatementBudgetFilter 통합 테스트")
+class SqlStatementBudgetFilterIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User user;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setEmail("sql-budget-" + System.nanoTime() + "@example.com");
+        user.setPassword("budget");
+        user.setName("Budget");
+        user.setRole("USER");
+        user = userRepository.save(user);
+        token = jwtUtil.generateToken(user.getEmail(), user.getId(), user.getRole());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    @DisplayName("예산 안의 요청은 그대로 응답하고 요청당 SQL 문장 수를 URI별로 기록")
+    void should_RecordStatements_When_WithinBudget() throws Exception {
+        // When
+        mockMvc.perform(get("/test/sql-budget/single").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // Then
+        assertThat(meterRegistry.get("sql.request.statements").tag("uri", "/test/sql-budget/single")
+                .summary().max()).isEqualTo(1);
+        assertThat(meterRegistry.find("sql.budget.exceeded").tag("uri", "/test/sql-budget/single").counter())
+                .isNull();
+    }
+
+    @Test
+    @DisplayName("같은 모양의 조회를 반복하는 요청은 엄격 모드에서 예외로 실패하고 초과 지표를 기록")
+    void should_Fail_When_SameQueryRepeatsOverBudget() {
+        // When & Then
+        assertThatThrownBy(() -> mockMvc.perform(get("/test/sql-budget/n-plus-one")
+                        .header("Authorization", "Bearer " + token)))
+                .isInstanceOf(SqlBudgetExceededException.class)
+                .hasMessageContaining("GET /test/sql-budget/n-plus-one")
+                .hasMessageContaining("5회");
+        assertThat(meterRegistry.get("sql.budget.exceeded").tag("uri", "/test/sql-budget/n-plus-one")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    /**
+     * 한 번 조회 / 행마다 조회(N+1)하는 테스트 전용 엔드포인트
+     */
+    @RestController
+    static class LookupController {
+        private final UserRepository userRepository;
+
+        LookupController(UserRepository userRepository) {
+            this.userRepository = userRepository;
+        }
+
+        @GetMapping("/test/sql-budget/single")
+        long single() {
+            return userRepository.count();
+        }
+
+        @GetMapping("/test/sql-budget/n-plus-one")
+        long nPlusOne() {
+            return LongStream.rangeClosed(-5, -1)
+                    .filter(id -> userRepository.findById(id).isPresent())
+                    .count();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.household.budget.config;
+
+import com.household.budget.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * UserContext 테스트
+ * 토큰의 인증 주체를 우선 쓰고, 역할이 빠진 경우에만 이메일로 조회하는지 확인
+ */
+@DisplayName("UserContext 테스트")
+class UserContextTest {
+
+    private final List<String> lookups = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("인증 주체가 완전하면 조회 없이 사용자 ID와 역할 반환")
+    void should_UsePrincipal_When_Complete() {
+        // Given
+        authenticate(new AuthenticatedUser(1L, "admin@example.com", "ADMIN", null));
+
+        // When & Then
+        assertThat(UserContext.requireUserId(lookup("USER"))).isEqualTo(1L);
+        assertThat(UserContext.isAdmin(lookup("USER"))).isTrue();
+        assertThat(lookups).isEmpty();
+    }
+
+    @Test
+    @DisplayName("역할이 빠진 토큰은 이메일로 조회한 현재 역할 사용")
+    void should_LookUpByEmail_When_RoleMissing() {
+        // Given - 역할 변경 이전에 발급된 토큰
+        authenticate(new AuthenticatedUser(1L, "member@example.com", "ADMIN", null).withoutRole());
+
+        // When
+        AuthenticatedUser user = UserContext.requireUser(lookup("USER"));
+
+        // Then
+        assertThat(user.userId()).isEqualTo(1L);
+        assertThat(user.isAdmin()).isFalse();
+        assertThat(lookups).containsExactly("member@example.com");
+    }
+
+    @Test
+    @DisplayName("인증 정보가 없으면 requireUser는 예외, isAdmin과 findUser는 false/null")
+    void should_RejectOrDeny_When_Unauthenticated() {
+        // When & Then
+        assertThatThrownBy(() -> UserContext.requireUserId(lookup("ADMIN")))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("인증이 필요합니다.");
+        assertThat(UserContext.isAdmin(lookup("ADMIN"))).isFalse();
+        assertThat(UserContext.findUser(lookup("ADMIN"))).isNull();
+        assertThat(lookups).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이메일 조회에 실패하면 isAdmin은 false")
+    void should_DenyAdmin_When_LookupFails() {
+        // Given
+        authenticate(new AuthenticatedUser(null, "gone@example.com", null, null));
+
+        // When & Then
+        assertThat(UserContext.isAdmin(email -> {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        })).isFalse();
+    }
+
+    private Function<String, User> lookup(String role) {
+        return email -> {
+            lookups.add(email);
+            User user = new User();
+            user.setId(1L);
+            user.setEmail(email);
+            user.setRole(role);
+            return user;
+        };
+    }
+
+    private static void authenticate(AuthenticatedUser user) {
+        List<SimpleGrantedAuthority> authorities = user.role() != null
+                ? List.of(new SimpleGrantedAuthority("ROLE_" + user.role()))
+                : List.of();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, authorities));
+    }
+}
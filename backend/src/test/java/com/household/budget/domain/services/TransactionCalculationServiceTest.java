@@ -228,6 +228,32 @@ class TransactionCalculationServiceTest {
         assertThat(newBalance).isEqualByComparingTo(new BigDecimal("10000"));
     }
     
+    @Test
+    @DisplayName("BigDecimal 잔액 계산은 소수 자릿수를 바꾸지 않음")
+    void should_KeepScale_When_CalculatingWithBigDecimal() {
+        // Given
+        Transaction income = createTransaction(500, "INCOME");
+        
+        // When
+        BigDecimal newBalance = service.calculateNewBalance(new BigDecimal("10000.125"), new BigDecimal("0.5"), "EXPENSE");
+        BigDecimal wholeBalance = income.calculateBalance(new BigDecimal("1000"));
+        
+        // Then
+        assertThat(newBalance).isEqualTo(new BigDecimal("9999.625"));
+        assertThat(wholeBalance).isEqualTo(new BigDecimal("1500"));
+    }
+    
+    @Test
+    @DisplayName("저장 단위로 표현할 수 없는 거래 금액은 반올림하지 않고 예외")
+    void should_RejectAmount_When_MoreThanTwoDecimals() {
+        // Given
+        Transaction transaction = new Transaction();
+        
+        // When & Then
+        assertThatThrownBy(() -> transaction.setAmount(new BigDecimal("1000.005")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+    
     // Helper
     private Transaction createTransaction(int amount, String type) {
         Transaction transaction = new Transaction();
@@ -0,0 +1,82 @@
+package com.household.budget.domain.valueobjects;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Money Value Object 테스트
+ */
+@DisplayName("Money 테스트")
+class MoneyTest {
+
+    @Test
+    @DisplayName("저장 단위(소수 2자리) 최소 단위로 변환하고 되돌리면 같은 값")
+    void should_RoundTrip_When_StorageScale() {
+        // When
+        Money money = Money.of(new BigDecimal("12345.6"));
+
+        // Then
+        assertThat(money.getMinorUnits()).isEqualTo(1234560L);
+        assertThat(money.getScale()).isEqualTo(Money.STORAGE_SCALE);
+        assertThat(money.toBigDecimal()).isEqualTo(new BigDecimal("12345.60"));
+        assertThat(Money.toMinorUnits(new BigDecimal("0.500"))).isEqualTo(50L);
+    }
+
+    @Test
+    @DisplayName("저장 단위로 표현할 수 없는 금액은 반올림하지 않고 예외")
+    void should_Reject_When_NotStorable() {
+        // When & Then
+        assertThatThrownBy(() -> Money.toMinorUnits(new BigDecimal("0.005")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("0.005");
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1E+17")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("통화 단위 - KRW는 소수가 없고 USD는 2자리")
+    void should_UseCurrencyFractionDigits_When_CurrencyGiven() {
+        // When
+        Money won = Money.of(new BigDecimal("15000.00"), Currency.getInstance("KRW"));
+        Money dollar = Money.of(new BigDecimal("19.99"), Currency.getInstance("USD"));
+
+        // Then
+        assertThat(won.getMinorUnits()).isEqualTo(15000L);
+        assertThat(won.getScale()).isZero();
+        assertThat(dollar.getMinorUnits()).isEqualTo(1999L);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("100.5"), Currency.getInstance("KRW")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("덧셈/뺄셈이 long 범위를 넘으면 예외")
+    void should_Throw_When_Overflow() {
+        // Given
+        Money max = Money.ofMinor(Long.MAX_VALUE, Money.STORAGE_SCALE);
+
+        // When & Then
+        assertThatThrownBy(() -> max.plus(Money.ofMinor(1L, Money.STORAGE_SCALE)))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.subtract(Long.MIN_VALUE, 1L))
+                .isInstanceOf(ArithmeticException.class);
+        assertThat(Money.add(-5L, 3L)).isEqualTo(-2L);
+    }
+
+    @Test
+    @DisplayName("소수 자릿수가 다른 금액은 함께 계산하지 않음")
+    void should_Reject_When_ScalesDiffer() {
+        // Given
+        Money won = Money.ofMinor(1000L, 0);
+        Money stored = Money.ofMinor(1000L, Money.STORAGE_SCALE);
+
+        // When & Then
+        assertThatThrownBy(() -> won.plus(stored)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(won).isNotEqualTo(stored);
+    }
+}
@@ -0,0 +1,156 @@
+package com.household.budget.infrastructure.analytics;
+
+import com.household.budget.domain.entities.Transaction;
+import com.household.budget.domain.events.TransactionChangedEvent;
+import com.household.budget.domain.repositories.TransactionAnalyticsRepository.Breakdown;
+import com.household.budget.domain.repositories.TransactionAnalyticsRepository.CategoryTotal;
+import com.household.budget.domain.repositories.TransactionAnalyticsRepository.DailyTotal;
+import com.household.budget.domain.repositories.TransactionAnalyticsRepository.WeekdayTotal;
+import com.household.budget.domain.repositories.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 메모리 열 저장소 분석 집계 테스트
+ * 적재용 Repository Stream을 Mock으로 처리
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ColumnarTransactionAnalyticsRepository 테스트")
+class ColumnarTransactionAnalyticsRepositoryTest {
+
+    private static final LocalDate MARCH_1 = LocalDate.of(2024, 3, 1);
+    private static final LocalDate MARCH_31 = LocalDate.of(2024, 3, 31);
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    private Transaction lunch;
+    private Transaction snack;
+
+    @BeforeEach
+    void setUp() {
+        // 2024-03-04는 월요일, 2024-02-01은 목요일
+        lunch = transaction(1L, 1L, "EXPENSE", "12000", 10L, null, LocalDate.of(2024, 3, 4));
+        snack = transaction(2L, 1L, "EXPENSE", "3000.50", 10L, 5L, LocalDate.of(2024, 3, 5));
+        Transaction salary = transaction(3L, 1L, "INCOME", "3000000", null, 5L, LocalDate.of(2024, 3, 4));
+        Transaction february = transaction(4L, 1L, "EXPENSE", "500", 20L, null, LocalDate.of(2024, 2, 1));
+        lenient().when(transactionRepository.streamByUserIdAndDateRange(eq(1L), any(), any()))
+                .thenAnswer(invocation -> Stream.of(lunch, snack, salary, february));
+        lenient().when(transactionRepository.streamByUserIdAndDateRange(eq(2L), any(), any()))
+                .thenAnswer(invocation -> Stream.of(
+                        transaction(9L, 2L, "EXPENSE", "1000", null, null, LocalDate.of(2024, 3, 1))));
+    }
+
+    @Test
+    @DisplayName("첫 조회 때 한 번 적재하고 카테고리/일별/요일별로 집계")
+    void should_AggregateColumns_When_LoadedOnce() {
+        // Given
+        ColumnarTransactionAnalyticsRepository repository = new ColumnarTransactionAnalyticsRepository(
+                transactionRepository, 1_000_000L);
+
+        // When
+        List<CategoryTotal> categories = repository.totalsByCategory(1L, MARCH_1, MARCH_31, null);
+        List<DailyTotal> daily = repository.dailyTotals(1L, LocalDate.of(2024, 3, 4), LocalDate.of(2024, 3, 6), 5L);
+        List<WeekdayTotal> weekdays = repository.weekdayTotals(1L, null, null, null);
+
+        // Then
+        assertThat(categories).containsExactlyInAnyOrder(
+                new CategoryTotal(null, 300_000_000L, 0L, 1),
+                new CategoryTotal(10L, 0L, 1_500_050L, 2));
+        assertThat(daily).containsExactly(
+                new DailyTotal(LocalDate.of(2024, 3, 4), 300_000_000L, 0L, 1),
+                new DailyTotal(LocalDate.of(2024, 3, 5), 0L, 300_050L, 1),
+                new DailyTotal(LocalDate.of(2024, 3, 6), 0L, 0L, 0));
+        assertThat(weekdays).hasSize(7);
+        assertThat(weekdays.get(0)).isEqualTo(new WeekdayTotal(DayOfWeek.MONDAY, 300_000_000L, 1_200_000L, 2));
+        assertThat(weekdays.get(1)).isEqualTo(new WeekdayTotal(DayOfWeek.TUESDAY, 0L, 300_050L, 1));
+        assertThat(weekdays.get(3)).isEqualTo(new WeekdayTotal(DayOfWeek.THURSDAY, 0L, 50_000L, 1));
+        verify(transactionRepository, times(1)).streamByUserIdAndDateRange(eq(1L), any(), any());
+    }
+
+    @Test
+    @DisplayName("세 집계를 한 번에 요청하면 보관하지 않는 사용자도 거래를 한 번만 읽고 개별 집계와 같은 결과")
+    void should_StreamOnce_When_BreakdownWithoutRetention() {
+        // Given - max-bytes 0: 보관하지 않고 조회마다 적재
+        ColumnarTransactionAnalyticsRepository repository = new ColumnarTransactionAnalyticsRepository(
+                transactionRepository, 0L);
+
+        // When
+        Breakdown breakdown = repository.breakdown(1L, MARCH_1, MARCH_31, null);
+
+        // Then
+        verify(transactionRepository, times(1)).streamByUserIdAndDateRange(eq(1L), any(), any());
+        assertThat(repository.cachedUsers()).isZero();
+        assertThat(breakdown.categories())
+                .containsExactlyInAnyOrderElementsOf(repository.totalsByCategory(1L, MARCH_1, MARCH_31, null));
+        assertThat(breakdown.daily()).hasSize(31)
+                .containsExactlyElementsOf(repository.dailyTotals(1L, MARCH_1, MARCH_31, null));
+        assertThat(breakdown.weekdays())
+                .containsExactlyElementsOf(repository.weekdayTotals(1L, MARCH_1, MARCH_31, null));
+    }
+
+    @Test
+    @DisplayName("커밋된 변경은 다시 적재하지 않고 반영하며 같은 추가가 두 번 와도 한 번만 집계")
+    void should_ApplyChanges_When_UserLoaded() {
+        // Given
+        ColumnarTransactionAnalyticsRepository repository = new ColumnarTransactionAnalyticsRepository(
+                transactionRepository, 1_000_000L);
+        repository.totalsByCategory(1L, MARCH_1, MARCH_31, null);
+        Transaction editedLunch = transaction(1L, 1L, "EXPENSE", "15000", 10L, null, LocalDate.of(2024, 3, 4));
+        Transaction otherUser = transaction(10L, 2L, "EXPENSE", "100", null, null, LocalDate.of(2024, 3, 1));
+
+        // When
+        repository.apply(List.of(
+                TransactionChangedEvent.removed(lunch),
+                TransactionChangedEvent.added(editedLunch),
+                TransactionChangedEvent.added(snack),
+                TransactionChangedEvent.added(otherUser)));
+        List<CategoryTotal> categories = repository.totalsByCategory(1L, MARCH_1, MARCH_31, null);
+
+        // Then
+        assertThat(categories).contains(new CategoryTotal(10L, 0L, 1_800_050L, 2));
+        assertThat(repository.cachedUsers()).isEqualTo(1);
+        verify(transactionRepository, times(1)).streamByUserIdAndDateRange(eq(1L), any(), any());
+        verify(transactionRepository, never()).streamByUserIdAndDateRange(eq(2L), any(), any());
+    }
+
+    @Test
+    @DisplayName("메모리 한도를 넘으면 가장 오래 조회하지 않은 사용자를 퇴출하고 다음 조회 때 다시 적재")
+    void should_EvictLeastRecentlyUsed_When_OverBudget() {
+        // Given - 사용자 한 명(초기 용량 64행)만 들어가는 한도
+        ColumnarTransactionAnalyticsRepository repository = new ColumnarTransactionAnalyticsRepository(
+                transactionRepository, 3_000L);
+
+        // When
+        repository.weekdayTotals(1L, null, null, null);
+        repository.weekdayTotals(2L, null, null, null);
+        repository.weekdayTotals(1L, null, null, null);
+
+        // Then
+        assertThat(repository.cachedUsers()).isEqualTo(1);
+        assertThat(repository.usedBytes()).isLessThanOrEqualTo(3_000L);
+        verify(transactionRepository, times(2)).streamByUserIdAndDateRange(eq(1L), any(), any());
+    }
+
+    private static Transaction transaction(Long id, Long userId, String type, String amount, Long categoryId,
+                                           Long sessionId, LocalDate date) {
+        return new Transaction(id, type, new BigDecimal(amount), "거래 " + id, categoryId, userId, sessionId,
+                date.atTime(12, 0), null);
+    }
+}
@@ -0,0 +1,154 @@
+package com.household.budget.infrastructure.database;
+
+import com.household.budget.infrastructure.database.jpa.SpringDataTransactionRepository;
+import com.household.budget.repository.TransactionRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 거래 조회 실행 계획 테스트
+ * Flyway 마이그레이션으로 만든 스키마에서 Repository가 실제로 생성한 SQL을 EXPLAIN 하여
+ * 사용자 단위 조회가 전체 스캔(tableScan)으로 떨어지면 실패
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("거래 조회 실행 계획 테스트")
+class TransactionQueryPlanTest {
+    // 바깥 @DataJpaTest의 properties는 @Nested 컨텍스트에 전달되지 않으므로 중첩 클래스마다 지정
+    private static final String CAPTURING_INSPECTOR = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+            + "com.household.budget.infrastructure.database.TransactionQueryPlanTest$CapturingInspector";
+
+    @Nested
+    @TestPropertySource(properties = {CAPTURING_INSPECTOR,
+            "spring.datasource.url=jdbc:h2:mem:plan_h2;DATABASE_TO_LOWER=TRUE"})
+    @DisplayName("H2")
+    class H2Mode extends QueryPlanCases {
+    }
+
+    @Nested
+    @TestPropertySource(properties = {CAPTURING_INSPECTOR,
+            "spring.datasource.url=jdbc:h2:mem:plan_mysql;MODE=MySQL;DATABASE_TO_LOWER=TRUE"})
+    @DisplayName("H2 (MySQL 모드)")
+    class MySqlMode extends QueryPlanCases {
+    }
+
+    abstract static class QueryPlanCases {
+
+        @Autowired
+        private SpringDataTransactionRepository springDataRepository;
+
+        @Autowired
+        private TransactionRepository legacyRepository;
+
+        @Autowired
+        private DataSource dataSource;
+
+        @Test
+        @DisplayName("사용자 단위 거래 조회는 인덱스를 사용")
+        void should_UseIndex_When_QueryingByUser() throws SQLException {
+            // Given
+            LocalDateTime now = LocalDateTime.now();
+            Map<String, Runnable> queries = new LinkedHashMap<>();
+            queries.put("findByUserIdAndTypeOrderByTransactionDateDesc",
+                () -> springDataRepository.findByUserIdAndTypeOrderByTransactionDateDesc(1L, "EXPENSE"));
+            queries.put("findByUserIdAndSessionId",
+                () -> springDataRepository.findByUserIdAndSessionId(1L, 1L));
+            queries.put("findByUserIdAndDateRange",
+                () -> springDataRepository.findByUserIdAndDateRange(1L, now.minusMonths(1), now));
+            queries.put("findByUserIdOrderByTransactionDateDescIdDesc",
+                () -> springDataRepository.findByUserIdOrderByTransactionDateDescIdDesc(1L, PageRequest.of(0, 20)));
+            queries.put("findByUserIdAfterCursor",
+                () -> springDataRepository.findByUserIdAfterCursor(1L, now, 100L, PageRequest.of(0, 20)));
+            queries.put("summarizeByUserId",
+                () -> springDataRepository.summarizeByUserId(1L));
+            queries.put("aggregateBySessionForUser",
+                () -> springDataRepository.aggregateBySessionForUser(1L));
+            queries.put("aggregateMonthlyForUser",
+                () -> springDataRepository.aggregateMonthlyForUser(1L));
+            queries.put("legacy findByUserIdAndTypeOrderByTransactionDateDesc",
+                () -> legacyRepository.findByUserIdAndTypeOrderByTransactionDateDesc(1L, "EXPENSE"));
+            queries.put("legacy findByUserIdAndSessionId",
+                () -> legacyRepository.findByUserIdAndSessionId(1L, 1L));
+            queries.put("legacy findByUserIdAndDateRange",
+                () -> legacyRepository.findByUserIdAndDateRange(1L, now.minusMonths(1), now));
+            queries.put("legacy findDtosByUserId",
+                () -> legacyRepository.findDtosByUserId(1L));
+            queries.put("legacy findDtosByUserIdAndType",
+                () -> legacyRepository.findDtosByUserIdAndType(1L, "EXPENSE"));
+            queries.put("legacy findDtosByUserIdAndSessionId",
+                () -> legacyRepository.findDtosByUserIdAndSessionId(1L, 1L));
+            queries.put("legacy findExistingExternalIds",
+                () -> legacyRepository.findExistingExternalIds(1L, List.of("EXT_1", "EXT_2")));
+
+            for (Map.Entry<String, Runnable> query : queries.entrySet()) {
+                // When
+                String plan = explain(captureSql(query.getKey(), query.getValue()));
+
+                // Then
+                assertThat(plan).as(query.getKey() + " 실행 계획").doesNotContainIgnoringCase("tableScan");
+            }
+        }
+
+        // Repository 호출 중 transactions 테이블을 읽은 첫 SQL
+        private String captureSql(String name, Runnable query) {
+            CapturingInspector.CAPTURED.clear();
+            query.run();
+            List<String> captured = List.copyOf(CapturingInspector.CAPTURED);
+            return captured.stream()
+                .filter(sql -> sql.toLowerCase().contains("transactions"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError(name + " 호출에서 transactions 조회 SQL을 찾지 못했습니다: " + captured));
+        }
+
+        // 계획은 파라미터 값과 무관하게 준비 시점에 결정되므로 모든 파라미터를 NULL로 바인딩
+        private String explain(String sql) throws SQLException {
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                int parameterCount = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameterCount; i++) {
+                    statement.setObject(i, null);
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        plan.append(rs.getString(1)).append('\n');
+                    }
+                }
+                return plan.toString();
+            }
+        }
+    }
+
+    /**
+     * Hibernate가 실행하는 SQL을 수집
+     */
+    public static class CapturingInspector implements StatementInspector {
+        static final List<String> CAPTURED = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            CAPTURED.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.household.budget.infrastructure.database.jpa;
+
+import com.household.budget.domain.entities.MonthlyRollup;
+import com.household.budget.domain.repositories.MonthlyRollupRepository;
+import com.household.budget.domain.repositories.TransactionRepository;
+import com.household.budget.entity.User;
+import com.household.budget.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * monthly_rollups 통합 테스트 (H2)
+ * 첫 거래 동시 반영과 기존 거래 초기 적재(V6 마이그레이션)를 실제 DB로 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("monthly_rollups 통합 테스트")
+class MonthlyRollupJpaRepositoryTest {
+    private static final int WRITERS = 8;
+
+    @Autowired
+    private MonthlyRollupRepository monthlyRollupRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setEmail("rollup-" + System.nanoTime() + "@example.com");
+        user.setPassword("rollup");
+        user.setName("Rollup");
+        user.setRole("USER");
+        user = userRepository.save(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM transactions WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM monthly_rollups WHERE user_id = ?", user.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    @DisplayName("같은 월/카테고리의 첫 거래가 동시에 들어와도 모두 반영되고 행은 하나")
+    void should_ApplyAllDeltas_When_FirstWritesRace() throws Exception {
+        // Given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        List<Future<?>> writes = new ArrayList<>();
+
+        // When
+        try {
+            for (int i = 0; i < WRITERS; i++) {
+                writes.add(executor.submit(() -> {
+                    start.await();
+                    transactionTemplate.executeWithoutResult(status -> monthlyRollupRepository.applyDelta(
+                            user.getId(), 202403, null, "EXPENSE", new BigDecimal("10.00"), 1));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> write : writes) {
+                write.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        List<MonthlyRollup> rollups = monthlyRollupRepository.findByUserId(user.getId());
+        assertThat(rollups).hasSize(1);
+        assertThat(rollups.get(0).getTransactionCount()).isEqualTo(WRITERS);
+        assertThat(rollups.get(0).getTotalAmount()).isEqualByComparingTo(new BigDecimal("10.00").multiply(BigDecimal.valueOf(WRITERS)));
+    }
+
+    @Test
+    @DisplayName("첫 거래의 0 행은 호출자 트랜잭션에서 만들어져 롤백되면 함께 사라짐")
+    void should_RollBackEmptyRow_When_CallerRollsBack() {
+        // Given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            monthlyRollupRepository.applyDelta(user.getId(), 202403, null, "EXPENSE", new BigDecimal("10.00"), 1);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(monthlyRollupRepository.findByUserId(user.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("초기 적재 마이그레이션은 기존 거래를 원본 집계와 같게 채우고 집계가 있는 사용자는 건너뜀")
+    void should_BackfillFromTransactions_When_MigrationRuns() {
+        // Given - 이벤트 없이 직접 넣은 거래 (집계에 반영되지 않은 기존 데이터)
+        insertTransaction("INCOME", "3000000.00", LocalDateTime.of(2024, 3, 25, 9, 0));
+        insertTransaction("EXPENSE", "12000.00", LocalDateTime.of(2024, 3, 1, 12, 30));
+        insertTransaction("EXPENSE", "8000.00", LocalDateTime.of(2024, 3, 31, 23, 59));
+        insertTransaction("EXPENSE", "5000.00", LocalDateTime.of(2024, 4, 1, 0, 0));
+        assertThat(monthlyRollupRepository.findByUserId(user.getId())).isEmpty();
+
+        // When
+        runBackfill();
+
+        // Then
+        List<MonthlyRollup> expected = transactionRepository.aggregateMonthlyByUserId(user.getId());
+        assertThat(monthlyRollupRepository.findByUserId(user.getId()))
+                .hasSize(3)
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("totalAmount")
+                .containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(monthlyRollupRepository.findByUserIdAndPeriod(user.getId(), 202403, 202403))
+                .filteredOn(MonthlyRollup::isExpense)
+                .singleElement()
+                .satisfies(rollup -> {
+                    assertThat(rollup.getTransactionCount()).isEqualTo(2);
+                    assertThat(rollup.getTotalAmount()).isEqualByComparingTo("20000.00");
+                });
+
+        // When - 다시 실행해도 중복 적재하지 않음
+        runBackfill();
+
+        // Then
+        assertThat(monthlyRollupRepository.findByUserId(user.getId())).hasSize(3);
+    }
+
+    private void runBackfill() {
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V6__backfill_monthly_rollups.sql"))
+                .execute(dataSource);
+    }
+
+    private void insertTransaction(String type, String amount, LocalDateTime transactionDate) {
+        jdbcTemplate.update("INSERT INTO transactions (type, amount, description, user_id, " +
+                        "transaction_date, created_at) VALUES (?, ?, ?, ?, ?, ?)",
+                type, new BigDecimal(amount), "기존 거래", user.getId(), transactionDate, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,90 @@
+package com.household.budget.infrastructure.database.statistics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SqlStatementTracker / SqlStatementBudget 테스트
+ */
+@DisplayName("SqlStatementTracker 테스트")
+class SqlStatementTrackerTest {
+
+    private final StatementCountingInspector inspector = new StatementCountingInspector();
+
+    @Test
+    @DisplayName("리터럴과 IN 목록 길이가 달라도 같은 SQL 모양으로 집계")
+    void should_NormalizeLiteralsAndInLists_When_ShapingSql() {
+        // When
+        String first = SqlStatementTracker.shapeOf("select c.id from categories c where c.id in (?, ?, ?) and c.name = 'a'");
+        String second = SqlStatementTracker.shapeOf("select c.id  from categories c\n where c.id in (?) and c.name = 'b''c'");
+
+        // Then
+        assertThat(first).isEqualTo(second)
+                .isEqualTo("select c.id from categories c where c.id in (?...) and c.name = ?");
+        assertThat(SqlStatementTracker.shapeOf("select t1_0.id from transactions t1_0 fetch first 20 rows only"))
+                .isEqualTo("select t1_0.id from transactions t1_0 fetch first ? rows only");
+    }
+
+    @Test
+    @DisplayName("반복된 SQL이 예산을 넘으면 N+1 의심으로 보고")
+    void should_ReportRepeatedShape_When_SameQueryRunsPerRow() {
+        // Given
+        SqlStatementBudget budget = new SqlStatementBudget(10, 0, 3);
+
+        // When
+        try (SqlStatementTracker.Scope scope = SqlStatementTracker.begin()) {
+            inspector.inspect("select * from transactions where user_id=?");
+            for (int i = 0; i < 5; i++) {
+                inspector.inspect("select * from budget_sessions where id=?");
+            }
+            SqlStatementTracker.entityLoaded();
+
+            // Then
+            assertThat(scope.statements()).isEqualTo(6);
+            assertThat(scope.entityLoads()).isEqualTo(1);
+            assertThat(scope.topShapes(1)).containsExactly(Map.entry("select * from budget_sessions where id=?", 5));
+            assertThat(budget.violations(scope)).singleElement().asString().contains("5회 반복");
+            assertThat(SqlStatementBudget.describe("GET /api/transactions", scope, budget.violations(scope)))
+                    .contains("GET /api/transactions", "5회: select * from budget_sessions where id=?");
+        }
+    }
+
+    @Test
+    @DisplayName("중첩 Scope의 기록은 바깥 Scope에도 합산되고 닫으면 바깥 Scope로 돌아감")
+    void should_PropagateToOuterScope_When_Nested() {
+        try (SqlStatementTracker.Scope outer = SqlStatementTracker.begin()) {
+            // When
+            try (SqlStatementTracker.Scope inner = SqlStatementTracker.begin()) {
+                inspector.inspect("select 1");
+                assertThat(inner.statements()).isEqualTo(1);
+            }
+            inspector.inspect("select 2");
+
+            // Then
+            assertThat(outer.statements()).isEqualTo(2);
+            assertThat(new SqlStatementBudget(0, 0, 0).violations(outer)).isEmpty();
+        }
+        // Scope 밖의 SQL은 무시
+        inspector.inspect("select 3");
+    }
+
+    @Test
+    @DisplayName("이미 설정된 inspector가 있으면 기록 후 위임하고 그 결과 SQL을 반환")
+    void should_DelegateToConfiguredInspector_When_Wrapping() {
+        // Given
+        StatementCountingInspector wrapping = new StatementCountingInspector(sql -> "/* traced */ " + sql);
+
+        // When
+        try (SqlStatementTracker.Scope scope = SqlStatementTracker.begin()) {
+            String inspected = wrapping.inspect("select 1");
+
+            // Then
+            assertThat(inspected).isEqualTo("/* traced */ select 1");
+            assertThat(scope.topShapes(1)).containsExactly(Map.entry("select ?", 1));
+        }
+    }
+}
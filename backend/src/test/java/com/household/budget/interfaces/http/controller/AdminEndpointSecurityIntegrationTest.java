@@ -0,0 +1,104 @@
+package com.household.budget.interfaces.http.controller;
+
+import com.household.budget.config.JwtUtil;
+import com.household.budget.entity.User;
+import com.household.budget.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 관리자 전용 엔드포인트 보안 통합 테스트
+ * 실제 Security 필터 체인을 거쳐 인증 없음은 401, 관리자가 아니면 403인지 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("관리자 전용 엔드포인트 보안 통합 테스트")
+class AdminEndpointSecurityIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private User admin;
+    private User member;
+
+    @BeforeEach
+    void setUp() {
+        admin = saveUser("ADMIN");
+        member = saveUser("USER");
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteById(admin.getId());
+        userRepository.deleteById(member.getId());
+    }
+
+    @Test
+    @DisplayName("역할 변경은 인증 없으면 401, 일반 사용자는 403, 관리자는 204")
+    void should_RequireAdmin_When_ChangingRole() throws Exception {
+        // When & Then
+        mockMvc.perform(changeRole(member.getId(), "ADMIN"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(changeRole(member.getId(), "ADMIN").header("Authorization", "Bearer " + token(member)))
+                .andExpect(status().isForbidden());
+        assertThat(userRepository.findById(member.getId())).hasValueSatisfying(
+                user -> assertThat(user.getRole()).isEqualTo("USER"));
+
+        mockMvc.perform(changeRole(member.getId(), "ADMIN").header("Authorization", "Bearer " + token(admin)))
+                .andExpect(status().isNoContent());
+        assertThat(userRepository.findById(member.getId())).hasValueSatisfying(
+                user -> assertThat(user.getRole()).isEqualTo("ADMIN"));
+    }
+
+    @Test
+    @DisplayName("사용자 조회 캐시 통계는 인증 없으면 401, 일반 사용자는 403, 관리자는 200")
+    void should_RequireAdmin_When_ReadingCacheStats() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/auth/cache-stats"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/auth/cache-stats").header("Authorization", "Bearer " + token(member)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/auth/cache-stats").header("Authorization", "Bearer " + token(admin)))
+                .andExpect(status().isOk());
+    }
+
+    private static MockHttpServletRequestBuilder changeRole(Long userId, String role) {
+        return put("/api/auth/users/{userId}/role", userId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"role\":\"" + role + "\"}");
+    }
+
+    private String token(User user) {
+        return jwtUtil.generateToken(user.getEmail(), user.getId(), user.getRole());
+    }
+
+    private User saveUser(String role) {
+        User user = new User();
+        user.setEmail(role.toLowerCase() + "-" + System.nanoTime() + "@example.com");
+        user.setPassword("security");
+        user.setName("Security");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+}
@@ -1,11 +1,13 @@
 package com.household.budget.interfaces.http.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.household.budget.application.services.DataVersionApplicationService;
 import com.household.budget.config.JwtAuthenticationFilter;
 import com.household.budget.config.JwtUtil;
 import com.household.budget.dto.AuthResponse;
 import com.household.budget.dto.LoginRequest;
 import com.household.budget.dto.RegisterRequest;
+import com.household.budget.dto.RoleChangeRequest;
 import com.household.budget.service.AuthService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -42,6 +46,9 @@ class AuthControllerTest {
     @MockBean
     private JwtUtil jwtUtil;
     
+    @MockBean
+    private DataVersionApplicationService dataVersionService;
+    
     @Autowired
     private ObjectMapper objectMapper;
     
@@ -208,5 +215,55 @@ class AuthControllerTest {
                 .content(objectMapper.writeValueAsString(request)))
             .andExpect(status().isBadRequest());
     }
+    
+    // 역할 변경 테스트
+    
+    @Test
+    @DisplayName("역할 변경 성공")
+    void should_ChangeRole_When_Admin() throws Exception {
+        // Given
+        RoleChangeRequest request = new RoleChangeRequest();
+        request.setRole("ADMIN");
+        
+        // When & Then
+        mockMvc.perform(put("/api/auth/users/2/role")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isNoContent());
+        verify(authService).changeRole(2L, "ADMIN");
+    }
+    
+    @Test
+    @DisplayName("역할 변경 실패 - 관리자가 아님")
+    void should_ReturnForbidden_When_NotAdmin() throws Exception {
+        // Given
+        RoleChangeRequest request = new RoleChangeRequest();
+        request.setRole("ADMIN");
+        
+        when(authService.changeRole(eq(2L), any()))
+            .thenThrow(new SecurityException("권한이 없습니다."));
+        
+        // When & Then
+        mockMvc.perform(put("/api/auth/users/2/role")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isForbidden());
+    }
+    
+    @Test
+    @DisplayName("역할 변경 실패 - 알 수 없는 역할")
+    void should_ReturnBadRequest_When_UnknownRole() throws Exception {
+        // Given
+        RoleChangeRequest request = new RoleChangeRequest();
+        request.setRole("ROOT");
+        
+        when(authService.changeRole(eq(2L), any()))
+            .thenThrow(new IllegalArgumentException("알 수 없는 역할입니다: ROOT"));
+        
+        // When & Then
+        mockMvc.perform(put("/api/auth/users/2/role")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest());
+    }
 }
-
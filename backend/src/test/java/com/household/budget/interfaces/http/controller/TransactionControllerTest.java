@@ -1,16 +1,25 @@
 package com.household.budget.interfaces.http.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.household.budget.application.services.DataVersionApplicationService;
 import com.household.budget.application.services.TransactionApplicationService;
+import com.household.budget.application.services.TransactionExportApplicationService;
 import com.household.budget.config.JwtAuthenticationFilter;
 import com.household.budget.config.JwtUtil;
+import com.household.budget.domain.services.TransactionCalculationService.TransactionSummary;
 import com.household.budget.interfaces.http.dto.TransactionDto;
+import com.household.budget.interfaces.http.dto.TransactionPageResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
@@ -19,14 +28,18 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
  * Controller 테스트
  * Application Service를 Mock으로 처리
+ * 슬라이스 테스트는 기본 보안 설정(CSRF 사용)으로 뜨므로 인증된 사용자로 요청하고 변경 요청에는 CSRF 토큰을 붙임
+ * JwtAuthenticationFilter는 Mock이므로 요청을 그대로 다음 필터로 넘기게 함
  */
 @WebMvcTest(TransactionController.class)
+@WithMockUser
 @DisplayName("TransactionController 테스트")
 class TransactionControllerTest {
     
@@ -42,9 +55,25 @@ class TransactionControllerTest {
     @MockBean
     private JwtUtil jwtUtil;
     
+    @MockBean
+    private DataVersionApplicationService dataVersionService;
+    
+    @MockBean
+    private TransactionExportApplicationService exportService;
+    
     @Autowired
     private ObjectMapper objectMapper;
     
+    @BeforeEach
+    void setUp() throws Exception {
+        // Mock 필터가 요청을 삼키지 않도록 다음 필터로 넘김 (인증은 @WithMockUser)
+        doAnswer(invocation -> {
+            invocation.getArgument(2, FilterChain.class).doFilter(
+                    invocation.getArgument(0, ServletRequest.class), invocation.getArgument(1, ServletResponse.class));
+            return null;
+        }).when(jwtAuthenticationFilter).doFilter(any(), any(), any());
+    }
+    
     @Test
     @DisplayName("모든 거래 조회 성공")
     void should_GetAllTransactions_When_Valid() throws Exception {
@@ -66,6 +95,29 @@ class TransactionControllerTest {
             .andExpect(jsonPath("$.data[0].amount").value(10000));
     }
     
+    @Test
+    @DisplayName("거래 페이지 조회 성공")
+    void should_GetTransactionPage_When_SizeGiven() throws Exception {
+        // Given
+        TransactionDto transaction = new TransactionDto();
+        transaction.setId(1L);
+        transaction.setAmount(new BigDecimal("10000"));
+        
+        when(transactionService.getTransactionPage("abc", 20))
+            .thenReturn(new TransactionPageResponse(List.of(transaction), "next", true));
+        
+        // When & Then
+        mockMvc.perform(get("/api/transactions")
+                .param("size", "20")
+                .param("cursor", "abc")
+                .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.success").value(true))
+            .andExpect(jsonPath("$.data.transactions[0].id").value(1))
+            .andExpect(jsonPath("$.data.nextCursor").value("next"))
+            .andExpect(jsonPath("$.data.hasNext").value(true));
+    }
+    
     @Test
     @DisplayName("거래 ID로 조회 성공")
     void should_GetTransactionById_When_ValidId() throws Exception {
@@ -105,6 +157,7 @@ class TransactionControllerTest {
         
         // When & Then
         mockMvc.perform(post("/api/transactions")
+                .with(csrf())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
             .andExpect(status().isCreated())
@@ -130,6 +183,7 @@ class TransactionControllerTest {
         
         // When & Then
         mockMvc.perform(put("/api/transactions/1")
+                .with(csrf())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(request)))
             .andExpect(status().isOk())
@@ -145,6 +199,7 @@ class TransactionControllerTest {
         
         // When & Then
         mockMvc.perform(delete("/api/transactions/1")
+                .with(csrf())
                 .contentType(MediaType.APPLICATION_JSON))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.success").value(true));
@@ -154,12 +209,13 @@ class TransactionControllerTest {
     @DisplayName("요약 정보 조회 성공")
     void should_GetSummary_When_Valid() throws Exception {
         // Given
-        when(transactionService.getTotalIncome())
-            .thenReturn(new BigDecimal("50000"));
-        when(transactionService.getTotalExpense())
-            .thenReturn(new BigDecimal("30000"));
-        when(transactionService.getBalance())
-            .thenReturn(new BigDecimal("20000"));
+        when(transactionService.getSummary())
+            .thenReturn(TransactionSummary.builder()
+                .totalIncome(new BigDecimal("50000"))
+                .totalExpense(new BigDecimal("30000"))
+                .balance(new BigDecimal("20000"))
+                .transactionCount(3)
+                .build());
         
         // When & Then
         mockMvc.perform(get("/api/transactions/summary")
@@ -168,7 +224,102 @@ class TransactionControllerTest {
             .andExpect(jsonPath("$.success").value(true))
             .andExpect(jsonPath("$.data.totalIncome").value(50000))
             .andExpect(jsonPath("$.data.totalExpense").value(30000))
-            .andExpect(jsonPath("$.data.balance").value(20000));
+            .andExpect(jsonPath("$.data.balance").value(20000))
+            .andExpect(jsonPath("$.data.transactionCount").value(3));
+    }
+    
+    @Test
+    @DisplayName("데이터 버전 ETag가 일치하면 서비스를 호출하지 않고 304")
+    void should_ReturnNotModified_When_ETagMatches() throws Exception {
+        // Given
+        when(dataVersionService.currentETag()).thenReturn("W/\"boot-u1-3.0\"");
+        
+        // When & Then
+        mockMvc.perform(get("/api/transactions")
+                .header("If-None-Match", "W/\"boot-u1-3.0\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", "W/\"boot-u1-3.0\""));
+        verifyNoInteractions(transactionService);
+    }
+    
+    @Test
+    @DisplayName("데이터 버전이 바뀌면 새 ETag와 함께 목록 반환")
+    void should_ReturnListWithNewETag_When_VersionChanged() throws Exception {
+        // Given
+        when(dataVersionService.currentETag()).thenReturn("W/\"boot-u1-4.0\"");
+        when(transactionService.getAllTransactions()).thenReturn(List.of());
+        
+        // When & Then
+        mockMvc.perform(get("/api/transactions")
+                .header("If-None-Match", "W/\"boot-u1-3.0\""))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "W/\"boot-u1-4.0\""))
+            .andExpect(header().string("Cache-Control", "no-cache, private"));
+    }
+    
+    @Test
+    @DisplayName("요약 조회도 데이터 버전 ETag가 일치하면 304")
+    void should_ReturnNotModified_When_SummaryETagMatches() throws Exception {
+        // Given
+        when(dataVersionService.currentETag()).thenReturn("W/\"boot-u1-3.0\"");
+        
+        // When & Then
+        mockMvc.perform(get("/api/transactions/summary")
+                .header("If-None-Match", "W/\"boot-u1-3.0\""))
+            .andExpect(status().isNotModified());
+        verifyNoInteractions(transactionService);
+    }
+    
+    @Test
+    @DisplayName("금액이 소수 2자리를 넘으면 서비스를 호출하지 않고 400")
+    void should_ReturnBadRequest_When_AmountHasTooManyDecimals() throws Exception {
+        // Given
+        TransactionDto request = new TransactionDto();
+        request.setAmount(new BigDecimal("10000.005"));
+        request.setType("EXPENSE");
+        request.setDescription("점심 식사");
+        
+        // When & Then
+        mockMvc.perform(post("/api/transactions")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.success").value(false))
+            .andExpect(jsonPath("$.message").value("잘못된 요청: 금액은 정수 16자리, 소수 2자리까지 입력할 수 있습니다."));
+        mockMvc.perform(put("/api/transactions/1")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest());
+        verifyNoInteractions(transactionService);
+    }
+    
+    @Test
+    @DisplayName("변경 요청에는 ETag를 적용하지 않음")
+    void should_SkipETag_When_RequestIsNotGet() throws Exception {
+        // Given
+        TransactionDto response = new TransactionDto();
+        response.setId(1L);
+        when(transactionService.createTransaction(any(TransactionDto.class))).thenReturn(response);
+        
+        // When & Then
+        mockMvc.perform(post("/api/transactions")
+                .with(csrf())
+                .header("If-None-Match", "W/\"boot-u1-3.0\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"type\":\"EXPENSE\",\"amount\":1000}"))
+            .andExpect(status().isCreated())
+            .andExpect(header().doesNotExist("ETag"));
+        verifyNoInteractions(dataVersionService);
+    }
+    
+    @Test
+    @DisplayName("지원하지 않는 내보내기 형식이면 400")
+    void should_ReturnBadRequest_When_ExportFormatUnsupported() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/transactions/export").param("format", "xlsx"))
+            .andExpect(status().isBadRequest());
+        verifyNoInteractions(exportService);
     }
 }
-
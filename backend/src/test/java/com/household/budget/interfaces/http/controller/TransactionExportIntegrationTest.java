@@ -0,0 +1,146 @@
+package com.household.budget.interfaces.http.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.household.budget.config.JwtUtil;
+import com.household.budget.entity.Transaction;
+import com.household.budget.entity.User;
+import com.household.budget.repository.UserRepository;
+import com.household.budget.service.SyncTransactionWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 거래 내보내기 통합 테스트
+ * 실제 DB(H2)에 저장한 거래를 JWT로 인증한 GET /api/transactions/export로 받아 본문까지 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("거래 내보내기 통합 테스트")
+class TransactionExportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SyncTransactionWriter writer;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private User user;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setEmail("export-" + System.nanoTime() + "@example.com");
+        user.setPassword("export");
+        user.setName("Export");
+        user.setRole("USER");
+        user = userRepository.save(user);
+        token = jwtUtil.generateToken(user.getEmail(), user.getId(), user.getRole());
+
+        writer.write(user.getId(), List.of(
+                transaction("EXPENSE", "12000.00", "점심, \"김밥\"", LocalDateTime.of(2024, 3, 1, 12, 30), "EXP_1"),
+                transaction("INCOME", "3000000.00", "=HYPERLINK(\"x\")", LocalDateTime.of(2024, 3, 25, 9, 0), "EXP_2")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM transactions WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM ledger_balances WHERE user_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM monthly_rollups WHERE user_id = ?", user.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    @DisplayName("CSV는 BOM과 헤더로 시작하고 쉼표/따옴표/수식 시작 문자를 이스케이프")
+    void should_StreamEscapedCsv_When_FormatIsCsv() throws Exception {
+        // When
+        String body = export("csv", "text/csv;charset=UTF-8");
+
+        // Then
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).isEqualTo("\uFEFFid,transactionDate,type,amount,categoryId,categoryName,description,sessionId");
+        assertThat(lines[1]).contains(",2024-03-01T12:30,EXPENSE,12000.00,").endsWith(",\"점심, \"\"김밥\"\"\",");
+        assertThat(lines[2]).contains(",2024-03-25T09:00,INCOME,3000000.00,").endsWith(",\"'=HYPERLINK(\"\"x\"\")\",");
+    }
+
+    @Test
+    @DisplayName("NDJSON은 거래마다 JSON 한 줄을 거래일 순으로 출력")
+    void should_StreamOneJsonPerLine_When_FormatIsNdjson() throws Exception {
+        // When
+        String body = export("ndjson", "application/x-ndjson");
+
+        // Then
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertThat(first.get("description").asText()).isEqualTo("점심, \"김밥\"");
+        assertThat(first.get("amount").decimalValue()).isEqualByComparingTo("12000");
+        assertThat(second.get("description").asText()).isEqualTo("=HYPERLINK(\"x\")");
+        assertThat(second.get("type").asText()).isEqualTo("INCOME");
+    }
+
+    private String export(String format, String contentType) throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/transactions/export")
+                        .param("format", format)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", contentType))
+                .andExpect(header().string("Content-Disposition",
+                        startsWith("attachment; filename=\"transactions-")))
+                .andReturn();
+        return result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private Transaction transaction(String type, String amount, String description, LocalDateTime date,
+                                    String externalId) {
+        Transaction transaction = new Transaction();
+        transaction.setUser(user);
+        transaction.setType(type);
+        transaction.setAmount(new BigDecimal(amount));
+        transaction.setDescription(description);
+        transaction.setTransactionDate(date);
+        transaction.setExternalTransactionId(externalId);
+        transaction.setSyncSource("TEST");
+        return transaction;
+    }
+}
@@ -5,6 +5,7 @@ import com.household.budget.dto.LoginRequest;
 import com.household.budget.dto.RegisterRequest;
 import com.household.budget.entity.User;
 import com.household.budget.repository.UserRepository;
+import com.household.budget.support.SqlBudget;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,10 +21,12 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 /**
  * AuthService 통합 테스트
  * 실제 데이터베이스(H2)를 사용하여 테스트
+ * 회원가입/로그인이 사용자 한 명에 대해 SQL을 반복 실행하지 않는지 함께 검사
  */
 @SpringBootTest
 @ActiveProfiles("test")
 @Transactional
+@SqlBudget(maxStatements = 20, maxRepeats = 5)
 @DisplayName("AuthService 통합 테스트")
 class AuthServiceIntegrationTest {
     
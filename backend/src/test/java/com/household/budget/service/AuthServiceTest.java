@@ -1,6 +1,9 @@
 package com.household.budget.service;
 
+import com.household.budget.config.AuthenticatedUser;
 import com.household.budget.config.JwtUtil;
+import com.household.budget.config.RoleChangeTracker;
+import com.household.budget.config.UserContext;
 import com.household.budget.dto.AuthResponse;
 import com.household.budget.dto.LoginRequest;
 import com.household.budget.dto.RegisterRequest;
@@ -12,6 +15,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -26,7 +31,7 @@ import static org.mockito.Mockito.*;
 
 /**
  * AuthService 테스트
- * Repository, PasswordEncoder, JwtUtil을 Mock으로 처리
+ * Repository, PasswordEncoder, JwtUtil을 Mock으로 처리하고 사용자 조회 캐시는 실제 객체 사용
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("AuthService 테스트")
@@ -41,6 +46,12 @@ class AuthServiceTest {
     @Mock
     private JwtUtil jwtUtil;
     
+    @Mock
+    private RoleChangeTracker roleChangeTracker;
+    
+    @Spy
+    private UserLookupCache userLookupCache = new UserLookupCache(100, 60);
+    
     @InjectMocks
     private AuthService authService;
     
@@ -81,7 +92,7 @@ class AuthServiceTest {
             .thenReturn(encodedPassword);
         when(userRepository.save(any(User.class)))
             .thenReturn(savedUser);
-        when(jwtUtil.generateToken("new@example.com", 2L))
+        when(jwtUtil.generateToken("new@example.com", 2L, "USER"))
             .thenReturn("jwt-token");
         
         // When
@@ -97,7 +108,7 @@ class AuthServiceTest {
         verify(userRepository).existsByEmail("new@example.com");
         verify(passwordEncoder).encode("password123");
         verify(userRepository).save(any(User.class));
-        verify(jwtUtil).generateToken("new@example.com", 2L);
+        verify(jwtUtil).generateToken("new@example.com", 2L, "USER");
     }
     
     @Test
@@ -119,7 +130,7 @@ class AuthServiceTest {
         
         verify(userRepository).existsByEmail("existing@example.com");
         verify(userRepository, never()).save(any());
-        verify(jwtUtil, never()).generateToken(anyString(), any());
+        verify(jwtUtil, never()).generateToken(anyString(), any(), any());
     }
     
     // 로그인 테스트
@@ -138,7 +149,7 @@ class AuthServiceTest {
             .thenReturn(true);
         when(userRepository.save(any(User.class)))
             .thenReturn(testUser);
-        when(jwtUtil.generateToken("test@example.com", 1L))
+        when(jwtUtil.generateToken("test@example.com", 1L, "USER"))
             .thenReturn("jwt-token");
         
         // When
@@ -154,7 +165,7 @@ class AuthServiceTest {
         verify(userRepository).findByEmail("test@example.com");
         verify(passwordEncoder).matches("password123", encodedPassword);
         verify(userRepository).save(any(User.class));
-        verify(jwtUtil).generateToken("test@example.com", 1L);
+        verify(jwtUtil).generateToken("test@example.com", 1L, "USER");
     }
     
     @Test
@@ -175,7 +186,7 @@ class AuthServiceTest {
         
         verify(userRepository).findByEmail("notfound@example.com");
         verify(passwordEncoder, never()).matches(anyString(), anyString());
-        verify(jwtUtil, never()).generateToken(anyString(), any());
+        verify(jwtUtil, never()).generateToken(anyString(), any(), any());
     }
     
     @Test
@@ -199,7 +210,7 @@ class AuthServiceTest {
         verify(userRepository).findByEmail("test@example.com");
         verify(passwordEncoder).matches("wrongpassword", encodedPassword);
         verify(userRepository, never()).save(any());
-        verify(jwtUtil, never()).generateToken(anyString(), any());
+        verify(jwtUtil, never()).generateToken(anyString(), any(), any());
     }
     
     @Test
@@ -220,7 +231,7 @@ class AuthServiceTest {
                 assertThat(user.getLastLoginAt()).isNotNull();
                 return user;
             });
-        when(jwtUtil.generateToken("test@example.com", 1L))
+        when(jwtUtil.generateToken("test@example.com", 1L, "USER"))
             .thenReturn("jwt-token");
         
         // When
@@ -289,5 +300,106 @@ class AuthServiceTest {
             .isInstanceOf(RuntimeException.class)
             .hasMessage("사용자를 찾을 수 없습니다.");
     }
+    
+    @Test
+    @DisplayName("같은 사용자를 다시 조회하면 캐시에서 반환")
+    void should_UseCache_When_UserLookedUpAgain() {
+        // Given
+        when(userRepository.findByEmail("test@example.com"))
+            .thenReturn(Optional.of(testUser));
+        
+        // When
+        User first = authService.getUserByEmail("test@example.com");
+        User second = authService.getUserByEmail("test@example.com");
+        User byId = authService.getUserById(1L);
+        
+        // Then
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+        assertThat(byId.getEmail()).isEqualTo("test@example.com");
+        verify(userRepository, times(1)).findByEmail("test@example.com");
+        verify(userRepository, never()).findById(any());
+        assertThat(userLookupCache.stats().get("users.byEmail").getHitCount()).isEqualTo(1);
+    }
+    
+    // 역할 변경 테스트
+    
+    @Test
+    @DisplayName("역할을 바꾸면 이전 토큰의 역할을 무효화")
+    void should_InvalidateTokenRole_When_RoleChanged() {
+        // Given
+        when(userRepository.findById(1L))
+            .thenReturn(Optional.of(testUser));
+        when(userRepository.save(any(User.class)))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // When
+        User result;
+        try (MockedStatic<UserContext> userContextMock = asAdmin()) {
+            result = authService.changeRole(1L, "ADMIN");
+        }
+        
+        // Then
+        assertThat(result.getRole()).isEqualTo("ADMIN");
+        verify(roleChangeTracker).markRoleChanged(1L);
+    }
+    
+    @Test
+    @DisplayName("역할을 바꾸면 캐시된 사용자를 무효화")
+    void should_EvictCachedUser_When_RoleChanged() {
+        // Given
+        User stored = new User(1L, "test@example.com", encodedPassword, "Test User", "USER", null, null);
+        when(userRepository.findById(1L))
+            .thenAnswer(invocation -> Optional.of(new User(stored.getId(), stored.getEmail(), stored.getPassword(),
+                stored.getName(), stored.getRole(), null, null)));
+        when(userRepository.save(any(User.class)))
+            .thenAnswer(invocation -> {
+                User user = invocation.getArgument(0);
+                stored.setRole(user.getRole());
+                return user;
+            });
+        assertThat(authService.getUserById(1L).getRole()).isEqualTo("USER");
+        
+        // When
+        try (MockedStatic<UserContext> userContextMock = asAdmin()) {
+            authService.changeRole(1L, "ADMIN");
+        }
+        
+        // Then
+        assertThat(authService.getUserById(1L).getRole()).isEqualTo("ADMIN");
+        assertThat(authService.getUserByEmail("test@example.com").getRole()).isEqualTo("ADMIN");
+        verify(userRepository, never()).findByEmail(anyString());
+    }
+    
+    @Test
+    @DisplayName("알 수 없는 역할로 변경 실패")
+    void should_ThrowException_When_UnknownRole() {
+        // When & Then
+        try (MockedStatic<UserContext> userContextMock = asAdmin()) {
+            assertThatThrownBy(() -> authService.changeRole(1L, "ROOT"))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+        verifyNoInteractions(roleChangeTracker);
+    }
+    
+    @Test
+    @DisplayName("관리자가 아니면 역할 변경 실패")
+    void should_ThrowException_When_ChangingRoleWithoutAdmin() {
+        // When & Then
+        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class, CALLS_REAL_METHODS)) {
+            userContextMock.when(UserContext::getCurrentUser)
+                .thenReturn(new AuthenticatedUser(2L, "user@example.com", "USER", null));
+            
+            assertThatThrownBy(() -> authService.changeRole(1L, "ADMIN"))
+                .isInstanceOf(SecurityException.class);
+        }
+        verify(userRepository, never()).save(any(User.class));
+        verifyNoInteractions(roleChangeTracker);
+    }
+    
+    private static MockedStatic<UserContext> asAdmin() {
+        MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class, CALLS_REAL_METHODS);
+        userContextMock.when(UserContext::getCurrentUser)
+            .thenReturn(new AuthenticatedUser(99L, "admin@example.com", "ADMIN", null));
+        return userContextMock;
+    }
 }
-
@@ -0,0 +1,112 @@
+package com.household.budget.service;
+
+import com.household.budget.config.AuthenticatedUser;
+import com.household.budget.config.UserContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * BackgroundJobRegistry 테스트
+ * 동기화/가져오기 작업이 함께 쓰는 실행 제한과 소유자 조회를 확인
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BackgroundJobRegistry 테스트")
+class BackgroundJobRegistryTest {
+
+    @Mock
+    private AuthService authService;
+
+    private BackgroundJobRegistry<TestJob> registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new BackgroundJobRegistry<>(authService, "test-job-", 1, 1, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    @DisplayName("실행 중인 작업과 대기열이 가득 차면 제출을 거절하고 작업을 등록하지 않음")
+    void should_RejectAndForget_When_Saturated() throws InterruptedException {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TestJob running = new TestJob(1L);
+        TestJob queued = new TestJob(1L);
+        TestJob rejected = new TestJob(1L);
+
+        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class, CALLS_REAL_METHODS)) {
+            userContextMock.when(UserContext::getCurrentUser).thenReturn(viewer(1L, "USER"));
+
+            // When
+            boolean first = registry.submit(running, () -> {
+                started.countDown();
+                awaitQuietly(release);
+            });
+            started.await(5, TimeUnit.SECONDS);
+            boolean second = registry.submit(queued, () -> { });
+            boolean third = registry.submit(rejected, () -> { });
+            release.countDown();
+
+            // Then
+            assertThat(first).isTrue();
+            assertThat(second).isTrue();
+            assertThat(third).isFalse();
+            assertThat(registry.find(running.jobId())).containsSame(running);
+            assertThat(registry.find(rejected.jobId())).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 작업은 숨기고 관리자에게는 보여줌")
+    void should_ShowOnlyOwnJobs_When_NotAdmin() {
+        // Given
+        TestJob job = new TestJob(1L);
+        registry.submit(job, () -> { });
+
+        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class, CALLS_REAL_METHODS)) {
+            // When & Then
+            userContextMock.when(UserContext::getCurrentUser).thenReturn(viewer(2L, "USER"));
+            assertThat(registry.find(job.jobId())).isEmpty();
+
+            userContextMock.when(UserContext::getCurrentUser).thenReturn(viewer(3L, "ADMIN"));
+            assertThat(registry.find(job.jobId())).containsSame(job);
+
+            userContextMock.when(UserContext::getCurrentUser).thenReturn(null);
+            assertThat(registry.find(job.jobId())).isEmpty();
+        }
+    }
+
+    private static AuthenticatedUser viewer(Long userId, String role) {
+        return new AuthenticatedUser(userId, "user" + userId + "@example.com", role, null);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class TestJob extends BackgroundJob {
+        TestJob(Long ownerId) {
+            super(ownerId);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.household.budget.service;
+
+import com.household.budget.config.AuthenticatedUser;
+import com.household.budget.config.UserContext;
+import com.household.budget.domain.entities.LedgerBalance;
+import com.household.budget.domain.repositories.LedgerBalanceRepository;
+import com.household.budget.dto.BudgetSessionDto;
+import com.household.budget.entity.BudgetSession;
+import com.household.budget.repository.BudgetSessionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * BudgetSessionService 세션 통계 테스트
+ * 세션 목록의 거래 수/수입/지출은 세션마다 조회하지 않고 사용자 단위 한 번의 그룹 조회에서 채움
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BudgetSessionService 세션 통계 테스트")
+class BudgetSessionServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private BudgetSessionRepository sessionRepository;
+
+    @Mock
+    private LedgerBalanceRepository ledgerBalanceRepository;
+
+    @Mock
+    private AuthService authService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private BudgetSessionService budgetSessionService;
+
+    private MockedStatic<UserContext> userContextMock;
+
+    @BeforeEach
+    void setUp() {
+        userContextMock = mockStatic(UserContext.class, CALLS_REAL_METHODS);
+        userContextMock.when(UserContext::getCurrentUser)
+                .thenReturn(new AuthenticatedUser(USER_ID, "user@example.com", "USER", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userContextMock.close();
+    }
+
+    @Test
+    @DisplayName("세션 목록 통계는 한 번의 그룹 조회로 세션마다 채우고 거래 없는 세션은 0")
+    void should_FillStatsFromOneGroupedRead_When_ListingSessions() {
+        // Given
+        when(sessionRepository.findByUserIdOrderByLastAccessedAtDesc(USER_ID))
+                .thenReturn(List.of(session(10L), session(20L), session(30L)));
+        when(ledgerBalanceRepository.findByUserId(USER_ID)).thenReturn(List.of(
+                new LedgerBalance(USER_ID, 10L, new BigDecimal("5000"), new BigDecimal("1200"), 3),
+                new LedgerBalance(USER_ID, 20L, BigDecimal.ZERO, new BigDecimal("700"), 1),
+                // 세션 미지정 거래의 누적은 목록에 섞이지 않음
+                new LedgerBalance(USER_ID, null, new BigDecimal("999"), BigDecimal.ZERO, 9)));
+
+        // When
+        List<BudgetSessionDto> sessions = budgetSessionService.getAllSessions();
+
+        // Then
+        assertThat(sessions).extracting(BudgetSessionDto::getId).containsExactly(10L, 20L, 30L);
+
+        BudgetSessionDto first = sessions.get(0);
+        assertThat(first.getTransactionCount()).isEqualTo(3L);
+        assertThat(first.getTotalIncome()).isEqualByComparingTo("5000");
+        assertThat(first.getTotalExpense()).isEqualByComparingTo("1200");
+        assertThat(first.getBalance()).isEqualByComparingTo("3800");
+
+        BudgetSessionDto second = sessions.get(1);
+        assertThat(second.getTransactionCount()).isEqualTo(1L);
+        assertThat(second.getBalance()).isEqualByComparingTo("-700");
+
+        BudgetSessionDto empty = sessions.get(2);
+        assertThat(empty.getTransactionCount()).isZero();
+        assertThat(empty.getTotalIncome()).isEqualByComparingTo("0");
+        assertThat(empty.getTotalExpense()).isEqualByComparingTo("0");
+        assertThat(empty.getBalance()).isEqualByComparingTo("0");
+
+        verify(ledgerBalanceRepository, times(1)).findByUserId(USER_ID);
+        verify(ledgerBalanceRepository, never()).findByUserIdAndSessionId(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("단건 조회는 해당 세션의 통계만 조회하고 없으면 0")
+    void should_ReadOnlyThatSession_When_GettingById() {
+        // Given
+        when(sessionRepository.findByUserIdAndId(USER_ID, 10L)).thenReturn(Optional.of(session(10L)));
+        when(sessionRepository.findByUserIdAndId(USER_ID, 30L)).thenReturn(Optional.of(session(30L)));
+        when(ledgerBalanceRepository.findByUserIdAndSessionId(USER_ID, 10L)).thenReturn(Optional.of(
+                new LedgerBalance(USER_ID, 10L, new BigDecimal("5000"), new BigDecimal("1200"), 3)));
+        when(ledgerBalanceRepository.findByUserIdAndSessionId(USER_ID, 30L)).thenReturn(Optional.empty());
+
+        // When
+        BudgetSessionDto withTransactions = budgetSessionService.getSessionById(10L);
+        BudgetSessionDto withoutTransactions = budgetSessionService.getSessionById(30L);
+
+        // Then
+        assertThat(withTransactions.getTransactionCount()).isEqualTo(3L);
+        assertThat(withTransactions.getBalance()).isEqualByComparingTo("3800");
+        assertThat(withoutTransactions.getTransactionCount()).isZero();
+        assertThat(withoutTransactions.getBalance()).isEqualByComparingTo("0");
+        verify(ledgerBalanceRepository, never()).findByUserId(anyLong());
+    }
+
+    private BudgetSession session(Long id) {
+        BudgetSession session = new BudgetSession();
+        session.setId(id);
+        session.setName("세션 " + id);
+        return session;
+    }
+}
@@ -0,0 +1,116 @@
+package com.household.budget.service;
+
+import com.household.budget.domain.events.UserDataChangedEvent;
+import com.household.budget.dto.CategoryDto;
+import com.household.budget.entity.Category;
+import com.household.budget.repository.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * CategoryService 테스트
+ * Repository를 Mock으로 처리하고 스냅샷 재조회 횟수를 확인
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CategoryService 테스트")
+class CategoryServiceTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private CategoryService categoryService;
+
+    private List<Category> stored;
+
+    @BeforeEach
+    void setUp() {
+        stored = new ArrayList<>(List.of(
+            new Category(2L, "식비", "EXPENSE", "음식, 식료품"),
+            new Category(1L, "급여", "INCOME", "월급"),
+            new Category(3L, "교통비", "EXPENSE", "대중교통, 주유비")));
+        lenient().when(categoryRepository.findAll()).thenAnswer(invocation -> List.copyOf(stored));
+    }
+
+    @Test
+    @DisplayName("처음 한 번만 DB를 읽고 이후 조회는 스냅샷에서 처리")
+    void should_ServeFromSnapshot_When_CategoriesRead() {
+        // When
+        List<CategoryDto> all = categoryService.getAllCategories();
+        List<CategoryDto> expenses = categoryService.getCategoriesByType("EXPENSE");
+        Category category = categoryService.getCategoryById(3L);
+        String etag = categoryService.getCategoriesETag();
+
+        // Then
+        assertThat(all).extracting(CategoryDto::getId).containsExactly(1L, 2L, 3L);
+        assertThat(expenses).extracting(CategoryDto::getName).containsExactly("식비", "교통비");
+        assertThat(categoryService.getCategoriesByType("UNKNOWN")).isEmpty();
+        assertThat(category.getName()).isEqualTo("교통비");
+        assertThat(etag).startsWith("\"").endsWith("\"");
+        verify(categoryRepository, times(1)).findAll();
+        verify(categoryRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("카테고리를 수정하면 스냅샷과 ETag 교체")
+    void should_SwapSnapshot_When_CategoryUpdated() {
+        // Given
+        String before = categoryService.getCategoriesETag();
+        Category food = stored.get(0);
+        when(categoryRepository.findById(2L)).thenReturn(Optional.of(food));
+        when(categoryRepository.save(any(Category.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        categoryService.updateCategory(2L, new CategoryDto(null, "외식", "EXPENSE", "음식점"));
+
+        // Then
+        assertThat(categoryService.getCategoriesETag()).isNotEqualTo(before);
+        assertThat(categoryService.getCategoryById(2L).getName()).isEqualTo("외식");
+        verify(categoryRepository, times(2)).findAll();
+        verify(eventPublisher).publishEvent(any(UserDataChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("내용이 같으면 다시 읽어도 ETag 유지")
+    void should_KeepETag_When_ContentUnchanged() {
+        // Given
+        String before = categoryService.getCategoriesETag();
+
+        // When
+        categoryService.refreshCategories();
+
+        // Then
+        assertThat(categoryService.getCategoriesETag()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("없는 카테고리는 DB를 확인한 뒤 예외 발생")
+    void should_ThrowException_When_CategoryNotFound() {
+        // Given
+        when(categoryRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> categoryService.getCategoryById(99L))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessage("카테고리를 찾을 수 없습니다: 99");
+        verify(categoryRepository, times(1)).findAll();
+    }
+}
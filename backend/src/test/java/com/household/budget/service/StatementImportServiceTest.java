@@ -0,0 +1,129 @@
+package com.household.budget.service;
+
+import com.household.budget.config.UserContext;
+import com.household.budget.dto.ImportJobStatus;
+import com.household.budget.dto.SyncResult;
+import com.household.budget.entity.Transaction;
+import com.household.budget.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * StatementImportService 테스트
+ * 저장(SyncTransactionWriter)과 카테고리/사용자 조회를 Mock으로 처리
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatementImportService 테스트")
+class StatementImportServiceTest {
+
+    @Mock
+    private SyncTransactionWriter syncTransactionWriter;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @Mock
+    private AuthService authService;
+
+    private StatementImportService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new StatementImportService(syncTransactionWriter, categoryService, authService, 1, 10, 60, 100);
+        User owner = new User();
+        owner.setId(1L);
+        owner.setEmail("owner@example.com");
+        owner.setRole("USER");
+        when(authService.getUserByEmail("owner@example.com")).thenReturn(owner);
+        when(authService.getUserById(1L)).thenReturn(owner);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("업로드한 CSV를 백그라운드에서 저장하고 건너뛴 행은 줄 번호와 함께 보고")
+    @SuppressWarnings("unchecked")
+    void should_ImportRowsAndReportErrors_When_CsvUploaded() throws Exception {
+        // Given
+        when(categoryService.findCategoryByName(any(), anyString())).thenReturn(Optional.empty());
+        when(syncTransactionWriter.write(eq(1L), anyList())).thenReturn(new SyncResult(2, 1, 1));
+        MockMultipartFile file = new MockMultipartFile("file", "bank.csv", "text/csv",
+                ("date,description,amount\n2024-03-01,커피,-4500\n2024-13-01,잘못된 날짜,-1000\n2024-03-02,월급,3000000\n")
+                        .getBytes(StandardCharsets.UTF_8));
+
+        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class, CALLS_REAL_METHODS)) {
+            userContextMock.when(UserContext::getCurrentUserEmail).thenReturn("owner@example.com");
+
+            // When
+            ImportJobStatus submitted = service.submit(file, null, null);
+            ImportJobStatus finished = awaitFinished(submitted.getJobId());
+
+            // Then
+            assertThat(submitted.getFormat()).isEqualTo("CSV");
+            assertThat(finished.getState()).isEqualTo("SUCCEEDED");
+            assertThat(finished.getProgress()).isEqualTo(100);
+            assertThat(finished.getParsed()).isEqualTo(2);
+            assertThat(finished.getInserted()).isEqualTo(1);
+            assertThat(finished.getSkipped()).isEqualTo(1);
+            assertThat(finished.getFailed()).isEqualTo(1);
+            assertThat(finished.getErrors()).singleElement()
+                    .satisfies(error -> assertThat(error.getLine()).isEqualTo(3));
+
+            ArgumentCaptor<List<Transaction>> chunk = ArgumentCaptor.forClass(List.class);
+            verify(syncTransactionWriter).write(eq(1L), chunk.capture());
+            assertThat(chunk.getValue()).extracting(Transaction::getSyncSource).containsOnly("IMPORT");
+            assertThat(chunk.getValue()).extracting(Transaction::getType).containsExactly("EXPENSE", "INCOME");
+        }
+    }
+
+    @Test
+    @DisplayName("확장자로 형식을 알 수 없으면 작업을 만들지 않음")
+    void should_Reject_When_FormatUnknown() {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "statement.xlsx", null, new byte[]{1});
+
+        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class, CALLS_REAL_METHODS)) {
+            userContextMock.when(UserContext::getCurrentUserEmail).thenReturn("owner@example.com");
+
+            // When & Then
+            assertThatThrownBy(() -> service.submit(file, null, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(syncTransactionWriter);
+        }
+    }
+
+    private ImportJobStatus awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            ImportJobStatus status = service.getJob(jobId).orElseThrow();
+            if (status.getFinishedAt() != null) {
+                return status;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("작업이 끝나지 않았습니다: " + jobId);
+    }
+}
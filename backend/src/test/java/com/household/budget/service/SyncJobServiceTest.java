@@ -0,0 +1,156 @@
+package com.household.budget.service;
+
+import com.household.budget.config.UserContext;
+import com.household.budget.dto.SyncJobStatus;
+import com.household.budget.dto.SyncResult;
+import com.household.budget.entity.BankAccount;
+import com.household.budget.entity.User;
+import com.household.budget.repository.BankAccountRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * SyncJobService 테스트
+ * 제공자 서비스와 Repository를 Mock으로 처리
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SyncJobService 테스트")
+class SyncJobServiceTest {
+
+    @Mock
+    private BankAccountRepository bankAccountRepository;
+
+    @Mock
+    private OpenBankingService openBankingService;
+
+    @Mock
+    private CardApiService cardApiService;
+
+    @Mock
+    private AuthService authService;
+
+    private SyncJobService service;
+
+    private BankAccount account;
+
+    @BeforeEach
+    void setUp() {
+        service = new SyncJobService(bankAccountRepository, openBankingService, cardApiService, authService, 2, 10, 60);
+        User owner = new User();
+        owner.setId(1L);
+        owner.setEmail("owner@example.com");
+        owner.setRole("USER");
+        account = new BankAccount();
+        account.setId(10L);
+        account.setConnectionType("OPENBANKING");
+        account.setAccessToken("token");
+        account.setIsActive(true);
+        account.setUser(owner);
+        when(openBankingService.getAccountForSync(10L)).thenReturn(account);
+        when(authService.getUserByEmail("owner@example.com")).thenReturn(owner);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("제출하면 바로 작업 ID를 돌려주고 백그라운드에서 동기화한 결과를 조회")
+    void should_RunInBackground_When_Submitted() throws InterruptedException {
+        // Given
+        when(bankAccountRepository.findById(10L)).thenReturn(Optional.of(account));
+        when(openBankingService.syncAccount(account)).thenReturn(new SyncResult(3, 2, 1));
+
+        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class, CALLS_REAL_METHODS)) {
+            userContextMock.when(UserContext::getCurrentUserEmail).thenReturn("owner@example.com");
+
+            // When
+            SyncJobStatus submitted = service.submitOpenBanking(10L);
+            SyncJobStatus finished = awaitFinished(submitted.getJobId());
+
+            // Then
+            assertThat(submitted.getJobId()).isNotBlank();
+            assertThat(finished.getState()).isEqualTo("SUCCEEDED");
+            assertThat(finished.getInserted()).isEqualTo(2);
+            assertThat(finished.getSkipped()).isEqualTo(1);
+            assertThat(finished.getElapsedMs()).isNotNull();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 계좌 작업이 진행 중이면 새 작업 대신 진행 중인 작업을 돌려줌")
+    void should_ReturnActiveJob_When_AccountAlreadySyncing() throws InterruptedException {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        when(bankAccountRepository.findById(10L)).thenReturn(Optional.of(account));
+        when(openBankingService.syncAccount(any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new SyncResult(0, 0, 0);
+        });
+
+        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class, CALLS_REAL_METHODS)) {
+            userContextMock.when(UserContext::getCurrentUserEmail).thenReturn("owner@example.com");
+
+            // When
+            SyncJobStatus first = service.submitOpenBanking(10L);
+            SyncJobStatus second = service.submitOpenBanking(10L);
+            release.countDown();
+            awaitFinished(first.getJobId());
+
+            // Then
+            assertThat(second.getJobId()).isEqualTo(first.getJobId());
+            verify(openBankingService, times(1)).syncAccount(any());
+        }
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 작업은 조회되지 않음")
+    void should_HideJob_When_NotOwner() throws InterruptedException {
+        // Given
+        User other = new User();
+        other.setId(2L);
+        other.setRole("USER");
+        when(bankAccountRepository.findById(10L)).thenReturn(Optional.of(account));
+        when(openBankingService.syncAccount(account)).thenReturn(new SyncResult(0, 0, 0));
+        when(authService.getUserByEmail("other@example.com")).thenReturn(other);
+
+        try (MockedStatic<UserContext> userContextMock = mockStatic(UserContext.class, CALLS_REAL_METHODS)) {
+            userContextMock.when(UserContext::getCurrentUserEmail).thenReturn("owner@example.com");
+            SyncJobStatus submitted = service.submitOpenBanking(10L);
+            awaitFinished(submitted.getJobId());
+
+            // When
+            userContextMock.when(UserContext::getCurrentUserEmail).thenReturn("other@example.com");
+
+            // Then
+            assertThat(service.getJob(submitted.getJobId())).isEmpty();
+        }
+    }
+
+    private SyncJobStatus awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            SyncJobStatus status = service.getJob(jobId).orElseThrow();
+            if (status.getFinishedAt() != null) {
+                return status;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("작업이 끝나지 않았습니다: " + jobId);
+    }
+}
@@ -0,0 +1,62 @@
+package com.household.budget.service;
+
+import com.household.budget.dto.SyncResult;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SyncMetrics 테스트
+ */
+@DisplayName("SyncMetrics 테스트")
+class SyncMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private SyncMetrics syncMetrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        syncMetrics = new SyncMetrics(registry);
+    }
+
+    @Test
+    @DisplayName("동기화 성공 시 연동 유형별 건수와 시간을 누적")
+    void should_AccumulateCountsPerProvider_When_SyncSucceeds() {
+        // Given
+        Timer.Sample first = syncMetrics.start();
+        Timer.Sample second = syncMetrics.start();
+
+        // When
+        syncMetrics.succeeded(first, SyncMetrics.CARD_API, new SyncResult(3, 2, 1));
+        syncMetrics.succeeded(second, SyncMetrics.CARD_API, new SyncResult(5, 5, 0));
+
+        // Then
+        assertThat(count(SyncMetrics.CARD_API, "fetched")).isEqualTo(8);
+        assertThat(count(SyncMetrics.CARD_API, "inserted")).isEqualTo(7);
+        assertThat(count(SyncMetrics.CARD_API, "duplicate")).isEqualTo(1);
+        assertThat(registry.find("sync.transactions").tag("provider", SyncMetrics.OPENBANKING).counter()).isNull();
+        assertThat(registry.get("sync.duration").tags("provider", SyncMetrics.CARD_API, "result", "success")
+                .timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동기화 실패 시 건수 없이 실패 시간만 기록")
+    void should_RecordFailureTimerOnly_When_SyncFails() {
+        // When
+        syncMetrics.failed(syncMetrics.start(), SyncMetrics.OPENBANKING);
+
+        // Then
+        assertThat(registry.get("sync.duration").tags("provider", SyncMetrics.OPENBANKING, "result", "failure")
+                .timer().count()).isEqualTo(1);
+        assertThat(registry.find("sync.transactions").counter()).isNull();
+    }
+
+    private double count(String provider, String outcome) {
+        return registry.get("sync.transactions").tags("provider", provider, "outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,143 @@
+package com.household.budget.service;
+
+import com.household.budget.dto.SyncResult;
+import com.household.budget.dto.SyncRunStatus;
+import com.household.budget.entity.BankAccount;
+import com.household.budget.entity.User;
+import com.household.budget.repository.BankAccountRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * SyncOrchestrator 테스트
+ * 제공자별 서비스를 Mock으로 처리
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SyncOrchestrator 테스트")
+class SyncOrchestratorTest {
+
+    @Mock
+    private BankAccountRepository bankAccountRepository;
+
+    @Mock
+    private OpenBankingService openBankingService;
+
+    @Mock
+    private CardApiService cardApiService;
+
+    @Mock
+    private AuthService authService;
+
+    @InjectMocks
+    private SyncOrchestrator orchestrator;
+
+    @AfterEach
+    void tearDown() {
+        orchestrator.shutdown();
+    }
+
+    @Test
+    @DisplayName("연동 계좌만 제공자별로 동기화하고 실패한 계좌는 결과에 기록")
+    void should_RecordOutcomePerAccount_When_SomeAccountsFail() {
+        // Given
+        BankAccount bank = account(1L, "OPENBANKING", "token");
+        BankAccount card = account(2L, "CARD_API", "token");
+        BankAccount broken = account(3L, "OPENBANKING", "token");
+        BankAccount manual = account(4L, "MANUAL", null);
+        BankAccount unlinked = account(5L, "CARD_API", null);
+        when(bankAccountRepository.findByIsActiveTrue()).thenReturn(List.of(bank, card, broken, manual, unlinked));
+        when(openBankingService.syncAccount(bank)).thenReturn(new SyncResult(3, 2, 1));
+        when(openBankingService.syncAccount(broken)).thenThrow(new RuntimeException("토큰이 만료되었습니다."));
+        when(cardApiService.syncAccount(card)).thenReturn(new SyncResult(3, 3, 0));
+
+        // When
+        SyncRunStatus status = orchestrator.runAll();
+
+        // Then
+        assertThat(status.getState()).isEqualTo("COMPLETED");
+        assertThat(status.getTotal()).isEqualTo(3);
+        assertThat(status.getSucceeded()).isEqualTo(2);
+        assertThat(status.getFailed()).isEqualTo(1);
+        assertThat(status.getInserted()).isEqualTo(5);
+        assertThat(status.getAccounts())
+            .filteredOn(outcome -> "FAILED".equals(outcome.getStatus()))
+            .singleElement()
+            .satisfies(outcome -> {
+                assertThat(outcome.getAccountId()).isEqualTo(3L);
+                assertThat(outcome.getError()).isEqualTo("토큰이 만료되었습니다.");
+            });
+        verify(cardApiService, never()).syncAccount(unlinked);
+    }
+
+    @Test
+    @DisplayName("제공자별 동시 동기화 수는 상한을 넘지 않음")
+    void should_LimitConcurrency_When_ManyAccounts() {
+        // Given
+        ReflectionTestUtils.setField(orchestrator, "openBankingConcurrency", 2);
+        List<BankAccount> accounts = new ArrayList<>();
+        for (long id = 1; id <= 8; id++) {
+            accounts.add(account(id, "OPENBANKING", "token"));
+        }
+        when(bankAccountRepository.findByIsActiveTrue()).thenReturn(accounts);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(openBankingService.syncAccount(any())).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            inFlight.decrementAndGet();
+            return new SyncResult(1, 1, 0);
+        });
+
+        // When
+        SyncRunStatus status = orchestrator.runAll();
+
+        // Then
+        assertThat(status.getSucceeded()).isEqualTo(8);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("토큰이 만료된 계좌는 제공자를 호출하지 않고 건너뜀")
+    void should_SkipAccount_When_TokenExpired() {
+        // Given
+        BankAccount expired = account(1L, "OPENBANKING", "token");
+        expired.setTokenExpiresAt(LocalDateTime.now().minusMinutes(1));
+        when(bankAccountRepository.findByIsActiveTrue()).thenReturn(List.of(expired));
+
+        // When
+        SyncRunStatus status = orchestrator.runAll();
+
+        // Then
+        assertThat(status.getSkippedAccounts()).isEqualTo(1);
+        assertThat(status.getCompleted()).isEqualTo(1);
+        assertThat(status.getAccounts().get(0).getStatus()).isEqualTo("SKIPPED");
+        verifyNoInteractions(openBankingService);
+    }
+
+    private BankAccount account(Long id, String connectionType, String accessToken) {
+        User user = new User();
+        user.setId(100L + id);
+        BankAccount account = new BankAccount();
+        account.setId(id);
+        account.setConnectionType(connectionType);
+        account.setAccessToken(accessToken);
+        account.setIsActive(true);
+        account.setUser(user);
+        return account;
+    }
+}
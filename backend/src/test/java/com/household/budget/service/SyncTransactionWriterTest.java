@@ -0,0 +1,155 @@
+package com.household.budget.service;
+
+import com.household.budget.domain.events.TransactionBatchChangedEvent;
+import com.household.budget.dto.SyncResult;
+import com.household.budget.entity.Transaction;
+import com.household.budget.repository.TransactionRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * SyncTransactionWriter 테스트
+ * Repository와 트랜잭션 매니저를 Mock으로 처리
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SyncTransactionWriter 테스트")
+class SyncTransactionWriterTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private SyncTransactionWriter writer;
+
+    @Test
+    @DisplayName("이미 있는 외부 거래 ID와 페이지 내 중복은 건너뛰고 새 거래만 저장")
+    @SuppressWarnings("unchecked")
+    void should_InsertOnlyNewRows_When_SomeExternalIdsExist() {
+        // Given
+        Transaction a = transaction("EXT_A");
+        Transaction b = transaction("EXT_B");
+        Transaction duplicateA = transaction("EXT_A");
+        Transaction manual = transaction(null);
+        when(transactionRepository.findExistingExternalIds(eq(1L), any())).thenReturn(List.of("EXT_A"));
+        when(transactionRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        SyncResult result = writer.write(1L, List.of(a, b, duplicateA, manual));
+
+        // Then
+        ArgumentCaptor<List<Transaction>> saved = ArgumentCaptor.forClass(List.class);
+        verify(transactionRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).containsExactly(manual, b);
+        assertThat(result.getFetched()).isEqualTo(4);
+        assertThat(result.getInserted()).isEqualTo(2);
+        assertThat(result.getSkipped()).isEqualTo(2);
+        verify(transactionRepository, times(1)).findExistingExternalIds(eq(1L), any());
+        ArgumentCaptor<TransactionBatchChangedEvent> event = ArgumentCaptor.forClass(TransactionBatchChangedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        assertThat(event.getValue().getChanges()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("동시 동기화로 유니크 키가 충돌하면 다시 조회하여 남은 거래만 저장")
+    void should_RetryWithFreshLookup_When_UniqueViolation() {
+        // Given
+        Transaction a = transaction("EXT_A");
+        Transaction b = transaction("EXT_B");
+        when(transactionRepository.findExistingExternalIds(eq(1L), any()))
+            .thenReturn(List.of())
+            .thenReturn(List.of("EXT_A"));
+        when(transactionRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new DataIntegrityViolationException("uk_transactions_external_id_user"))
+            .doNothing()
+            .when(transactionRepository).flush();
+
+        // When
+        SyncResult result = writer.write(1L, List.of(a, b));
+
+        // Then
+        assertThat(result.getInserted()).isEqualTo(1);
+        assertThat(result.getSkipped()).isEqualTo(1);
+        verify(transactionRepository, times(2)).findExistingExternalIds(eq(1L), any());
+        verify(transactionManager).rollback(any());
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("충돌이 계속되면 최대 시도 후 예외 발생")
+    void should_ThrowException_When_ConflictPersists() {
+        // Given
+        when(transactionRepository.findExistingExternalIds(eq(1L), any())).thenReturn(List.of());
+        when(transactionRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new DataIntegrityViolationException("uk_transactions_external_id_user"))
+            .when(transactionRepository).flush();
+
+        // When & Then
+        assertThatThrownBy(() -> writer.write(1L, List.of(transaction("EXT_A"))))
+            .isInstanceOf(DataIntegrityViolationException.class);
+        verify(transactionRepository, times(SyncTransactionWriter.MAX_ATTEMPTS)).flush();
+    }
+
+    @Test
+    @DisplayName("여러 청크로 나뉘면 마지막 청크 트랜잭션 안에서만 후속 작업 실행")
+    void should_RunLastChunkActionOnce_When_MultipleChunks() {
+        // Given
+        List<Transaction> fetched = new ArrayList<>();
+        for (int i = 0; i <= SyncTransactionWriter.WRITE_CHUNK_SIZE; i++) {
+            fetched.add(transaction("EXT_" + i));
+        }
+        when(transactionRepository.findExistingExternalIds(eq(1L), any())).thenReturn(List.of());
+        when(transactionRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        Runnable lastChunkAction = mock(Runnable.class);
+
+        // When
+        SyncResult result = writer.write(1L, fetched, lastChunkAction);
+
+        // Then
+        assertThat(result.getInserted()).isEqualTo(fetched.size());
+        InOrder inOrder = inOrder(transactionRepository, lastChunkAction, transactionManager);
+        inOrder.verify(transactionRepository, times(2)).saveAll(any());
+        inOrder.verify(lastChunkAction).run();
+        inOrder.verify(transactionManager).commit(any());
+        verify(lastChunkAction, times(1)).run();
+    }
+
+    private Transaction transaction(String externalId) {
+        Transaction transaction = new Transaction();
+        transaction.setType("EXPENSE");
+        transaction.setAmount(new BigDecimal("5000"));
+        transaction.setDescription("커피");
+        transaction.setTransactionDate(LocalDateTime.now());
+        transaction.setExternalTransactionId(externalId);
+        return transaction;
+    }
+}
@@ -0,0 +1,112 @@
+package com.household.budget.service.seed;
+
+import com.household.budget.entity.BankAccount;
+import com.household.budget.entity.BudgetSession;
+import com.household.budget.entity.Category;
+import com.household.budget.entity.Transaction;
+import com.household.budget.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SyntheticTransactionGenerator 테스트
+ */
+@DisplayName("SyntheticTransactionGenerator 테스트")
+class SyntheticTransactionGeneratorTest {
+
+    private static final LocalDate END = LocalDate.of(2024, 12, 31);
+
+    private SyntheticTransactionGenerator generator;
+    private User user;
+    private List<BudgetSession> sessions;
+    private BankAccount checking;
+    private BankAccount card;
+
+    @BeforeEach
+    void setUp() {
+        generator = new SyntheticTransactionGenerator(List.of(
+                category(1L, "급여", "INCOME"), category(2L, "식비", "EXPENSE"), category(3L, "교통비", "EXPENSE")));
+        user = new User();
+        user.setId(7L);
+        BudgetSession living = new BudgetSession();
+        living.setId(1L);
+        BudgetSession travel = new BudgetSession();
+        travel.setId(2L);
+        sessions = List.of(living, travel);
+        checking = new BankAccount();
+        checking.setId(10L);
+        card = new BankAccount();
+        card.setId(11L);
+    }
+
+    @Test
+    @DisplayName("같은 난수 시드면 같은 거래를 생성")
+    void should_GenerateSameTransactions_When_SeedIsSame() {
+        // When
+        List<Transaction> first = generator.generate(user, sessions, checking, card, 500, END, 12,
+                new SplittableRandom(42));
+        List<Transaction> second = generator.generate(user, sessions, checking, card, 500, END, 12,
+                new SplittableRandom(42));
+
+        // Then
+        assertThat(first).hasSize(500);
+        for (int i = 0; i < first.size(); i++) {
+            assertThat(second.get(i).getAmount()).isEqualTo(first.get(i).getAmount());
+            assertThat(second.get(i).getTransactionDate()).isEqualTo(first.get(i).getTransactionDate());
+            assertThat(second.get(i).getDescription()).isEqualTo(first.get(i).getDescription());
+        }
+    }
+
+    @Test
+    @DisplayName("기간 안의 거래만 생성하고 외부 거래 ID는 중복되지 않음")
+    void should_StayInRangeWithUniqueExternalIds_When_Generated() {
+        // When
+        List<Transaction> transactions = generator.generate(user, sessions, checking, card, 1000, END, 24,
+                new SplittableRandom(1));
+
+        // Then
+        LocalDate start = END.minusMonths(24).plusDays(1);
+        assertThat(transactions).allSatisfy(transaction -> {
+            assertThat(transaction.getTransactionDate().toLocalDate()).isBetween(start, END);
+            assertThat(transaction.getAmount().signum()).isPositive();
+            assertThat(transaction.getSyncSource()).isEqualTo(SyntheticTransactionGenerator.SYNC_SOURCE);
+        });
+        assertThat(transactions.stream().map(Transaction::getExternalTransactionId).collect(Collectors.toSet()))
+                .hasSize(1000)
+                .allMatch(id -> id.startsWith("SEED-7-"));
+    }
+
+    @Test
+    @DisplayName("매월 25일 급여가 입출금 계좌로 들어옴")
+    void should_AddMonthlySalary_When_Generated() {
+        // When
+        List<Transaction> transactions = generator.generate(user, sessions, checking, card, 300, END, 12,
+                new SplittableRandom(3));
+
+        // Then
+        List<Transaction> salaries = transactions.stream()
+                .filter(t -> t.getCategory() != null && "급여".equals(t.getCategory().getName()))
+                .toList();
+        assertThat(salaries).hasSize(12).allSatisfy(salary -> {
+            assertThat(salary.getType()).isEqualTo("INCOME");
+            assertThat(salary.getTransactionDate().getDayOfMonth()).isEqualTo(25);
+            assertThat(salary.getBankAccount()).isSameAs(checking);
+        });
+    }
+
+    private static Category category(Long id, String name, String type) {
+        Category category = new Category();
+        category.setId(id);
+        category.setName(name);
+        category.setType(type);
+        return category;
+    }
+}
@@ -0,0 +1,124 @@
+package com.household.budget.service.statement;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 명세서 파서 테스트 (CSV, OFX, QIF)
+ */
+@DisplayName("StatementParser 테스트")
+class StatementParserTest {
+
+    @Test
+    @DisplayName("CSV는 헤더로 열을 찾고 따옴표 안의 쉼표/줄바꿈을 처리하며 잘못된 행은 줄 번호와 함께 건너뜀")
+    void should_ParseCsvRows_When_HeaderMatches() throws IOException {
+        // Given
+        String csv = "\uFEFF거래일자,적요,출금액,입금액,카테고리\n"
+                + "2024.03.01,\"점심, 김밥\",\"12,000\",,식비\n"
+                + "2024-03-02 09:30:00,\"메모\n두 줄\",,\"3,000,000\",급여\n"
+                + "어제,커피,5000,,식비\n";
+
+        // When
+        Collected result = parse(StatementFormat.CSV, csv);
+
+        // Then
+        assertThat(result.rows).hasSize(2);
+        StatementRow lunch = result.rows.get(0);
+        assertThat(lunch.line()).isEqualTo(2);
+        assertThat(lunch.transactionDate()).isEqualTo(LocalDateTime.of(2024, 3, 1, 0, 0));
+        assertThat(lunch.amount()).isEqualByComparingTo("-12000");
+        assertThat(lunch.description()).isEqualTo("점심, 김밥");
+        assertThat(lunch.category()).isEqualTo("식비");
+        StatementRow salary = result.rows.get(1);
+        assertThat(salary.transactionDate()).isEqualTo(LocalDateTime.of(2024, 3, 2, 9, 30));
+        assertThat(salary.amount()).isEqualByComparingTo("3000000");
+        assertThat(salary.description()).isEqualTo("메모\n두 줄");
+        assertThat(result.errors).containsExactly("5: 날짜 형식을 알 수 없습니다: 어제");
+    }
+
+    @Test
+    @DisplayName("CSV 헤더에 날짜/금액 열이 없으면 파일 전체를 거부")
+    void should_RejectCsv_When_RequiredColumnsMissing() {
+        assertThatThrownBy(() -> parse(StatementFormat.CSV, "name,value\na,1\n"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("OFX SGML은 STMTTRN마다 거래 한 건이며 FITID는 계좌 번호와 묶어 reference로 사용")
+    void should_ParseOfxTransactions_When_SgmlWithoutClosingTags() throws IOException {
+        // Given
+        String ofx = "OFXHEADER:100\nDATA:OFXSGML\n\n<OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS>\n"
+                + "<BANKACCTFROM><BANKID>004<ACCTID>123-456</BANKACCTFROM>\n<BANKTRANLIST>\n"
+                + "<STMTTRN>\n<TRNTYPE>DEBIT\n<DTPOSTED>20240301123000[+9:KST]\n<TRNAMT>-12000.00\n"
+                + "<FITID>A1\n<NAME>편의점 &amp; 카페\n</STMTTRN>\n"
+                + "<STMTTRN><TRNTYPE>CREDIT<DTPOSTED>20240325<TRNAMT>oops<FITID>A2</STMTTRN>\n"
+                + "</BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>\n";
+
+        // When
+        Collected result = parse(StatementFormat.OFX, ofx);
+
+        // Then
+        assertThat(result.rows).hasSize(1);
+        StatementRow row = result.rows.get(0);
+        assertThat(row.transactionDate()).isEqualTo(LocalDateTime.of(2024, 3, 1, 12, 30));
+        assertThat(row.amount()).isEqualByComparingTo(new BigDecimal("-12000"));
+        assertThat(row.description()).isEqualTo("편의점 & 카페");
+        assertThat(row.reference()).isEqualTo("123-456:A1");
+        assertThat(result.errors).containsExactly("14: 금액 형식을 알 수 없습니다: oops");
+    }
+
+    @Test
+    @DisplayName("QIF는 !Type:Bank 아래의 거래만 읽고 이체 카테고리([계좌])는 무시")
+    void should_ParseQifTransactions_When_BankType() throws IOException {
+        // Given
+        String qif = "!Type:Cat\nN식비\nE\n^\n"
+                + "!Type:Bank\n"
+                + "D3/1'24\nT-5,000.00\nP스타벅스\nL식비:카페\n^\n"
+                + "D03/05/2024\nT200000\nM이체 입금\nL[저축 계좌]\n^\n";
+
+        // When
+        Collected result = parse(StatementFormat.QIF, qif);
+
+        // Then
+        assertThat(result.errors).isEmpty();
+        assertThat(result.rows).hasSize(2);
+        assertThat(result.rows.get(0).transactionDate()).isEqualTo(LocalDateTime.of(2024, 3, 1, 0, 0));
+        assertThat(result.rows.get(0).amount()).isEqualByComparingTo("-5000");
+        assertThat(result.rows.get(0).description()).isEqualTo("스타벅스");
+        assertThat(result.rows.get(0).category()).isEqualTo("식비");
+        assertThat(result.rows.get(1).description()).isEqualTo("이체 입금");
+        assertThat(result.rows.get(1).category()).isNull();
+    }
+
+    private static Collected parse(StatementFormat format, String content) throws IOException {
+        Collected collected = new Collected();
+        format.newParser().parse(new BufferedReader(new StringReader(content)), collected);
+        return collected;
+    }
+
+    private static final class Collected implements StatementParser.Handler {
+        private final List<StatementRow> rows = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+
+        @Override
+        public void row(StatementRow row) {
+            rows.add(row);
+        }
+
+        @Override
+        public void error(int line, String message) {
+            errors.add(line + ": " + message);
+        }
+    }
+}
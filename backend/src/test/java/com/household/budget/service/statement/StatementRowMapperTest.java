@@ -0,0 +1,123 @@
+package com.household.budget.service.statement;
+
+import com.household.budget.entity.Category;
+import com.household.budget.entity.Transaction;
+import com.household.budget.entity.User;
+import com.household.budget.service.CategoryService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * StatementRowMapper 테스트
+ * 카테고리 조회는 Mock으로 처리
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatementRowMapper 테스트")
+class StatementRowMapperTest {
+
+    @Mock
+    private CategoryService categoryService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId(1L);
+    }
+
+    @Test
+    @DisplayName("금액 부호로 유형을 정하고 카테고리를 이름으로 연결")
+    void should_MapRow_When_Valid() {
+        // Given
+        Category food = new Category(10L, "식비", "EXPENSE", null);
+        when(categoryService.findCategoryByName("식비", "EXPENSE")).thenReturn(Optional.of(food));
+        StatementRowMapper mapper = new StatementRowMapper(user, categoryService);
+
+        // When
+        Transaction transaction = mapper.toTransaction(row(2, "-12000", "김밥", "식비", null));
+
+        // Then
+        assertThat(transaction.getType()).isEqualTo("EXPENSE");
+        assertThat(transaction.getAmount()).isEqualByComparingTo("12000");
+        assertThat(transaction.getCategory()).isSameAs(food);
+        assertThat(transaction.getUser()).isSameAs(user);
+        assertThat(transaction.getSyncSource()).isEqualTo("IMPORT");
+        assertThat(transaction.getExternalTransactionId()).startsWith("IMP_").hasSize(36);
+    }
+
+    @Test
+    @DisplayName("같은 파일을 다시 읽으면 같은 ID, 파일 안의 같은 내용 거래는 서로 다른 ID")
+    void should_ProduceStableDistinctIds_When_RowsRepeat() {
+        // Given
+        when(categoryService.findCategoryByName(any(), anyString())).thenReturn(Optional.empty());
+        StatementRowMapper first = new StatementRowMapper(user, categoryService);
+        StatementRowMapper second = new StatementRowMapper(user, categoryService);
+
+        // When
+        String coffee1 = first.toTransaction(row(2, "-4500", "커피", null, null)).getExternalTransactionId();
+        String coffee2 = first.toTransaction(row(3, "-4500.00", "커피", null, null)).getExternalTransactionId();
+        String again1 = second.toTransaction(row(2, "-4500", "커피", null, null)).getExternalTransactionId();
+        String again2 = second.toTransaction(row(3, "-4500", "커피", null, null)).getExternalTransactionId();
+        String byReference = first.toTransaction(row(4, "-4500", "커피", null, "ACC:1")).getExternalTransactionId();
+
+        // Then
+        assertThat(coffee1).isNotEqualTo(coffee2);
+        assertThat(again1).isEqualTo(coffee1);
+        assertThat(again2).isEqualTo(coffee2);
+        assertThat(byReference).isNotIn(coffee1, coffee2);
+    }
+
+    @Test
+    @DisplayName("금액이 0이면 행 오류")
+    void should_Reject_When_AmountIsZero() {
+        StatementRowMapper mapper = new StatementRowMapper(user, categoryService);
+
+        assertThatThrownBy(() -> mapper.toTransaction(row(2, "0", "조정", null, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("금액이 0입니다.");
+        verifyNoInteractions(categoryService);
+    }
+
+    @Test
+    @DisplayName("중복 횟수 표는 키 0과 같은 칸으로 몰리는 키도 구분하고 늘어난 뒤에도 횟수를 유지")
+    void should_CountOccurrences_When_TableGrows() {
+        // Given - 상위/하위 32비트가 같아 모두 같은 칸에서 시작하는 키들 (첫 키는 0)
+        StatementRowMapper.OccurrenceCounter counter = new StatementRowMapper.OccurrenceCounter();
+        int keys = 5_000;
+
+        // When
+        for (long i = 0; i < keys; i++) {
+            assertThat(counter.increment(collidingKey(i))).isEqualTo(1);
+        }
+
+        // Then
+        assertThat(counter.increment(0L)).isEqualTo(2);
+        assertThat(counter.increment(collidingKey(4_999))).isEqualTo(2);
+        assertThat(counter.increment(collidingKey(4_999))).isEqualTo(3);
+        assertThat(counter.increment(collidingKey(5_000))).isEqualTo(1);
+    }
+
+    private static long collidingKey(long i) {
+        return (i << 32) | i;
+    }
+
+    private static StatementRow row(int line, String amount, String description, String category, String reference) {
+        return new StatementRow(line, LocalDateTime.of(2024, 3, 1, 0, 0), new BigDecimal(amount), null,
+                description, category, reference);
+    }
+}
@@ -0,0 +1,32 @@
+package com.household.budget.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 본문에서 Hibernate가 실행한 SQL이 예산을 넘으면 테스트를 실패시킴 (@SpringBootTest용)
+ * 클래스에 붙이면 모든 테스트에, 메서드에 붙이면 그 테스트에만 적용 (메서드 쪽이 우선)
+ * 0 이하인 항목은 검사하지 않음
+ *
+ * @BeforeEach와 테스트가 끝난 뒤의 롤백은 포함하지 않으며, 테스트 트랜잭션 안에서 flush되지 않은 쓰기는 세지 않음
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@ExtendWith(SqlBudgetExtension.class)
+public @interface SqlBudget {
+
+    int maxStatements() default 30;
+
+    int maxEntityLoads() default 1000;
+
+    /**
+     * 같은 모양 SQL의 최대 실행 횟수 (N+1 검출)
+     */
+    int maxRepeats() default 10;
+}
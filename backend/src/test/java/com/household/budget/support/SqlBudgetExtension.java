@@ -0,0 +1,46 @@
+package com.household.budget.support;
+
+import com.household.budget.infrastructure.database.statistics.SqlStatementBudget;
+import com.household.budget.infrastructure.database.statistics.SqlStatementTracker;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.List;
+
+/**
+ * @SqlBudget 처리 - 테스트 메서드 본문 동안 SqlStatementTracker Scope를 열고 끝나면 예산 검사
+ * 안에서 보낸 MockMvc 요청의 SQL도 같은 스레드이므로 함께 집계됨
+ */
+public class SqlBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(SqlBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE).put(context.getUniqueId(), SqlStatementTracker.begin());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        SqlStatementTracker.Scope scope = context.getStore(NAMESPACE)
+                .remove(context.getUniqueId(), SqlStatementTracker.Scope.class);
+        if (scope == null) {
+            return;
+        }
+        scope.close();
+        // 테스트 자체가 실패했으면 원래 실패를 그대로 보여줌
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+        SqlBudget annotation = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), SqlBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), SqlBudget.class))
+                .orElseThrow();
+        SqlStatementBudget budget = new SqlStatementBudget(annotation.maxStatements(),
+                annotation.maxEntityLoads(), annotation.maxRepeats());
+        List<String> violations = budget.violations(scope);
+        if (!violations.isEmpty()) {
+            throw new AssertionError(SqlStatementBudget.describe(context.getDisplayName(), scope, violations));
+        }
+    }
+}
@@ -3,6 +3,10 @@
 import { useState, useEffect } from 'react'
 import api from '@/utils/api'
 
+// 동기화 작업 상태 조회 간격과 최대 횟수 (약 5분 뒤에는 기다리지 않음)
+const SYNC_JOB_POLL_INTERVAL_MS = 1000
+const SYNC_JOB_MAX_POLLS = 300
+
 interface BankAccount {
   id: number
   accountName: string
@@ -31,6 +35,25 @@ export default function BankAccountList() {
     }
   }
 
+  const waitForSyncJob = async (jobId: string) => {
+    for (let attempt = 0; attempt < SYNC_JOB_MAX_POLLS; attempt++) {
+      try {
+        const { data } = await api.get(`/sync-jobs/${jobId}`)
+        if (data.state === 'SUCCEEDED' || data.state === 'FAILED') {
+          return data
+        }
+      } catch (error: any) {
+        // 보관 시간이 지나 정리됐거나 볼 수 없는 작업은 다시 조회해도 나오지 않음
+        if (error.response?.status === 404) {
+          throw new Error('동기화 작업을 찾을 수 없습니다.')
+        }
+        throw error
+      }
+      await new Promise((resolve) => setTimeout(resolve, SYNC_JOB_POLL_INTERVAL_MS))
+    }
+    throw new Error('동기화가 오래 걸리고 있습니다. 잠시 후 목록을 새로고침해주세요.')
+  }
+
   const handleSync = async (accountId: number, connectionType: string) => {
     setLoading(true)
     try {
@@ -38,12 +61,21 @@ export default function BankAccountList() {
         ? `/bank-accounts/${accountId}/openbanking/sync`
         : `/bank-accounts/${accountId}/card/sync`
       
-      await api.post(endpoint)
-      alert('동기화가 완료되었습니다.')
+      // 동기화는 백그라운드 작업으로 실행되므로 끝날 때까지 상태를 조회
+      const { data } = await api.post(endpoint)
+      const job = await waitForSyncJob(data.jobId)
+      if (job.state !== 'SUCCEEDED') {
+        throw new Error(job.error)
+      }
+      alert(`동기화가 완료되었습니다. (새 거래 ${job.inserted}건)`)
       loadAccounts()
-    } catch (error) {
+    } catch (error: any) {
       console.error('동기화 실패:', error)
-      alert('동기화에 실패했습니다.')
+      // 동기화 엔드포인트는 {"error": ...} 형태로 응답하고 그 밖의 오류 응답은 message를 씀
+      const message = error.response
+        ? error.response.data?.error ?? error.response.data?.message
+        : error.message
+      alert(message ? `동기화에 실패했습니다: ${message}` : '동기화에 실패했습니다.')
     } finally {
       setLoading(false)
     }